@@ -10,20 +10,37 @@
 
 package org.junit.jupiter.api;
 
+import static java.util.stream.Collectors.toList;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.function.Executable;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.StringUtils;
 import org.opentest4j.MultipleFailuresError;
 
 /**
  * {@code AssertAll} is a collection of utility methods that support asserting
  * multiple conditions in tests at once.
  *
+ * <p>The {@code assertAllInParallel()} variants execute the supplied
+ * executables concurrently using an {@link Executor} and retain at most a
+ * configurable number of failures. Retained failures are the ones that were
+ * supplied first, regardless of the order in which they occurred; the number
+ * of failures that were not retained is included in the heading of the
+ * resulting {@link MultipleFailuresError}.
+ *
  * @since 5.0
  */
 class AssertAll {
@@ -65,4 +82,101 @@ class AssertAll {
 		}
 	}
 
+	static void assertAllInParallel(Stream<Executable> executables) {
+		assertAllInParallel(null, executables);
+	}
+
+	static void assertAllInParallel(String heading, Stream<Executable> executables) {
+		assertAllInParallel(heading, ForkJoinPool.commonPool(), Integer.MAX_VALUE, executables);
+	}
+
+	static void assertAllInParallel(String heading, Executor executor, int maxRetainedFailures,
+			Stream<Executable> executables) {
+
+		Preconditions.notNull(executor, "executor must not be null");
+		Preconditions.condition(maxRetainedFailures > 0, "maxRetainedFailures must be greater than zero");
+		Preconditions.notNull(executables, "executables must not be null");
+
+		RetainedFailures failures = new RetainedFailures(maxRetainedFailures);
+		AtomicReference<Throwable> abortCause = new AtomicReference<>();
+		AtomicInteger nextIndex = new AtomicInteger();
+
+		// @formatter:off
+		List<CompletableFuture<Void>> futures = executables
+				.map(executable -> {
+					int index = nextIndex.getAndIncrement();
+					return CompletableFuture.runAsync(() -> {
+						if (abortCause.get() != null) {
+							return;
+						}
+						try {
+							executable.execute();
+						}
+						catch (AssertionError assertionError) {
+							failures.add(index, assertionError);
+						}
+						catch (Throwable t) {
+							abortCause.compareAndSet(null, t);
+						}
+					}, executor);
+				})
+				.collect(toList());
+		// @formatter:on
+
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).get();
+		}
+		catch (InterruptedException ex) {
+			// prevent executables that have not been started yet from running
+			abortCause.compareAndSet(null, ex);
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+
+		if (abortCause.get() != null) {
+			throw ExceptionUtils.throwAsUncheckedException(abortCause.get());
+		}
+
+		MultipleFailuresError multipleFailuresError = failures.toMultipleFailuresError(heading);
+
+		if (multipleFailuresError.hasFailures()) {
+			throw multipleFailuresError;
+		}
+	}
+
+	/**
+	 * Thread-safe holder for the failures with the lowest indexes, which
+	 * counts all failures that are discarded once the limit is exceeded.
+	 */
+	private static final class RetainedFailures {
+
+		private final int maxRetainedFailures;
+		private final TreeMap<Integer, AssertionError> failures = new TreeMap<>();
+		private int droppedFailures;
+
+		RetainedFailures(int maxRetainedFailures) {
+			this.maxRetainedFailures = maxRetainedFailures;
+		}
+
+		synchronized void add(int index, AssertionError failure) {
+			this.failures.put(index, failure);
+			if (this.failures.size() > this.maxRetainedFailures) {
+				this.failures.pollLastEntry();
+				this.droppedFailures++;
+			}
+		}
+
+		synchronized MultipleFailuresError toMultipleFailuresError(String heading) {
+			if (this.droppedFailures > 0) {
+				heading = (StringUtils.isBlank(heading) ? "Multiple Failures" : heading.trim()) + " ("
+						+ this.droppedFailures + " further failures not retained)";
+			}
+			return new MultipleFailuresError(heading, new ArrayList<>(this.failures.values()));
+		}
+
+	}
+
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.jupiter.api.AssertionUtils.buildPrefix;
+import static org.junit.jupiter.api.AssertionUtils.nullSafeGet;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ThreadAllocationCounter;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * {@code AssertAllocation} is a collection of utility methods that support
+ * asserting that the execution of the code under test does not allocate more
+ * heap memory than a given budget.
+ *
+ * <p>Allocations are measured with the per-thread allocation counters of
+ * {@code com.sun.management.ThreadMXBean}. Only allocations performed by the
+ * calling thread are taken into account. Before measuring, the code under
+ * test is executed {@value #WARMUP_ITERATIONS} times by default so that
+ * one-time allocations such as class initialization and lambda linkage do not
+ * count against the budget; afterwards it is measured
+ * {@value #MEASURED_ITERATIONS} times and the smallest measurement is
+ * compared to the budget. The overhead of reading the counters is measured
+ * once and subtracted.
+ *
+ * <p>The default warm-up is far below the invocation counts at which the JIT
+ * compiler optimizes code, so allocations that escape analysis would
+ * eliminate in compiled code are still measured. Callers that want to assert
+ * the allocations of optimized code supply a larger number of warm-up
+ * iterations.
+ *
+ * <p>On JVMs that do not support per-thread allocation counters, the
+ * assertions abort the current test by throwing a
+ * {@link TestAbortedException}.
+ *
+ * @since 5.0
+ */
+class AssertAllocation {
+
+	static final int WARMUP_ITERATIONS = 10;
+
+	static final int MEASURED_ITERATIONS = 3;
+
+	static void assertAllocatesAtMost(long maxBytes, Executable executable) {
+		assertAllocatesAtMost(maxBytes, executable, () -> null);
+	}
+
+	static void assertAllocatesAtMost(long maxBytes, Executable executable, String message) {
+		assertAllocatesAtMost(maxBytes, executable, () -> message);
+	}
+
+	static void assertAllocatesAtMost(long maxBytes, Executable executable, Supplier<String> messageSupplier) {
+		assertAllocatesAtMost(maxBytes, WARMUP_ITERATIONS, executable, messageSupplier);
+	}
+
+	static void assertAllocatesAtMost(long maxBytes, int warmupIterations, Executable executable) {
+		assertAllocatesAtMost(maxBytes, warmupIterations, executable, () -> null);
+	}
+
+	static void assertAllocatesAtMost(long maxBytes, int warmupIterations, Executable executable, String message) {
+		assertAllocatesAtMost(maxBytes, warmupIterations, executable, () -> message);
+	}
+
+	static void assertAllocatesAtMost(long maxBytes, int warmupIterations, Executable executable,
+			Supplier<String> messageSupplier) {
+
+		Preconditions.condition(maxBytes >= 0, "maxBytes must not be negative");
+		Preconditions.condition(warmupIterations >= 0, "warmupIterations must not be negative");
+		Preconditions.notNull(executable, "executable must not be null");
+
+		long allocatedBytes = measureAllocatedBytes(warmupIterations, executable);
+		if (allocatedBytes > maxBytes) {
+			fail(buildPrefix(nullSafeGet(messageSupplier)) + "execution exceeded allocation budget of " + maxBytes
+					+ " bytes by " + (allocatedBytes - maxBytes) + " bytes");
+		}
+	}
+
+	static void assertNoAllocation(Executable executable) {
+		assertAllocatesAtMost(0, executable, () -> null);
+	}
+
+	static void assertNoAllocation(Executable executable, String message) {
+		assertAllocatesAtMost(0, executable, () -> message);
+	}
+
+	static void assertNoAllocation(Executable executable, Supplier<String> messageSupplier) {
+		assertAllocatesAtMost(0, executable, messageSupplier);
+	}
+
+	private static long measureAllocatedBytes(int warmupIterations, Executable executable) {
+		ThreadAllocationCounter counter = ThreadAllocationCounter.getInstance().orElseThrow(
+			() -> new TestAbortedException("Per-thread allocation counters are not supported by this JVM"));
+
+		try {
+			for (int i = 0; i < warmupIterations; i++) {
+				executable.execute();
+			}
+			long allocatedBytes = Long.MAX_VALUE;
+			for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+				long before = counter.getAllocatedBytes();
+				executable.execute();
+				long after = counter.getAllocatedBytes();
+				allocatedBytes = Math.min(allocatedBytes, after - before - counter.getOverhead());
+			}
+			return Math.max(0, allocatedBytes);
+		}
+		catch (Throwable ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+	}
+
+}
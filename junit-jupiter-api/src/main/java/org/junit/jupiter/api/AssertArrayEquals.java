@@ -17,19 +17,32 @@ import static org.junit.jupiter.api.AssertionUtils.formatValues;
 import static org.junit.jupiter.api.AssertionUtils.nullSafeGet;
 import static org.junit.platform.commons.util.ReflectionUtils.isArray;
 
+import java.lang.reflect.Array;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.Objects;
+import java.util.StringJoiner;
 import java.util.function.Supplier;
 
 /**
  * {@code AssertArrayEquals} is a collection of utility methods that support asserting
  * array equality in tests.
  *
+ * <p>Primitive arrays are first compared via {@link Arrays#equals}, which the JVM
+ * implements with vectorized intrinsics, and only scanned element by element to
+ * locate the first mismatch. Comparisons with a delta are performed in blocks.
+ * Failures report a bounded window of elements around the first mismatch as
+ * expected and actual values instead of the complete arrays.
+ *
  * @since 5.0
  */
 class AssertArrayEquals {
 
+	private static final int DELTA_BLOCK_SIZE = 1024;
+
+	private static final int MISMATCH_WINDOW_RADIUS = 8;
+
 	static void assertArrayEquals(boolean[] expected, boolean[] actual) {
 		assertArrayEquals(expected, actual, () -> null);
 	}
@@ -171,9 +184,12 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected, actual, i, indexes, messageSupplier);
 			}
 		}
 	}
@@ -187,9 +203,12 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected, actual, i, indexes, messageSupplier);
 			}
 		}
 	}
@@ -203,9 +222,12 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected, actual, i, indexes, messageSupplier);
 			}
 		}
 	}
@@ -219,9 +241,12 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected, actual, i, indexes, messageSupplier);
 			}
 		}
 	}
@@ -235,9 +260,12 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected, actual, i, indexes, messageSupplier);
 			}
 		}
 	}
@@ -251,9 +279,12 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected, actual, i, indexes, messageSupplier);
 			}
 		}
 	}
@@ -267,9 +298,12 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i])) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected, actual, i, indexes, messageSupplier);
 			}
 		}
 	}
@@ -284,9 +318,23 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i], delta)) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
+		for (int start = 0; start < expected.length; start += DELTA_BLOCK_SIZE) {
+			int end = Math.min(start + DELTA_BLOCK_SIZE, expected.length);
+			boolean withinDelta = true;
+			for (int i = start; i < end; i++) {
+				withinDelta &= Math.abs(expected[i] - actual[i]) <= delta;
+			}
+			if (withinDelta) {
+				continue;
+			}
+			// rescan the block: values that are equal but not within delta (e.g. NaN) are ok
+			for (int i = start; i < end; i++) {
+				if (!equalWithinDelta(expected[i], actual[i], delta)) {
+					failArraysNotEqual(expected, actual, i, indexes, messageSupplier);
+				}
 			}
 		}
 	}
@@ -300,9 +348,12 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i])) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+				failArraysNotEqual(expected, actual, i, indexes, messageSupplier);
 			}
 		}
 	}
@@ -317,9 +368,23 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i], delta)) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageSupplier);
+		if (Arrays.equals(expected, actual)) {
+			return;
+		}
+		for (int start = 0; start < expected.length; start += DELTA_BLOCK_SIZE) {
+			int end = Math.min(start + DELTA_BLOCK_SIZE, expected.length);
+			boolean withinDelta = true;
+			for (int i = start; i < end; i++) {
+				withinDelta &= Math.abs(expected[i] - actual[i]) <= delta;
+			}
+			if (withinDelta) {
+				continue;
+			}
+			// rescan the block: values that are equal but not within delta (e.g. NaN) are ok
+			for (int i = start; i < end; i++) {
+				if (!equalWithinDelta(expected[i], actual[i], delta)) {
+					failArraysNotEqual(expected, actual, i, indexes, messageSupplier);
+				}
 			}
 		}
 	}
@@ -333,27 +398,50 @@ class AssertArrayEquals {
 		assertArraysNotNull(expected, actual, indexes, messageSupplier);
 		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageSupplier);
 
-		for (int i = 0; i < expected.length; i++) {
-			Object expectedElement = expected[i];
-			Object actualElement = actual[i];
+		// Nested Object arrays are compared iteratively so that the nesting depth
+		// is not limited by the size of the call stack.
+		Deque<ObjectArrays> pending = new ArrayDeque<>();
+		pending.push(new ObjectArrays(expected, actual));
+
+		while (!pending.isEmpty()) {
+			ObjectArrays current = pending.peek();
+			if (current.nextIndex == current.expected.length) {
+				pending.pop();
+				if (!pending.isEmpty()) {
+					indexes.removeLast();
+				}
+				continue;
+			}
+
+			int i = current.nextIndex++;
+			Object expectedElement = current.expected[i];
+			Object actualElement = current.actual[i];
 
 			if (expectedElement == actualElement) {
 				continue;
 			}
 
 			indexes.addLast(i);
-			assertArrayElementsEqual(expectedElement, actualElement, indexes, messageSupplier);
+			if (expectedElement instanceof Object[] && actualElement instanceof Object[]) {
+				Object[] expectedNested = (Object[]) expectedElement;
+				Object[] actualNested = (Object[]) actualElement;
+				assertArraysHaveSameLength(expectedNested.length, actualNested.length, indexes, messageSupplier);
+				// the index is removed again once the nested arrays have been compared
+				pending.push(new ObjectArrays(expectedNested, actualNested));
+				continue;
+			}
+			assertArrayElementsEqual(current, i, indexes, messageSupplier);
 			indexes.removeLast();
 		}
 	}
 
-	private static void assertArrayElementsEqual(Object expected, Object actual, Deque<Integer> indexes,
+	private static void assertArrayElementsEqual(ObjectArrays arrays, int index, Deque<Integer> indexes,
 			Supplier<String> messageSupplier) {
 
-		if (expected instanceof Object[] && actual instanceof Object[]) {
-			assertArrayEquals((Object[]) expected, (Object[]) actual, indexes, messageSupplier);
-		}
-		else if (expected instanceof byte[] && actual instanceof byte[]) {
+		Object expected = arrays.expected[index];
+		Object actual = arrays.actual[index];
+
+		if (expected instanceof byte[] && actual instanceof byte[]) {
 			assertArrayEquals((byte[]) expected, (byte[]) actual, indexes, messageSupplier);
 		}
 		else if (expected instanceof short[] && actual instanceof short[]) {
@@ -385,11 +473,19 @@ class AssertArrayEquals {
 				failActualArrayIsNull(indexes, messageSupplier);
 			}
 			else {
-				failArraysNotEqual(expected, actual, indexes, messageSupplier);
+				failArraysNotEqual(arrays.expected, arrays.actual, index, expected, actual, indexes, messageSupplier);
 			}
 		}
 	}
 
+	private static boolean equalWithinDelta(float expected, float actual, float delta) {
+		return Math.abs(expected - actual) <= delta || AssertionUtils.floatsAreEqual(expected, actual);
+	}
+
+	private static boolean equalWithinDelta(double expected, double actual, double delta) {
+		return Math.abs(expected - actual) <= delta || AssertionUtils.doublesAreEqual(expected, actual);
+	}
+
 	private static void assertArraysNotNull(Object expected, Object actual, Deque<Integer> indexes,
 			Supplier<String> messageSupplier) {
 
@@ -420,12 +516,44 @@ class AssertArrayEquals {
 		}
 	}
 
-	private static void failArraysNotEqual(Object expected, Object actual, Deque<Integer> indexes,
-			Supplier<String> messageSupplier) {
+	private static void failArraysNotEqual(Object expectedArray, Object actualArray, int index,
+			Deque<Integer> indexes, Supplier<String> messageSupplier) {
+
+		failArraysNotEqual(expectedArray, actualArray, index, Array.get(expectedArray, index),
+			Array.get(actualArray, index), nullSafeIndexes(indexes, index), messageSupplier);
+	}
+
+	private static void failArraysNotEqual(Object expectedArray, Object actualArray, int index, Object expected,
+			Object actual, Deque<Integer> indexes, Supplier<String> messageSupplier) {
 
 		String prefix = buildPrefix(nullSafeGet(messageSupplier));
 		String message = "array contents differ" + formatIndexes(indexes) + ", " + formatValues(expected, actual);
-		fail(prefix + message);
+		// Report a bounded window around the mismatch as expected and actual values
+		// so that IDEs can present a diff without rendering the complete arrays.
+		fail(prefix + message, formatWindow(expectedArray, index), formatWindow(actualArray, index));
+	}
+
+	/**
+	 * Format the elements of the supplied array within
+	 * {@value #MISMATCH_WINDOW_RADIUS} positions of the supplied index.
+	 */
+	static String formatWindow(Object array, int index) {
+		int length = Array.getLength(array);
+		int start = Math.max(0, index - MISMATCH_WINDOW_RADIUS);
+		int end = Math.min(length, index + MISMATCH_WINDOW_RADIUS + 1);
+
+		StringJoiner joiner = new StringJoiner(", ", start > 0 ? "[..., " : "[", end < length ? ", ...]" : "]");
+		for (int i = start; i < end; i++) {
+			joiner.add(formatElement(Array.get(array, i)));
+		}
+		return joiner.toString();
+	}
+
+	private static String formatElement(Object element) {
+		if (isArray(element)) {
+			return element.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(element) + "]";
+		}
+		return String.valueOf(element);
 	}
 
 	private static Deque<Integer> nullSafeIndexes(Deque<Integer> indexes, int newIndex) {
@@ -434,4 +562,21 @@ class AssertArrayEquals {
 		return result;
 	}
 
+	/**
+	 * A pair of {@code Object} arrays under comparison and the index of the
+	 * next pair of elements to compare.
+	 */
+	private static final class ObjectArrays {
+
+		final Object[] expected;
+		final Object[] actual;
+		int nextIndex;
+
+		ObjectArrays(Object[] expected, Object[] actual) {
+			this.expected = expected;
+			this.actual = actual;
+		}
+
+	}
+
 }
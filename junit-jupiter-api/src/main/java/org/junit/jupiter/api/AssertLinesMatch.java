@@ -15,15 +15,34 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.platform.commons.util.Preconditions.condition;
 import static org.junit.platform.commons.util.Preconditions.notNull;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Stream;
+
+import org.opentest4j.AssertionFailedError;
 
 /**
  * {@code AssertLinesMatch} is a collection of utility methods that support asserting
  * lines of {@link String} equality or {@link java.util.regex.Pattern}-match in tests.
  *
+ * <p>Each distinct expected line is compiled into a {@link Pattern} at most once per
+ * assertion, and only if it isn't equal to the actual line it's compared to. The {@link Stream}
+ * and {@link Path} variants consume both inputs lazily and only retain a bounded
+ * number of recent lines for the failure message.
+ *
  * @since 5.0
  */
 class AssertLinesMatch {
@@ -47,11 +66,17 @@ class AssertLinesMatch {
 			fail(expectedLines, actualLines, "expected %d lines, but only got %d", expectedSize, actualSize);
 		}
 
+		ExpectedLineCache cache = new ExpectedLineCache();
+		List<ExpectedLine> compiledLines = new ArrayList<>(expectedSize);
+		for (String expectedLine : expectedLines) {
+			compiledLines.add(cache.compile(expectedLine));
+		}
+
 		// simple case: both list are equally sized, compare them line-by-line
 		if (expectedSize == actualSize) {
 			boolean allOk = true;
 			for (int i = 0; i < expectedSize; i++) {
-				if (matches(expectedLines.get(i), actualLines.get(i))) {
+				if (compiledLines.get(i).matches(actualLines.get(i))) {
 					continue;
 				}
 				allOk = false;
@@ -62,68 +87,42 @@ class AssertLinesMatch {
 			}
 		}
 
-		assertLinesMatchWithFastForward(expectedLines, actualLines);
+		new LinesMatcher(compiledLines.iterator(), actualLines.iterator(),
+			message -> fail(expectedLines, actualLines, message)).assertLinesMatchWithFastForward();
 	}
 
-	private static void assertLinesMatchWithFastForward(List<String> expectedLines, List<String> actualLines) {
-		Deque<String> expectedDeque = new ArrayDeque<>(expectedLines);
-		Deque<String> actualDeque = new ArrayDeque<>(actualLines);
-
-		main: while (!expectedDeque.isEmpty()) {
-			String expectedLine = expectedDeque.pop();
-			String actualLine = actualDeque.peek();
-
-			// trivial case: take the fast path when they simply match
-			if (matches(expectedLine, actualLine)) {
-				actualDeque.pop();
-				continue; // main
-			}
+	static void assertLinesMatch(Stream<String> expectedLines, Stream<String> actualLines) {
+		notNull(expectedLines, "expectedLines must not be null");
+		notNull(actualLines, "actualLines must not be null");
 
-			// fast-forward marker found in expected line: fast-forward actual line...
-			if (isFastForwardLine(expectedLine)) {
-				int fastForwardLimit = parseFastForwardLimit(expectedLine);
+		ExpectedLineCache cache = new ExpectedLineCache();
+		RecentLines recentExpectedLines = new RecentLines();
+		RecentLines recentActualLines = new RecentLines();
 
-				// trivial case: fast-forward marker was in last expected line
-				if (expectedDeque.isEmpty()) {
-					int actualRemaining = actualDeque.size();
-					// no limit given or perfect match? we're done.
-					if (fastForwardLimit == Integer.MAX_VALUE || fastForwardLimit == actualRemaining) {
-						return;
-					}
-					fail(expectedLines, actualLines, "terminal fast-forward(%d) error: fast-forward(%d) expected",
-						fastForwardLimit, actualRemaining);
-				}
+		// @formatter:off
+		Iterator<ExpectedLine> expected = expectedLines
+				.peek(recentExpectedLines::add)
+				.map(cache::compile)
+				.iterator();
+		Iterator<String> actual = actualLines
+				.peek(recentActualLines::add)
+				.iterator();
+		// @formatter:on
 
-				// fast-forward limit was given: use it
-				if (fastForwardLimit != Integer.MAX_VALUE) {
-					// fast-forward now: actualDeque.pop(fastForwardLimit)
-					for (int i = 0; i < fastForwardLimit; i++) {
-						actualDeque.pop();
-					}
-					continue; // main
-				}
+		new LinesMatcher(expected, actual, message -> fail(recentExpectedLines, recentActualLines,
+			message)).assertLinesMatchWithFastForward();
+	}
 
-				// peek next expected line
-				expectedLine = expectedDeque.peek();
-				// fast-forward "unlimited": until next match
-				while (true) {
-					if (actualDeque.isEmpty()) {
-						fail(expectedLines, actualLines, "fast-forward(∞) didn't find: `%s`", snippet(expectedLine));
-					}
-					if (matches(expectedLine, actualDeque.peek())) {
-						continue main;
-					}
-					actualDeque.pop();
-				}
-			}
+	static void assertLinesMatch(Path expectedLines, Path actualLines) {
+		notNull(expectedLines, "expectedLines must not be null");
+		notNull(actualLines, "actualLines must not be null");
 
-			int number = expectedLines.size() - expectedDeque.size(); // 1-based line number
-			fail(expectedLines, actualLines, "expected line #%d:`%s` doesn't match", number, snippet(expectedLine));
+		try (Stream<String> expected = Files.lines(expectedLines, StandardCharsets.UTF_8);
+				Stream<String> actual = Files.lines(actualLines, StandardCharsets.UTF_8)) {
+			assertLinesMatch(expected, actual);
 		}
-
-		// after math
-		if (!actualDeque.isEmpty()) {
-			fail(expectedLines, actualLines, "more actual lines than expected: %d", actualDeque.size());
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
 		}
 	}
 
@@ -135,6 +134,10 @@ class AssertLinesMatch {
 	}
 
 	private static void fail(List<String> expectedLines, List<String> actualLines, String format, Object... args) {
+		fail(expectedLines, actualLines, format(format, args));
+	}
+
+	private static void fail(List<String> expectedLines, List<String> actualLines, String message) {
 		if (expectedLines.size() > MAX_SNIPPET_LENGTH) {
 			expectedLines.subList(0, MAX_SNIPPET_LENGTH);
 		}
@@ -144,7 +147,12 @@ class AssertLinesMatch {
 		// use standard assertEquals(Object, Object, message) to let IDEs present the textual difference
 		String expected = String.join(System.lineSeparator(), expectedLines);
 		String actual = String.join(System.lineSeparator(), actualLines);
-		assertEquals(expected, actual, format(format, args));
+		assertEquals(expected, actual, message);
+	}
+
+	private static void fail(RecentLines expectedLines, RecentLines actualLines, String message) {
+		// use standard assertEquals(Object, Object, message) to let IDEs present the textual difference
+		assertEquals(expectedLines.toString(), actualLines.toString(), message);
 	}
 
 	static boolean isFastForwardLine(String line) {
@@ -165,14 +173,223 @@ class AssertLinesMatch {
 	}
 
 	static boolean matches(String expectedLine, String actualLine) {
-		if (expectedLine.equals(actualLine)) {
-			return true;
+		return new ExpectedLine(expectedLine).matches(actualLine);
+	}
+
+	/**
+	 * An expected line with its regular expression compiled on first use.
+	 */
+	private static final class ExpectedLine {
+
+		private final String line;
+		private Pattern pattern;
+		private boolean validPattern = true;
+
+		ExpectedLine(String line) {
+			this.line = line;
 		}
-		try {
-			return actualLine.matches(expectedLine);
+
+		boolean matches(String actualLine) {
+			if (this.line.equals(actualLine)) {
+				return true;
+			}
+			if (this.pattern == null && this.validPattern) {
+				try {
+					this.pattern = Pattern.compile(this.line);
+				}
+				catch (PatternSyntaxException ignore) {
+					this.validPattern = false;
+				}
+			}
+			return this.validPattern && this.pattern.matcher(actualLine).matches();
+		}
+
+	}
+
+	/**
+	 * Bounded cache of {@link ExpectedLine ExpectedLines} that lets repeated
+	 * expected lines share a single compiled pattern.
+	 */
+	@SuppressWarnings("serial")
+	private static final class ExpectedLineCache extends LinkedHashMap<String, ExpectedLine> {
+
+		private static final int MAX_ENTRIES = 256;
+
+		ExpectedLineCache() {
+			super(16, 0.75f, true);
 		}
-		catch (PatternSyntaxException ignore) {
-			return false;
+
+		ExpectedLine compile(String line) {
+			return computeIfAbsent(line, ExpectedLine::new);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ExpectedLine> eldest) {
+			return size() > MAX_ENTRIES;
 		}
+
 	}
+
+	/**
+	 * Matches expected lines against actual lines, consuming both sequentially
+	 * with a look-ahead of a single line.
+	 */
+	private static final class LinesMatcher {
+
+		private final Iterator<ExpectedLine> expectedLines;
+		private final Iterator<String> actualLines;
+		private final Consumer<String> failureReporter;
+
+		private ExpectedLine nextExpectedLine;
+		private String nextActualLine;
+		private int expectedLineNumber;
+
+		LinesMatcher(Iterator<ExpectedLine> expectedLines, Iterator<String> actualLines,
+				Consumer<String> failureReporter) {
+			this.expectedLines = expectedLines;
+			this.actualLines = actualLines;
+			this.failureReporter = failureReporter;
+		}
+
+		void assertLinesMatchWithFastForward() {
+			main: while (hasExpectedLine()) {
+				ExpectedLine expectedLine = popExpectedLine();
+
+				// trivial case: take the fast path when they simply match
+				if (hasActualLine() && expectedLine.matches(peekActualLine())) {
+					popActualLine();
+					continue; // main
+				}
+
+				// fast-forward marker found in expected line: fast-forward actual line...
+				if (isFastForwardLine(expectedLine.line)) {
+					int fastForwardLimit = parseFastForwardLimit(expectedLine.line);
+
+					// trivial case: fast-forward marker was in last expected line
+					if (!hasExpectedLine()) {
+						long actualRemaining = countRemainingActualLines();
+						// no limit given or perfect match? we're done.
+						if (fastForwardLimit == Integer.MAX_VALUE || fastForwardLimit == actualRemaining) {
+							return;
+						}
+						fail("terminal fast-forward(%d) error: fast-forward(%d) expected", fastForwardLimit,
+							actualRemaining);
+					}
+
+					// fast-forward limit was given: use it
+					if (fastForwardLimit != Integer.MAX_VALUE) {
+						for (int i = 0; i < fastForwardLimit; i++) {
+							if (!hasActualLine()) {
+								fail("fast-forward(%d) error: only %d actual lines left", fastForwardLimit, i);
+							}
+							popActualLine();
+						}
+						continue; // main
+					}
+
+					// peek next expected line
+					ExpectedLine nextExpectedLine = peekExpectedLine();
+					// fast-forward "unlimited": until next match
+					while (true) {
+						if (!hasActualLine()) {
+							fail("fast-forward(∞) didn't find: `%s`", snippet(nextExpectedLine.line));
+						}
+						if (nextExpectedLine.matches(peekActualLine())) {
+							continue main;
+						}
+						popActualLine();
+					}
+				}
+
+				fail("expected line #%d:`%s` doesn't match", this.expectedLineNumber, snippet(expectedLine.line));
+			}
+
+			// after math
+			if (hasActualLine()) {
+				fail("more actual lines than expected: %d", countRemainingActualLines());
+			}
+		}
+
+		private boolean hasExpectedLine() {
+			return this.nextExpectedLine != null || this.expectedLines.hasNext();
+		}
+
+		private ExpectedLine peekExpectedLine() {
+			if (this.nextExpectedLine == null) {
+				this.nextExpectedLine = this.expectedLines.next();
+			}
+			return this.nextExpectedLine;
+		}
+
+		private ExpectedLine popExpectedLine() {
+			ExpectedLine line = peekExpectedLine();
+			this.nextExpectedLine = null;
+			this.expectedLineNumber++;
+			return line;
+		}
+
+		private boolean hasActualLine() {
+			return this.nextActualLine != null || this.actualLines.hasNext();
+		}
+
+		private String peekActualLine() {
+			if (this.nextActualLine == null) {
+				this.nextActualLine = this.actualLines.next();
+			}
+			return this.nextActualLine;
+		}
+
+		private void popActualLine() {
+			peekActualLine();
+			this.nextActualLine = null;
+		}
+
+		private long countRemainingActualLines() {
+			long count = 0;
+			while (hasActualLine()) {
+				popActualLine();
+				count++;
+			}
+			return count;
+		}
+
+		private void fail(String format, Object... args) {
+			String message = format(format, args);
+			this.failureReporter.accept(message);
+			// the reporter is expected to throw; guard against identical context lines
+			throw new AssertionFailedError(message);
+		}
+
+	}
+
+	/**
+	 * Bounded record of the most recently consumed lines of a stream, used as
+	 * context in failure messages.
+	 */
+	private static final class RecentLines {
+
+		private static final int MAX_LINES = 50;
+
+		private final Deque<String> lines = new ArrayDeque<>(MAX_LINES);
+		private long skippedLines;
+
+		void add(String line) {
+			if (this.lines.size() == MAX_LINES) {
+				this.lines.removeFirst();
+				this.skippedLines++;
+			}
+			this.lines.addLast(line);
+		}
+
+		@Override
+		public String toString() {
+			String joined = String.join(System.lineSeparator(), this.lines);
+			if (this.skippedLines == 0) {
+				return joined;
+			}
+			return format("[%d lines skipped]", this.skippedLines) + System.lineSeparator() + joined;
+		}
+
+	}
+
 }
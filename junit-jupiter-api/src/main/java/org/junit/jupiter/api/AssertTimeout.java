@@ -17,10 +17,16 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.time.Duration;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.function.Executable;
@@ -32,6 +38,13 @@ import org.opentest4j.AssertionFailedError;
  * {@code AssertTimeout} is a collection of utility methods that support asserting
  * the execution of the code under test did not take longer than the timeout duration.
  *
+ * <p>Preemptive timeouts execute the code under test in a worker thread of a
+ * shared, lazily created pool of daemon threads. While a worker executes code
+ * on behalf of a caller, its name is suffixed with the class and method name
+ * of that caller. Interruptible timeouts execute the code under test in the
+ * calling thread and let a shared watchdog thread interrupt it once the
+ * timeout is exceeded.
+ *
  * @since 5.0
  */
 class AssertTimeout {
@@ -103,36 +116,175 @@ class AssertTimeout {
 
 	static <T> T assertTimeoutPreemptively(Duration timeout, ThrowingSupplier<T> supplier,
 			Supplier<String> messageSupplier) {
-		ExecutorService executorService = Executors.newSingleThreadExecutor();
-
-		try {
-			Future<T> future = executorService.submit(() -> {
-				try {
-					return supplier.get();
-				}
-				catch (Throwable throwable) {
-					throw ExceptionUtils.throwAsUncheckedException(throwable);
-				}
-			});
-
-			long timeoutInMillis = timeout.toMillis();
+		String caller = describeCaller();
+		Future<T> future = SharedExecutors.workers.submit(() -> {
+			Thread thread = Thread.currentThread();
+			String originalName = thread.getName();
+			thread.setName(originalName + " [" + caller + "]");
 			try {
-				return future.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+				return supplier.get();
 			}
-			catch (TimeoutException ex) {
-				throw new AssertionFailedError(
-					buildPrefix(nullSafeGet(messageSupplier)) + "execution timed out after " + timeoutInMillis + " ms");
+			catch (Throwable throwable) {
+				throw ExceptionUtils.throwAsUncheckedException(throwable);
 			}
-			catch (ExecutionException ex) {
-				throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
-			}
-			catch (Throwable ex) {
-				throw ExceptionUtils.throwAsUncheckedException(ex);
+			finally {
+				thread.setName(originalName);
 			}
+		});
+
+		long timeoutInMillis = timeout.toMillis();
+		try {
+			return future.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+		}
+		catch (TimeoutException ex) {
+			throw new AssertionFailedError(
+				buildPrefix(nullSafeGet(messageSupplier)) + "execution timed out after " + timeoutInMillis + " ms");
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		catch (Throwable ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex);
 		}
 		finally {
-			executorService.shutdownNow();
+			// interrupts the worker if it is still running
+			future.cancel(true);
+		}
+	}
+
+	static void assertTimeoutInterruptibly(Duration timeout, Executable executable) {
+		assertTimeoutInterruptibly(timeout, executable, () -> null);
+	}
+
+	static void assertTimeoutInterruptibly(Duration timeout, Executable executable, String message) {
+		assertTimeoutInterruptibly(timeout, executable, () -> message);
+	}
+
+	static void assertTimeoutInterruptibly(Duration timeout, Executable executable, Supplier<String> messageSupplier) {
+		assertTimeoutInterruptibly(timeout, () -> {
+			executable.execute();
+			return null;
+		}, messageSupplier);
+	}
+
+	static <T> T assertTimeoutInterruptibly(Duration timeout, ThrowingSupplier<T> supplier) {
+		return assertTimeoutInterruptibly(timeout, supplier, () -> null);
+	}
+
+	static <T> T assertTimeoutInterruptibly(Duration timeout, ThrowingSupplier<T> supplier, String message) {
+		return assertTimeoutInterruptibly(timeout, supplier, () -> message);
+	}
+
+	static <T> T assertTimeoutInterruptibly(Duration timeout, ThrowingSupplier<T> supplier,
+			Supplier<String> messageSupplier) {
+		long timeoutInMillis = timeout.toMillis();
+		Watchdog watchdog = new Watchdog(Thread.currentThread());
+		ScheduledFuture<?> scheduledInterrupt = SharedExecutors.watchdog.schedule(watchdog::interrupt,
+			timeoutInMillis, TimeUnit.MILLISECONDS);
+
+		T result = null;
+		Throwable failure = null;
+		try {
+			result = supplier.get();
 		}
+		catch (Throwable ex) {
+			failure = ex;
+		}
+		finally {
+			scheduledInterrupt.cancel(false);
+		}
+
+		if (watchdog.finish()) {
+			// clear the interrupt caused by the watchdog
+			Thread.interrupted();
+			throw new AssertionFailedError(
+				buildPrefix(nullSafeGet(messageSupplier)) + "execution timed out after " + timeoutInMillis + " ms");
+		}
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+		return result;
+	}
+
+	/**
+	 * Describe the first caller outside of the assertion classes in order to
+	 * identify the test that is waiting for a worker thread.
+	 */
+	private static String describeCaller() {
+		for (StackTraceElement element : new Throwable().getStackTrace()) {
+			String className = element.getClassName();
+			if (!className.equals(AssertTimeout.class.getName()) && !className.equals(Assertions.class.getName())) {
+				return className + "." + element.getMethodName();
+			}
+		}
+		return Thread.currentThread().getName();
+	}
+
+	/**
+	 * Interrupts a thread unless it has already finished its timed execution.
+	 */
+	private static final class Watchdog {
+
+		private final Thread thread;
+		private boolean finished;
+		private boolean interrupted;
+
+		Watchdog(Thread thread) {
+			this.thread = thread;
+		}
+
+		synchronized void interrupt() {
+			if (!this.finished) {
+				this.interrupted = true;
+				this.thread.interrupt();
+			}
+		}
+
+		/**
+		 * Mark the timed execution as finished.
+		 *
+		 * @return {@code true} if the thread has been interrupted because the
+		 * timeout was exceeded
+		 */
+		synchronized boolean finish() {
+			this.finished = true;
+			return this.interrupted;
+		}
+
+	}
+
+	/**
+	 * Lazily created executors shared by all preemptive timeout assertions.
+	 *
+	 * <p>Workers are daemon threads that are created on demand and terminated
+	 * after being idle for a minute, so that every execution is started
+	 * immediately without ever creating more threads than are in use at the
+	 * same time. A worker that does not respond to being interrupted merely
+	 * keeps occupying its own thread.
+	 */
+	private static final class SharedExecutors {
+
+		static final ExecutorService workers = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
+			new SynchronousQueue<>(), daemonThreadFactory("junit-timeout-worker-"));
+
+		static final ScheduledExecutorService watchdog = createWatchdog();
+
+		private static ScheduledExecutorService createWatchdog() {
+			ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+				daemonThreadFactory("junit-timeout-watchdog-"));
+			executor.setRemoveOnCancelPolicy(true);
+			return executor;
+		}
+
+		private static ThreadFactory daemonThreadFactory(String namePrefix) {
+			AtomicInteger threadNumber = new AtomicInteger();
+			return runnable -> {
+				Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+		}
+
 	}
 
 }
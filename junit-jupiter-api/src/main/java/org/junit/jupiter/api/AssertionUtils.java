@@ -75,8 +75,51 @@ class AssertionUtils {
 	}
 
 	static String formatValues(Object expected, Object actual) {
+		if (BoundedDiff.isLargeCollection(expected) || BoundedDiff.isLargeCollection(actual)) {
+			return BoundedDiff.renderCollections(expected, actual).format(expected, actual);
+		}
 		String expectedString = toString(expected);
 		String actualString = toString(actual);
+		if (BoundedDiff.isLargeString(expectedString) || BoundedDiff.isLargeString(actualString)) {
+			return BoundedDiff.renderStrings(expectedString, actualString).format(expected, actual);
+		}
+		return formatValues(expected, expectedString, actual, actualString);
+	}
+
+	/**
+	 * Fail with a message comparing the supplied values.
+	 *
+	 * <p>If the values are too large to be rendered in full, the failure
+	 * references the bounded representations used in the message instead of
+	 * all values other than strings, so that reporting the failure does not
+	 * compute their complete string representations again.
+	 */
+	static void failNotEqual(Object expected, Object actual, String message) {
+		BoundedDiff.Snippets snippets = null;
+		String expectedString = null;
+		String actualString = null;
+		if (BoundedDiff.isLargeCollection(expected) || BoundedDiff.isLargeCollection(actual)) {
+			snippets = BoundedDiff.renderCollections(expected, actual);
+		}
+		else {
+			expectedString = toString(expected);
+			actualString = toString(actual);
+			if (BoundedDiff.isLargeString(expectedString) || BoundedDiff.isLargeString(actualString)) {
+				snippets = BoundedDiff.renderStrings(expectedString, actualString);
+			}
+		}
+
+		if (snippets != null) {
+			fail(buildPrefix(message) + snippets.format(expected, actual), snippets.getExpected(expected),
+				snippets.getActual(actual));
+		}
+		else {
+			fail(buildPrefix(message) + formatValues(expected, expectedString, actual, actualString), expected,
+				actual);
+		}
+	}
+
+	private static String formatValues(Object expected, String expectedString, Object actual, String actualString) {
 		if (expectedString.equals(actualString)) {
 			return String.format("expected: %s but was: %s", formatClassAndValue(expected, expectedString),
 				formatClassAndValue(actual, actualString));
@@ -86,7 +129,7 @@ class AssertionUtils {
 		}
 	}
 
-	private static String formatClassAndValue(Object value, String valueString) {
+	static String formatClassAndValue(Object value, String valueString) {
 		String classAndHash = getClassName(value) + toHash(value);
 		// if it's a class, there's no need to repeat the class name contained in the valueString.
 		return (value instanceof Class ? "<" + classAndHash + ">" : classAndHash + "<" + valueString + ">");
@@ -13,10 +13,12 @@ package org.junit.jupiter.api;
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 import static org.junit.platform.commons.meta.API.Usage.Maintained;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -916,6 +918,38 @@ public final class Assertions {
 		AssertLinesMatch.assertLinesMatch(expectedLines, actualLines);
 	}
 
+	/**
+	 * <em>Asserts</em> that {@code expected} stream of {@linkplain String}s matches {@code actual}
+	 * stream.
+	 *
+	 * <p>Lines are matched using the same algorithm as
+	 * {@link #assertLinesMatch(List, List)}, including fast-forward markers. Both streams are
+	 * consumed lazily and only once, so that arbitrarily large inputs can be matched with bounded
+	 * memory. Consequently, the failure message only shows the most recently consumed lines of
+	 * each stream. Closing the streams is the responsibility of the caller.
+	 *
+	 * @see #assertLinesMatch(List, List)
+	 */
+	@API(Experimental)
+	public static void assertLinesMatch(Stream<String> expectedLines, Stream<String> actualLines) {
+		AssertLinesMatch.assertLinesMatch(expectedLines, actualLines);
+	}
+
+	/**
+	 * <em>Asserts</em> that the lines of the {@code expected} file match the lines of the
+	 * {@code actual} file.
+	 *
+	 * <p>Both files are read lazily using the {@code UTF-8} charset and matched as described in
+	 * {@link #assertLinesMatch(Stream, Stream)}. An {@link java.io.IOException} thrown while
+	 * opening a file is rethrown as an {@link java.io.UncheckedIOException}.
+	 *
+	 * @see #assertLinesMatch(List, List)
+	 */
+	@API(Experimental)
+	public static void assertLinesMatch(Path expectedLines, Path actualLines) {
+		AssertLinesMatch.assertLinesMatch(expectedLines, actualLines);
+	}
+
 	// --- assertNotEquals -----------------------------------------------------
 
 	/**
@@ -1073,6 +1107,68 @@ public final class Assertions {
 		AssertAll.assertAll(heading, executables);
 	}
 
+	/**
+	 * <em>Asserts</em> that <em>all</em> supplied {@code executables} do not throw an
+	 * {@link AssertionError}, executing them in parallel in the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+	 *
+	 * <p>See Javadoc for {@link #assertAllInParallel(String, Executor, int, Stream)}
+	 * for an explanation of this method's exception handling semantics.
+	 *
+	 * @see #assertAllInParallel(String, Stream)
+	 * @see #assertAllInParallel(String, Executor, int, Stream)
+	 */
+	@API(Experimental)
+	public static void assertAllInParallel(Stream<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllInParallel(executables);
+	}
+
+	/**
+	 * <em>Asserts</em> that <em>all</em> supplied {@code executables} do not throw an
+	 * {@link AssertionError}, executing them in parallel in the
+	 * {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+	 *
+	 * <p>See Javadoc for {@link #assertAllInParallel(String, Executor, int, Stream)}
+	 * for an explanation of this method's exception handling semantics.
+	 *
+	 * @see #assertAllInParallel(Stream)
+	 * @see #assertAllInParallel(String, Executor, int, Stream)
+	 */
+	@API(Experimental)
+	public static void assertAllInParallel(String heading, Stream<Executable> executables)
+			throws MultipleFailuresError {
+		AssertAll.assertAllInParallel(heading, executables);
+	}
+
+	/**
+	 * <em>Asserts</em> that <em>all</em> supplied {@code executables} do not throw an
+	 * {@link AssertionError}, executing them in parallel using the supplied
+	 * {@code executor}.
+	 *
+	 * <p>All {@code executables} will be executed, and failures will be aggregated
+	 * and reported in a {@link MultipleFailuresError}. At most
+	 * {@code maxRetainedFailures} failures are retained: if more executables fail,
+	 * only the failures of the executables that were supplied first are reported,
+	 * and the number of failures that were not retained is included in the heading
+	 * of the {@code MultipleFailuresError}. However, if an {@code executable} throws
+	 * an exception that is not an {@code AssertionError}, executables that have not
+	 * been started yet will be skipped, and the exception will be rethrown
+	 * <em>as is</em> but {@link ExceptionUtils#throwAsUncheckedException masked} as
+	 * an unchecked exception once all executables that have been started completed.
+	 *
+	 * <p>The supplied {@code heading} will be included in the message string for the
+	 * {@link MultipleFailuresError}.
+	 *
+	 * @see #assertAllInParallel(Stream)
+	 * @see #assertAllInParallel(String, Stream)
+	 * @see #assertAll(String, Stream)
+	 */
+	@API(Experimental)
+	public static void assertAllInParallel(String heading, Executor executor, int maxRetainedFailures,
+			Stream<Executable> executables) throws MultipleFailuresError {
+		AssertAll.assertAllInParallel(heading, executor, maxRetainedFailures, executables);
+	}
+
 	// --- assert exceptions ---------------------------------------------------
 
 	/**
@@ -1233,8 +1329,9 @@ public final class Assertions {
 	 * completes before the given {@code timeout} is exceeded.
 	 *
 	 * <p>Note: the {@code executable} will be executed in a different thread than
-	 * that of the calling code. Furthermore, execution of the {@code executable} will
-	 * be preemptively aborted if the timeout is exceeded.
+	 * that of the calling code, taken from a pool of worker threads that is
+	 * shared by all preemptive timeout assertions. Furthermore, execution of the
+	 * {@code executable} will be preemptively aborted if the timeout is exceeded.
 	 *
 	 * @see #assertTimeoutPreemptively(Duration, Executable, String)
 	 * @see #assertTimeoutPreemptively(Duration, Executable, Supplier)
@@ -1252,8 +1349,9 @@ public final class Assertions {
 	 * completes before the given {@code timeout} is exceeded.
 	 *
 	 * <p>Note: the {@code executable} will be executed in a different thread than
-	 * that of the calling code. Furthermore, execution of the {@code executable} will
-	 * be preemptively aborted if the timeout is exceeded.
+	 * that of the calling code, taken from a pool of worker threads that is
+	 * shared by all preemptive timeout assertions. Furthermore, execution of the
+	 * {@code executable} will be preemptively aborted if the timeout is exceeded.
 	 *
 	 * <p>Fails with the supplied failure {@code message}.
 	 *
@@ -1273,8 +1371,9 @@ public final class Assertions {
 	 * completes before the given {@code timeout} is exceeded.
 	 *
 	 * <p>Note: the {@code executable} will be executed in a different thread than
-	 * that of the calling code. Furthermore, execution of the {@code executable} will
-	 * be preemptively aborted if the timeout is exceeded.
+	 * that of the calling code, taken from a pool of worker threads that is
+	 * shared by all preemptive timeout assertions. Furthermore, execution of the
+	 * {@code executable} will be preemptively aborted if the timeout is exceeded.
 	 *
 	 * <p>If necessary, the failure message will be retrieved lazily from the
 	 * supplied {@code messageSupplier}.
@@ -1300,8 +1399,9 @@ public final class Assertions {
 	 * <p>If the assertion passes then the {@code supplier}'s result is returned.
 	 *
 	 * <p>Note: the {@code supplier} will be executed in a different thread than
-	 * that of the calling code. Furthermore, execution of the {@code supplier} will
-	 * be preemptively aborted if the timeout is exceeded.
+	 * that of the calling code, taken from a pool of worker threads that is
+	 * shared by all preemptive timeout assertions. Furthermore, execution of the
+	 * {@code supplier} will be preemptively aborted if the timeout is exceeded.
 	 *
 	 * @see #assertTimeoutPreemptively(Duration, Executable)
 	 * @see #assertTimeoutPreemptively(Duration, Executable, String)
@@ -1321,8 +1421,9 @@ public final class Assertions {
 	 * <p>If the assertion passes then the {@code supplier}'s result is returned.
 	 *
 	 * <p>Note: the {@code supplier} will be executed in a different thread than
-	 * that of the calling code. Furthermore, execution of the {@code supplier} will
-	 * be preemptively aborted if the timeout is exceeded.
+	 * that of the calling code, taken from a pool of worker threads that is
+	 * shared by all preemptive timeout assertions. Furthermore, execution of the
+	 * {@code supplier} will be preemptively aborted if the timeout is exceeded.
 	 *
 	 * <p>Fails with the supplied failure {@code message}.
 	 *
@@ -1344,8 +1445,9 @@ public final class Assertions {
 	 * <p>If the assertion passes then the {@code supplier}'s result is returned.
 	 *
 	 * <p>Note: the {@code supplier} will be executed in a different thread than
-	 * that of the calling code. Furthermore, execution of the {@code supplier} will
-	 * be preemptively aborted if the timeout is exceeded.
+	 * that of the calling code, taken from a pool of worker threads that is
+	 * shared by all preemptive timeout assertions. Furthermore, execution of the
+	 * {@code supplier} will be preemptively aborted if the timeout is exceeded.
 	 *
 	 * <p>If necessary, the failure message will be retrieved lazily from the
 	 * supplied {@code messageSupplier}.
@@ -1362,4 +1464,365 @@ public final class Assertions {
 		return AssertTimeout.assertTimeoutPreemptively(timeout, supplier, messageSupplier);
 	}
 
+	// --- executable - interruptibly ---
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable}
+	 * completes before the given {@code timeout} is exceeded.
+	 *
+	 * <p>Note: the {@code executable} will be executed in the calling thread. If the
+	 * timeout is exceeded, a shared watchdog thread interrupts the calling thread
+	 * and the assertion fails once the {@code executable} has returned or thrown an
+	 * exception in response to being interrupted. In contrast to
+	 * {@code assertTimeoutPreemptively()}, the {@code executable} therefore has
+	 * access to any {@link ThreadLocal} state of the calling code, but it is
+	 * not aborted if it does not respond to interrupts.
+	 *
+	 * @see #assertTimeoutInterruptibly(Duration, Executable, String)
+	 * @see #assertTimeoutInterruptibly(Duration, Executable, Supplier)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier, String)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier, Supplier)
+	 * @see #assertTimeoutPreemptively(Duration, Executable)
+	 */
+	@API(Experimental)
+	public static void assertTimeoutInterruptibly(Duration timeout, Executable executable) {
+		AssertTimeout.assertTimeoutInterruptibly(timeout, executable);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable}
+	 * completes before the given {@code timeout} is exceeded.
+	 *
+	 * <p>Note: the {@code executable} will be executed in the calling thread. If the
+	 * timeout is exceeded, a shared watchdog thread interrupts the calling thread
+	 * and the assertion fails once the {@code executable} has returned or thrown an
+	 * exception in response to being interrupted. In contrast to
+	 * {@code assertTimeoutPreemptively()}, the {@code executable} therefore has
+	 * access to any {@link ThreadLocal} state of the calling code, but it is
+	 * not aborted if it does not respond to interrupts.
+	 *
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @see #assertTimeoutInterruptibly(Duration, Executable)
+	 * @see #assertTimeoutInterruptibly(Duration, Executable, Supplier)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier, String)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier, Supplier)
+	 * @see #assertTimeoutPreemptively(Duration, Executable, String)
+	 */
+	@API(Experimental)
+	public static void assertTimeoutInterruptibly(Duration timeout, Executable executable, String message) {
+		AssertTimeout.assertTimeoutInterruptibly(timeout, executable, message);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable}
+	 * completes before the given {@code timeout} is exceeded.
+	 *
+	 * <p>Note: the {@code executable} will be executed in the calling thread. If the
+	 * timeout is exceeded, a shared watchdog thread interrupts the calling thread
+	 * and the assertion fails once the {@code executable} has returned or thrown an
+	 * exception in response to being interrupted. In contrast to
+	 * {@code assertTimeoutPreemptively()}, the {@code executable} therefore has
+	 * access to any {@link ThreadLocal} state of the calling code, but it is
+	 * not aborted if it does not respond to interrupts.
+	 *
+	 * <p>If necessary, the failure message will be retrieved lazily from the
+	 * supplied {@code messageSupplier}.
+	 *
+	 * @see #assertTimeoutInterruptibly(Duration, Executable)
+	 * @see #assertTimeoutInterruptibly(Duration, Executable, String)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier, String)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier, Supplier)
+	 * @see #assertTimeoutPreemptively(Duration, Executable, Supplier)
+	 */
+	@API(Experimental)
+	public static void assertTimeoutInterruptibly(Duration timeout, Executable executable,
+			Supplier<String> messageSupplier) {
+		AssertTimeout.assertTimeoutInterruptibly(timeout, executable, messageSupplier);
+	}
+
+	// --- supplier - interruptibly ---
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code supplier}
+	 * completes before the given {@code timeout} is exceeded.
+	 *
+	 * <p>If the assertion passes then the {@code supplier}'s result is returned.
+	 *
+	 * <p>Note: the {@code supplier} will be executed in the calling thread. If the
+	 * timeout is exceeded, a shared watchdog thread interrupts the calling thread
+	 * and the assertion fails once the {@code supplier} has returned or thrown an
+	 * exception in response to being interrupted. In contrast to
+	 * {@code assertTimeoutPreemptively()}, the {@code supplier} therefore has
+	 * access to any {@link ThreadLocal} state of the calling code, but it is
+	 * not aborted if it does not respond to interrupts.
+	 *
+	 * @see #assertTimeoutInterruptibly(Duration, Executable)
+	 * @see #assertTimeoutInterruptibly(Duration, Executable, String)
+	 * @see #assertTimeoutInterruptibly(Duration, Executable, Supplier)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier, String)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier, Supplier)
+	 * @see #assertTimeoutPreemptively(Duration, Executable)
+	 */
+	@API(Experimental)
+	public static <T> T assertTimeoutInterruptibly(Duration timeout, ThrowingSupplier<T> supplier) {
+		return AssertTimeout.assertTimeoutInterruptibly(timeout, supplier);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code supplier}
+	 * completes before the given {@code timeout} is exceeded.
+	 *
+	 * <p>If the assertion passes then the {@code supplier}'s result is returned.
+	 *
+	 * <p>Note: the {@code supplier} will be executed in the calling thread. If the
+	 * timeout is exceeded, a shared watchdog thread interrupts the calling thread
+	 * and the assertion fails once the {@code supplier} has returned or thrown an
+	 * exception in response to being interrupted. In contrast to
+	 * {@code assertTimeoutPreemptively()}, the {@code supplier} therefore has
+	 * access to any {@link ThreadLocal} state of the calling code, but it is
+	 * not aborted if it does not respond to interrupts.
+	 *
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @see #assertTimeoutInterruptibly(Duration, Executable)
+	 * @see #assertTimeoutInterruptibly(Duration, Executable, String)
+	 * @see #assertTimeoutInterruptibly(Duration, Executable, Supplier)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier, Supplier)
+	 * @see #assertTimeoutPreemptively(Duration, Executable, String)
+	 */
+	@API(Experimental)
+	public static <T> T assertTimeoutInterruptibly(Duration timeout, ThrowingSupplier<T> supplier,
+			String message) {
+		return AssertTimeout.assertTimeoutInterruptibly(timeout, supplier, message);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code supplier}
+	 * completes before the given {@code timeout} is exceeded.
+	 *
+	 * <p>If the assertion passes then the {@code supplier}'s result is returned.
+	 *
+	 * <p>Note: the {@code supplier} will be executed in the calling thread. If the
+	 * timeout is exceeded, a shared watchdog thread interrupts the calling thread
+	 * and the assertion fails once the {@code supplier} has returned or thrown an
+	 * exception in response to being interrupted. In contrast to
+	 * {@code assertTimeoutPreemptively()}, the {@code supplier} therefore has
+	 * access to any {@link ThreadLocal} state of the calling code, but it is
+	 * not aborted if it does not respond to interrupts.
+	 *
+	 * <p>If necessary, the failure message will be retrieved lazily from the
+	 * supplied {@code messageSupplier}.
+	 *
+	 * @see #assertTimeoutInterruptibly(Duration, Executable)
+	 * @see #assertTimeoutInterruptibly(Duration, Executable, String)
+	 * @see #assertTimeoutInterruptibly(Duration, Executable, Supplier)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier)
+	 * @see #assertTimeoutInterruptibly(Duration, ThrowingSupplier, String)
+	 * @see #assertTimeoutPreemptively(Duration, Executable, Supplier)
+	 */
+	@API(Experimental)
+	public static <T> T assertTimeoutInterruptibly(Duration timeout, ThrowingSupplier<T> supplier,
+			Supplier<String> messageSupplier) {
+		return AssertTimeout.assertTimeoutInterruptibly(timeout, supplier, messageSupplier);
+	}
+
+	// --- assertAllocation ----------------------------------------------------
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable} does not
+	 * allocate more than {@code maxBytes} bytes of heap memory.
+	 *
+	 * <p>Note: only allocations performed by the calling thread are measured. The
+	 * {@code executable} is executed several times: first to warm it up, so that
+	 * one-time allocations are not taken into account, and then to measure the
+	 * number of allocated bytes. If the JVM does not support measuring per-thread
+	 * allocations, the current test is aborted.
+	 *
+	 * <p>The default warm-up is too short for the JIT compiler to optimize the
+	 * {@code executable}, so allocations that escape analysis would eliminate
+	 * are still measured. Use {@link #assertAllocatesAtMost(long, int, Executable)}
+	 * to supply a larger number of warm-up iterations.
+	 *
+	 * @see #assertAllocatesAtMost(long, Executable, String)
+	 * @see #assertAllocatesAtMost(long, Executable, Supplier)
+	 * @see #assertAllocatesAtMost(long, int, Executable)
+	 * @see #assertNoAllocation(Executable)
+	 */
+	@API(Experimental)
+	public static void assertAllocatesAtMost(long maxBytes, Executable executable) {
+		AssertAllocation.assertAllocatesAtMost(maxBytes, executable);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable} does not
+	 * allocate more than {@code maxBytes} bytes of heap memory.
+	 *
+	 * <p>Note: only allocations performed by the calling thread are measured. The
+	 * {@code executable} is executed several times: first to warm it up, so that
+	 * one-time allocations are not taken into account, and then to measure the
+	 * number of allocated bytes. If the JVM does not support measuring per-thread
+	 * allocations, the current test is aborted.
+	 *
+	 * <p>The default warm-up is too short for the JIT compiler to optimize the
+	 * {@code executable}, so allocations that escape analysis would eliminate
+	 * are still measured. Use {@link #assertAllocatesAtMost(long, int, Executable)}
+	 * to supply a larger number of warm-up iterations.
+	 *
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @see #assertAllocatesAtMost(long, Executable)
+	 * @see #assertAllocatesAtMost(long, Executable, Supplier)
+	 * @see #assertNoAllocation(Executable, String)
+	 */
+	@API(Experimental)
+	public static void assertAllocatesAtMost(long maxBytes, Executable executable, String message) {
+		AssertAllocation.assertAllocatesAtMost(maxBytes, executable, message);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable} does not
+	 * allocate more than {@code maxBytes} bytes of heap memory.
+	 *
+	 * <p>Note: only allocations performed by the calling thread are measured. The
+	 * {@code executable} is executed several times: first to warm it up, so that
+	 * one-time allocations are not taken into account, and then to measure the
+	 * number of allocated bytes. If the JVM does not support measuring per-thread
+	 * allocations, the current test is aborted.
+	 *
+	 * <p>The default warm-up is too short for the JIT compiler to optimize the
+	 * {@code executable}, so allocations that escape analysis would eliminate
+	 * are still measured. Use {@link #assertAllocatesAtMost(long, int, Executable)}
+	 * to supply a larger number of warm-up iterations.
+	 *
+	 * <p>If necessary, the failure message will be retrieved lazily from the
+	 * supplied {@code messageSupplier}.
+	 *
+	 * @see #assertAllocatesAtMost(long, Executable)
+	 * @see #assertAllocatesAtMost(long, Executable, String)
+	 * @see #assertNoAllocation(Executable, Supplier)
+	 */
+	@API(Experimental)
+	public static void assertAllocatesAtMost(long maxBytes, Executable executable,
+			Supplier<String> messageSupplier) {
+		AssertAllocation.assertAllocatesAtMost(maxBytes, executable, messageSupplier);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable} does not
+	 * allocate more than {@code maxBytes} bytes of heap memory after it has been
+	 * executed {@code warmupIterations} times.
+	 *
+	 * <p>See Javadoc for {@link #assertAllocatesAtMost(long, Executable)} for an
+	 * explanation of how allocations are measured. A number of warm-up iterations
+	 * that exceeds the compilation thresholds of the JIT compiler allows
+	 * asserting the allocations of optimized code.
+	 *
+	 * @see #assertAllocatesAtMost(long, int, Executable, String)
+	 * @see #assertAllocatesAtMost(long, int, Executable, Supplier)
+	 * @see #assertAllocatesAtMost(long, Executable)
+	 */
+	@API(Experimental)
+	public static void assertAllocatesAtMost(long maxBytes, int warmupIterations, Executable executable) {
+		AssertAllocation.assertAllocatesAtMost(maxBytes, warmupIterations, executable);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable} does not
+	 * allocate more than {@code maxBytes} bytes of heap memory after it has been
+	 * executed {@code warmupIterations} times.
+	 *
+	 * <p>See Javadoc for {@link #assertAllocatesAtMost(long, int, Executable)} for
+	 * an explanation of the warm-up iterations.
+	 *
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @see #assertAllocatesAtMost(long, int, Executable)
+	 * @see #assertAllocatesAtMost(long, int, Executable, Supplier)
+	 * @see #assertAllocatesAtMost(long, Executable, String)
+	 */
+	@API(Experimental)
+	public static void assertAllocatesAtMost(long maxBytes, int warmupIterations, Executable executable,
+			String message) {
+		AssertAllocation.assertAllocatesAtMost(maxBytes, warmupIterations, executable, message);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable} does not
+	 * allocate more than {@code maxBytes} bytes of heap memory after it has been
+	 * executed {@code warmupIterations} times.
+	 *
+	 * <p>See Javadoc for {@link #assertAllocatesAtMost(long, int, Executable)} for
+	 * an explanation of the warm-up iterations.
+	 *
+	 * <p>If necessary, the failure message will be retrieved lazily from the
+	 * supplied {@code messageSupplier}.
+	 *
+	 * @see #assertAllocatesAtMost(long, int, Executable)
+	 * @see #assertAllocatesAtMost(long, int, Executable, String)
+	 * @see #assertAllocatesAtMost(long, Executable, Supplier)
+	 */
+	@API(Experimental)
+	public static void assertAllocatesAtMost(long maxBytes, int warmupIterations, Executable executable,
+			Supplier<String> messageSupplier) {
+		AssertAllocation.assertAllocatesAtMost(maxBytes, warmupIterations, executable, messageSupplier);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable} does not
+	 * allocate any heap memory.
+	 *
+	 * <p>See Javadoc for {@link #assertAllocatesAtMost(long, Executable)} for an
+	 * explanation of how allocations are measured.
+	 *
+	 * @see #assertNoAllocation(Executable, String)
+	 * @see #assertNoAllocation(Executable, Supplier)
+	 * @see #assertAllocatesAtMost(long, Executable)
+	 */
+	@API(Experimental)
+	public static void assertNoAllocation(Executable executable) {
+		AssertAllocation.assertNoAllocation(executable);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable} does not
+	 * allocate any heap memory.
+	 *
+	 * <p>See Javadoc for {@link #assertAllocatesAtMost(long, Executable)} for an
+	 * explanation of how allocations are measured.
+	 *
+	 * <p>Fails with the supplied failure {@code message}.
+	 *
+	 * @see #assertNoAllocation(Executable)
+	 * @see #assertNoAllocation(Executable, Supplier)
+	 * @see #assertAllocatesAtMost(long, Executable, String)
+	 */
+	@API(Experimental)
+	public static void assertNoAllocation(Executable executable, String message) {
+		AssertAllocation.assertNoAllocation(executable, message);
+	}
+
+	/**
+	 * <em>Asserts</em> that execution of the supplied {@code executable} does not
+	 * allocate any heap memory.
+	 *
+	 * <p>See Javadoc for {@link #assertAllocatesAtMost(long, Executable)} for an
+	 * explanation of how allocations are measured.
+	 *
+	 * <p>If necessary, the failure message will be retrieved lazily from the
+	 * supplied {@code messageSupplier}.
+	 *
+	 * @see #assertNoAllocation(Executable)
+	 * @see #assertNoAllocation(Executable, String)
+	 * @see #assertAllocatesAtMost(long, Executable, Supplier)
+	 */
+	@API(Experimental)
+	public static void assertNoAllocation(Executable executable, Supplier<String> messageSupplier) {
+		AssertAllocation.assertNoAllocation(executable, messageSupplier);
+	}
+
 }
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.jupiter.api.AssertionUtils.formatClassAndValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * {@code BoundedDiff} renders the expected and actual values of a failed
+ * assertion whose string representations would be too large to be included
+ * in a failure message in full.
+ *
+ * <p>Instead of the complete values, only a snippet surrounding the first
+ * difference is rendered. For large collections, the string representation
+ * of the whole collection is never computed. For multi-line strings, a line
+ * diff of the differing region is appended; the diff is computed using the
+ * Myers algorithm and is bounded both in the number of lines it considers
+ * and in the number of edits it searches for.
+ *
+ * <p>Only {@link Collection Collections} are bounded by their number of
+ * elements. Other {@link Iterable Iterables} and all remaining values are
+ * bounded by the length of their string representation, which therefore
+ * still has to be computed once.
+ *
+ * @since 5.0
+ */
+final class BoundedDiff {
+
+	/**
+	 * Maximum length of a string representation that is rendered in full.
+	 */
+	static final int MAX_INLINE_LENGTH = 8192;
+
+	/**
+	 * Maximum size of a collection whose string representation is rendered in
+	 * full.
+	 */
+	static final int MAX_INLINE_ELEMENTS = 1024;
+
+	private static final int CONTEXT_LENGTH = 64;
+
+	private static final int CONTEXT_ELEMENTS = 8;
+
+	private static final int CONTEXT_LINES = 3;
+
+	private static final int MAX_DIFF_LINES = 1000;
+
+	private static final int MAX_EDIT_DISTANCE = 100;
+
+	private static final int MAX_OUTPUT_LINES = 50;
+
+	private static final String OMISSION = "[...]";
+
+	///CLOVER:OFF
+	private BoundedDiff() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+	static boolean isLargeCollection(Object value) {
+		return value instanceof Collection && ((Collection<?>) value).size() > MAX_INLINE_ELEMENTS;
+	}
+
+	static boolean isLargeString(String valueString) {
+		return valueString.length() > MAX_INLINE_LENGTH;
+	}
+
+	static Snippets renderCollections(Object expected, Object actual) {
+		if (!(expected instanceof Collection) || !(actual instanceof Collection)) {
+			return new Snippets(formatHead(expected), formatHead(actual), "");
+		}
+		Collection<?> expectedCollection = (Collection<?>) expected;
+		Collection<?> actualCollection = (Collection<?>) actual;
+
+		int index = 0;
+		Iterator<?> expectedIterator = expectedCollection.iterator();
+		Iterator<?> actualIterator = actualCollection.iterator();
+		while (expectedIterator.hasNext() && actualIterator.hasNext()
+				&& Objects.equals(expectedIterator.next(), actualIterator.next())) {
+			index++;
+		}
+
+		String details = ", first difference at index " + index + ", sizes: <" + expectedCollection.size()
+				+ "> and <" + actualCollection.size() + ">";
+		return new Snippets(formatWindow(expectedCollection, index), formatWindow(actualCollection, index), details);
+	}
+
+	static Snippets renderStrings(String expectedString, String actualString) {
+		int prefix = commonPrefixLength(expectedString, actualString);
+		if (prefix == expectedString.length() && prefix == actualString.length()) {
+			return new Snippets(formatSnippet(expectedString, prefix), formatSnippet(actualString, prefix), "");
+		}
+		int suffix = commonSuffixLength(expectedString, actualString, prefix);
+
+		StringBuilder details = new StringBuilder();
+		details.append(", first difference at index ").append(prefix);
+		boolean multiline = expectedString.indexOf('\n') >= 0 || actualString.indexOf('\n') >= 0;
+		int lineStart = expectedString.lastIndexOf('\n', prefix - 1) + 1;
+		if (multiline) {
+			details.append(" (line ").append(countLines(expectedString, lineStart)).append(")");
+		}
+		details.append(", lengths: <").append(expectedString.length()).append("> and <").append(
+			actualString.length()).append(">");
+		if (multiline) {
+			List<String> expectedLines = splitLines(expectedString, lineStart, expectedString.length() - suffix);
+			List<String> actualLines = splitLines(actualString, lineStart, actualString.length() - suffix);
+			if (expectedLines.size() > 1 || actualLines.size() > 1) {
+				appendLineDiff(details, expectedLines, actualLines);
+			}
+		}
+		return new Snippets(formatSnippet(expectedString, prefix), formatSnippet(actualString, prefix),
+			details.toString());
+	}
+
+	private static String formatHead(Object value) {
+		if (value instanceof Collection) {
+			return formatWindow((Collection<?>) value, 0);
+		}
+		return formatSnippet(String.valueOf(value), 0);
+	}
+
+	private static String formatWindow(Collection<?> collection, int index) {
+		int start = Math.max(0, index - CONTEXT_ELEMENTS);
+		int end = Math.min(collection.size(), index + CONTEXT_ELEMENTS + 1);
+
+		StringJoiner joiner = new StringJoiner(", ", start > 0 ? "[..., " : "[",
+			end < collection.size() ? ", ...]" : "]");
+		Iterator<?> iterator = collection.iterator();
+		for (int i = 0; i < end && iterator.hasNext(); i++) {
+			Object element = iterator.next();
+			if (i >= start) {
+				joiner.add(truncate(element == collection ? "(this Collection)" : String.valueOf(element)));
+			}
+		}
+		return joiner.toString();
+	}
+
+	private static String formatSnippet(String string, int index) {
+		int start = Math.max(0, index - CONTEXT_LENGTH);
+		int end = Math.min(string.length(), index + CONTEXT_LENGTH);
+		return (start > 0 ? OMISSION : "") + string.substring(start, end)
+				+ (end < string.length() ? OMISSION : "");
+	}
+
+	private static String truncate(String string) {
+		return (string.length() > 2 * CONTEXT_LENGTH ? string.substring(0, 2 * CONTEXT_LENGTH) + OMISSION : string);
+	}
+
+	private static int commonPrefixLength(String first, String second) {
+		int length = Math.min(first.length(), second.length());
+		int index = 0;
+		while (index < length && first.charAt(index) == second.charAt(index)) {
+			index++;
+		}
+		return index;
+	}
+
+	private static int commonSuffixLength(String first, String second, int prefix) {
+		int length = Math.min(first.length(), second.length()) - prefix;
+		int count = 0;
+		while (count < length
+				&& first.charAt(first.length() - 1 - count) == second.charAt(second.length() - 1 - count)) {
+			count++;
+		}
+		return count;
+	}
+
+	private static int countLines(String string, int end) {
+		int lines = 1;
+		for (int i = string.indexOf('\n'); i >= 0 && i < end; i = string.indexOf('\n', i + 1)) {
+			lines++;
+		}
+		return lines;
+	}
+
+	/**
+	 * Split the lines of the supplied string from {@code start} up to the end
+	 * of the line containing {@code end}, considering at most
+	 * {@value #MAX_DIFF_LINES} lines.
+	 */
+	private static List<String> splitLines(String string, int start, int end) {
+		int limit = string.indexOf('\n', end);
+		if (limit < 0) {
+			limit = string.length();
+		}
+		List<String> lines = new ArrayList<>();
+		int lineStart = start;
+		while (lines.size() < MAX_DIFF_LINES) {
+			int lineEnd = string.indexOf('\n', lineStart);
+			if (lineEnd < 0 || lineEnd >= limit) {
+				lines.add(string.substring(lineStart, limit));
+				break;
+			}
+			lines.add(string.substring(lineStart, lineEnd));
+			lineStart = lineEnd + 1;
+		}
+		return lines;
+	}
+
+	private static void appendLineDiff(StringBuilder builder, List<String> expectedLines, List<String> actualLines) {
+		List<String> diff = diffLines(expectedLines, actualLines);
+		if (diff == null) {
+			diff = new ArrayList<>();
+			for (String line : expectedLines) {
+				diff.add("-" + line);
+			}
+			for (String line : actualLines) {
+				diff.add("+" + line);
+			}
+		}
+
+		int written = 0;
+		for (int i = 0; i < diff.size(); i++) {
+			if (written == MAX_OUTPUT_LINES) {
+				builder.append('\n').append(OMISSION);
+				return;
+			}
+			String line = diff.get(i);
+			if (line.charAt(0) == ' ' && !isNearChange(diff, i)) {
+				if (i == 0 || diff.get(i - 1).charAt(0) != ' ' || isNearChange(diff, i - 1)) {
+					builder.append('\n').append(OMISSION);
+					written++;
+				}
+				continue;
+			}
+			builder.append('\n').append(truncate(line));
+			written++;
+		}
+	}
+
+	private static boolean isNearChange(List<String> diff, int index) {
+		int from = Math.max(0, index - CONTEXT_LINES);
+		int to = Math.min(diff.size() - 1, index + CONTEXT_LINES);
+		for (int i = from; i <= to; i++) {
+			if (diff.get(i).charAt(0) != ' ') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Bounded representations of an expected and an actual value.
+	 */
+	static final class Snippets {
+
+		private final String expectedSnippet;
+		private final String actualSnippet;
+		private final String details;
+
+		Snippets(String expectedSnippet, String actualSnippet, String details) {
+			this.expectedSnippet = expectedSnippet;
+			this.actualSnippet = actualSnippet;
+			this.details = details;
+		}
+
+		/**
+		 * Format the failure message for the supplied values.
+		 */
+		String format(Object expected, Object actual) {
+			if (this.expectedSnippet.equals(this.actualSnippet)) {
+				return String.format("expected: %s but was: %s%s",
+					formatClassAndValue(expected, this.expectedSnippet),
+					formatClassAndValue(actual, this.actualSnippet), this.details);
+			}
+			return String.format("expected: <%s> but was: <%s>%s", this.expectedSnippet, this.actualSnippet,
+				this.details);
+		}
+
+		/**
+		 * Get the value to be referenced as expected value by the failure: the
+		 * supplied value if it is a {@link String}, whose string representation
+		 * is free to compute, and its bounded representation otherwise.
+		 */
+		Object getExpected(Object expected) {
+			return (expected instanceof String ? expected : this.expectedSnippet);
+		}
+
+		/**
+		 * Get the value to be referenced as actual value by the failure; see
+		 * {@link #getExpected(Object)}.
+		 */
+		Object getActual(Object actual) {
+			return (actual instanceof String ? actual : this.actualSnippet);
+		}
+
+	}
+
+	/**
+	 * Compute a line diff using the Myers algorithm.
+	 *
+	 * @return the lines of the diff, each prefixed with {@code ' '},
+	 * {@code '-'}, or {@code '+'}; or {@code null} if more than
+	 * {@value #MAX_EDIT_DISTANCE} edits are required
+	 */
+	private static List<String> diffLines(List<String> expected, List<String> actual) {
+		int n = expected.size();
+		int m = actual.size();
+		int max = Math.min(n + m, MAX_EDIT_DISTANCE);
+		int offset = max + 1;
+		int[] v = new int[2 * max + 3];
+		List<int[]> trace = new ArrayList<>();
+
+		for (int d = 0; d <= max; d++) {
+			trace.add(v.clone());
+			for (int k = -d; k <= d; k += 2) {
+				int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) ? v[offset + k + 1]
+						: v[offset + k - 1] + 1;
+				int y = x - k;
+				while (x < n && y < m && expected.get(x).equals(actual.get(y))) {
+					x++;
+					y++;
+				}
+				v[offset + k] = x;
+				if (x >= n && y >= m) {
+					return backtrack(trace, offset, expected, actual);
+				}
+			}
+		}
+		return null;
+	}
+
+	private static List<String> backtrack(List<int[]> trace, int offset, List<String> expected,
+			List<String> actual) {
+
+		List<String> diff = new ArrayList<>();
+		int x = expected.size();
+		int y = actual.size();
+		for (int d = trace.size() - 1; d >= 0; d--) {
+			int[] v = trace.get(d);
+			int k = x - y;
+			int previousK = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) ? k + 1 : k - 1;
+			int previousX = v[offset + previousK];
+			int previousY = previousX - previousK;
+			while (x > previousX && y > previousY) {
+				diff.add(" " + expected.get(--x));
+				y--;
+			}
+			if (d > 0) {
+				if (x == previousX) {
+					diff.add("+" + actual.get(--y));
+				}
+				else {
+					diff.add("-" + expected.get(--x));
+				}
+			}
+		}
+		Collections.reverse(diff);
+		return diff;
+	}
+
+}
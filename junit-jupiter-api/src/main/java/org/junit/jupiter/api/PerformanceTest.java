@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code @PerformanceTest} is used to signal that the annotated method is a
+ * <em>test template</em> method that measures the execution time of its body.
+ *
+ * <p>A {@code @PerformanceTest} method is executed as a single test. Within
+ * that test, the method is first invoked {@linkplain #warmupIterations
+ * warm-up iterations} times, and then {@linkplain #iterations measurement
+ * iterations} times while the duration of each invocation is recorded.
+ * {@link BeforeEach @BeforeEach} and {@link AfterEach @AfterEach} methods are
+ * executed once before the first and after the last invocation respectively.
+ *
+ * <p>The mean and median (p50) durations, the 99th percentile (p99) duration,
+ * and the throughput are published as a single
+ * {@linkplain TestReporter report entry} with the keys {@code mean},
+ * {@code p50}, {@code p99}, and {@code throughput}. If any of the configured
+ * thresholds is exceeded, the test fails. Thresholds that are not greater
+ * than zero are not checked.
+ *
+ * <p>{@code @PerformanceTest} is intended for simple regression checks in a
+ * regular test suite. Measurements are taken in the thread executing the
+ * test and are therefore subject to the noise of the surrounding test run.
+ *
+ * <p>{@code @PerformanceTest} methods must not be {@code private} or
+ * {@code static} and must return {@code void}.
+ *
+ * <p>{@code @PerformanceTest} methods may optionally declare parameters to be
+ * resolved by {@link org.junit.jupiter.api.extension.ParameterResolver
+ * ParameterResolvers}.
+ *
+ * <p>{@code @PerformanceTest} may also be used as a meta-annotation in order
+ * to create a custom <em>composed annotation</em> that inherits the semantics
+ * of {@code @PerformanceTest}.
+ *
+ * @since 5.0
+ * @see RepeatedTest
+ * @see TestTemplate
+ * @see TestReporter
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(Experimental)
+@TestTemplate
+public @interface PerformanceTest {
+
+	/**
+	 * The number of warm-up iterations whose durations are not recorded.
+	 *
+	 * @return the number of warm-up iterations; must not be negative
+	 */
+	int warmupIterations() default 5;
+
+	/**
+	 * The number of measurement iterations whose durations are recorded.
+	 *
+	 * @return the number of measurement iterations; must be greater than zero
+	 */
+	int iterations() default 20;
+
+	/**
+	 * The time unit of the duration thresholds and of the published durations.
+	 *
+	 * <p>Defaults to {@link TimeUnit#MILLISECONDS MILLISECONDS}.
+	 */
+	TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+	/**
+	 * The maximum mean duration of a measurement iteration in the configured
+	 * {@linkplain #unit unit}.
+	 */
+	double maxMean() default 0;
+
+	/**
+	 * The maximum median duration of a measurement iteration in the configured
+	 * {@linkplain #unit unit}.
+	 */
+	double maxP50() default 0;
+
+	/**
+	 * The maximum 99th percentile duration of a measurement iteration in the
+	 * configured {@linkplain #unit unit}.
+	 */
+	double maxP99() default 0;
+
+	/**
+	 * The minimum number of measurement iterations per second.
+	 */
+	double minThroughput() default 0;
+
+}
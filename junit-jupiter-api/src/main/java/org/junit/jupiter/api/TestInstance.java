@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code @TestInstance} is a type-level annotation that is used to configure
+ * the {@linkplain Lifecycle lifecycle} of test instances for the annotated
+ * test class and its subclasses.
+ *
+ * <p>If {@code @TestInstance} is not declared on a test class, the default
+ * lifecycle mode is used. Unless configured otherwise via the
+ * {@code junit.testinstance.lifecycle.default} configuration parameter, the
+ * default mode is {@link Lifecycle#PER_METHOD PER_METHOD}.
+ *
+ * @since 5.0
+ * @see Nested
+ * @see BeforeAll
+ * @see AfterAll
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@API(Experimental)
+public @interface TestInstance {
+
+	/**
+	 * Enumeration of test instance lifecycle <em>modes</em>.
+	 *
+	 * @see #PER_METHOD
+	 * @see #PER_CLASS
+	 */
+	enum Lifecycle {
+
+		/**
+		 * When using this mode, a new test instance will be created once per
+		 * test class. All test methods, test templates, and test factories
+		 * of the class as well as the test instances of its {@link Nested
+		 * @Nested} classes share that instance, and {@link BeforeAll @BeforeAll}
+		 * and {@link AfterAll @AfterAll} methods may be declared non-static.
+		 */
+		PER_CLASS,
+
+		/**
+		 * When using this mode, a new test instance will be created for each
+		 * test method, test factory method, or test template invocation.
+		 *
+		 * <p>This mode is analogous to the behavior found in JUnit versions 1
+		 * through 4.
+		 */
+		PER_METHOD;
+
+	}
+
+	/**
+	 * The test instance lifecycle <em>mode</em> to use.
+	 */
+	Lifecycle value();
+
+}
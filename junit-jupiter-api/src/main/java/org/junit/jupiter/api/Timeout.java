@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code @Timeout} is used to declare that the execution of a test, test
+ * factory, test template invocation, or lifecycle method should fail if it
+ * exceeds a given duration.
+ *
+ * <p>When declared on a test class, the timeout applies to all test methods,
+ * test factory methods, test template methods, and lifecycle methods of that
+ * class and its subclasses unless they declare a {@code @Timeout} of their
+ * own. A {@link #value() value} of zero or less disables the timeout for the
+ * annotated element.
+ *
+ * <p>When a timeout is exceeded, the executing thread is
+ * {@linkplain Thread#interrupt() interrupted} and the test fails once the
+ * method returns. The failure carries the stack trace of the test at the
+ * time of the timeout and a dump of all threads. Code that does not respond
+ * to interruption cannot be aborted.
+ *
+ * <p>Default timeouts may be configured via the {@code junit.timeout.default},
+ * {@code junit.timeout.testable.method.default},
+ * {@code junit.timeout.testtemplate.method.default}, and
+ * {@code junit.timeout.lifecycle.method.default} configuration parameters.
+ * A timeout for the complete execution of each test class may be configured
+ * via the {@code junit.timeout.container.default} configuration parameter.
+ *
+ * @since 5.0
+ * @see Test
+ * @see TestFactory
+ * @see TestTemplate
+ * @see Assertions#assertTimeoutPreemptively(java.time.Duration, org.junit.jupiter.api.function.Executable)
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@API(Experimental)
+public @interface Timeout {
+
+	/**
+	 * The duration of this timeout in the configured {@link #unit() unit}.
+	 *
+	 * <p>A value of zero or less disables the timeout.
+	 */
+	long value();
+
+	/**
+	 * The time unit of this timeout.
+	 *
+	 * <p>Defaults to {@link TimeUnit#SECONDS SECONDS}.
+	 */
+	TimeUnit unit() default TimeUnit.SECONDS;
+
+}
@@ -82,4 +82,26 @@ public interface ParameterResolver extends Extension {
 	Object resolve(ParameterContext parameterContext, ExtensionContext extensionContext)
 			throws ParameterResolutionException;
 
+	/**
+	 * Determine if the result of {@link #supports} is <em>stable</em> for
+	 * this type of resolver.
+	 *
+	 * <p>A resolver is stable if {@link #supports} only depends on the
+	 * {@link Parameter} in the supplied {@link ParameterContext} &mdash; for
+	 * example, on its type or annotations &mdash; but neither on the target
+	 * instance, the {@link ExtensionContext}, nor on the state of the resolver
+	 * instance itself. The framework may then cache the result of
+	 * {@link #supports} per parameter and resolver class and skip
+	 * subsequent invocations &mdash; for example, for repeated tests, test
+	 * template invocations, and lifecycle methods.
+	 *
+	 * <p>The default implementation returns {@code false}.
+	 *
+	 * @return {@code true} if the result of {@link #supports} may be cached
+	 * @see #supports
+	 */
+	default boolean isSupportStable() {
+		return false;
+	}
+
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api.extension;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code @StatelessExtension} is used to declare that an {@link Extension}
+ * implementation does not hold any state in its instance fields.
+ *
+ * <p>By default, a new instance of an extension is created each time it is
+ * registered declaratively via {@link ExtendWith @ExtendWith} &mdash; for
+ * example, once for every test method that declares it. For extensions
+ * annotated with {@code @StatelessExtension}, the {@code TestEngine} may
+ * instead create a single instance and reuse it wherever the extension is
+ * registered declaratively during the same execution of the engine.
+ *
+ * <p>Extensions that need to retain state between callbacks should use the
+ * {@link ExtensionContext.Store Store} of the supplied
+ * {@link ExtensionContext} rather than instance fields.
+ *
+ * <p>This annotation is not {@link java.lang.annotation.Inherited @Inherited}
+ * since a subclass may introduce state of its own.
+ *
+ * @since 5.0
+ * @see ExtendWith
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(Experimental)
+public @interface StatelessExtension {
+}
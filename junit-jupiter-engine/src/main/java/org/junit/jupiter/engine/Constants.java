@@ -67,6 +67,115 @@ public final class Constants {
 	 */
 	public static final String EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME = "junit.extensions.autodetection.enabled";
 
+	/**
+	 * Property name used to set the default test instance lifecycle mode: {@value}
+	 *
+	 * <p>Supported values are the names of the constants of
+	 * {@link org.junit.jupiter.api.TestInstance.Lifecycle}, ignoring case. For
+	 * example, setting this property to {@code per_class} creates a single test
+	 * instance per test class unless the class is annotated with
+	 * {@link org.junit.jupiter.api.TestInstance @TestInstance}.
+	 *
+	 * <p>If this property is not set or set to an unsupported value, the default
+	 * mode is {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_METHOD
+	 * PER_METHOD}.
+	 */
+	public static final String DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME = "junit.testinstance.lifecycle.default";
+
+	/**
+	 * Property name used to enable streaming of dynamic tests: {@value}
+	 *
+	 * <p>When enabled, each dynamic test returned by a
+	 * {@link org.junit.jupiter.api.TestFactory @TestFactory} method is detached
+	 * from the factory's test descriptor and its executable is released as soon
+	 * as its execution has been reported. The memory retained for a factory is
+	 * then independent of the number of dynamic tests it generates, provided
+	 * that the factory produces them lazily, for example via a
+	 * {@link java.util.stream.Stream Stream}.
+	 *
+	 * <p>The {@code Launcher} honors the same property by discarding finished
+	 * dynamic tests from its {@code TestPlan}.
+	 *
+	 * <p>The default behavior is to retain all dynamic tests.
+	 */
+	public static final String DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME = "junit.dynamictests.streaming.enabled";
+
+	/**
+	 * Property name used to set the default timeout for all testable and
+	 * lifecycle methods: {@value}
+	 *
+	 * <h3>Supported Values</h3>
+	 *
+	 * <p>Supported values are non-negative integers followed by an optional,
+	 * case-insensitive time unit: {@code ns}, {@code us} (or <code>&mu;s</code>),
+	 * {@code ms}, {@code s}, {@code m}, {@code h}, or {@code d}. Values without
+	 * a unit are interpreted as seconds. For example, {@code 5 m} and
+	 * {@code 300} both denote a timeout of five minutes. A value of {@code 0}
+	 * disables the timeout.
+	 *
+	 * <p>The more specific defaults configured via
+	 * {@link #DEFAULT_TESTABLE_METHOD_TIMEOUT_PROPERTY_NAME},
+	 * {@link #DEFAULT_TEST_TEMPLATE_TIMEOUT_PROPERTY_NAME}, and
+	 * {@link #DEFAULT_LIFECYCLE_METHOD_TIMEOUT_PROPERTY_NAME} as well as
+	 * {@link org.junit.jupiter.api.Timeout @Timeout} declarations take
+	 * precedence over this default.
+	 *
+	 * <p>If this property is not set or set to an unsupported value, no
+	 * default timeout applies.
+	 *
+	 * @see org.junit.jupiter.api.Timeout
+	 */
+	public static final String DEFAULT_TIMEOUT_PROPERTY_NAME = "junit.timeout.default";
+
+	/**
+	 * Property name used to set the default timeout for all
+	 * {@link org.junit.jupiter.api.Test @Test} and
+	 * {@link org.junit.jupiter.api.TestFactory @TestFactory} methods: {@value}
+	 *
+	 * <p>Supported values are the same as for
+	 * {@link #DEFAULT_TIMEOUT_PROPERTY_NAME}.
+	 *
+	 * @see org.junit.jupiter.api.Timeout
+	 */
+	public static final String DEFAULT_TESTABLE_METHOD_TIMEOUT_PROPERTY_NAME = "junit.timeout.testable.method.default";
+
+	/**
+	 * Property name used to set the default timeout for each invocation of a
+	 * {@link org.junit.jupiter.api.TestTemplate @TestTemplate} method: {@value}
+	 *
+	 * <p>Supported values are the same as for
+	 * {@link #DEFAULT_TIMEOUT_PROPERTY_NAME}.
+	 *
+	 * @see org.junit.jupiter.api.Timeout
+	 */
+	public static final String DEFAULT_TEST_TEMPLATE_TIMEOUT_PROPERTY_NAME = "junit.timeout.testtemplate.method.default";
+
+	/**
+	 * Property name used to set the default timeout for all
+	 * {@link org.junit.jupiter.api.BeforeAll @BeforeAll},
+	 * {@link org.junit.jupiter.api.BeforeEach @BeforeEach},
+	 * {@link org.junit.jupiter.api.AfterEach @AfterEach}, and
+	 * {@link org.junit.jupiter.api.AfterAll @AfterAll} methods: {@value}
+	 *
+	 * <p>Supported values are the same as for
+	 * {@link #DEFAULT_TIMEOUT_PROPERTY_NAME}.
+	 *
+	 * @see org.junit.jupiter.api.Timeout
+	 */
+	public static final String DEFAULT_LIFECYCLE_METHOD_TIMEOUT_PROPERTY_NAME = "junit.timeout.lifecycle.method.default";
+
+	/**
+	 * Property name used to set the timeout for the complete execution of each
+	 * test class, including all of its tests and nested classes: {@value}
+	 *
+	 * <p>Supported values are the same as for
+	 * {@link #DEFAULT_TIMEOUT_PROPERTY_NAME}, which does not apply to test
+	 * classes. If this property is not set, test classes do not time out.
+	 *
+	 * @see org.junit.jupiter.api.Timeout
+	 */
+	public static final String DEFAULT_CONTAINER_TIMEOUT_PROPERTY_NAME = "junit.timeout.container.default";
+
 	private Constants() {
 		/* no-op */
 	}
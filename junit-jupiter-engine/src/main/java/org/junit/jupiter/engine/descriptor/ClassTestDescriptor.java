@@ -10,20 +10,31 @@
 
 package org.junit.jupiter.engine.descriptor;
 
+import static org.junit.jupiter.engine.Constants.DEFAULT_LIFECYCLE_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.assertStatic;
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findAfterAllMethods;
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findAfterEachMethods;
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeAllMethods;
 import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.findBeforeEachMethods;
+import static org.junit.jupiter.engine.descriptor.TestInstanceLifecycleUtils.getTestInstanceLifecycle;
+import static org.junit.jupiter.engine.descriptor.TimeoutUtils.executeWithTimeout;
+import static org.junit.jupiter.engine.descriptor.TimeoutUtils.getContainerTimeout;
+import static org.junit.jupiter.engine.descriptor.TimeoutUtils.getMethodTimeout;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ContainerExtensionContext;
@@ -34,6 +45,7 @@ import org.junit.jupiter.api.extension.TestInstancePostProcessor;
 import org.junit.jupiter.engine.execution.AfterEachMethodAdapter;
 import org.junit.jupiter.engine.execution.BeforeEachMethodAdapter;
 import org.junit.jupiter.engine.execution.ExecutableInvoker;
+import org.junit.jupiter.engine.execution.ExtensionCallbackEvents;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.execution.TestInstanceProvider;
 import org.junit.jupiter.engine.execution.ThrowableCollector;
@@ -42,6 +54,7 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
@@ -56,6 +69,24 @@ import org.junit.platform.engine.support.descriptor.ClassSource;
  * the fully qualified name of the class with the package name and leading dot
  * (".") removed.
  *
+ * <h3>Test Instance Lifecycle</h3>
+ *
+ * <p>By default, a new test instance is created for each test method. If the
+ * {@link org.junit.jupiter.api.TestInstance.Lifecycle#PER_CLASS PER_CLASS}
+ * lifecycle applies to the test class, a single instance is created before
+ * any {@link BeforeAllCallback BeforeAllCallbacks} are invoked and shared by
+ * all descendants of this descriptor. That instance is created with the
+ * extensions registered for the class; extensions registered for individual
+ * test methods do not participate in its creation.
+ *
+ * <h3>Timeouts</h3>
+ *
+ * <p>The {@link org.junit.jupiter.api.Timeout timeouts} of lifecycle methods
+ * are enforced for each invocation. The complete execution of a test class
+ * is subject to the timeout configured via
+ * {@value org.junit.jupiter.engine.Constants#DEFAULT_CONTAINER_TIMEOUT_PROPERTY_NAME},
+ * if any.
+ *
  * @since 5.0
  */
 @API(Internal)
@@ -70,6 +101,10 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	private final List<Method> beforeEachMethods;
 	private final List<Method> afterEachMethods;
 
+	private Lifecycle lifecycle = Lifecycle.PER_METHOD;
+
+	private ConfigurationParameters configurationParameters;
+
 	public ClassTestDescriptor(UniqueId uniqueId, Class<?> testClass) {
 		this(uniqueId, ClassTestDescriptor::generateDefaultDisplayName, testClass);
 	}
@@ -121,6 +156,13 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 
 	@Override
 	public JupiterEngineExecutionContext prepare(JupiterEngineExecutionContext context) {
+		this.configurationParameters = context.getConfigurationParameters();
+		this.lifecycle = getTestInstanceLifecycle(this.testClass, this.configurationParameters);
+		if (this.lifecycle == Lifecycle.PER_METHOD) {
+			assertStatic(BeforeAll.class, this.beforeAllMethods);
+			assertStatic(AfterAll.class, this.afterAllMethods);
+		}
+
 		ExtensionRegistry registry = populateNewExtensionRegistryFromExtendWith(this.testClass,
 			context.getExtensionRegistry());
 
@@ -130,9 +172,14 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		ContainerExtensionContext containerExtensionContext = new ClassBasedContainerExtensionContext(
 			context.getExtensionContext(), context.getExecutionListener(), this);
 
+		TestInstanceProvider testInstanceProvider = testInstanceProvider(context, registry, containerExtensionContext);
+		if (this.lifecycle == Lifecycle.PER_CLASS) {
+			testInstanceProvider = new SharedTestInstanceProvider(testInstanceProvider);
+		}
+
 		// @formatter:off
 		return context.extend()
-				.withTestInstanceProvider(testInstanceProvider(context, registry, containerExtensionContext))
+				.withTestInstanceProvider(testInstanceProvider)
 				.withExtensionRegistry(registry)
 				.withExtensionContext(containerExtensionContext)
 				.withThrowableCollector(new ThrowableCollector())
@@ -145,11 +192,23 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		return shouldContainerBeSkipped(context);
 	}
 
+	@Override
+	public Optional<Duration> getExecutionTimeout(JupiterEngineExecutionContext context) {
+		return getContainerTimeout(context.getConfigurationParameters());
+	}
+
 	@Override
 	public JupiterEngineExecutionContext before(JupiterEngineExecutionContext context) throws Exception {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
-		invokeBeforeAllCallbacks(context);
+		if (this.lifecycle == Lifecycle.PER_CLASS) {
+			// Instantiate the test class up front so that a failure is reported for
+			// the class itself and the instance is available to @BeforeAll methods.
+			throwableCollector.execute(() -> context.getTestInstanceProvider().getTestInstance(Optional.empty()));
+		}
+		if (throwableCollector.isEmpty()) {
+			invokeBeforeAllCallbacks(context);
+		}
 		if (throwableCollector.isEmpty()) {
 			context.beforeAllMethodsExecuted(true);
 			invokeBeforeAllMethods(context);
@@ -185,7 +244,8 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 			ExtensionContext context) {
 
 		registry.stream(TestInstancePostProcessor.class).forEach(
-			extension -> executeAndMaskThrowable(() -> extension.postProcessTestInstance(instance, context)));
+			extension -> executeAndMaskThrowable(ExtensionCallbackEvents.record(extension,
+				TestInstancePostProcessor.class, context, () -> extension.postProcessTestInstance(instance, context))));
 	}
 
 	private void invokeBeforeAllCallbacks(JupiterEngineExecutionContext context) {
@@ -194,7 +254,8 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		for (BeforeAllCallback callback : registry.getExtensions(BeforeAllCallback.class)) {
-			throwableCollector.execute(() -> callback.beforeAll(extensionContext));
+			throwableCollector.execute(ExtensionCallbackEvents.record(callback, BeforeAllCallback.class,
+				extensionContext, () -> callback.beforeAll(extensionContext)));
 			if (throwableCollector.isNotEmpty()) {
 				break;
 			}
@@ -202,12 +263,10 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	}
 
 	private void invokeBeforeAllMethods(JupiterEngineExecutionContext context) {
-		ExtensionRegistry registry = context.getExtensionRegistry();
-		ContainerExtensionContext extensionContext = (ContainerExtensionContext) context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		for (Method method : this.beforeAllMethods) {
-			throwableCollector.execute(() -> executableInvoker.invoke(method, extensionContext, registry));
+			throwableCollector.execute(() -> invokeBeforeOrAfterAllMethod(method, context));
 			if (throwableCollector.isNotEmpty()) {
 				break;
 			}
@@ -215,12 +274,24 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	}
 
 	private void invokeAfterAllMethods(JupiterEngineExecutionContext context) {
-		ExtensionRegistry registry = context.getExtensionRegistry();
-		ContainerExtensionContext extensionContext = (ContainerExtensionContext) context.getExtensionContext();
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		this.afterAllMethods.forEach(
-			method -> throwableCollector.execute(() -> executableInvoker.invoke(method, extensionContext, registry)));
+			method -> throwableCollector.execute(() -> invokeBeforeOrAfterAllMethod(method, context)));
+	}
+
+	/**
+	 * Invoke the supplied {@code @BeforeAll} or {@code @AfterAll} method on the
+	 * test instance shared by all tests of this class, or statically.
+	 */
+	private void invokeBeforeOrAfterAllMethod(Method method, JupiterEngineExecutionContext context)
+			throws Exception {
+
+		Object target = (ReflectionUtils.isStatic(method) ? null
+				: context.getTestInstanceProvider().getTestInstance(Optional.empty()));
+		executeWithTimeout(getLifecycleMethodTimeout(method), method::getName,
+			() -> executableInvoker.invoke(method, target, context.getExtensionContext(),
+				context.getExtensionRegistry()));
 	}
 
 	private void invokeAfterAllCallbacks(JupiterEngineExecutionContext context) {
@@ -229,7 +300,8 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		registry.getReversedExtensions(AfterAllCallback.class)//
-				.forEach(extension -> throwableCollector.execute(() -> extension.afterAll(extensionContext)));
+				.forEach(extension -> throwableCollector.execute(ExtensionCallbackEvents.record(extension,
+					AfterAllCallback.class, extensionContext, () -> extension.afterAll(extensionContext))));
 	}
 
 	private void registerBeforeEachMethodAdapters(ExtensionRegistry registry) {
@@ -263,13 +335,46 @@ public class ClassTestDescriptor extends JupiterTestDescriptor {
 	}
 
 	private void invokeMethodInTestExtensionContext(Method method, TestExtensionContext context,
-			ExtensionRegistry registry) {
+			ExtensionRegistry registry) throws Exception {
 
 		Object instance = ReflectionUtils.getOuterInstance(context.getTestInstance(),
 			method.getDeclaringClass()).orElseThrow(
 				() -> new JUnitException("Failed to find instance for method: " + method.toGenericString()));
 
-		executableInvoker.invoke(method, instance, context, registry);
+		executeWithTimeout(getLifecycleMethodTimeout(method), method::getName,
+			() -> executableInvoker.invoke(method, instance, context, registry));
+	}
+
+	private Duration getLifecycleMethodTimeout(Method method) {
+		return getMethodTimeout(method, this.testClass, DEFAULT_LIFECYCLE_METHOD_TIMEOUT_PROPERTY_NAME,
+			this.configurationParameters);
+	}
+
+	/**
+	 * {@link TestInstanceProvider} that creates a single test instance via the
+	 * supplied delegate and returns it for all subsequent requests.
+	 */
+	private static final class SharedTestInstanceProvider implements TestInstanceProvider {
+
+		private final TestInstanceProvider delegate;
+
+		private Object instance;
+
+		SharedTestInstanceProvider(TestInstanceProvider delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public synchronized Object getTestInstance(Optional<ExtensionRegistry> childExtensionRegistry)
+				throws Exception {
+
+			if (this.instance == null) {
+				// Extensions registered below the class level do not apply to a shared instance.
+				this.instance = this.delegate.getTestInstance(Optional.empty());
+			}
+			return this.instance;
+		}
+
 	}
 
 }
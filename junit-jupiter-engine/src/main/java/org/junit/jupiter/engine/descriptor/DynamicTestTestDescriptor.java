@@ -23,7 +23,7 @@ import org.junit.platform.engine.UniqueId;
  */
 class DynamicTestTestDescriptor extends JupiterTestDescriptor {
 
-	private final DynamicTest dynamicTest;
+	private DynamicTest dynamicTest;
 
 	public DynamicTestTestDescriptor(UniqueId uniqueId, DynamicTest dynamicTest, TestSource source) {
 		super(uniqueId, dynamicTest.getDisplayName());
@@ -39,7 +39,16 @@ class DynamicTestTestDescriptor extends JupiterTestDescriptor {
 	@Override
 	public JupiterEngineExecutionContext execute(JupiterEngineExecutionContext context,
 			DynamicTestExecutor dynamicTestExecutor) throws Exception {
-		executeAndMaskThrowable(dynamicTest.getExecutable());
+		executeAndMaskThrowable(this.dynamicTest.getExecutable());
 		return context;
 	}
+
+	/**
+	 * Release the {@link DynamicTest} of this descriptor, including its
+	 * executable and anything the executable references, once it has been
+	 * executed.
+	 */
+	void releaseDynamicTest() {
+		this.dynamicTest = null;
+	}
 }
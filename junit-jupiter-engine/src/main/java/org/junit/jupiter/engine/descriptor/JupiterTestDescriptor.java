@@ -33,7 +33,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.api.function.Executable;
-import org.junit.jupiter.engine.execution.ConditionEvaluator;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.meta.API;
@@ -53,8 +52,6 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 
 	private static final Logger logger = Logger.getLogger(JupiterTestDescriptor.class.getName());
 
-	private static final ConditionEvaluator conditionEvaluator = new ConditionEvaluator();
-
 	JupiterTestDescriptor(UniqueId uniqueId, String displayName) {
 		super(uniqueId, displayName);
 	}
@@ -100,15 +97,14 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 	}
 
 	protected SkipResult shouldContainerBeSkipped(JupiterEngineExecutionContext context) {
-		ConditionEvaluationResult evaluationResult = conditionEvaluator.evaluateForContainer(
-			context.getExtensionRegistry(), context.getConfigurationParameters(),
-			(ContainerExtensionContext) context.getExtensionContext());
+		ConditionEvaluationResult evaluationResult = context.getConditionEvaluator().evaluateForContainer(
+			context.getExtensionRegistry(), (ContainerExtensionContext) context.getExtensionContext());
 		return toSkipResult(evaluationResult);
 	}
 
 	protected SkipResult shouldTestBeSkipped(JupiterEngineExecutionContext context) {
-		ConditionEvaluationResult evaluationResult = conditionEvaluator.evaluateForTest(context.getExtensionRegistry(),
-			context.getConfigurationParameters(), (TestExtensionContext) context.getExtensionContext());
+		ConditionEvaluationResult evaluationResult = context.getConditionEvaluator().evaluateForTest(
+			context.getExtensionRegistry(), (TestExtensionContext) context.getExtensionContext());
 		return toSkipResult(evaluationResult);
 	}
 
@@ -121,13 +117,33 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 
 	protected ExtensionRegistry populateNewExtensionRegistryFromExtendWith(AnnotatedElement annotatedElement,
 			ExtensionRegistry existingExtensionRegistry) {
+		return ExtensionRegistry.createRegistryFrom(existingExtensionRegistry, findExtensionTypes(annotatedElement));
+	}
+
+	/**
+	 * Populate a new {@link ExtensionRegistry} from the extensions declared
+	 * on the supplied element via {@link ExtendWith @ExtendWith}, or reuse the
+	 * existing registry if the element does not declare any extension types
+	 * that are not already registered.
+	 *
+	 * <p>The returned registry must not be used to register any further
+	 * extensions.
+	 *
+	 * @see ExtensionRegistry#createRegistryFromOrReuseParent
+	 */
+	protected ExtensionRegistry populateExtensionRegistryFromExtendWith(AnnotatedElement annotatedElement,
+			ExtensionRegistry existingExtensionRegistry) {
+		return ExtensionRegistry.createRegistryFromOrReuseParent(existingExtensionRegistry,
+			findExtensionTypes(annotatedElement));
+	}
+
+	private static List<Class<? extends Extension>> findExtensionTypes(AnnotatedElement annotatedElement) {
 		// @formatter:off
-		List<Class<? extends Extension>> extensionTypes = findRepeatableAnnotations(annotatedElement, ExtendWith.class).stream()
+		return findRepeatableAnnotations(annotatedElement, ExtendWith.class).stream()
 				.map(ExtendWith::value)
 				.flatMap(Arrays::stream)
 				.collect(toList());
 		// @formatter:on
-		return ExtensionRegistry.createRegistryFrom(existingExtensionRegistry, extensionTypes);
 	}
 
 	/**
@@ -37,16 +37,25 @@ final class LifecycleMethodUtils {
 	}
 	///CLOVER:ON
 
+	/**
+	 * Find all {@link BeforeAll @BeforeAll} methods of the supplied class.
+	 *
+	 * <p>Since {@code @BeforeAll} methods only have to be {@code static} with
+	 * the default per-method test instance lifecycle, the returned methods
+	 * have to be validated via {@link #assertStatic(Class, List)} once the
+	 * lifecycle of the class is known.
+	 */
 	static List<Method> findBeforeAllMethods(Class<?> testClass) {
-		List<Method> methods = findAnnotatedMethods(testClass, BeforeAll.class, HierarchyTraversalMode.TOP_DOWN);
-		methods.forEach(method -> assertStatic(BeforeAll.class, method));
-		return methods;
+		return findAnnotatedMethods(testClass, BeforeAll.class, HierarchyTraversalMode.TOP_DOWN);
 	}
 
+	/**
+	 * Find all {@link AfterAll @AfterAll} methods of the supplied class.
+	 *
+	 * @see #findBeforeAllMethods(Class)
+	 */
 	static List<Method> findAfterAllMethods(Class<?> testClass) {
-		List<Method> methods = findAnnotatedMethods(testClass, AfterAll.class, HierarchyTraversalMode.BOTTOM_UP);
-		methods.forEach(method -> assertStatic(AfterAll.class, method));
-		return methods;
+		return findAnnotatedMethods(testClass, AfterAll.class, HierarchyTraversalMode.BOTTOM_UP);
 	}
 
 	static List<Method> findBeforeEachMethods(Class<?> testClass) {
@@ -61,6 +70,10 @@ final class LifecycleMethodUtils {
 		return methods;
 	}
 
+	static void assertStatic(Class<? extends Annotation> annotationType, List<Method> methods) {
+		methods.forEach(method -> assertStatic(annotationType, method));
+	}
+
 	private static void assertStatic(Class<? extends Annotation> annotationType, Method method) {
 		if (!ReflectionUtils.isStatic(method)) {
 			throw new JUnitException(String.format("@%s method '%s' must be static.", annotationType.getSimpleName(),
@@ -10,10 +10,13 @@
 
 package org.junit.jupiter.engine.descriptor;
 
+import static org.junit.jupiter.engine.Constants.DEFAULT_TESTABLE_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.engine.descriptor.TimeoutUtils.executeWithTimeout;
+import static org.junit.jupiter.engine.descriptor.TimeoutUtils.getMethodTimeout;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
 import java.lang.reflect.Method;
-import java.util.List;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.BiFunction;
 
@@ -28,6 +31,7 @@ import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.engine.execution.AfterEachMethodAdapter;
 import org.junit.jupiter.engine.execution.BeforeEachMethodAdapter;
 import org.junit.jupiter.engine.execution.ExecutableInvoker;
+import org.junit.jupiter.engine.execution.ExtensionCallbackEvents;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.execution.ThrowableCollector;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
@@ -92,7 +96,7 @@ public class MethodTestDescriptor extends MethodBasedTestDescriptor {
 	}
 
 	protected ExtensionRegistry populateNewExtensionRegistry(JupiterEngineExecutionContext context) {
-		return populateNewExtensionRegistryFromExtendWith(getTestMethod(), context.getExtensionRegistry());
+		return populateExtensionRegistryFromExtendWith(getTestMethod(), context.getExtensionRegistry());
 	}
 
 	@Override
@@ -153,7 +157,8 @@ public class MethodTestDescriptor extends MethodBasedTestDescriptor {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		for (T callback : registry.getExtensions(type)) {
-			Executable executable = generator.apply(testExtensionContext, callback);
+			Executable executable = ExtensionCallbackEvents.record(callback, type, testExtensionContext,
+				generator.apply(testExtensionContext, callback));
 			throwableCollector.execute(executable);
 			if (throwableCollector.isNotEmpty()) {
 				break;
@@ -168,8 +173,17 @@ public class MethodTestDescriptor extends MethodBasedTestDescriptor {
 		throwableCollector.execute(() -> {
 			try {
 				Object instance = testExtensionContext.getTestInstance();
-				executableInvoker.invoke(getTestMethod(), instance, testExtensionContext,
-					context.getExtensionRegistry());
+				Executable invocation = () -> executableInvoker.invoke(getTestMethod(), instance,
+					testExtensionContext, context.getExtensionRegistry());
+				executeWithTimeout(getTimeout(context), this::getDisplayName, () -> {
+					try {
+						executeTestMethod(invocation, testExtensionContext);
+					}
+					catch (Throwable throwable) {
+						throw ExceptionUtils.throwAsUncheckedException(throwable);
+					}
+					return null;
+				});
 			}
 			catch (Throwable throwable) {
 				invokeTestExecutionExceptionHandlers(context.getExtensionRegistry(), testExtensionContext, throwable);
@@ -177,28 +191,56 @@ public class MethodTestDescriptor extends MethodBasedTestDescriptor {
 		});
 	}
 
-	private void invokeTestExecutionExceptionHandlers(ExtensionRegistry registry, TestExtensionContext context,
-			Throwable ex) {
+	/**
+	 * Execute the supplied invocation of the test method.
+	 *
+	 * <p>The default implementation invokes the test method exactly once.
+	 * Subclasses may override this method to invoke it repeatedly.
+	 */
+	protected void executeTestMethod(Executable invocation, TestExtensionContext testExtensionContext)
+			throws Throwable {
+		invocation.execute();
+	}
 
-		invokeTestExecutionExceptionHandlers(ex, registry.getReversedExtensions(TestExecutionExceptionHandler.class),
-			context);
+	/**
+	 * Determine the timeout for invoking the test method of this descriptor.
+	 *
+	 * @return the timeout; {@link Duration#ZERO} if no timeout applies
+	 * @see #getDefaultTimeoutPropertyName()
+	 */
+	protected Duration getTimeout(JupiterEngineExecutionContext context) {
+		return getMethodTimeout(getTestMethod(), getTestClass(), getDefaultTimeoutPropertyName(),
+			context.getConfigurationParameters());
 	}
 
-	private void invokeTestExecutionExceptionHandlers(Throwable ex, List<TestExecutionExceptionHandler> handlers,
-			TestExtensionContext context) {
+	/**
+	 * Get the name of the configuration parameter used to configure the
+	 * default timeout for invoking the test method of this descriptor.
+	 */
+	protected String getDefaultTimeoutPropertyName() {
+		return DEFAULT_TESTABLE_METHOD_TIMEOUT_PROPERTY_NAME;
+	}
 
-		// No handlers left?
-		if (handlers.isEmpty()) {
-			ExceptionUtils.throwAsUncheckedException(ex);
-		}
+	private void invokeTestExecutionExceptionHandlers(ExtensionRegistry registry, TestExtensionContext context,
+			Throwable ex) {
 
-		try {
-			// Invoke next available handler
-			handlers.remove(0).handleTestExecutionException(context, ex);
-		}
-		catch (Throwable t) {
-			invokeTestExecutionExceptionHandlers(t, handlers, context);
+		// The registry returns a cached, unmodifiable list; pass each handler the
+		// exception thrown by its predecessor until one of them swallows it.
+		Throwable current = ex;
+		for (TestExecutionExceptionHandler handler : registry.getReversedExtensions(
+			TestExecutionExceptionHandler.class)) {
+
+			Throwable throwable = current;
+			try {
+				ExtensionCallbackEvents.record(handler, TestExecutionExceptionHandler.class, context,
+					() -> handler.handleTestExecutionException(context, throwable)).execute();
+				return;
+			}
+			catch (Throwable t) {
+				current = t;
+			}
 		}
+		ExceptionUtils.throwAsUncheckedException(current);
 	}
 
 	private void invokeAfterTestExecutionCallbacks(JupiterEngineExecutionContext context) {
@@ -227,7 +269,8 @@ public class MethodTestDescriptor extends MethodBasedTestDescriptor {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		registry.getReversedExtensions(type).forEach(callback -> {
-			Executable executable = generator.apply(testExtensionContext, callback);
+			Executable executable = ExtensionCallbackEvents.record(callback, type, testExtensionContext,
+				generator.apply(testExtensionContext, callback));
 			throwableCollector.execute(executable);
 		});
 	}
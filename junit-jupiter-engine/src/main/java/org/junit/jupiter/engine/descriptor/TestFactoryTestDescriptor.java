@@ -10,6 +10,8 @@
 
 package org.junit.jupiter.engine.descriptor;
 
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.descriptor.TimeoutUtils.executeWithTimeout;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
 import java.lang.reflect.Method;
@@ -31,6 +33,10 @@ import org.junit.platform.engine.UniqueId;
  * {@link TestDescriptor} for {@link org.junit.jupiter.api.TestFactory @TestFactory}
  * methods.
  *
+ * <p>If {@linkplain org.junit.jupiter.engine.Constants#DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME
+ * streaming of dynamic tests} is enabled, each {@link DynamicTestTestDescriptor}
+ * is removed again from this descriptor as soon as it has been executed.
+ *
  * @since 5.0
  */
 @API(Internal)
@@ -69,13 +75,17 @@ public class TestFactoryTestDescriptor extends MethodTestDescriptor {
 
 		context.getThrowableCollector().execute(() -> {
 			Object instance = testExtensionContext.getTestInstance();
-			Object testFactoryMethodResult = executableInvoker.invoke(getTestMethod(), instance, testExtensionContext,
-				context.getExtensionRegistry());
+			Object testFactoryMethodResult = executeWithTimeout(getTimeout(context), this::getDisplayName,
+				() -> executableInvoker.invoke(getTestMethod(), instance, testExtensionContext,
+					context.getExtensionRegistry()));
+
+			boolean streaming = context.getConfigurationParameters().getBoolean(
+				DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME).orElse(false);
 
 			try (Stream<DynamicTest> dynamicTestStream = toDynamicTestStream(testFactoryMethodResult)) {
 				AtomicInteger index = new AtomicInteger();
-				dynamicTestStream.forEach(
-					dynamicTest -> registerAndExecute(dynamicTest, index.incrementAndGet(), dynamicTestExecutor));
+				dynamicTestStream.forEach(dynamicTest -> registerAndExecute(dynamicTest, index.incrementAndGet(),
+					dynamicTestExecutor, streaming));
 			}
 			catch (ClassCastException ex) {
 				throw invalidReturnTypeException(ex);
@@ -93,11 +103,18 @@ public class TestFactoryTestDescriptor extends MethodTestDescriptor {
 		}
 	}
 
-	private void registerAndExecute(DynamicTest dynamicTest, int index, DynamicTestExecutor dynamicTestExecutor) {
+	private void registerAndExecute(DynamicTest dynamicTest, int index, DynamicTestExecutor dynamicTestExecutor,
+			boolean streaming) {
+
 		UniqueId uniqueId = getUniqueId().append(DYNAMIC_TEST_SEGMENT_TYPE, "#" + index);
-		TestDescriptor descriptor = new DynamicTestTestDescriptor(uniqueId, dynamicTest, getSource().get());
+		DynamicTestTestDescriptor descriptor = new DynamicTestTestDescriptor(uniqueId, dynamicTest,
+			getSource().get());
 		addChild(descriptor);
 		dynamicTestExecutor.execute(descriptor);
+		if (streaming) {
+			removeChild(descriptor);
+			descriptor.releaseDynamicTest();
+		}
 	}
 
 	private JUnitException invalidReturnTypeException(Throwable cause) {
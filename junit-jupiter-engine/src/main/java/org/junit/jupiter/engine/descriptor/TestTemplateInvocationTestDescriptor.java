@@ -10,12 +10,18 @@
 
 package org.junit.jupiter.engine.descriptor;
 
+import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_TEMPLATE_TIMEOUT_PROPERTY_NAME;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
 import java.lang.reflect.Method;
+import java.util.List;
 
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.jupiter.engine.execution.TestMethodExecutingInvocationContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.engine.TestDescriptor;
@@ -42,12 +48,34 @@ public class TestTemplateInvocationTestDescriptor extends MethodTestDescriptor {
 
 	@Override
 	protected ExtensionRegistry populateNewExtensionRegistry(JupiterEngineExecutionContext context) {
-		ExtensionRegistry registry = super.populateNewExtensionRegistry(context);
-		invocationContext.getAdditionalExtensions().forEach(
-			extension -> registry.registerExtension(extension, invocationContext));
+		List<Extension> additionalExtensions = invocationContext.getAdditionalExtensions();
+		if (additionalExtensions.isEmpty()) {
+			return super.populateNewExtensionRegistry(context);
+		}
+		ExtensionRegistry registry = populateNewExtensionRegistryFromExtendWith(getTestMethod(),
+			context.getExtensionRegistry());
+		additionalExtensions.forEach(extension -> registry.registerExtension(extension, invocationContext));
 		return registry;
 	}
 
+	@Override
+	protected void executeTestMethod(Executable invocation, TestExtensionContext testExtensionContext)
+			throws Throwable {
+
+		if (invocationContext instanceof TestMethodExecutingInvocationContext) {
+			((TestMethodExecutingInvocationContext) invocationContext).executeTestMethod(invocation,
+				testExtensionContext);
+		}
+		else {
+			super.executeTestMethod(invocation, testExtensionContext);
+		}
+	}
+
+	@Override
+	protected String getDefaultTimeoutPropertyName() {
+		return DEFAULT_TEST_TEMPLATE_TIMEOUT_PROPERTY_NAME;
+	}
+
 	@Override
 	public void after(JupiterEngineExecutionContext context) {
 		// forget invocationContext so it can be garbage collected
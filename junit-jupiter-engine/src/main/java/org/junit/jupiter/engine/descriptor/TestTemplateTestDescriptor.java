@@ -60,7 +60,7 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor {
 
 	@Override
 	public JupiterEngineExecutionContext prepare(JupiterEngineExecutionContext context) throws Exception {
-		ExtensionRegistry registry = populateNewExtensionRegistryFromExtendWith(getTestMethod(),
+		ExtensionRegistry registry = populateExtensionRegistryFromExtendWith(getTestMethod(),
 			context.getExtensionRegistry());
 		ContainerExtensionContext testExtensionContext = new TestTemplateContainerExtensionContext(
 			context.getExtensionContext(), context.getExecutionListener(), this);
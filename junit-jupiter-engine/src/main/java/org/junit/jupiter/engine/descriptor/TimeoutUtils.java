@@ -0,0 +1,154 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import static org.junit.jupiter.engine.Constants.DEFAULT_CONTAINER_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TIMEOUT_PROPERTY_NAME;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Timeout;
+import org.junit.platform.commons.util.AnnotationUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.TimeoutWatchdog;
+
+/**
+ * Collection of utilities for determining and enforcing the
+ * {@link Timeout timeouts} of testable and lifecycle methods and of test
+ * classes.
+ *
+ * @since 5.0
+ * @see Timeout
+ * @see TimeoutWatchdog
+ */
+final class TimeoutUtils {
+
+	private static final Logger LOG = Logger.getLogger(TimeoutUtils.class.getName());
+
+	private static final Pattern TIMEOUT_PATTERN = Pattern.compile("(\\d+)\\s*(ns|\u03bcs|us|ms|s|m|h|d)?",
+		Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+
+	///CLOVER:OFF
+	private TimeoutUtils() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+	/**
+	 * Determine the timeout of the supplied method of the supplied test class.
+	 *
+	 * <p>A {@link Timeout @Timeout} declaration on the method takes precedence
+	 * over a declaration on the test class or one of its superclasses, which
+	 * in turn takes precedence over the default configured via the supplied
+	 * property name and, finally, the default configured via
+	 * {@value org.junit.jupiter.engine.Constants#DEFAULT_TIMEOUT_PROPERTY_NAME}.
+	 *
+	 * @return the timeout; {@link Duration#ZERO} if no timeout applies
+	 */
+	static Duration getMethodTimeout(Method method, Class<?> testClass, String defaultTimeoutPropertyName,
+			ConfigurationParameters configParams) {
+
+		// @formatter:off
+		return findTimeout(method)
+				.orElseGet(() -> findTimeout(testClass)
+				.orElseGet(() -> getConfiguredTimeout(defaultTimeoutPropertyName, configParams)
+				.orElseGet(() -> getConfiguredTimeout(DEFAULT_TIMEOUT_PROPERTY_NAME, configParams)
+				.orElse(Duration.ZERO))));
+		// @formatter:on
+	}
+
+	/**
+	 * Determine the timeout for the complete execution of a test class as
+	 * configured via
+	 * {@value org.junit.jupiter.engine.Constants#DEFAULT_CONTAINER_TIMEOUT_PROPERTY_NAME}.
+	 */
+	static Optional<Duration> getContainerTimeout(ConfigurationParameters configParams) {
+		return getConfiguredTimeout(DEFAULT_CONTAINER_TIMEOUT_PROPERTY_NAME, configParams).filter(
+			timeout -> !timeout.isZero());
+	}
+
+	/**
+	 * Invoke the supplied {@link Callable} and enforce the supplied timeout
+	 * via the shared {@link TimeoutWatchdog}.
+	 */
+	static <T> T executeWithTimeout(Duration timeout, Supplier<String> descriptionSupplier, Callable<T> callable)
+			throws Exception {
+
+		return TimeoutWatchdog.getInstance().execute(timeout, descriptionSupplier, callable);
+	}
+
+	private static Optional<Duration> findTimeout(Method method) {
+		return AnnotationUtils.findAnnotation(method, Timeout.class).map(TimeoutUtils::toDuration);
+	}
+
+	private static Optional<Duration> findTimeout(Class<?> testClass) {
+		return AnnotationUtils.findAnnotation(testClass, Timeout.class).map(TimeoutUtils::toDuration);
+	}
+
+	private static Duration toDuration(Timeout timeout) {
+		return timeout.value() <= 0 ? Duration.ZERO : Duration.ofNanos(timeout.unit().toNanos(timeout.value()));
+	}
+
+	private static Optional<Duration> getConfiguredTimeout(String propertyName, ConfigurationParameters configParams) {
+		Optional<String> value = (configParams != null ? configParams.get(propertyName) : Optional.empty());
+		if (!value.isPresent()) {
+			return Optional.empty();
+		}
+		Matcher matcher = TIMEOUT_PATTERN.matcher(value.get().trim());
+		if (matcher.matches()) {
+			try {
+				long amount = Long.parseLong(matcher.group(1));
+				String unit = matcher.group(2);
+				return Optional.of(Duration.of(amount, toChronoUnit(unit)));
+			}
+			catch (NumberFormatException | ArithmeticException ex) {
+				// fall through and log a warning below
+			}
+		}
+		LOG.warning(() -> String.format(
+			"Invalid timeout '%s' set via the '%s' configuration parameter. No timeout will be applied.",
+			value.get(), propertyName));
+		return Optional.empty();
+	}
+
+	private static ChronoUnit toChronoUnit(String unit) {
+		if (unit == null) {
+			return ChronoUnit.SECONDS;
+		}
+		switch (unit.toLowerCase(Locale.ROOT)) {
+			case "ns":
+				return ChronoUnit.NANOS;
+			case "\u03bcs":
+			case "us":
+				return ChronoUnit.MICROS;
+			case "ms":
+				return ChronoUnit.MILLIS;
+			case "m":
+				return ChronoUnit.MINUTES;
+			case "h":
+				return ChronoUnit.HOURS;
+			case "d":
+				return ChronoUnit.DAYS;
+			default:
+				return ChronoUnit.SECONDS;
+		}
+	}
+
+}
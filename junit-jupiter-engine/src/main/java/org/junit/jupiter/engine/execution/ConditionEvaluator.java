@@ -15,7 +15,8 @@ import static org.junit.jupiter.engine.Constants.DEACTIVATE_ALL_CONDITIONS_PATTE
 import static org.junit.jupiter.engine.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
-import java.util.function.BiFunction;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -25,12 +26,12 @@ import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ContainerExecutionCondition;
 import org.junit.jupiter.api.extension.ContainerExtensionContext;
 import org.junit.jupiter.api.extension.Extension;
-import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestExecutionCondition;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.engine.Constants;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.FlightRecorderEventType.ActiveEvent;
 import org.junit.platform.commons.util.StringUtils;
 import org.junit.platform.engine.ConfigurationParameters;
 
@@ -50,9 +51,30 @@ public class ConditionEvaluator {
 	private static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult.enabled(
 		"No 'disabled' conditions encountered");
 
-	private static final Predicate<Object> alwaysActivated = condition -> true;
+	private static final Predicate<Class<?>> alwaysActivated = conditionType -> true;
 
-	private static final Predicate<Object> alwaysDeactivated = condition -> false;
+	private static final Predicate<Class<?>> alwaysDeactivated = conditionType -> false;
+
+	private final ConfigurationParameters configurationParameters;
+
+	private final Map<Class<?>, Boolean> activatedConditionTypes = new ConcurrentHashMap<>();
+
+	private volatile Predicate<Class<?>> activationFilter;
+
+	/**
+	 * Create a new {@code ConditionEvaluator} for a single execution of the
+	 * engine.
+	 *
+	 * <p>The deactivation pattern is resolved from the supplied configuration
+	 * parameters on first use, and whether a condition is activated is
+	 * determined only once per condition class.
+	 *
+	 * @param configurationParameters the configuration parameters of the
+	 * current execution
+	 */
+	public ConditionEvaluator(ConfigurationParameters configurationParameters) {
+		this.configurationParameters = configurationParameters;
+	}
 
 	/**
 	 * Evaluate all {@link ContainerExecutionCondition}
@@ -64,13 +86,18 @@ public class ConditionEvaluator {
 	 * disabled conditions are encountered
 	 */
 	public ConditionEvaluationResult evaluateForContainer(ExtensionRegistry extensionRegistry,
-			ConfigurationParameters configurationParameters, ContainerExtensionContext context) {
-
-		BiFunction<Object, Object, ConditionEvaluationResult> evaluateAdaptor = (condition,
-				ctx) -> evaluate((ContainerExecutionCondition) condition, (ContainerExtensionContext) ctx);
+			ContainerExtensionContext context) {
 
-		return evaluate(ContainerExecutionCondition.class, evaluateAdaptor, extensionRegistry, configurationParameters,
-			context);
+		for (ContainerExecutionCondition condition : extensionRegistry.getExtensions(
+			ContainerExecutionCondition.class)) {
+			if (isActivated(condition)) {
+				ConditionEvaluationResult result = evaluate(condition, context);
+				if (result.isDisabled()) {
+					return result;
+				}
+			}
+		}
+		return ENABLED;
 	}
 
 	/**
@@ -83,34 +110,35 @@ public class ConditionEvaluator {
 	 * disabled conditions are encountered
 	 */
 	public ConditionEvaluationResult evaluateForTest(ExtensionRegistry extensionRegistry,
-			ConfigurationParameters configurationParameters, TestExtensionContext context) {
-
-		BiFunction<Object, Object, ConditionEvaluationResult> evaluateAdaptor = (condition,
-				ctx) -> evaluate((TestExecutionCondition) condition, (TestExtensionContext) ctx);
-
-		return evaluate(TestExecutionCondition.class, evaluateAdaptor, extensionRegistry, configurationParameters,
-			context);
+			TestExtensionContext context) {
+
+		for (TestExecutionCondition condition : extensionRegistry.getExtensions(TestExecutionCondition.class)) {
+			if (isActivated(condition)) {
+				ConditionEvaluationResult result = evaluate(condition, context);
+				if (result.isDisabled()) {
+					return result;
+				}
+			}
+		}
+		return ENABLED;
 	}
 
-	private ConditionEvaluationResult evaluate(Class<? extends Extension> extensionType,
-			BiFunction<Object, Object, ConditionEvaluationResult> evaluateAdaptor, ExtensionRegistry extensionRegistry,
-			ConfigurationParameters configurationParameters, ExtensionContext context) {
-
-		Predicate<Object> isActivated = conditionIsActivated(configurationParameters);
-
-		// @formatter:off
-		return extensionRegistry.stream(extensionType)
-				.filter(isActivated)
-				.map(condition -> evaluateAdaptor.apply(condition, context))
-				.filter(ConditionEvaluationResult::isDisabled)
-				.findFirst()
-				.orElse(ENABLED);
-		// @formatter:on
+	private boolean isActivated(Extension condition) {
+		Predicate<Class<?>> filter = this.activationFilter;
+		if (filter == null) {
+			filter = conditionIsActivated(this.configurationParameters);
+			this.activationFilter = filter;
+		}
+		if (filter == alwaysActivated || filter == alwaysDeactivated) {
+			return filter.test(condition.getClass());
+		}
+		return this.activatedConditionTypes.computeIfAbsent(condition.getClass(), filter::test);
 	}
 
 	private ConditionEvaluationResult evaluate(ContainerExecutionCondition condition,
 			ContainerExtensionContext context) {
 
+		ActiveEvent event = ExtensionCallbackEvents.begin(condition, ContainerExecutionCondition.class, context);
 		try {
 			ConditionEvaluationResult result = condition.evaluate(context);
 			logResult(condition.getClass(), result);
@@ -119,9 +147,13 @@ public class ConditionEvaluator {
 		catch (Exception ex) {
 			throw evaluationException(condition.getClass(), ex);
 		}
+		finally {
+			event.close();
+		}
 	}
 
 	private ConditionEvaluationResult evaluate(TestExecutionCondition condition, TestExtensionContext context) {
+		ActiveEvent event = ExtensionCallbackEvents.begin(condition, TestExecutionCondition.class, context);
 		try {
 			ConditionEvaluationResult result = condition.evaluate(context);
 			logResult(condition.getClass(), result);
@@ -130,6 +162,9 @@ public class ConditionEvaluator {
 		catch (Exception ex) {
 			throw evaluationException(condition.getClass(), ex);
 		}
+		finally {
+			event.close();
+		}
 	}
 
 	private void logResult(Class<?> conditionType, ConditionEvaluationResult result) {
@@ -142,14 +177,14 @@ public class ConditionEvaluator {
 			format("Failed to evaluate condition [%s]%s", conditionType.getName(), cause), ex);
 	}
 
-	private Predicate<Object> conditionIsActivated(ConfigurationParameters configurationParameters) {
+	private Predicate<Class<?>> conditionIsActivated(ConfigurationParameters configurationParameters) {
 		String patternString = getDeactivatePatternString(configurationParameters);
 		if (patternString != null) {
 			if (DEACTIVATE_ALL_CONDITIONS_PATTERN.equals(patternString)) {
 				return alwaysDeactivated;
 			}
 			Pattern pattern = Pattern.compile(convertToRegEx(patternString));
-			return condition -> !pattern.matcher(condition.getClass().getName()).matches();
+			return conditionType -> !pattern.matcher(conditionType.getName()).matches();
 		}
 		return alwaysActivated;
 	}
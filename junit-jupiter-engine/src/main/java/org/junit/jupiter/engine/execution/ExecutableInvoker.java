@@ -11,7 +11,6 @@
 package org.junit.jupiter.engine.execution;
 
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
@@ -19,8 +18,14 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -45,6 +50,12 @@ public class ExecutableInvoker {
 
 	private static final Logger LOG = Logger.getLogger(ExecutableInvoker.class.getName());
 
+	/**
+	 * Resolution plans keyed weakly by executable so that they do not outlive
+	 * the test descriptors that reference the executables.
+	 */
+	private final Map<Executable, ResolutionPlan> resolutionPlans = Collections.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Invoke the supplied constructor with dynamic parameter resolution.
 	 *
@@ -168,22 +179,37 @@ public class ExecutableInvoker {
 		}
 
 		// Resolve remaining parameters dynamically
-		for (int i = start; i < parameters.length; i++) {
-			ParameterContext parameterContext = new DefaultParameterContext(parameters[i], i, target);
-			values[i] = resolveParameter(parameterContext, executable, extensionContext, extensionRegistry);
+		if (start < parameters.length) {
+			List<ParameterResolver> resolvers = extensionRegistry.getExtensions(ParameterResolver.class);
+			ResolutionPlan resolutionPlan = getResolutionPlan(executable, parameters.length);
+			for (int i = start; i < parameters.length; i++) {
+				ParameterContext parameterContext = new DefaultParameterContext(parameters[i], i, target);
+				values[i] = resolveParameter(parameterContext, executable, extensionContext, resolvers,
+					resolutionPlan);
+			}
 		}
 		return values;
 	}
 
+	private ResolutionPlan getResolutionPlan(Executable executable, int parameterCount) {
+		ResolutionPlan resolutionPlan = this.resolutionPlans.get(executable);
+		if (resolutionPlan == null) {
+			resolutionPlan = new ResolutionPlan(parameterCount);
+			this.resolutionPlans.put(executable, resolutionPlan);
+		}
+		return resolutionPlan;
+	}
+
 	private Object resolveParameter(ParameterContext parameterContext, Executable executable,
-			ExtensionContext extensionContext, ExtensionRegistry extensionRegistry) {
+			ExtensionContext extensionContext, List<ParameterResolver> resolvers, ResolutionPlan resolutionPlan) {
 
 		try {
-			// @formatter:off
-			List<ParameterResolver> matchingResolvers = extensionRegistry.stream(ParameterResolver.class)
-					.filter(resolver -> resolver.supports(parameterContext, extensionContext))
-					.collect(toList());
-			// @formatter:on
+			List<ParameterResolver> matchingResolvers = new ArrayList<>(1);
+			for (ParameterResolver resolver : resolvers) {
+				if (resolutionPlan.supports(resolver, parameterContext, extensionContext)) {
+					matchingResolvers.add(resolver);
+				}
+			}
 
 			if (matchingResolvers.isEmpty()) {
 				throw new ParameterResolutionException(
@@ -206,10 +232,12 @@ public class ExecutableInvoker {
 			Object value = resolver.resolve(parameterContext, extensionContext);
 			validateResolvedType(parameterContext.getParameter(), value, executable, resolver);
 
-			LOG.finer(() -> String.format(
-				"ParameterResolver [%s] resolved a value of type [%s] for parameter [%s] in executable [%s].",
-				resolver.getClass().getName(), (value != null ? value.getClass().getName() : null),
-				parameterContext.getParameter(), executable.toGenericString()));
+			if (LOG.isLoggable(Level.FINER)) {
+				LOG.finer(String.format(
+					"ParameterResolver [%s] resolved a value of type [%s] for parameter [%s] in executable [%s].",
+					resolver.getClass().getName(), (value != null ? value.getClass().getName() : null),
+					parameterContext.getParameter(), executable.toGenericString()));
+			}
 
 			return value;
 		}
@@ -248,4 +276,38 @@ public class ExecutableInvoker {
 		}
 	}
 
+	/**
+	 * Cached results of {@link ParameterResolver#supports} for the parameters
+	 * of a single executable, recorded per parameter index and resolver class
+	 * for resolvers whose results are {@linkplain ParameterResolver#isSupportStable()
+	 * stable}. Results of all other resolvers are never cached.
+	 */
+	private static final class ResolutionPlan {
+
+		private final List<Map<Class<?>, Boolean>> supportedByParameterIndex;
+
+		ResolutionPlan(int parameterCount) {
+			this.supportedByParameterIndex = new ArrayList<>(parameterCount);
+			for (int i = 0; i < parameterCount; i++) {
+				this.supportedByParameterIndex.add(new ConcurrentHashMap<>(4));
+			}
+		}
+
+		boolean supports(ParameterResolver resolver, ParameterContext parameterContext,
+				ExtensionContext extensionContext) {
+
+			if (!resolver.isSupportStable()) {
+				return resolver.supports(parameterContext, extensionContext);
+			}
+			Map<Class<?>, Boolean> supported = this.supportedByParameterIndex.get(parameterContext.getIndex());
+			Boolean result = supported.get(resolver.getClass());
+			if (result == null) {
+				result = resolver.supports(parameterContext, extensionContext);
+				supported.put(resolver.getClass(), result);
+			}
+			return result;
+		}
+
+	}
+
 }
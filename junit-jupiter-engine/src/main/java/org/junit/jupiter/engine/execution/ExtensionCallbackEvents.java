@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.FlightRecorderEventType;
+import org.junit.platform.commons.util.FlightRecorderEventType.ActiveEvent;
+
+/**
+ * {@code ExtensionCallbackEvents} records the invocation of extension
+ * callbacks as Java Flight Recorder events.
+ *
+ * <p>Each event records the class of the invoked {@link Extension}, the
+ * simple name of the callback interface, and the unique ID of the current
+ * {@link ExtensionContext}. If events are not recorded &mdash; for example,
+ * because no recording is active or because the JVM does not support Java
+ * Flight Recorder &mdash; the supplied callbacks are invoked unchanged.
+ *
+ * @since 5.0
+ * @see FlightRecorderEventType
+ */
+@API(Internal)
+public final class ExtensionCallbackEvents {
+
+	private static final FlightRecorderEventType EXTENSION_CALLBACK = FlightRecorderEventType.create(
+		"org.junit.jupiter.ExtensionCallback", "Extension Callback", "extensionClass", "callback", "uniqueId");
+
+	///CLOVER:OFF
+	private ExtensionCallbackEvents() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+	/**
+	 * Begin timing the invocation of a callback of the supplied extension.
+	 *
+	 * @param extension the extension whose callback is invoked
+	 * @param callbackType the extension interface declaring the callback
+	 * @param context the current extension context
+	 * @return the active event, which must be closed once the callback
+	 * returns; never {@code null}
+	 */
+	public static ActiveEvent begin(Extension extension, Class<? extends Extension> callbackType,
+			ExtensionContext context) {
+
+		return EXTENSION_CALLBACK.begin(() -> new String[] { extension.getClass().getName(),
+				callbackType.getSimpleName(), context.getUniqueId() });
+	}
+
+	/**
+	 * Decorate the supplied {@link Executable} invoking a callback of the
+	 * supplied extension so that its invocation is recorded.
+	 *
+	 * @param extension the extension whose callback is invoked
+	 * @param callbackType the extension interface declaring the callback
+	 * @param context the current extension context
+	 * @param executable the invocation of the callback
+	 * @return the decorated executable, or the supplied executable if events
+	 * are not recorded
+	 */
+	public static Executable record(Extension extension, Class<? extends Extension> callbackType,
+			ExtensionContext context, Executable executable) {
+
+		if (!EXTENSION_CALLBACK.isEnabled()) {
+			return executable;
+		}
+		return () -> {
+			ActiveEvent event = begin(extension, callbackType, context);
+			try {
+				executable.execute();
+			}
+			finally {
+				event.close();
+			}
+		};
+	}
+
+}
@@ -14,10 +14,11 @@ import static org.junit.platform.commons.meta.API.Usage.Internal;
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
@@ -29,14 +30,18 @@ import org.junit.platform.commons.util.Preconditions;
  * {@code ExtensionValuesStore} is used inside implementations of
  * {@link ExtensionContext} to store and retrieve attributes.
  *
+ * <p>Values are kept in concurrent maps per {@link Namespace} which are only
+ * created once the first value is stored. Lookups neither lock nor allocate,
+ * and {@link #getOrComputeIfAbsent} invokes the default creator at most once
+ * per key while only callers interested in the same key wait for it.
+ *
  * @since 5.0
  */
 @API(Internal)
 public class ExtensionValuesStore {
 
 	private final ExtensionValuesStore parentStore;
-	private final Map<Object, StoredValue> storedValues = new HashMap<>(4);
-	private final Object monitor = new Object();
+	private volatile ConcurrentMap<Namespace, ConcurrentMap<Object, StoredValue>> storedValues;
 
 	ExtensionValuesStore() {
 		this(null);
@@ -47,18 +52,13 @@ public class ExtensionValuesStore {
 	}
 
 	Object get(Namespace namespace, Object key) {
-		synchronized (this.monitor) {
-			StoredValue storedValue = getStoredValue(namespace, key);
+		for (ExtensionValuesStore store = this; store != null; store = store.parentStore) {
+			StoredValue storedValue = store.getStoredValue(namespace, key);
 			if (storedValue != null) {
-				return storedValue.value;
-			}
-			else if (this.parentStore != null) {
-				return this.parentStore.get(namespace, key);
-			}
-			else {
-				return null;
+				return storedValue.evaluate();
 			}
 		}
+		return null;
 	}
 
 	<T> T get(Namespace namespace, Object key, Class<T> requiredType) {
@@ -67,19 +67,19 @@ public class ExtensionValuesStore {
 	}
 
 	<K, V> Object getOrComputeIfAbsent(Namespace namespace, K key, Function<K, V> defaultCreator) {
-		synchronized (this.monitor) {
-			StoredValue storedValue = getStoredValue(namespace, key);
+		StoredValue storedValue = getStoredValue(namespace, key);
+		if (storedValue == null && this.parentStore != null) {
+			storedValue = this.parentStore.getStoredValue(namespace, key);
+		}
+		if (storedValue == null) {
+			ConcurrentMap<Object, StoredValue> values = getOrCreateStoredValues(namespace);
+			StoredValue newValue = new StoredValue(() -> defaultCreator.apply(key), values, key);
+			storedValue = values.putIfAbsent(key, newValue);
 			if (storedValue == null) {
-				if (this.parentStore != null) {
-					storedValue = this.parentStore.getStoredValue(namespace, key);
-				}
-				if (storedValue == null) {
-					storedValue = new StoredValue(defaultCreator.apply(key));
-					putStoredValue(namespace, key, storedValue);
-				}
+				storedValue = newValue;
 			}
-			return storedValue.value;
 		}
+		return storedValue.evaluate();
 	}
 
 	<K, V> V getOrComputeIfAbsent(Namespace namespace, K key, Function<K, V> defaultCreator, Class<V> requiredType) {
@@ -91,16 +91,13 @@ public class ExtensionValuesStore {
 		Preconditions.notNull(namespace, "Namespace must not be null");
 		Preconditions.notNull(key, "key must not be null");
 
-		synchronized (this.monitor) {
-			putStoredValue(namespace, key, new StoredValue(value));
-		}
+		getOrCreateStoredValues(namespace).put(key, new StoredValue(value));
 	}
 
 	Object remove(Namespace namespace, Object key) {
-		synchronized (this.monitor) {
-			StoredValue previous = this.storedValues.remove(new CompositeKey(namespace, key));
-			return (previous != null ? previous.value : null);
-		}
+		Map<Object, StoredValue> values = getStoredValues(namespace);
+		StoredValue previous = (values != null ? values.remove(key) : null);
+		return (previous != null ? previous.evaluate() : null);
 	}
 
 	<T> T remove(Namespace namespace, Object key, Class<T> requiredType) {
@@ -109,13 +106,27 @@ public class ExtensionValuesStore {
 	}
 
 	private StoredValue getStoredValue(Namespace namespace, Object key) {
-		CompositeKey compositeKey = new CompositeKey(namespace, key);
-		return this.storedValues.get(compositeKey);
+		Map<Object, StoredValue> values = getStoredValues(namespace);
+		return (values != null ? values.get(key) : null);
 	}
 
-	private void putStoredValue(Namespace namespace, Object key, StoredValue storedValue) {
-		CompositeKey compositeKey = new CompositeKey(namespace, key);
-		this.storedValues.put(compositeKey, storedValue);
+	private ConcurrentMap<Object, StoredValue> getStoredValues(Namespace namespace) {
+		Map<Namespace, ConcurrentMap<Object, StoredValue>> namespaces = this.storedValues;
+		return (namespaces != null ? namespaces.get(namespace) : null);
+	}
+
+	private ConcurrentMap<Object, StoredValue> getOrCreateStoredValues(Namespace namespace) {
+		ConcurrentMap<Namespace, ConcurrentMap<Object, StoredValue>> namespaces = this.storedValues;
+		if (namespaces == null) {
+			synchronized (this) {
+				namespaces = this.storedValues;
+				if (namespaces == null) {
+					namespaces = new ConcurrentHashMap<>(4);
+					this.storedValues = namespaces;
+				}
+			}
+		}
+		return namespaces.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>(4));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -134,38 +145,60 @@ public class ExtensionValuesStore {
 			String.format("Object stored under key [%s] is not of required type [%s]", key, requiredType.getName()));
 	}
 
-	private static class CompositeKey {
+	/**
+	 * Value stored under a key, either supplied eagerly via {@link #put} or
+	 * computed on first {@linkplain #evaluate evaluation}.
+	 *
+	 * <p>A computed value is created by the first thread to evaluate it while
+	 * concurrent evaluations of the same value wait for the result. If the
+	 * creator throws an exception, the value is removed from its map so that
+	 * the next lookup starts over, just as if it had never been stored.
+	 */
+	private static class StoredValue {
 
-		private final Namespace namespace;
-		private final Object key;
+		private Supplier<Object> creator;
+		private Map<Object, StoredValue> owner;
+		private Object key;
+		private boolean computing;
+		private volatile boolean computed;
+		private Object value;
 
-		private CompositeKey(Namespace namespace, Object key) {
-			this.namespace = namespace;
-			this.key = key;
-		}
-
-		@Override
-		public boolean equals(Object o) {
-			if (this == o)
-				return true;
-			if (o == null || getClass() != o.getClass())
-				return false;
-			CompositeKey that = (CompositeKey) o;
-			return this.namespace.equals(that.namespace) && this.key.equals(that.key);
+		private StoredValue(Object value) {
+			this.value = value;
+			this.computed = true;
 		}
 
-		@Override
-		public int hashCode() {
-			return Objects.hash(this.namespace, this.key);
+		private StoredValue(Supplier<Object> creator, Map<Object, StoredValue> owner, Object key) {
+			this.creator = creator;
+			this.owner = owner;
+			this.key = key;
 		}
-	}
-
-	private static class StoredValue {
-
-		private final Object value;
 
-		private StoredValue(Object value) {
-			this.value = value;
+		private Object evaluate() {
+			if (this.computed) {
+				return this.value;
+			}
+			synchronized (this) {
+				if (this.computed || this.computing) {
+					// A creator looking up its own key sees no value yet.
+					return this.value;
+				}
+				this.computing = true;
+				try {
+					this.value = this.creator.get();
+					this.computed = true;
+					this.creator = null;
+					this.owner = null;
+					this.key = null;
+					return this.value;
+				}
+				finally {
+					this.computing = false;
+					if (!this.computed) {
+						this.owner.remove(this.key, this);
+					}
+				}
+			}
 		}
 	}
 
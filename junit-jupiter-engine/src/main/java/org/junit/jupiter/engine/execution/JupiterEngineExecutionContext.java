@@ -48,6 +48,10 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 		return this.state.configurationParameters;
 	}
 
+	public ConditionEvaluator getConditionEvaluator() {
+		return this.state.conditionEvaluator;
+	}
+
 	public TestInstanceProvider getTestInstanceProvider() {
 		return this.state.testInstanceProvider;
 	}
@@ -80,6 +84,7 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 
 		final EngineExecutionListener executionListener;
 		final ConfigurationParameters configurationParameters;
+		final ConditionEvaluator conditionEvaluator;
 		TestInstanceProvider testInstanceProvider;
 		ExtensionRegistry extensionRegistry;
 		ExtensionContext extensionContext;
@@ -88,6 +93,7 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 		State(EngineExecutionListener executionListener, ConfigurationParameters configurationParameters) {
 			this.executionListener = executionListener;
 			this.configurationParameters = configurationParameters;
+			this.conditionEvaluator = new ConditionEvaluator(configurationParameters);
 		}
 
 		@Override
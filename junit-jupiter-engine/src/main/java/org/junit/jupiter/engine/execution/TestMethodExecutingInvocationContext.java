@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import org.junit.jupiter.api.extension.TestExtensionContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@link TestTemplateInvocationContext} that is responsible for executing the
+ * invocation of the test method itself &mdash; for example, to invoke it
+ * repeatedly within a single test.
+ *
+ * @since 5.0
+ */
+@API(Internal)
+public interface TestMethodExecutingInvocationContext extends TestTemplateInvocationContext {
+
+	/**
+	 * Execute the supplied invocation of the test method.
+	 *
+	 * @param invocation the invocation of the test method, including the
+	 * resolution of its parameters
+	 * @param context the extension context of the test
+	 */
+	void executeTestMethod(Executable invocation, TestExtensionContext context) throws Throwable;
+
+}
@@ -11,23 +11,27 @@
 package org.junit.jupiter.engine.extension;
 
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Stream.concat;
 import static org.junit.jupiter.engine.Constants.EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
+import static org.junit.platform.commons.util.AnnotationUtils.isAnnotated;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.StatelessExtension;
 import org.junit.jupiter.engine.Constants;
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.Preconditions;
@@ -39,9 +43,9 @@ import org.junit.platform.engine.ConfigurationParameters;
  * instances of {@link Extension}) for a given
  * {@link org.junit.platform.engine.support.hierarchical.Node}.
  *
- * <p>A registry has a reference to its parent registry, and all lookups are
- * performed first in the current registry itself and then recursively in its
- * ancestors.
+ * <p>A registry has a reference to its parent registry, and all lookups
+ * return the matching extensions of its ancestors followed by those of the
+ * current registry itself. Lookups are cached per extension type.
  *
  * @since 5.0
  */
@@ -53,6 +57,7 @@ public class ExtensionRegistry {
 	private static final List<Extension> DEFAULT_EXTENSIONS = Collections.unmodifiableList(Arrays.asList(//
 		new DisabledCondition(), //
 		new RepeatedTestExtension(), //
+		new PerformanceTestExtension(), //
 		new TestInfoParameterResolver(), //
 		new TestReporterParameterResolver()));
 
@@ -119,14 +124,62 @@ public class ExtensionRegistry {
 		return registry;
 	}
 
+	/**
+	 * Factory for creating and populating a new registry from a list of
+	 * extension types and a parent registry, unless all of the supplied
+	 * extension types are already registered in the parent registry or one
+	 * of its ancestors.
+	 *
+	 * <p>Since a registry created from a list of already registered extension
+	 * types would not contain any extensions of its own, the parent registry
+	 * is returned instead in that case. Callers must therefore not register
+	 * any further extensions in the returned registry.
+	 *
+	 * @param parentRegistry the parent registry
+	 * @param extensionTypes the types of extensions to be registered in
+	 * the new registry
+	 * @return a new {@code ExtensionRegistry} or the supplied parent
+	 * registry; never {@code null}
+	 * @see #createRegistryFrom(ExtensionRegistry, List)
+	 */
+	public static ExtensionRegistry createRegistryFromOrReuseParent(ExtensionRegistry parentRegistry,
+			List<Class<? extends Extension>> extensionTypes) {
+
+		Preconditions.notNull(parentRegistry, "parentRegistry must not be null");
+
+		for (Class<? extends Extension> extensionType : extensionTypes) {
+			if (!parentRegistry.isAlreadyRegistered(extensionType)) {
+				return createRegistryFrom(parentRegistry, extensionTypes);
+			}
+		}
+		return parentRegistry;
+	}
+
 	private final ExtensionRegistry parent;
 
+	/**
+	 * Incremented whenever an extension is registered in this registry.
+	 *
+	 * @see #registrationEpoch()
+	 */
+	private final AtomicLong registrationCount = new AtomicLong();
+
+	/**
+	 * Instances of extension types annotated with {@link StatelessExtension},
+	 * shared by all registries of a hierarchy and thus reused for the entire
+	 * execution of the engine.
+	 */
+	private final Map<Class<? extends Extension>, Extension> statelessExtensions;
+
 	private final Set<Class<? extends Extension>> registeredExtensionTypes = new LinkedHashSet<>();
 
 	private final List<Extension> registeredExtensions = new ArrayList<>();
 
+	private final Map<Class<?>, ExtensionsOfType<?>> extensionsByType = new ConcurrentHashMap<>();
+
 	private ExtensionRegistry(ExtensionRegistry parent) {
 		this.parent = parent;
+		this.statelessExtensions = (parent != null ? parent.statelessExtensions : new ConcurrentHashMap<>());
 	}
 
 	/**
@@ -138,41 +191,24 @@ public class ExtensionRegistry {
 	 * @see #getExtensions(Class)
 	 */
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
-		if (this.parent == null) {
-			return streamLocal(extensionType);
-		}
-		else {
-			return concat(this.parent.stream(extensionType), streamLocal(extensionType));
-		}
-	}
-
-	/**
-	 * Stream all {@code Extensions} of the specified type that are present
-	 * in this registry.
-	 *
-	 * <p>Extensions in ancestors are ignored.
-	 *
-	 * @param extensionType the type of {@link Extension} to stream
-	 * @see #getReversedExtensions(Class)
-	 */
-	private <E extends Extension> Stream<E> streamLocal(Class<E> extensionType) {
-		// @formatter:off
-		return this.registeredExtensions.stream()
-				.filter(extensionType::isInstance)
-				.map(extensionType::cast);
-		// @formatter:on
+		return getExtensions(extensionType).stream();
 	}
 
 	/**
 	 * Get all {@code Extensions} of the specified type that are present
 	 * in this registry or one of its ancestors.
 	 *
+	 * <p>The result is flattened across all ancestors and cached per
+	 * extension type until the next extension is registered in this registry
+	 * or one of its ancestors.
+	 *
 	 * @param extensionType the type of {@link Extension} to get
+	 * @return an unmodifiable list of the matching extensions
 	 * @see #getReversedExtensions(Class)
 	 * @see #stream(Class)
 	 */
 	public <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
-		return stream(extensionType).collect(toList());
+		return lookup(extensionType).extensions;
 	}
 
 	/**
@@ -180,13 +216,49 @@ public class ExtensionRegistry {
 	 * in this registry or one of its ancestors, in reverse order.
 	 *
 	 * @param extensionType the type of {@link Extension} to get
+	 * @return an unmodifiable list of the matching extensions
 	 * @see #getExtensions(Class)
 	 * @see #stream(Class)
 	 */
 	public <E extends Extension> List<E> getReversedExtensions(Class<E> extensionType) {
-		List<E> extensions = getExtensions(extensionType);
-		Collections.reverse(extensions);
-		return extensions;
+		return lookup(extensionType).getReversedExtensions();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <E extends Extension> ExtensionsOfType<E> lookup(Class<E> extensionType) {
+		long epoch = registrationEpoch();
+		ExtensionsOfType<E> cached = (ExtensionsOfType<E>) this.extensionsByType.get(extensionType);
+		if (cached == null || cached.epoch != epoch) {
+			cached = new ExtensionsOfType<>(epoch, collectExtensions(extensionType));
+			this.extensionsByType.put(extensionType, cached);
+		}
+		return cached;
+	}
+
+	private <E extends Extension> List<E> collectExtensions(Class<E> extensionType) {
+		List<E> extensions = new ArrayList<>();
+		if (this.parent != null) {
+			extensions.addAll(this.parent.getExtensions(extensionType));
+		}
+		for (Extension extension : this.registeredExtensions) {
+			if (extensionType.isInstance(extension)) {
+				extensions.add(extensionType.cast(extension));
+			}
+		}
+		return Collections.unmodifiableList(extensions);
+	}
+
+	/**
+	 * Get the total number of extensions registered in this registry and its
+	 * ancestors.
+	 *
+	 * <p>Since registrations only ever increase this number, a cached lookup
+	 * is valid as long as the epoch it was collected at is unchanged.
+	 * Registrations in sibling or descendant registries do not affect it.
+	 */
+	private long registrationEpoch() {
+		long epoch = this.registrationCount.get();
+		return (this.parent != null ? epoch + this.parent.registrationEpoch() : epoch);
 	}
 
 	/**
@@ -205,18 +277,38 @@ public class ExtensionRegistry {
 	 * <p>A new {@link Extension} will not be registered if an extension of the
 	 * given type already exists in this registry or a parent registry.
 	 *
+	 * <p>If the given type is annotated with {@link StatelessExtension}, it is
+	 * only instantiated once per registry hierarchy, and that instance is
+	 * registered whenever the type is registered again.
+	 *
 	 * @param extensionType the type of extension to register
 	 */
 	void registerExtension(Class<? extends Extension> extensionType) {
 		if (!isAlreadyRegistered(extensionType)) {
-			registerExtension(ReflectionUtils.newInstance(extensionType));
+			registerExtension(instantiate(extensionType));
 			this.registeredExtensionTypes.add(extensionType);
 		}
 	}
 
+	private Extension instantiate(Class<? extends Extension> extensionType) {
+		Extension extension = this.statelessExtensions.get(extensionType);
+		if (extension != null) {
+			return extension;
+		}
+		extension = ReflectionUtils.newInstance(extensionType);
+		if (isAnnotated(extensionType, StatelessExtension.class)) {
+			Extension existing = this.statelessExtensions.putIfAbsent(extensionType, extension);
+			if (existing != null) {
+				return existing;
+			}
+		}
+		return extension;
+	}
+
 	private void registerDefaultExtension(Extension extension) {
 		this.registeredExtensions.add(extension);
 		this.registeredExtensionTypes.add(extension.getClass());
+		this.registrationCount.incrementAndGet();
 	}
 
 	private void registerExtension(Extension extension) {
@@ -241,6 +333,37 @@ public class ExtensionRegistry {
 	public void registerExtension(Extension extension, Object source) {
 		LOG.finer(() -> String.format("Registering extension [%s] from source [%s].", extension, source));
 		this.registeredExtensions.add(extension);
+		this.registrationCount.incrementAndGet();
+	}
+
+	/**
+	 * Flattened extensions of a single type, together with the registration
+	 * epoch at which they were collected.
+	 */
+	private static final class ExtensionsOfType<E extends Extension> {
+
+		private final long epoch;
+
+		private final List<E> extensions;
+
+		private volatile List<E> reversedExtensions;
+
+		ExtensionsOfType(long epoch, List<E> extensions) {
+			this.epoch = epoch;
+			this.extensions = extensions;
+		}
+
+		List<E> getReversedExtensions() {
+			List<E> reversed = this.reversedExtensions;
+			if (reversed == null) {
+				reversed = new ArrayList<>(this.extensions);
+				Collections.reverse(reversed);
+				reversed = Collections.unmodifiableList(reversed);
+				this.reversedExtensions = reversed;
+			}
+			return reversed;
+		}
+
 	}
 
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Statistics of the measured durations of a
+ * {@link org.junit.jupiter.api.PerformanceTest @PerformanceTest}.
+ *
+ * @since 5.0
+ */
+class PerformanceStatistics {
+
+	private final long[] sortedNanos;
+	private final long totalNanos;
+
+	PerformanceStatistics(long[] durationsInNanos) {
+		this.sortedNanos = durationsInNanos.clone();
+		Arrays.sort(this.sortedNanos);
+		this.totalNanos = Arrays.stream(durationsInNanos).sum();
+	}
+
+	double getMean(TimeUnit unit) {
+		return convert((double) this.totalNanos / this.sortedNanos.length, unit);
+	}
+
+	/**
+	 * Get the supplied percentile using the nearest-rank method.
+	 */
+	double getPercentile(int percentile, TimeUnit unit) {
+		int rank = (int) Math.ceil(percentile / 100.0 * this.sortedNanos.length);
+		return convert(this.sortedNanos[Math.max(0, rank - 1)], unit);
+	}
+
+	/**
+	 * Get the number of iterations per second.
+	 */
+	double getThroughput() {
+		return this.totalNanos == 0 ? Double.POSITIVE_INFINITY
+				: this.sortedNanos.length / (this.totalNanos / (double) TimeUnit.SECONDS.toNanos(1));
+	}
+
+	private static double convert(double nanos, TimeUnit unit) {
+		return nanos / unit.toNanos(1);
+	}
+
+}
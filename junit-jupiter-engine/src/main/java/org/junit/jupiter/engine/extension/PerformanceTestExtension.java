@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.junit.platform.commons.util.AnnotationUtils.isAnnotated;
+
+import java.lang.reflect.Method;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.PerformanceTest;
+import org.junit.jupiter.api.extension.ContainerExtensionContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.commons.util.AnnotationUtils;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * {@code TestTemplateInvocationContextProvider} that supports the
+ * {@link PerformanceTest @PerformanceTest} annotation.
+ *
+ * <p>Provides a single {@link PerformanceTestInvocationContext} that
+ * performs all warm-up and measurement iterations.
+ *
+ * @since 5.0
+ */
+class PerformanceTestExtension implements TestTemplateInvocationContextProvider {
+
+	private static final Logger logger = Logger.getLogger(PerformanceTestExtension.class.getName());
+
+	@Override
+	public boolean supports(ContainerExtensionContext context) {
+		return isAnnotated(context.getTestMethod(), PerformanceTest.class);
+	}
+
+	@Override
+	public Stream<TestTemplateInvocationContext> provide(ContainerExtensionContext context) {
+		Method testMethod = Preconditions.notNull(context.getTestMethod().orElse(null), "test method must not be null");
+		PerformanceTest performanceTest = AnnotationUtils.findAnnotation(testMethod, PerformanceTest.class).get();
+		int warmupIterations = warmupIterations(performanceTest, testMethod);
+		int iterations = iterations(performanceTest, testMethod);
+
+		return Stream.of(new PerformanceTestInvocationContext(performanceTest, warmupIterations, iterations));
+	}
+
+	private int warmupIterations(PerformanceTest performanceTest, Method method) {
+		int warmupIterations = performanceTest.warmupIterations();
+
+		// TODO [#242] Replace logging with precondition check once we have a proper mechanism for
+		// handling validation exceptions during the TestEngine discovery phase.
+		if (warmupIterations < 0) {
+			warmupIterations = AnnotationUtils.getDefaultValue(performanceTest, "warmupIterations",
+				Integer.class).get();
+			String message = "Configuration error: @PerformanceTest on method [%s] must not be declared with a negative 'warmupIterations'. Defaulting to %d warm-up iterations.";
+			logger.warning(String.format(message, method, warmupIterations));
+		}
+
+		return warmupIterations;
+	}
+
+	private int iterations(PerformanceTest performanceTest, Method method) {
+		int iterations = performanceTest.iterations();
+
+		// TODO [#242] Replace logging with precondition check once we have a proper mechanism for
+		// handling validation exceptions during the TestEngine discovery phase.
+		if (iterations < 1) {
+			iterations = AnnotationUtils.getDefaultValue(performanceTest, "iterations", Integer.class).get();
+			String message = "Configuration error: @PerformanceTest on method [%s] must be declared with a positive 'iterations'. Defaulting to %d iterations.";
+			logger.warning(String.format(message, method, iterations));
+		}
+
+		return iterations;
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.PerformanceTest;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.engine.execution.TestMethodExecutingInvocationContext;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * {@code TestTemplateInvocationContext} for a
+ * {@link PerformanceTest @PerformanceTest}.
+ *
+ * <p>In contrast to other invocation contexts, this context is responsible
+ * for invoking the test method: the engine passes the invocation of the test
+ * method to {@link #executeTestMethod}, which invokes it repeatedly.
+ *
+ * @since 5.0
+ */
+class PerformanceTestInvocationContext implements TestMethodExecutingInvocationContext {
+
+	private final PerformanceTest performanceTest;
+	private final int warmupIterations;
+	private final int iterations;
+
+	PerformanceTestInvocationContext(PerformanceTest performanceTest, int warmupIterations, int iterations) {
+		this.performanceTest = performanceTest;
+		this.warmupIterations = warmupIterations;
+		this.iterations = iterations;
+	}
+
+	@Override
+	public String getDisplayName(int invocationIndex) {
+		return this.warmupIterations + " warm-up and " + this.iterations + " measured iterations";
+	}
+
+	/**
+	 * Execute the warm-up and measurement iterations of the supplied
+	 * invocation of the test method, publish the resulting statistics, and
+	 * check them against the thresholds of the {@code @PerformanceTest}.
+	 *
+	 * @param invocation the invocation of the test method
+	 * @param context the context in which the statistics are published
+	 * @throws AssertionFailedError if a threshold was exceeded
+	 * @throws Throwable any exception thrown by an invocation of the test
+	 * method
+	 */
+	@Override
+	public void executeTestMethod(Executable invocation, TestExtensionContext context) throws Throwable {
+		for (int i = 0; i < this.warmupIterations; i++) {
+			invocation.execute();
+		}
+
+		long[] durations = new long[this.iterations];
+		for (int i = 0; i < this.iterations; i++) {
+			long start = System.nanoTime();
+			invocation.execute();
+			durations[i] = System.nanoTime() - start;
+		}
+
+		PerformanceStatistics statistics = new PerformanceStatistics(durations);
+		TimeUnit unit = this.performanceTest.unit();
+		context.publishReportEntry(toReportEntry(statistics, unit));
+
+		checkMaximum("mean", statistics.getMean(unit), this.performanceTest.maxMean(), unit);
+		checkMaximum("p50", statistics.getPercentile(50, unit), this.performanceTest.maxP50(), unit);
+		checkMaximum("p99", statistics.getPercentile(99, unit), this.performanceTest.maxP99(), unit);
+
+		double minThroughput = this.performanceTest.minThroughput();
+		if (minThroughput > 0 && statistics.getThroughput() < minThroughput) {
+			throw new AssertionFailedError(String.format(Locale.ROOT, "throughput of %s was below the minimum of %s",
+				formatThroughput(statistics.getThroughput()), formatThroughput(minThroughput)));
+		}
+	}
+
+	private static void checkMaximum(String name, double value, double maximum, TimeUnit unit) {
+		if (maximum > 0 && value > maximum) {
+			throw new AssertionFailedError(String.format(Locale.ROOT, "%s duration of %s exceeded the maximum of %s",
+				name, formatDuration(value, unit), formatDuration(maximum, unit)));
+		}
+	}
+
+	private Map<String, String> toReportEntry(PerformanceStatistics statistics, TimeUnit unit) {
+		Map<String, String> entry = new LinkedHashMap<>();
+		entry.put("warmupIterations", String.valueOf(this.warmupIterations));
+		entry.put("iterations", String.valueOf(this.iterations));
+		entry.put("mean", formatDuration(statistics.getMean(unit), unit));
+		entry.put("p50", formatDuration(statistics.getPercentile(50, unit), unit));
+		entry.put("p99", formatDuration(statistics.getPercentile(99, unit), unit));
+		entry.put("throughput", formatThroughput(statistics.getThroughput()));
+		return entry;
+	}
+
+	private static String formatDuration(double value, TimeUnit unit) {
+		return String.format(Locale.ROOT, "%.3f %s", value, abbreviate(unit));
+	}
+
+	private static String formatThroughput(double value) {
+		return String.format(Locale.ROOT, "%.3f ops/s", value);
+	}
+
+	private static String abbreviate(TimeUnit unit) {
+		switch (unit) {
+			case NANOSECONDS:
+				return "ns";
+			case MICROSECONDS:
+				return "\u03bcs";
+			case MILLISECONDS:
+				return "ms";
+			case SECONDS:
+				return "s";
+			case MINUTES:
+				return "min";
+			case HOURS:
+				return "h";
+			default:
+				return "d";
+		}
+	}
+
+}
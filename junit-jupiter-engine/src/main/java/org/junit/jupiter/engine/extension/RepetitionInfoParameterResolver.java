@@ -37,6 +37,11 @@ class RepetitionInfoParameterResolver implements ParameterResolver {
 		return (parameterContext.getParameter().getType() == RepetitionInfo.class);
 	}
 
+	@Override
+	public boolean isSupportStable() {
+		return true;
+	}
+
 	@Override
 	public RepetitionInfo resolve(ParameterContext parameterContext, ExtensionContext extensionContext) {
 		return new DefaultRepetitionInfo(this.currentRepetition, this.totalRepetitions);
@@ -12,12 +12,19 @@ package org.junit.jupiter.api;
 
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertAllInParallel;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.function.Executable;
@@ -135,6 +142,94 @@ public class AssertionsAssertAllTests {
 		assertThrows(StackOverflowError.class, () -> assertAll(AssertionTestUtils::recurseIndefinitely));
 	}
 
+	@Test
+	void assertAllInParallelWithNullExecutor() {
+		try {
+			assertAllInParallel("heading", null, 1, Stream.of(() -> {
+			}));
+		}
+		catch (PreconditionViolationException ex) {
+			assertMessageEquals(ex, "executor must not be null");
+		}
+	}
+
+	@Test
+	void assertAllInParallelWithNonPositiveMaxRetainedFailures() {
+		try {
+			assertAllInParallel("heading", Runnable::run, 0, Stream.of(() -> {
+			}));
+		}
+		catch (PreconditionViolationException ex) {
+			assertMessageEquals(ex, "maxRetainedFailures must be greater than zero");
+		}
+	}
+
+	@Test
+	void assertAllInParallelWithExecutablesThatDoNotThrowExceptions() {
+		AtomicInteger executions = new AtomicInteger();
+
+		assertAllInParallel(IntStream.range(0, 100).mapToObj(i -> executions::incrementAndGet));
+
+		assertEquals(100, executions.get());
+	}
+
+	@Test
+	void assertAllInParallelReportsFailuresInSuppliedOrder() {
+		// @formatter:off
+		MultipleFailuresError multipleFailuresError = assertThrows(MultipleFailuresError.class, () ->
+			assertAllInParallel("heading", IntStream.range(0, 100).mapToObj(i -> () -> {
+				if (i % 10 == 0) {
+					fail("failure " + i);
+				}
+			}))
+		);
+		// @formatter:on
+
+		List<Throwable> failures = multipleFailuresError.getFailures();
+		assertEquals(10, failures.size());
+		for (int i = 0; i < failures.size(); i++) {
+			assertEquals("failure " + (i * 10), failures.get(i).getMessage());
+		}
+	}
+
+	@Test
+	void assertAllInParallelRetainsAtMostMaxRetainedFailures() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			// @formatter:off
+			MultipleFailuresError multipleFailuresError = assertThrows(MultipleFailuresError.class, () ->
+				assertAllInParallel("heading", executor, 3,
+					IntStream.range(0, 1000).mapToObj(i -> () -> fail("failure " + i)))
+			);
+			// @formatter:on
+
+			List<Throwable> failures = multipleFailuresError.getFailures();
+			assertEquals(3, failures.size());
+			assertEquals("failure 0", failures.get(0).getMessage());
+			assertEquals("failure 2", failures.get(2).getMessage());
+			assertTrue(multipleFailuresError.getMessage().startsWith(
+				"heading (997 further failures not retained) (3 failures)"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void assertAllInParallelWithExecutableThatThrowsRuntimeException() {
+		assertThrows(IllegalStateException.class,
+			() -> assertAllInParallel("heading", Runnable::run, 10, Stream.of(() -> fail("failure"), () -> {
+				throw new IllegalStateException();
+			})));
+	}
+
+	@Test
+	void assertAllInParallelWithExecutableThatThrowsCheckedException() {
+		assertThrows(IOException.class, () -> assertAllInParallel(Stream.of(() -> {
+			throw new IOException();
+		})));
+	}
+
 	@SuppressWarnings("serial")
 	private static class EnigmaThrowable extends Throwable {
 	}
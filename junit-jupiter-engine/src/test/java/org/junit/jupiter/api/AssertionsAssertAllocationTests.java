@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
+import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
+import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedError;
+import static org.junit.jupiter.api.Assertions.assertAllocatesAtMost;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNoAllocation;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Unit tests for JUnit Jupiter {@link Assertions}.
+ *
+ * @since 5.0
+ */
+class AssertionsAssertAllocationTests {
+
+	private final int[] counter = new int[1];
+
+	private Object sink;
+
+	@Test
+	void assertNoAllocationForExecutableThatDoesNotAllocate() {
+		Executable executable = () -> counter[0]++;
+
+		assertNoAllocation(executable);
+
+		assertEquals(AssertAllocation.WARMUP_ITERATIONS + AssertAllocation.MEASURED_ITERATIONS, counter[0]);
+	}
+
+	@Test
+	void assertNoAllocationForExecutableThatAllocates() {
+		try {
+			assertNoAllocation(() -> sink = new byte[10_000], "message");
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageStartsWith(ex, "message ==> execution exceeded allocation budget of 0 bytes by ");
+		}
+	}
+
+	@Test
+	void assertAllocatesAtMostForExecutableWithinBudget() {
+		assertAllocatesAtMost(20_000, () -> sink = new byte[10_000]);
+	}
+
+	@Test
+	void assertAllocatesAtMostForExecutableExceedingBudget() {
+		try {
+			assertAllocatesAtMost(1_000, () -> sink = new byte[10_000], () -> "message");
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageStartsWith(ex, "message ==> execution exceeded allocation budget of 1000 bytes by ");
+		}
+	}
+
+	@Test
+	void assertAllocatesAtMostWithNegativeBudget() {
+		try {
+			assertAllocatesAtMost(-1, () -> {
+			});
+			expectAssertionFailedError();
+		}
+		catch (PreconditionViolationException ex) {
+			assertMessageEquals(ex, "maxBytes must not be negative");
+		}
+	}
+
+	@Test
+	void assertAllocatesAtMostWithSuppliedWarmupIterations() {
+		Executable executable = () -> counter[0]++;
+
+		assertAllocatesAtMost(0, 100, executable, "message");
+
+		assertEquals(100 + AssertAllocation.MEASURED_ITERATIONS, counter[0]);
+	}
+
+	@Test
+	void assertAllocatesAtMostWithNegativeWarmupIterations() {
+		try {
+			assertAllocatesAtMost(0, -1, () -> {
+			});
+			expectAssertionFailedError();
+		}
+		catch (PreconditionViolationException ex) {
+			assertMessageEquals(ex, "warmupIterations must not be negative");
+		}
+	}
+
+	@Test
+	void assertAllocatesAtMostWithExecutableThatThrowsException() {
+		assertThrows(IllegalStateException.class, () -> assertAllocatesAtMost(1_000, () -> {
+			throw new IllegalStateException();
+		}));
+	}
+
+}
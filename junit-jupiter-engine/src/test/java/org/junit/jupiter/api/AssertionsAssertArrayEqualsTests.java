@@ -10,12 +10,15 @@
 
 package org.junit.jupiter.api;
 
+import static org.junit.jupiter.api.AssertionTestUtils.assertExpectedAndActualValues;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEndsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedError;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 
+import java.util.Arrays;
+
 import org.opentest4j.AssertionFailedError;
 
 /**
@@ -1954,4 +1957,68 @@ public class AssertionsAssertArrayEqualsTests {
 		}
 	}
 
+	@Test
+	void assertArrayEqualsLargeIntArraysReportsBoundedWindowAroundMismatch() {
+		int[] expected = new int[100_000];
+		Arrays.setAll(expected, i -> i);
+		int[] actual = expected.clone();
+		actual[50_000] = -1;
+
+		try {
+			assertArrayEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "array contents differ at index [50000], expected: <50000> but was: <-1>");
+			assertExpectedAndActualValues(ex,
+				"[..., 49992, 49993, 49994, 49995, 49996, 49997, 49998, 49999, 50000, "
+						+ "50001, 50002, 50003, 50004, 50005, 50006, 50007, 50008, ...]",
+				"[..., 49992, 49993, 49994, 49995, 49996, 49997, 49998, 49999, -1, "
+						+ "50001, 50002, 50003, 50004, 50005, 50006, 50007, 50008, ...]");
+		}
+	}
+
+	@Test
+	void assertArrayEqualsSmallArraysReportsWholeArrayAsWindow() {
+		try {
+			assertArrayEquals(new Object[] { "a", new int[] { 1, 2, 3 }, "b" }, new Object[] { "a", "x", "b" });
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertExpectedAndActualValues(ex, "[a, int[3], b]", "[a, x, b]");
+		}
+	}
+
+	@Test
+	void assertArrayEqualsLargeDoubleArraysWithDeltaDetectsMismatchInLaterBlock() {
+		double[] expected = new double[10_000];
+		Arrays.fill(expected, 1.0);
+		expected[5] = Double.NaN;
+		double[] actual = expected.clone();
+		actual[0] = 1.05;
+
+		assertArrayEquals(expected, actual, 0.1);
+
+		actual[9_000] = 2.0;
+		try {
+			assertArrayEquals(expected, actual, 0.1);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "array contents differ at index [9000], expected: <1.0> but was: <2.0>");
+		}
+	}
+
+	@Test
+	void assertArrayEqualsDeeplyNestedObjectArrays() {
+		Object[] expected = new Object[] { "leaf" };
+		Object[] actual = new Object[] { "leaf" };
+		for (int i = 0; i < 10_000; i++) {
+			expected = new Object[] { i, expected };
+			actual = new Object[] { i, actual };
+		}
+
+		assertArrayEquals(expected, actual);
+	}
+
 }
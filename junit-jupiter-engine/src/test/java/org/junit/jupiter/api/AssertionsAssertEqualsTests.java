@@ -11,12 +11,20 @@
 package org.junit.jupiter.api;
 
 import static org.junit.jupiter.api.AssertionTestUtils.assertExpectedAndActualValues;
+import static org.junit.jupiter.api.AssertionTestUtils.assertMessageContains;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEndsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageEquals;
 import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedError;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.function.Executable;
 import org.opentest4j.AssertionFailedError;
@@ -547,6 +555,76 @@ public class AssertionsAssertEqualsTests {
 		}
 	}
 
+	@Test
+	void assertEqualsWithLargeStringsRendersSnippetAroundFirstDifference() {
+		String expected = String.join("", Collections.nCopies(10_000, "ab"));
+		String actual = expected.substring(0, 10_000) + "X" + expected.substring(10_001);
+		try {
+			assertEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			String context = String.join("", Collections.nCopies(32, "ab"));
+			assertMessageEquals(ex,
+				"expected: <[...]" + context + context + "[...]> but was: <[...]" + context + "X"
+						+ context.substring(1) + "[...]>, "
+						+ "first difference at index 10000, lengths: <20000> and <20000>");
+			assertExpectedAndActualValues(ex, expected, actual);
+		}
+	}
+
+	@Test
+	void assertEqualsWithLargeMultilineStringsRendersBoundedLineDiff() {
+		String expected = IntStream.range(0, 10_000).mapToObj(i -> "line " + i).collect(Collectors.joining("\n"));
+		String actual = expected.replace("line 5000\n", "line 5000 changed\nline 5000 added\n");
+		try {
+			assertEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageContains(ex, "first difference at index 48899 (line 5001)");
+			assertMessageEndsWith(ex, "\n-line 5000\n+line 5000 changed\n+line 5000 added");
+			assertTrue(ex.getMessage().length() < 1000, "message length");
+		}
+	}
+
+	@Test
+	void assertEqualsWithLargeListsRendersWindowAroundFirstDifference() {
+		List<Integer> expected = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+		List<Integer> actual = new ArrayList<>(expected);
+		actual.set(50_000, -1);
+		try {
+			assertEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			String expectedWindow = "[..., 49992, 49993, 49994, 49995, 49996, 49997, 49998, 49999, 50000, "
+					+ "50001, 50002, 50003, 50004, 50005, 50006, 50007, 50008, ...]";
+			String actualWindow = "[..., 49992, 49993, 49994, 49995, 49996, 49997, 49998, 49999, -1, "
+					+ "50001, 50002, 50003, 50004, 50005, 50006, 50007, 50008, ...]";
+			assertMessageEquals(ex, "expected: <" + expectedWindow + "> but was: <" + actualWindow + ">, "
+					+ "first difference at index 50000, sizes: <100000> and <100000>");
+			assertExpectedAndActualValues(ex, expectedWindow, actualWindow);
+		}
+	}
+
+	@Test
+	void assertEqualsWithLargeStringRepresentationsReferencesSnippets() {
+		Object expected = new LargeToString('a');
+		Object actual = new LargeToString('b');
+		try {
+			assertEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			String expectedSnippet = String.join("", Collections.nCopies(64, "a")) + "[...]";
+			String actualSnippet = String.join("", Collections.nCopies(64, "b")) + "[...]";
+			assertMessageEquals(ex, "expected: <" + expectedSnippet + "> but was: <" + actualSnippet + ">, "
+					+ "first difference at index 0, lengths: <10000> and <10000>");
+			assertExpectedAndActualValues(ex, expectedSnippet, actualSnippet);
+		}
+	}
+
 	@Test
 	void assertEqualsInvokesEqualsMethodForIdenticalObjects() {
 		Object obj = new EqualsThrowsExceptionClass();
@@ -561,4 +639,18 @@ public class AssertionsAssertEqualsTests {
 		}
 	}
 
+	private static class LargeToString {
+
+		private final char character;
+
+		LargeToString(char character) {
+			this.character = character;
+		}
+
+		@Override
+		public String toString() {
+			return String.join("", Collections.nCopies(10_000, String.valueOf(this.character)));
+		}
+	}
+
 }
@@ -20,11 +20,17 @@ import static org.junit.jupiter.api.Assertions.assertLinesMatch;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.opentest4j.AssertionFailedError;
@@ -91,7 +97,7 @@ public class AssertionsAssertLinesMatchTests {
 
 	@Test
 	void assertLinesMatchWithNullFails() {
-		assertThrows(PreconditionViolationException.class, () -> assertLinesMatch(null, null));
+		assertThrows(PreconditionViolationException.class, () -> assertLinesMatch((List<String>) null, null));
 		assertThrows(PreconditionViolationException.class, () -> assertLinesMatch(null, Collections.emptyList()));
 		assertThrows(PreconditionViolationException.class, () -> assertLinesMatch(Collections.emptyList(), null));
 	}
@@ -177,6 +183,75 @@ public class AssertionsAssertLinesMatchTests {
 		assertLinesMatch(expectedErrorMessageLines, Arrays.asList(error.getMessage().split("\\R")));
 	}
 
+	@Test
+	void assertLinesMatchStreamsUsingRegexPatternsAndFastForwardMarkers() {
+		Stream<String> expected = Stream.of("first line", ">> skip lines until next matches >>", "line \\d+",
+			">> 2 >>", "last line");
+		Stream<String> actual = Stream.of("first line", "I", "II", "line 3", "IV", "V", "last line");
+		assertLinesMatch(expected, actual);
+	}
+
+	@Test
+	void assertLinesMatchStreamsWithNullFails() {
+		assertThrows(PreconditionViolationException.class, () -> assertLinesMatch(null, Stream.empty()));
+		assertThrows(PreconditionViolationException.class, () -> assertLinesMatch(Stream.empty(), null));
+	}
+
+	@Test
+	void assertLinesMatchStreamsConsumesLargeInputsLazily() {
+		Stream<String> expected = Stream.of("header", ">> all lines up to the last one >>", "line 999999", ">>>>");
+		Stream<String> actual = Stream.concat(Stream.of("header"),
+			IntStream.range(0, 2_000_000).mapToObj(i -> "line " + i));
+		assertLinesMatch(expected, actual);
+	}
+
+	@Test
+	void assertLinesMatchStreamsFailsWithRecentLinesOnly() {
+		Stream<String> expected = IntStream.range(0, 100).mapToObj(i -> "line " + i);
+		Stream<String> actual = IntStream.range(0, 100).mapToObj(i -> i == 80 ? "changed" : "line " + i);
+		Error error = assertThrows(AssertionFailedError.class, () -> assertLinesMatch(expected, actual));
+		List<String> expectedErrorMessageLines = Arrays.asList( //
+			"expected line #81:`line 80` doesn't match ==> expected: <[31 lines skipped]", //
+			"line 31", //
+			">> 48 >>", //
+			"line 80> but was: <[31 lines skipped]", //
+			"line 31", //
+			">> 48 >>", //
+			"changed>");
+		assertLinesMatch(expectedErrorMessageLines, Arrays.asList(error.getMessage().split("\\R")));
+	}
+
+	@Test
+	void assertLinesMatchStreamsMoreActualLinesThanExpectedFails() {
+		Error error = assertThrows(AssertionFailedError.class,
+			() -> assertLinesMatch(Stream.of("first line"), Stream.of("first line", "second line", "last line")));
+		assertTrue(error.getMessage().startsWith("more actual lines than expected: 2"));
+	}
+
+	@Test
+	void assertLinesMatchStreamsUsingFastForwardMarkerWithTooHighLimitFails() {
+		Error error = assertThrows(AssertionFailedError.class,
+			() -> assertLinesMatch(Stream.of("first line", ">> 3 >>", "last line"),
+				Stream.of("first line", "last line")));
+		assertTrue(error.getMessage().startsWith("fast-forward(3) error: only 1 actual lines left"));
+	}
+
+	@Test
+	void assertLinesMatchFiles() throws IOException {
+		Path expected = Files.createTempFile("expected", ".txt");
+		Path actual = Files.createTempFile("actual", ".txt");
+		try {
+			Files.write(expected, Arrays.asList("first line", "duration: \\d+ ms", ">>>>"), StandardCharsets.UTF_8);
+			Files.write(actual, Arrays.asList("first line", "duration: 42 ms", "ignored", "ignored"),
+				StandardCharsets.UTF_8);
+			assertLinesMatch(expected, actual);
+		}
+		finally {
+			Files.delete(expected);
+			Files.delete(actual);
+		}
+	}
+
 	@Test
 	void assertLinesMatchIsFastForwardLine() {
 		assertAll("valid fast-forward lines", //
@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTimeoutInterruptibly;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -199,6 +200,18 @@ public class AssertionsAssertTimeoutTests {
 		assertMessageEquals(error, "Tempus Fugit ==> execution timed out after 50 ms");
 	}
 
+	@Test
+	void assertTimeoutPreemptivelyUsesSharedDaemonWorkerNamedAfterCaller() {
+		String threadName = assertTimeoutPreemptively(ofMillis(500), () -> {
+			assertTrue(Thread.currentThread().isDaemon(), "worker should be a daemon thread");
+			return Thread.currentThread().getName();
+		});
+		assertTrue(threadName.startsWith("junit-timeout-worker-"), threadName);
+		assertTrue(threadName.endsWith(
+			" [" + getClass().getName() + ".assertTimeoutPreemptivelyUsesSharedDaemonWorkerNamedAfterCaller]"),
+			threadName);
+	}
+
 	// -- supplier - preemptively ---
 
 	@Test
@@ -272,4 +285,63 @@ public class AssertionsAssertTimeoutTests {
 		assertMessageEquals(error, "Tempus Fugit ==> execution timed out after 50 ms");
 	}
 
+	// -- executable - interruptibly ---
+
+	@Test
+	void assertTimeoutInterruptiblyForExecutableThatCompletesBeforeTheTimeout() {
+		changed.get().set(false);
+		assertTimeoutInterruptibly(ofMillis(500), () -> changed.get().set(true));
+		assertTrue(changed.get().get(), "should have executed in the same thread");
+	}
+
+	@Test
+	void assertTimeoutInterruptiblyForExecutableThatThrowsAnException() {
+		RuntimeException exception = assertThrows(RuntimeException.class,
+			() -> assertTimeoutInterruptibly(ofMillis(500), () -> {
+				throw new RuntimeException("not this time");
+			}));
+		assertMessageEquals(exception, "not this time");
+	}
+
+	@Test
+	void assertTimeoutInterruptiblyForExecutableThatCompletesAfterTheTimeout() {
+		AssertionFailedError error = assertThrows(AssertionFailedError.class,
+			() -> assertTimeoutInterruptibly(ofMillis(50), () -> Thread.sleep(10_000)));
+		assertMessageEquals(error, "execution timed out after 50 ms");
+		assertFalse(Thread.currentThread().isInterrupted(), "interrupt should have been cleared");
+	}
+
+	@Test
+	void assertTimeoutInterruptiblyWithMessageForExecutableThatCompletesAfterTheTimeout() {
+		AssertionFailedError error = assertThrows(AssertionFailedError.class,
+			() -> assertTimeoutInterruptibly(ofMillis(50), () -> Thread.sleep(10_000), "Tempus Fugit"));
+		assertMessageEquals(error, "Tempus Fugit ==> execution timed out after 50 ms");
+	}
+
+	// -- supplier - interruptibly ---
+
+	@Test
+	void assertTimeoutInterruptiblyForSupplierThatCompletesBeforeTheTimeout() {
+		changed.get().set(false);
+		String result = assertTimeoutInterruptibly(ofMillis(500), () -> {
+			changed.get().set(true);
+			return "Tempus Fugit";
+		});
+		assertTrue(changed.get().get(), "should have executed in the same thread");
+		assertEquals("Tempus Fugit", result);
+	}
+
+	@Test
+	void assertTimeoutInterruptiblyWithMessageSupplierForSupplierThatCompletesAfterTheTimeout() {
+		AssertionFailedError error = assertThrows(AssertionFailedError.class, () -> {
+			assertTimeoutInterruptibly(ofMillis(50), () -> {
+				Thread.sleep(10_000);
+				return "Tempus Fugit";
+			}, () -> "Tempus" + " " + "Fugit");
+			fail("timeout exception should be thrown");
+		});
+		assertMessageEquals(error, "Tempus Fugit ==> execution timed out after 50 ms");
+		assertFalse(Thread.currentThread().isInterrupted(), "interrupt should have been cleared");
+	}
+
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.container;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+
+/**
+ * Integration tests for the {@linkplain TestInstance test instance lifecycle}
+ * support in the {@link JupiterTestEngine}.
+ *
+ * @since 5.0
+ */
+class TestInstanceLifecycleTests extends AbstractJupiterTestEngineTests {
+
+	private static final List<Object> instances = new ArrayList<>();
+
+	@BeforeEach
+	void clearInstances() {
+		instances.clear();
+	}
+
+	@Test
+	void perMethodLifecycleCreatesInstancePerTestMethod() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(PerMethodTestCase.class);
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(2, instances.size(), "# instances created");
+	}
+
+	@Test
+	void perClassLifecycleCreatesSingleInstanceForAllTestMethods() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(PerClassTestCase.class);
+
+		assertEquals(3, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(1, instances.size(), "# instances created");
+		assertEquals(1, PerClassTestCase.beforeAllInvocations, "# @BeforeAll invocations");
+		assertEquals(1, PerClassTestCase.afterAllInvocations, "# @AfterAll invocations");
+	}
+
+	@Test
+	void perClassLifecycleIsSharedWithNestedClasses() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(PerClassWithNestedTestCase.class);
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertThat(instances).hasSize(2);
+		assertSame(instances.get(0), ((PerClassWithNestedTestCase.NestedTestCase) instances.get(1)).outer());
+	}
+
+	@Test
+	void perClassLifecycleCanBeConfiguredAsDefault() {
+		// @formatter:off
+		LauncherDiscoveryRequest request = request()
+				.selectors(selectClass(PerMethodTestCase.class))
+				.configurationParameter(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME, "per_class")
+				.build();
+		// @formatter:on
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(1, instances.size(), "# instances created");
+	}
+
+	@Test
+	void nonStaticBeforeAllMethodFailsClassWithPerMethodLifecycle() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(NonStaticBeforeAllTestCase.class);
+
+		assertEquals(0, eventRecorder.getTestStartedCount(), "# tests started");
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(container(NonStaticBeforeAllTestCase.class),
+				finishedWithFailure(message(m -> m.contains("must be static")))));
+	}
+
+	// -------------------------------------------------------------------------
+
+	static class PerMethodTestCase {
+
+		PerMethodTestCase() {
+			instances.add(this);
+		}
+
+		@Test
+		void test1() {
+		}
+
+		@Test
+		void test2() {
+		}
+	}
+
+	@TestInstance(PER_CLASS)
+	static class PerClassTestCase {
+
+		static int beforeAllInvocations;
+		static int afterAllInvocations;
+
+		PerClassTestCase() {
+			beforeAllInvocations = 0;
+			afterAllInvocations = 0;
+			instances.add(this);
+		}
+
+		@BeforeAll
+		void beforeAll() {
+			beforeAllInvocations++;
+		}
+
+		@AfterAll
+		void afterAll() {
+			afterAllInvocations++;
+		}
+
+		@Test
+		void test1() {
+		}
+
+		@Test
+		void test2() {
+		}
+
+		@Test
+		void test3() {
+		}
+	}
+
+	@TestInstance(PER_CLASS)
+	static class PerClassWithNestedTestCase {
+
+		PerClassWithNestedTestCase() {
+			instances.add(this);
+		}
+
+		@Test
+		void outerTest() {
+		}
+
+		@Nested
+		class NestedTestCase {
+
+			NestedTestCase() {
+				instances.add(this);
+			}
+
+			PerClassWithNestedTestCase outer() {
+				return PerClassWithNestedTestCase.this;
+			}
+
+			@Test
+			void nestedTest() {
+			}
+		}
+	}
+
+	static class NonStaticBeforeAllTestCase {
+
+		@BeforeAll
+		void beforeAll() {
+		}
+
+		@Test
+		void test() {
+		}
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static org.assertj.core.api.Assertions.allOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.engine.Constants.DEFAULT_CONTAINER_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DEFAULT_LIFECYCLE_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TESTABLE_METHOD_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_TEMPLATE_TIMEOUT_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DEFAULT_TIMEOUT_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.container;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.test;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.isA;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.platform.engine.support.hierarchical.ExecutionTimeoutException;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+
+/**
+ * Integration tests for {@link Timeout @Timeout} and the default timeouts
+ * configured via configuration parameters.
+ *
+ * @since 5.0
+ */
+class TimeoutTests extends AbstractJupiterTestEngineTests {
+
+	@Test
+	void timeoutDeclaredOnTestMethodFailsTest() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(TimeoutOnMethodTestCase.class);
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertThat(eventRecorder.getFailedTestFinishedEvents()).haveExactly(1,
+			event(test("slowTest"), finishedWithFailure(
+				allOf(isA(ExecutionTimeoutException.class), message("slowTest() timed out after 10 ms")))));
+	}
+
+	@Test
+	void timeoutDeclaredOnTestClassAppliesToLifecycleMethods() {
+		ExecutionEventRecorder eventRecorder = executeTestsForClass(TimeoutOnClassTestCase.class);
+
+		assertThat(eventRecorder.getFailedTestFinishedEvents()).haveExactly(1,
+			event(test("test"), finishedWithFailure(message("slowBeforeEach timed out after 10 ms"))));
+	}
+
+	@Test
+	void defaultTimeoutsApplyToTestableAndTestTemplateMethods() {
+		ExecutionEventRecorder eventRecorder = executeTests(SlowTestCase.class, DEFAULT_TIMEOUT_PROPERTY_NAME, "10ms");
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(3, eventRecorder.getTestFailedCount(), "# tests failed");
+	}
+
+	@Test
+	void specificDefaultTimeoutTakesPrecedenceOverGeneralDefault() {
+		// @formatter:off
+		LauncherDiscoveryRequest request = request()
+				.selectors(selectClass(SlowTestCase.class))
+				.configurationParameter(DEFAULT_TIMEOUT_PROPERTY_NAME, "1 H")
+				.configurationParameter(DEFAULT_TESTABLE_METHOD_TIMEOUT_PROPERTY_NAME, "10 ms")
+				.configurationParameter(DEFAULT_TEST_TEMPLATE_TIMEOUT_PROPERTY_NAME, "10000 us")
+				.build();
+		// @formatter:on
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertThat(eventRecorder.getFailedTestFinishedEvents()).haveExactly(2,
+			event(test("slowRepeatedTest"), finishedWithFailure(message(m -> m.endsWith("timed out after 10 ms")))));
+	}
+
+	@Test
+	void defaultLifecycleMethodTimeoutAppliesToLifecycleMethods() {
+		ExecutionEventRecorder eventRecorder = executeTests(SlowBeforeEachTestCase.class,
+			DEFAULT_LIFECYCLE_METHOD_TIMEOUT_PROPERTY_NAME, "10 ms");
+
+		assertThat(eventRecorder.getFailedTestFinishedEvents()).haveExactly(1,
+			event(test("test"), finishedWithFailure(message("slowBeforeEach timed out after 10 ms"))));
+	}
+
+	@Test
+	void containerTimeoutFailsTestClass() {
+		ExecutionEventRecorder eventRecorder = executeTests(SlowTestCase.class, DEFAULT_CONTAINER_TIMEOUT_PROPERTY_NAME,
+			"10 ms");
+
+		assertThat(eventRecorder.getExecutionEvents()).haveExactly(1,
+			event(container(SlowTestCase.class), finishedWithFailure(allOf(isA(ExecutionTimeoutException.class),
+				message(m -> m.endsWith("timed out after 10 ms"))))));
+	}
+
+	@Test
+	void invalidDefaultTimeoutIsIgnored() {
+		ExecutionEventRecorder eventRecorder = executeTests(TimeoutOnMethodTestCase.class,
+			DEFAULT_TIMEOUT_PROPERTY_NAME, "soon");
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(1, eventRecorder.getTestFailedCount(), "# tests failed");
+	}
+
+	private ExecutionEventRecorder executeTests(Class<?> testClass, String key, String value) {
+		return executeTests(request().selectors(selectClass(testClass)).configurationParameter(key, value).build());
+	}
+
+	// -------------------------------------------------------------------------
+
+	static class TimeoutOnMethodTestCase {
+
+		@Test
+		@Timeout(value = 10, unit = TimeUnit.MILLISECONDS)
+		void slowTest() throws InterruptedException {
+			Thread.sleep(10_000);
+		}
+
+		@Test
+		@Timeout(value = 10, unit = TimeUnit.SECONDS)
+		void fastTest() {
+		}
+	}
+
+	@Timeout(value = 10, unit = TimeUnit.MILLISECONDS)
+	static class TimeoutOnClassTestCase {
+
+		@BeforeEach
+		void slowBeforeEach() throws InterruptedException {
+			Thread.sleep(10_000);
+		}
+
+		@Test
+		@Timeout(0)
+		void test() {
+		}
+	}
+
+	static class SlowBeforeEachTestCase {
+
+		@BeforeEach
+		void slowBeforeEach() throws InterruptedException {
+			Thread.sleep(10_000);
+		}
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class SlowTestCase {
+
+		@Test
+		void slowTest() throws InterruptedException {
+			Thread.sleep(10_000);
+		}
+
+		@Test
+		@Timeout(0)
+		void slowTestWithoutTimeout() throws InterruptedException {
+			Thread.sleep(50);
+		}
+
+		@RepeatedTest(2)
+		void slowRepeatedTest() throws InterruptedException {
+			Thread.sleep(10_000);
+		}
+	}
+
+}
@@ -10,7 +10,10 @@
 
 package org.junit.jupiter.engine.descriptor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -25,11 +28,13 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.execution.ThrowableCollector;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.Node;
 
 class TestFactoryTestDescriptorTests {
 
+	private ConfigurationParameters configurationParameters;
 	private JupiterEngineExecutionContext context;
 	private TestExtensionContext testExtensionContext;
 	private TestFactoryTestDescriptor descriptor;
@@ -38,9 +43,10 @@ class TestFactoryTestDescriptorTests {
 	@BeforeEach
 	void before() throws Exception {
 		testExtensionContext = mock(TestExtensionContext.class);
+		configurationParameters = mock(ConfigurationParameters.class);
 		isClosed = false;
 
-		context = new JupiterEngineExecutionContext(null, null).extend().withThrowableCollector(
+		context = new JupiterEngineExecutionContext(null, configurationParameters).extend().withThrowableCollector(
 			new ThrowableCollector()).withExtensionContext(testExtensionContext).build();
 
 		Method testMethod = CustomStreamTestCase.class.getDeclaredMethod("customStream");
@@ -69,6 +75,35 @@ class TestFactoryTestDescriptorTests {
 		assertTrue(isClosed);
 	}
 
+	@Test
+	void dynamicTestsAreRetainedByDefault() {
+		prepareMockForTestInstanceWithCustomStream(Stream.of(dynamicTest("a", () -> {
+		}), dynamicTest("b", () -> {
+		})));
+
+		descriptor.invokeTestMethod(context, mock(Node.DynamicTestExecutor.class));
+
+		assertEquals(2, descriptor.getChildren().size());
+	}
+
+	@Test
+	void dynamicTestsAreDetachedAfterExecutionWhenStreaming() {
+		when(configurationParameters.getBoolean(DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME)).thenReturn(
+			Optional.of(true));
+		prepareMockForTestInstanceWithCustomStream(Stream.of(dynamicTest("a", () -> {
+		}), dynamicTest("b", () -> {
+		})));
+		int[] executed = new int[1];
+
+		descriptor.invokeTestMethod(context, testDescriptor -> {
+			assertEquals(descriptor, testDescriptor.getParent().get());
+			executed[0]++;
+		});
+
+		assertEquals(2, executed[0]);
+		assertTrue(descriptor.getChildren().isEmpty());
+	}
+
 	private void prepareMockForTestInstanceWithCustomStream(Stream<?> stream) {
 		Stream<?> mockStream = stream.onClose(() -> isClosed = true);
 		when(testExtensionContext.getTestInstance()).thenReturn(new CustomStreamTestCase(mockStream));
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.engine.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME;
+import static org.junit.jupiter.engine.extension.ExtensionRegistry.createRegistryFrom;
+import static org.junit.jupiter.engine.extension.ExtensionRegistry.createRegistryWithDefaultExtensions;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.TestExecutionCondition;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * Microtests for {@link ConditionEvaluator}.
+ *
+ * @since 5.0
+ */
+class ConditionEvaluatorTests {
+
+	private final ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+
+	private final TestExtensionContext context = mock(TestExtensionContext.class);
+
+	@Test
+	void deactivationPatternIsResolvedOncePerEvaluator() {
+		when(configParams.get(DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME)).thenReturn(
+			Optional.of("*Deactivated*"));
+		ExtensionRegistry registry = createRegistryFrom(createRegistryWithDefaultExtensions(configParams),
+			emptyList());
+		CountingCondition activatedCondition = new CountingCondition();
+		DeactivatedCondition deactivatedCondition = new DeactivatedCondition();
+		registry.registerExtension(activatedCondition, this);
+		registry.registerExtension(deactivatedCondition, this);
+
+		ConditionEvaluator evaluator = new ConditionEvaluator(configParams);
+		for (int i = 0; i < 3; i++) {
+			assertFalse(evaluator.evaluateForTest(registry, context).isDisabled());
+		}
+
+		assertEquals(3, activatedCondition.evaluations);
+		assertEquals(0, deactivatedCondition.evaluations);
+		verify(configParams, times(1)).get(DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME);
+	}
+
+	@Test
+	void firstDisabledResultIsReturned() {
+		ExtensionRegistry registry = createRegistryFrom(createRegistryWithDefaultExtensions(configParams),
+			emptyList());
+		CountingCondition condition = new CountingCondition();
+		registry.registerExtension((TestExecutionCondition) ctx -> ConditionEvaluationResult.disabled("nope"), this);
+		registry.registerExtension(condition, this);
+
+		ConditionEvaluationResult result = new ConditionEvaluator(configParams).evaluateForTest(registry, context);
+
+		assertTrue(result.isDisabled());
+		assertEquals(Optional.of("nope"), result.getReason());
+		assertEquals(0, condition.evaluations);
+	}
+
+	private static class CountingCondition implements TestExecutionCondition {
+
+		int evaluations;
+
+		@Override
+		public ConditionEvaluationResult evaluate(TestExtensionContext context) {
+			this.evaluations++;
+			return ConditionEvaluationResult.enabled("enabled");
+		}
+	}
+
+	private static class DeactivatedCondition extends CountingCondition {
+	}
+
+}
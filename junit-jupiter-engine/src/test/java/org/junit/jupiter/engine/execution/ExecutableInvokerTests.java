@@ -234,6 +234,35 @@ class ExecutableInvokerTests {
 		assertSame(cause, caught);
 	}
 
+	@Test
+	void supportsResultsOfStableParameterResolversAreCachedPerExecutable() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver stableResolver = new CountingParameterResolver(true);
+		register(stableResolver);
+		ExecutableInvoker invoker = newInvoker();
+
+		invoker.invoke(this.method, this.instance, this.extensionContext, this.extensionRegistry);
+		invoker.invoke(this.method, this.instance, this.extensionContext, this.extensionRegistry);
+		invoker.invoke(this.method, this.instance, this.extensionContext, this.extensionRegistry);
+
+		assertEquals(1, stableResolver.supportsInvocations);
+		assertEquals(3, stableResolver.resolveInvocations);
+	}
+
+	@Test
+	void supportsResultsOfOtherParameterResolversAreNotCached() {
+		testMethodWithASingleStringParameter();
+		CountingParameterResolver resolver = new CountingParameterResolver(false);
+		register(resolver);
+		ExecutableInvoker invoker = newInvoker();
+
+		invoker.invoke(this.method, this.instance, this.extensionContext, this.extensionRegistry);
+		invoker.invoke(this.method, this.instance, this.extensionContext, this.extensionRegistry);
+
+		assertEquals(2, resolver.supportsInvocations);
+		assertEquals(2, resolver.resolveInvocations);
+	}
+
 	private IllegalArgumentException anyExceptionButParameterResolutionException() {
 		return new IllegalArgumentException();
 	}
@@ -355,6 +384,34 @@ class ExecutableInvokerTests {
 		}
 	}
 
+	static class CountingParameterResolver implements ParameterResolver {
+
+		private final boolean supportStable;
+		int supportsInvocations;
+		int resolveInvocations;
+
+		CountingParameterResolver(boolean supportStable) {
+			this.supportStable = supportStable;
+		}
+
+		@Override
+		public boolean supports(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			supportsInvocations++;
+			return parameterContext.getParameter().getType() == String.class;
+		}
+
+		@Override
+		public Object resolve(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			resolveInvocations++;
+			return ENIGMA;
+		}
+
+		@Override
+		public boolean isSupportStable() {
+			return supportStable;
+		}
+	}
+
 	interface MethodSource {
 
 		void noParameter();
@@ -100,6 +100,34 @@ public class ExtensionValuesStoreTests {
 			assertNull(store.get(namespace, key));
 		}
 
+		@Test
+		void valueIsNotStoredIfComputationFails() {
+			assertThrows(IllegalStateException.class, () -> store.getOrComputeIfAbsent(namespace, key, innerKey -> {
+				throw new IllegalStateException("boom");
+			}));
+
+			assertNull(store.get(namespace, key));
+			assertEquals(value, store.getOrComputeIfAbsent(namespace, key, innerKey -> value));
+		}
+
+		@Test
+		void valueBeingComputedIsNotVisibleToItsOwnCreator() {
+			Object computedValue = store.getOrComputeIfAbsent(namespace, key,
+				innerKey -> String.valueOf(store.get(namespace, innerKey)));
+
+			assertEquals("null", computedValue);
+			assertEquals("null", store.get(namespace, key));
+		}
+
+		@Test
+		void valuesForOtherKeysCanBeComputedWhileComputingAValue() {
+			Object computedValue = store.getOrComputeIfAbsent(namespace, key,
+				innerKey -> store.getOrComputeIfAbsent(namespace, "other key", otherKey -> value));
+
+			assertEquals(value, computedValue);
+			assertEquals(value, store.get(namespace, "other key"));
+		}
+
 		@Test
 		void keysCanBeRemoved() {
 			store.put(namespace, key, value);
@@ -15,8 +15,11 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.engine.extension.ExtensionRegistry.createRegistryFrom;
+import static org.junit.jupiter.engine.extension.ExtensionRegistry.createRegistryFromOrReuseParent;
 import static org.junit.jupiter.engine.extension.ExtensionRegistry.createRegistryWithDefaultExtensions;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -30,6 +33,7 @@ import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.ContainerExecutionCondition;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.StatelessExtension;
 import org.junit.jupiter.api.extension.TestExecutionCondition;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
 import org.junit.jupiter.engine.Constants;
@@ -146,6 +150,69 @@ public class ExtensionRegistryTests {
 		assertTrue(hasRun.get());
 	}
 
+	@Test
+	void lookupsAreCachedUntilAnExtensionIsRegistered() {
+		ExtensionRegistry child = createRegistryFrom(registry, singletonList(MyExtension.class));
+
+		List<MyExtensionApi> extensions = child.getExtensions(MyExtensionApi.class);
+		assertSame(extensions, child.getExtensions(MyExtensionApi.class));
+		assertSame(child.getReversedExtensions(MyExtensionApi.class),
+			child.getReversedExtensions(MyExtensionApi.class));
+
+		registry.registerExtension(YourExtension.class);
+
+		assertEquals(2, child.getExtensions(MyExtensionApi.class).size());
+		assertEquals(YourExtension.class, child.getExtensions(MyExtensionApi.class).get(0).getClass());
+		assertEquals(MyExtension.class, child.getReversedExtensions(MyExtensionApi.class).get(0).getClass());
+	}
+
+	@Test
+	void registrationsInSiblingRegistriesDoNotInvalidateCachedLookups() {
+		ExtensionRegistry child = createRegistryFrom(registry, singletonList(MyExtension.class));
+		ExtensionRegistry sibling = createRegistryFrom(registry, emptyList());
+
+		List<MyExtensionApi> extensions = child.getExtensions(MyExtensionApi.class);
+		List<MyExtensionApi> reversedExtensions = child.getReversedExtensions(MyExtensionApi.class);
+
+		sibling.registerExtension(YourExtension.class);
+		createRegistryFrom(child, singletonList(YourExtension.class));
+
+		assertSame(extensions, child.getExtensions(MyExtensionApi.class));
+		assertSame(reversedExtensions, child.getReversedExtensions(MyExtensionApi.class));
+		assertEquals(1, countExtensions(sibling, MyExtensionApi.class));
+	}
+
+	@Test
+	void parentRegistryIsReusedIfNoNewExtensionTypesAreDeclared() {
+		registry.registerExtension(MyExtension.class);
+
+		assertSame(registry, createRegistryFromOrReuseParent(registry, emptyList()));
+		assertSame(registry, createRegistryFromOrReuseParent(registry, singletonList(MyExtension.class)));
+
+		ExtensionRegistry child = createRegistryFromOrReuseParent(registry,
+			asList(MyExtension.class, YourExtension.class));
+		assertNotSame(registry, child);
+		assertEquals(2, countExtensions(child, MyExtensionApi.class));
+		assertEquals(1, countExtensions(registry, MyExtensionApi.class));
+	}
+
+	@Test
+	void statelessExtensionsAreInstantiatedOncePerRegistryHierarchy() {
+		ExtensionRegistry first = createRegistryFrom(registry,
+			asList(StatelessExtensionStub.class, MyExtension.class));
+		ExtensionRegistry second = createRegistryFrom(registry,
+			asList(StatelessExtensionStub.class, MyExtension.class));
+
+		assertSame(first.getExtensions(StatelessExtensionStub.class).get(0),
+			second.getExtensions(StatelessExtensionStub.class).get(0));
+		assertNotSame(first.getExtensions(MyExtension.class).get(0), second.getExtensions(MyExtension.class).get(0));
+
+		ExtensionRegistry otherHierarchy = createRegistryFrom(createRegistryWithDefaultExtensions(configParams),
+			singletonList(StatelessExtensionStub.class));
+		assertNotSame(first.getExtensions(StatelessExtensionStub.class).get(0),
+			otherHierarchy.getExtensions(StatelessExtensionStub.class).get(0));
+	}
+
 	private long countExtensions(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
 		return registry.stream(extensionType).count();
 	}
@@ -193,6 +260,14 @@ public class ExtensionRegistryTests {
 		}
 	}
 
+	@StatelessExtension
+	static class StatelessExtensionStub implements MyExtensionApi {
+
+		@Override
+		public void doNothing(String test) {
+		}
+	}
+
 	static class MultipleExtension implements MyExtensionApi, AnotherExtensionApi {
 
 		@Override
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.assertj.core.api.Assertions.allOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.event;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.finishedWithFailure;
+import static org.junit.platform.engine.test.event.ExecutionEventConditions.test;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.isA;
+import static org.junit.platform.engine.test.event.TestExecutionResultConditions.message;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.PerformanceTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Integration tests for {@link PerformanceTest @PerformanceTest} and
+ * supporting infrastructure.
+ *
+ * @since 5.0
+ */
+class PerformanceTestTests extends AbstractJupiterTestEngineTests {
+
+	private static int beforeEachInvocations;
+	private static int afterEachInvocations;
+	private static int testInvocations;
+
+	@BeforeEach
+	void resetCounters() {
+		beforeEachInvocations = 0;
+		afterEachInvocations = 0;
+		testInvocations = 0;
+	}
+
+	@Test
+	void performanceTestIsExecutedAsSingleTestThatPublishesStatistics() {
+		ExecutionEventRecorder eventRecorder = executeTest("measured");
+
+		assertEquals(1, eventRecorder.getTestStartedCount(), "# tests started");
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(7, testInvocations, "# test method invocations");
+		assertEquals(1, beforeEachInvocations, "# @BeforeEach invocations");
+		assertEquals(1, afterEachInvocations, "# @AfterEach invocations");
+
+		List<ReportEntry> reportEntries = reportEntries(eventRecorder);
+		assertThat(reportEntries).hasSize(1);
+		Map<String, String> keyValuePairs = reportEntries.get(0).getKeyValuePairs();
+		assertThat(keyValuePairs).containsEntry("warmupIterations", "2").containsEntry("iterations", "5");
+		assertThat(keyValuePairs.get("mean")).endsWith(" \u03bcs");
+		assertThat(keyValuePairs.get("p50")).endsWith(" \u03bcs");
+		assertThat(keyValuePairs.get("p99")).endsWith(" \u03bcs");
+		assertThat(keyValuePairs.get("throughput")).endsWith(" ops/s");
+	}
+
+	@Test
+	void performanceTestFailsWhenMaximumMeanIsExceeded() {
+		ExecutionEventRecorder eventRecorder = executeTest("exceedsMaxMean");
+
+		assertThat(eventRecorder.getReportingEntryPublishedCount()).isEqualTo(1);
+		assertThat(eventRecorder.getFailedTestFinishedEvents()).haveExactly(1,
+			event(test(), finishedWithFailure(allOf(isA(AssertionFailedError.class),
+				message(m -> m.startsWith("mean duration of ") && m.endsWith(" exceeded the maximum of 0.001 ms"))))));
+	}
+
+	@Test
+	void performanceTestFailsWhenMinimumThroughputIsNotReached() {
+		ExecutionEventRecorder eventRecorder = executeTest("belowMinThroughput");
+
+		assertThat(eventRecorder.getFailedTestFinishedEvents()).haveExactly(1,
+			event(test(), finishedWithFailure(message(
+				m -> m.startsWith("throughput of ") && m.endsWith(" was below the minimum of 1000000.000 ops/s")))));
+	}
+
+	@Test
+	void performanceTestStopsAtFirstException() {
+		ExecutionEventRecorder eventRecorder = executeTest("failing");
+
+		assertEquals(1, testInvocations, "# test method invocations");
+		assertThat(eventRecorder.getReportingEntryPublishedCount()).isEqualTo(0);
+		assertThat(eventRecorder.getFailedTestFinishedEvents()).haveExactly(1,
+			event(test(), finishedWithFailure(message("failure"))));
+	}
+
+	@Test
+	void invalidIterationsFallBackToDefaults() {
+		ExecutionEventRecorder eventRecorder = executeTest("invalidIterations");
+
+		assertEquals(1, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(5 + 20, testInvocations, "# test method invocations");
+		assertThat(reportEntries(eventRecorder).get(0).getKeyValuePairs()).containsEntry("warmupIterations",
+			"5").containsEntry("iterations", "20");
+	}
+
+	private ExecutionEventRecorder executeTest(String methodName) {
+		return executeTests(request().selectors(selectMethod(PerformanceTestCase.class, methodName)).build());
+	}
+
+	private static List<ReportEntry> reportEntries(ExecutionEventRecorder eventRecorder) {
+		// @formatter:off
+		return eventRecorder.eventStream()
+				.map(event -> event.getPayload(ReportEntry.class))
+				.filter(Optional::isPresent)
+				.map(Optional::get)
+				.collect(Collectors.toList());
+		// @formatter:on
+	}
+
+	static class PerformanceTestCase {
+
+		@BeforeEach
+		void beforeEach() {
+			beforeEachInvocations++;
+		}
+
+		@AfterEach
+		void afterEach() {
+			afterEachInvocations++;
+		}
+
+		@PerformanceTest(warmupIterations = 2, iterations = 5, unit = TimeUnit.MICROSECONDS)
+		void measured(TestInfo testInfo) {
+			assertEquals("2 warm-up and 5 measured iterations", testInfo.getDisplayName());
+			testInvocations++;
+		}
+
+		@PerformanceTest(warmupIterations = 0, iterations = 2, maxMean = 0.001)
+		void exceedsMaxMean() throws InterruptedException {
+			Thread.sleep(1);
+		}
+
+		@PerformanceTest(warmupIterations = 0, iterations = 2, minThroughput = 1_000_000)
+		void belowMinThroughput() throws InterruptedException {
+			Thread.sleep(1);
+		}
+
+		@PerformanceTest
+		void failing() {
+			testInvocations++;
+			throw new AssertionFailedError("failure");
+		}
+
+		@PerformanceTest(warmupIterations = -1, iterations = 0)
+		void invalidIterations() {
+			testInvocations++;
+		}
+
+	}
+
+}
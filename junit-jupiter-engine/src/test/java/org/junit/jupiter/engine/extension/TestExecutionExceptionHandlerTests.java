@@ -14,6 +14,7 @@ import static org.assertj.core.api.Assertions.allOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.assertRecordedExecutionEventsContainsExactly;
 import static org.junit.platform.engine.test.event.ExecutionEventConditions.container;
@@ -132,8 +133,63 @@ class TestExecutionExceptionHandlerTests extends AbstractJupiterTestEngineTests
 		assertEquals(Arrays.asList("convert", "rethrow", "swallow"), handlerCalls);
 	}
 
+	@Test
+	void swallowingHandlersRegisteredForTestClassAreCalledForEachTest() {
+		LauncherDiscoveryRequest request = request().selectors(selectClass(SwallowingHandlersTestCase.class)).build();
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		assertEquals(2, eventRecorder.getTestStartedCount(), "# tests started");
+		assertEquals(2, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(Arrays.asList("convert", "rethrow", "swallow", "convert", "rethrow", "swallow"), handlerCalls);
+	}
+
+	@Test
+	void rethrowingHandlersRegisteredForTestClassAreCalledForEachTest() {
+		LauncherDiscoveryRequest request = request().selectors(selectClass(RethrowingHandlersTestCase.class)).build();
+
+		ExecutionEventRecorder eventRecorder = executeTests(request);
+
+		assertEquals(2, eventRecorder.getTestStartedCount(), "# tests started");
+		assertRecordedExecutionEventsContainsExactly(eventRecorder.getFailedTestFinishedEvents(), //
+			event(test(), finishedWithFailure(allOf(isA(IOException.class), message("checked")))), //
+			event(test(), finishedWithFailure(allOf(isA(IOException.class), message("checked")))));
+		assertEquals(Arrays.asList("convert", "rethrow", "convert", "rethrow"), handlerCalls);
+	}
+
 	// -------------------------------------------------------------------
 
+	@ExtendWith(SwallowException.class)
+	@ExtendWith(RethrowException.class)
+	@ExtendWith(ConvertException.class)
+	private static class SwallowingHandlersTestCase {
+
+		@Test
+		void first() {
+			throw new RuntimeException("unchecked");
+		}
+
+		@Test
+		void second() {
+			throw new RuntimeException("unchecked");
+		}
+	}
+
+	@ExtendWith(RethrowException.class)
+	@ExtendWith(ConvertException.class)
+	private static class RethrowingHandlersTestCase {
+
+		@Test
+		void first() {
+			throw new RuntimeException("unchecked");
+		}
+
+		@Test
+		void second() {
+			throw new RuntimeException("unchecked");
+		}
+	}
+
 	private static class ATestCase {
 
 		@Test
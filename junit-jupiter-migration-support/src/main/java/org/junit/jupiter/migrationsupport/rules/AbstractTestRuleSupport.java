@@ -10,13 +10,18 @@
 
 package org.junit.jupiter.migrationsupport.rules;
 
+import static java.util.stream.Collectors.toList;
+
 import java.lang.reflect.Member;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
 import org.junit.jupiter.api.extension.TestExtensionContext;
 import org.junit.jupiter.migrationsupport.rules.adapter.AbstractTestRuleAdapter;
@@ -27,6 +32,15 @@ import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.rules.TestRule;
 
 /**
+ * Base class for the rule support extensions.
+ *
+ * <p>The rule-annotated members of a test class are looked up once per class
+ * and cached for the lifetime of this support instance. The adapters for the
+ * rules of the current test instance are created on first use during the
+ * execution of a test and reused for all subsequent callbacks of that test,
+ * so that each rule-annotated field is read and each rule-annotated method is
+ * invoked only once per test.
+ *
  * @since 5.0
  */
 abstract class AbstractTestRuleSupport<T extends Member>
@@ -34,6 +48,7 @@ abstract class AbstractTestRuleSupport<T extends Member>
 
 	private final Class<? extends TestRule> ruleType;
 	private final Function<TestRuleAnnotatedMember, AbstractTestRuleAdapter> adapterGenerator;
+	private final ConcurrentMap<Class<?>, List<T>> ruleAnnotatedMembers = new ConcurrentHashMap<>();
 
 	AbstractTestRuleSupport(Function<TestRuleAnnotatedMember, AbstractTestRuleAdapter> adapterGenerator,
 			Class<? extends TestRule> ruleType) {
@@ -41,7 +56,7 @@ abstract class AbstractTestRuleSupport<T extends Member>
 		this.ruleType = ruleType;
 	}
 
-	protected abstract List<T> findRuleAnnotatedMembers(Object testInstance);
+	protected abstract List<T> findRuleAnnotatedMembers(Class<?> testClass);
 
 	protected Class<? extends TestRule> getRuleType() {
 		return this.ruleType;
@@ -72,13 +87,25 @@ abstract class AbstractTestRuleSupport<T extends Member>
 	private void invokeAppropriateMethodOnRuleAnnotatedMembers(TestExtensionContext context,
 			Consumer<GenericBeforeAndAfterAdvice> methodCaller) {
 
-		List<T> members = findRuleAnnotatedMembers(context.getTestInstance());
+		getAdapters(context).forEach(methodCaller);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<GenericBeforeAndAfterAdvice> getAdapters(TestExtensionContext context) {
+		Namespace namespace = Namespace.create(AbstractTestRuleSupport.class, context.getUniqueId());
+		return context.getStore(namespace).getOrComputeIfAbsent(this,
+			key -> createAdapters(context.getTestInstance()), List.class);
+	}
+
+	private List<GenericBeforeAndAfterAdvice> createAdapters(Object testInstance) {
+		List<T> members = this.ruleAnnotatedMembers.computeIfAbsent(testInstance.getClass(),
+			this::findRuleAnnotatedMembers);
 
 		// @formatter:off
-		members.stream()
-				.map(member -> TestRuleAnnotatedMemberFactory.from(context.getTestInstance(), member))
+		return members.stream()
+				.map(member -> TestRuleAnnotatedMemberFactory.from(testInstance, member))
 				.map(this.adapterGenerator)
-				.forEach(methodCaller::accept);
+				.collect(toList());
 		// @formatter:on
 	}
 
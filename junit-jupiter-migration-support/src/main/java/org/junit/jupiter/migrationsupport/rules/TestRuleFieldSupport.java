@@ -32,8 +32,8 @@ class TestRuleFieldSupport extends AbstractTestRuleSupport<Field> {
 	}
 
 	@Override
-	protected List<Field> findRuleAnnotatedMembers(Object testInstance) {
-		return findPublicAnnotatedFields(testInstance.getClass(), getRuleType(), Rule.class);
+	protected List<Field> findRuleAnnotatedMembers(Class<?> testClass) {
+		return findPublicAnnotatedFields(testClass, getRuleType(), Rule.class);
 	}
 
 }
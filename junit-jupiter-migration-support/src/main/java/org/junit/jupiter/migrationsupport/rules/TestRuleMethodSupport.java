@@ -34,11 +34,11 @@ class TestRuleMethodSupport extends AbstractTestRuleSupport<Method> {
 	}
 
 	@Override
-	protected List<Method> findRuleAnnotatedMembers(Object testInstance) {
+	protected List<Method> findRuleAnnotatedMembers(Class<?> testClass) {
 		Predicate<Method> isRuleMethod = method -> isAnnotated(method, Rule.class);
 		Predicate<Method> hasCorrectReturnType = method -> method.getReturnType().isAssignableFrom(getRuleType());
 
-		return findMethods(testInstance.getClass(), isRuleMethod.and(hasCorrectReturnType));
+		return findMethods(testClass, isRuleMethod.and(hasCorrectReturnType));
 	}
 
 }
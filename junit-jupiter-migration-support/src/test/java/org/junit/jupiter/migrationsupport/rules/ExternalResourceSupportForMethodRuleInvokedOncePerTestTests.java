@@ -0,0 +1,67 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.migrationsupport.rules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.migrationsupport.rules.FailAfterAllHelper.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.rules.ExternalResource;
+
+@ExtendWith(ExternalResourceSupport.class)
+public class ExternalResourceSupportForMethodRuleInvokedOncePerTestTests {
+
+	private static int ruleMethodInvocations = 0;
+
+	private static final List<ExternalResource> resourcesWithBefore = new ArrayList<>();
+	private static final List<ExternalResource> resourcesWithAfter = new ArrayList<>();
+
+	@Rule
+	public ExternalResource getResource() {
+		ruleMethodInvocations++;
+		return new ExternalResource() {
+			@Override
+			protected void before() throws Throwable {
+				resourcesWithBefore.add(this);
+			}
+
+			@Override
+			protected void after() {
+				resourcesWithAfter.add(this);
+			}
+		};
+	}
+
+	@Test
+	void first() {
+		assertEquals(resourcesWithBefore.size(), ruleMethodInvocations);
+	}
+
+	@Test
+	void second() {
+		assertEquals(resourcesWithBefore.size(), ruleMethodInvocations);
+	}
+
+	@AfterAll
+	static void afterMethodWasExecutedOnTheSameResourceAsBeforeMethod() {
+		if (ruleMethodInvocations != 2)
+			fail();
+		if (!resourcesWithBefore.equals(resourcesWithAfter))
+			fail();
+	}
+
+}
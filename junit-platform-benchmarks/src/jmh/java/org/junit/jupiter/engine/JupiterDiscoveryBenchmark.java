@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.benchmarks.SyntheticClassTree;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for discovering test classes and methods with the
+ * {@link JupiterTestEngine}.
+ *
+ * @since 5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class JupiterDiscoveryBenchmark {
+
+	@Param({ "10", "100" })
+	public int classes;
+
+	@Param({ "10", "100" })
+	public int methodsPerClass;
+
+	private final JupiterTestEngine engine = new JupiterTestEngine();
+
+	private final UniqueId engineId = UniqueId.forEngine(JupiterTestEngine.ENGINE_ID);
+
+	private SyntheticClassTree classTree;
+
+	private LauncherDiscoveryRequest discoveryRequest;
+
+	@Setup
+	public void createClassTree() {
+		this.classTree = SyntheticClassTree.create(1, this.classes, this.methodsPerClass);
+		// @formatter:off
+		this.discoveryRequest = request()
+				.selectors(this.classTree.loadClasses().stream().map(clazz -> selectClass(clazz)).collect(toList()))
+				.build();
+		// @formatter:on
+	}
+
+	@TearDown
+	public void deleteClassTree() throws IOException {
+		this.classTree.close();
+	}
+
+	@Benchmark
+	public TestDescriptor discover() {
+		return this.engine.discover(this.discoveryRequest, this.engineId);
+	}
+
+}
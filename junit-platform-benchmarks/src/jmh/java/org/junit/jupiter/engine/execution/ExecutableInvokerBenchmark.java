@@ -0,0 +1,153 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static java.util.Collections.singletonList;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for invoking methods with resolved parameters via the
+ * {@link ExecutableInvoker}.
+ *
+ * @since 5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ExecutableInvokerBenchmark {
+
+	private final ExecutableInvoker invoker = new ExecutableInvoker();
+
+	private final Target target = new Target();
+
+	private ExtensionContext extensionContext;
+
+	private ExtensionRegistry extensionRegistry;
+
+	private Method noParameters;
+
+	private Method stableParameters;
+
+	private Method unstableParameters;
+
+	@Setup
+	public void createRegistry() throws Exception {
+		this.extensionContext = createExtensionContext();
+		ExtensionRegistry parentRegistry = ExtensionRegistry.createRegistryWithDefaultExtensions(
+			request().build().getConfigurationParameters());
+		this.extensionRegistry = ExtensionRegistry.createRegistryFrom(
+			ExtensionRegistry.createRegistryFrom(parentRegistry, singletonList(StableResolver.class)),
+			singletonList(UnstableResolver.class));
+		this.noParameters = Target.class.getDeclaredMethod("noParameters");
+		this.stableParameters = Target.class.getDeclaredMethod("stableParameters", String.class, String.class);
+		this.unstableParameters = Target.class.getDeclaredMethod("unstableParameters", Integer.class, Integer.class);
+	}
+
+	@Benchmark
+	public Object invokeWithoutParameters() {
+		return this.invoker.invoke(this.noParameters, this.target, this.extensionContext, this.extensionRegistry);
+	}
+
+	@Benchmark
+	public Object invokeWithStableParameters() {
+		return this.invoker.invoke(this.stableParameters, this.target, this.extensionContext,
+			this.extensionRegistry);
+	}
+
+	@Benchmark
+	public Object invokeWithUnstableParameters() {
+		return this.invoker.invoke(this.unstableParameters, this.target, this.extensionContext,
+			this.extensionRegistry);
+	}
+
+	/**
+	 * The benchmarked resolvers do not use the {@code ExtensionContext}, so a
+	 * proxy returning empty values suffices.
+	 */
+	private static ExtensionContext createExtensionContext() {
+		return (ExtensionContext) Proxy.newProxyInstance(ExtensionContext.class.getClassLoader(),
+			new Class<?>[] { ExtensionContext.class },
+			(proxy, method, args) -> method.getReturnType() == Optional.class ? Optional.empty() : null);
+	}
+
+	public static class Target {
+
+		public Object noParameters() {
+			return this;
+		}
+
+		public Object stableParameters(String first, String second) {
+			return first;
+		}
+
+		public Object unstableParameters(Integer first, Integer second) {
+			return first;
+		}
+
+	}
+
+	public static class StableResolver implements ParameterResolver {
+
+		@Override
+		public boolean supports(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return parameterContext.getParameter().getType() == String.class;
+		}
+
+		@Override
+		public Object resolve(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return "benchmark";
+		}
+
+		@Override
+		public boolean isSupportStable() {
+			return true;
+		}
+
+	}
+
+	public static class UnstableResolver implements ParameterResolver {
+
+		@Override
+		public boolean supports(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return parameterContext.getParameter().getType() == Integer.class;
+		}
+
+		@Override
+		public Object resolve(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return parameterContext.getIndex();
+		}
+
+	}
+
+}
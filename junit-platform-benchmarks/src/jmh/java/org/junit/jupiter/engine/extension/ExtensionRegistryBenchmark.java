@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.Collections.singletonList;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for creating and querying {@link ExtensionRegistry
+ * ExtensionRegistries}.
+ *
+ * @since 5.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ExtensionRegistryBenchmark {
+
+	private final ConfigurationParameters configurationParameters = request().build().getConfigurationParameters();
+
+	private final List<Class<? extends Extension>> extensionTypes = singletonList(
+		BenchmarkParameterResolver.class);
+
+	private ExtensionRegistry parentRegistry;
+
+	private ExtensionRegistry childRegistry;
+
+	@Setup
+	public void createRegistries() {
+		this.parentRegistry = ExtensionRegistry.createRegistryWithDefaultExtensions(this.configurationParameters);
+		this.childRegistry = createChildRegistry();
+	}
+
+	@Benchmark
+	public ExtensionRegistry createRegistryWithDefaultExtensions() {
+		return ExtensionRegistry.createRegistryWithDefaultExtensions(this.configurationParameters);
+	}
+
+	@Benchmark
+	public ExtensionRegistry createRegistryFrom() {
+		return createChildRegistry();
+	}
+
+	@Benchmark
+	public List<ParameterResolver> getExtensions() {
+		return this.childRegistry.getExtensions(ParameterResolver.class);
+	}
+
+	@Benchmark
+	public long stream() {
+		return this.childRegistry.stream(ParameterResolver.class).count();
+	}
+
+	private ExtensionRegistry createChildRegistry() {
+		return ExtensionRegistry.createRegistryFrom(this.parentRegistry, this.extensionTypes);
+	}
+
+	public static class BenchmarkParameterResolver implements ParameterResolver {
+
+		@Override
+		public boolean supports(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return parameterContext.getParameter().getType() == String.class;
+		}
+
+		@Override
+		public Object resolve(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			return "benchmark";
+		}
+
+	}
+
+}
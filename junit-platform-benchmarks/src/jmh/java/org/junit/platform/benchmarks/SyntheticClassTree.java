@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * {@code SyntheticClassTree} generates, compiles, and loads a tree of test
+ * classes whose methods are annotated with {@code @Test}.
+ *
+ * <p>The tree consists of {@code packages} packages containing
+ * {@code classesPerPackage} classes with {@code methodsPerClass} empty test
+ * methods each. The sources are compiled with the system Java compiler using
+ * the class path of the current JVM, so benchmarks using this class must be
+ * run on a JDK.
+ *
+ * @since 1.0
+ */
+public final class SyntheticClassTree implements AutoCloseable {
+
+	private static final String BASE_PACKAGE = "org.junit.platform.benchmarks.synthetic";
+
+	private final Path root;
+
+	private final List<String> classNames;
+
+	private final URLClassLoader classLoader;
+
+	public static SyntheticClassTree create(int packages, int classesPerPackage, int methodsPerClass) {
+		try {
+			Path root = Files.createTempDirectory("junit-benchmark");
+			List<String> classNames = new ArrayList<>();
+			List<String> sourceFiles = new ArrayList<>();
+			for (int p = 0; p < packages; p++) {
+				String packageName = BASE_PACKAGE + ".p" + p;
+				Path packageDir = root.resolve(packageName.replace('.', '/'));
+				Files.createDirectories(packageDir);
+				for (int c = 0; c < classesPerPackage; c++) {
+					String simpleName = "Synthetic" + c + "Tests";
+					Path sourceFile = packageDir.resolve(simpleName + ".java");
+					Files.write(sourceFile, generateSource(packageName, simpleName, methodsPerClass).getBytes(UTF_8));
+					classNames.add(packageName + "." + simpleName);
+					sourceFiles.add(sourceFile.toString());
+				}
+			}
+			compile(root, sourceFiles);
+			return new SyntheticClassTree(root, classNames);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static String generateSource(String packageName, String simpleName, int methodsPerClass) {
+		StringBuilder source = new StringBuilder();
+		source.append("package ").append(packageName).append(";\n\n");
+		source.append("import org.junit.jupiter.api.Test;\n\n");
+		source.append("public class ").append(simpleName).append(" {\n");
+		for (int m = 0; m < methodsPerClass; m++) {
+			source.append("\t@Test\n\tvoid test").append(m).append("() {\n\t}\n");
+		}
+		source.append("}\n");
+		return source.toString();
+	}
+
+	private static void compile(Path root, List<String> sourceFiles) {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		if (compiler == null) {
+			throw new IllegalStateException("Benchmarks using synthetic test classes must be run on a JDK");
+		}
+		List<String> arguments = new ArrayList<>();
+		Collections.addAll(arguments, "-nowarn", "-classpath", System.getProperty("java.class.path"), "-d",
+			root.toString());
+		arguments.addAll(sourceFiles);
+		int exitCode = compiler.run(null, null, null, arguments.toArray(new String[0]));
+		if (exitCode != 0) {
+			throw new IllegalStateException("Failed to compile synthetic test classes in " + root);
+		}
+	}
+
+	private SyntheticClassTree(Path root, List<String> classNames) throws MalformedURLException {
+		this.root = root;
+		this.classNames = Collections.unmodifiableList(classNames);
+		this.classLoader = new URLClassLoader(new URL[] { root.toUri().toURL() },
+			SyntheticClassTree.class.getClassLoader());
+	}
+
+	/**
+	 * Get the URI of the class path root containing the compiled classes.
+	 */
+	public URI getRootUri() {
+		return this.root.toUri();
+	}
+
+	/**
+	 * Get the fully qualified names of all generated classes.
+	 */
+	public List<String> getClassNames() {
+		return this.classNames;
+	}
+
+	/**
+	 * Get a class loader that is able to load the generated classes.
+	 */
+	public ClassLoader getClassLoader() {
+		return this.classLoader;
+	}
+
+	/**
+	 * Load all generated classes.
+	 */
+	public List<Class<?>> loadClasses() {
+		List<Class<?>> classes = new ArrayList<>(this.classNames.size());
+		try {
+			for (String className : this.classNames) {
+				classes.add(this.classLoader.loadClass(className));
+			}
+		}
+		catch (ClassNotFoundException ex) {
+			throw new IllegalStateException(ex);
+		}
+		return classes;
+	}
+
+	/**
+	 * Close the class loader and delete the generated sources and classes.
+	 */
+	@Override
+	public void close() throws IOException {
+		this.classLoader.close();
+		try (Stream<Path> paths = Files.walk(this.root)) {
+			// delete children before their parents
+			for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(path);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.benchmarks.SyntheticClassTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for scanning a class path root with the {@link ClasspathScanner}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ClasspathScannerBenchmark {
+
+	@Param({ "10", "100" })
+	public int packages;
+
+	@Param({ "10" })
+	public int classesPerPackage;
+
+	private SyntheticClassTree classTree;
+
+	private ClasspathScanner scanner;
+
+	@Setup
+	public void createClassTree() {
+		this.classTree = SyntheticClassTree.create(this.packages, this.classesPerPackage, 1);
+		this.scanner = new ClasspathScanner(this.classTree::getClassLoader, ReflectionUtils::loadClass);
+	}
+
+	@TearDown
+	public void deleteClassTree() throws IOException {
+		this.classTree.close();
+	}
+
+	@Benchmark
+	public List<Class<?>> scanForClassesInClasspathRoot() {
+		return this.scanner.scanForClassesInClasspathRoot(this.classTree.getRootUri(), clazz -> true,
+			className -> true);
+	}
+
+	@Benchmark
+	public List<Class<?>> scanForClassesInClasspathRootWithClassNameFilter() {
+		return this.scanner.scanForClassesInClasspathRoot(this.classTree.getRootUri(), clazz -> true,
+			className -> className.endsWith("0Tests"));
+	}
+
+}
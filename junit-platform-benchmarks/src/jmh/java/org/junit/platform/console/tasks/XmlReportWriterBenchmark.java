@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.benchmarks.SyntheticClassTree;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for writing the XML report of a finished test plan with the
+ * {@link XmlReportWriter}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class XmlReportWriterBenchmark {
+
+	@Param({ "10", "100" })
+	public int classes;
+
+	@Param({ "10" })
+	public int methodsPerClass;
+
+	private SyntheticClassTree classTree;
+
+	private XmlReportData reportData;
+
+	private TestIdentifier root;
+
+	@Setup
+	public void executeTests() {
+		this.classTree = SyntheticClassTree.create(1, this.classes, this.methodsPerClass);
+		// @formatter:off
+		LauncherDiscoveryRequest discoveryRequest = request()
+				.selectors(this.classTree.loadClasses().stream().map(clazz -> selectClass(clazz)).collect(toList()))
+				.build();
+		// @formatter:on
+		TestPlan testPlan = TestPlan.from(singletonList(
+			new JupiterTestEngine().discover(discoveryRequest, UniqueId.forEngine(JupiterTestEngine.ENGINE_ID))));
+
+		this.root = testPlan.getRoots().iterator().next();
+		this.reportData = new XmlReportData(testPlan, Clock.systemDefaultZone());
+		for (TestIdentifier test : testPlan.getDescendantTests(this.root)) {
+			this.reportData.markStarted(test);
+			this.reportData.markFinished(test, successful());
+		}
+	}
+
+	@TearDown
+	public void deleteClassTree() throws IOException {
+		this.classTree.close();
+	}
+
+	@Benchmark
+	public String writeXmlReport() throws XMLStreamException {
+		StringWriter out = new StringWriter();
+		new XmlReportWriter(this.reportData).writeXmlReport(this.root, out);
+		return out.toString();
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.engine;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for parsing, appending to, and formatting {@link UniqueId UniqueIds}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class UniqueIdBenchmark {
+
+	private String uniqueIdString;
+
+	private UniqueId uniqueId;
+
+	@Setup
+	public void createUniqueId() {
+		this.uniqueId = UniqueId.forEngine("junit-jupiter") //
+				.append("class", "org.example.OuterTests") //
+				.append("nested-class", "InnerTests") //
+				.append("method", "test(org.junit.jupiter.api.TestInfo)");
+		this.uniqueIdString = this.uniqueId.toString();
+	}
+
+	@Benchmark
+	public UniqueId parse() {
+		return UniqueId.parse(this.uniqueIdString);
+	}
+
+	@Benchmark
+	public UniqueId append() {
+		return this.uniqueId.append("test-template-invocation", "#1");
+	}
+
+	@Benchmark
+	public String appendAndFormat() {
+		return this.uniqueId.append("test-template-invocation", "#1").toString();
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for executing a hierarchy of empty {@linkplain Node nodes} with
+ * the {@link HierarchicalTestExecutor}, measuring the overhead the executor
+ * itself adds to each container and test.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class HierarchicalTestExecutorBenchmark {
+
+	@Param({ "10", "100" })
+	public int containers;
+
+	@Param({ "10", "100" })
+	public int testsPerContainer;
+
+	private final BenchmarkEngine engine = new BenchmarkEngine();
+
+	private final CountingListener listener = new CountingListener();
+
+	private final ConfigurationParameters configurationParameters = request().build().getConfigurationParameters();
+
+	private TestDescriptor engineDescriptor;
+
+	@Setup
+	public void createHierarchy() {
+		UniqueId engineId = UniqueId.forEngine(this.engine.getId());
+		EngineDescriptor engineDescriptor = new EngineDescriptor(engineId, this.engine.getId());
+		for (int c = 0; c < this.containers; c++) {
+			UniqueId containerId = engineId.append("container", String.valueOf(c));
+			ContainerDescriptor container = new ContainerDescriptor(containerId);
+			for (int t = 0; t < this.testsPerContainer; t++) {
+				container.addChild(new LeafDescriptor(containerId.append("test", String.valueOf(t))));
+			}
+			engineDescriptor.addChild(container);
+		}
+		this.engineDescriptor = engineDescriptor;
+	}
+
+	@Benchmark
+	public long execute() {
+		this.engine.execute(new ExecutionRequest(this.engineDescriptor, this.listener, this.configurationParameters));
+		return this.listener.finished;
+	}
+
+	static class BenchmarkContext implements EngineExecutionContext {
+	}
+
+	static class BenchmarkEngine extends HierarchicalTestEngine<BenchmarkContext> {
+
+		@Override
+		public String getId() {
+			return "benchmark-engine";
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			throw new UnsupportedOperationException("The benchmark hierarchy is created directly");
+		}
+
+		@Override
+		protected BenchmarkContext createExecutionContext(ExecutionRequest request) {
+			return new BenchmarkContext();
+		}
+
+	}
+
+	static class ContainerDescriptor extends AbstractTestDescriptor implements Node<BenchmarkContext> {
+
+		ContainerDescriptor(UniqueId uniqueId) {
+			super(uniqueId, uniqueId.toString());
+		}
+
+		@Override
+		public Type getType() {
+			return Type.CONTAINER;
+		}
+
+	}
+
+	static class LeafDescriptor extends AbstractTestDescriptor implements Node<BenchmarkContext> {
+
+		LeafDescriptor(UniqueId uniqueId) {
+			super(uniqueId, uniqueId.toString());
+		}
+
+		@Override
+		public Type getType() {
+			return Type.TEST;
+		}
+
+		@Override
+		public boolean isLeaf() {
+			return true;
+		}
+
+		@Override
+		public BenchmarkContext execute(BenchmarkContext context, DynamicTestExecutor dynamicTestExecutor) {
+			return context;
+		}
+
+	}
+
+	static class CountingListener implements EngineExecutionListener {
+
+		long finished;
+
+		@Override
+		public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		}
+
+		@Override
+		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		}
+
+		@Override
+		public void executionStarted(TestDescriptor testDescriptor) {
+		}
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+			this.finished++;
+		}
+
+		@Override
+		public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		}
+
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.benchmarks.SyntheticClassTree;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for building a {@link TestPlan} from discovered test descriptors
+ * and for querying it.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class TestPlanBenchmark {
+
+	@Param({ "100", "1000" })
+	public int classes;
+
+	@Param({ "10" })
+	public int methodsPerClass;
+
+	@Param({ "false", "true" })
+	public boolean compactStorage;
+
+	private SyntheticClassTree classTree;
+
+	private List<TestDescriptor> engineDescriptors;
+
+	private ConfigurationParameters configurationParameters;
+
+	private TestPlan testPlan;
+
+	@Setup
+	public void discoverTests() {
+		this.classTree = SyntheticClassTree.create(1, this.classes, this.methodsPerClass);
+		// @formatter:off
+		LauncherDiscoveryRequest discoveryRequest = request()
+				.selectors(this.classTree.loadClasses().stream().map(clazz -> selectClass(clazz)).collect(toList()))
+				.configurationParameter(LauncherConstants.TEST_PLAN_COMPACT_STORAGE_ENABLED_PROPERTY_NAME,
+					String.valueOf(this.compactStorage))
+				.build();
+		// @formatter:on
+		this.configurationParameters = discoveryRequest.getConfigurationParameters();
+		this.engineDescriptors = singletonList(
+			new JupiterTestEngine().discover(discoveryRequest, UniqueId.forEngine(JupiterTestEngine.ENGINE_ID)));
+		this.testPlan = TestPlan.from(this.engineDescriptors, this.configurationParameters);
+	}
+
+	@TearDown
+	public void deleteClassTree() throws IOException {
+		this.classTree.close();
+	}
+
+	@Benchmark
+	public TestPlan from() {
+		return TestPlan.from(this.engineDescriptors, this.configurationParameters);
+	}
+
+	@Benchmark
+	public long countDescendantTests() {
+		return this.testPlan.countDescendantTests(this.testPlan.getRoots().iterator().next());
+	}
+
+}
@@ -37,6 +37,7 @@ import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.FlightRecorderEventType.ActiveEvent;
 
 /**
  * <h3>DISCLAIMER</h3>
@@ -52,6 +53,9 @@ class ClasspathScanner {
 
 	private static final Logger LOG = Logger.getLogger(ClasspathScanner.class.getName());
 
+	private static final FlightRecorderEventType CLASSPATH_SCAN = FlightRecorderEventType.create(
+		"org.junit.ClasspathScan", "Classpath Scan", "root", "basePackageName");
+
 	private static final String DEFAULT_PACKAGE_NAME = "";
 	private static final char CLASSPATH_RESOURCE_PATH_SEPARATOR = '/';
 	private static final char PACKAGE_SEPARATOR_CHAR = '.';
@@ -120,6 +124,7 @@ class ClasspathScanner {
 
 	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, Predicate<Class<?>> classFilter,
 			Predicate<String> classNameFilter) {
+		ActiveEvent event = CLASSPATH_SCAN.begin(() -> new String[] { baseUri.toString(), basePackageName });
 		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
 			Path baseDir = closeablePath.getPath();
 			return findClassesForPath(baseDir, basePackageName, classFilter, classNameFilter);
@@ -131,6 +136,9 @@ class ClasspathScanner {
 			logWarning(ex, () -> "Error scanning files for URI " + baseUri);
 			return emptyList();
 		}
+		finally {
+			event.close();
+		}
 	}
 
 	private List<Class<?>> findClassesForPath(Path baseDir, String basePackageName, Predicate<Class<?>> classFilter,
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * Type of a Java Flight Recorder (JFR) event emitted by JUnit.
+ *
+ * <p>Event types are defined at runtime via {@code jdk.jfr.EventFactory} so
+ * that they can be used without compiling against the {@code jdk.jfr} module.
+ * On JVMs that do not provide {@code jdk.jfr.EventFactory} &mdash; for
+ * example, Java 8 prior to update 262 &mdash; and whenever the event type is not enabled in any
+ * active recording, {@link #begin} returns a no-op {@link ActiveEvent}.
+ *
+ * <p>All fields of an event type are strings. Events are timed from
+ * {@link #begin} until {@link ActiveEvent#close()}:
+ *
+ * <pre class="code">
+ * ActiveEvent event = EVENT_TYPE.begin(value);
+ * try {
+ *     // work to be timed
+ * }
+ * finally {
+ *     event.close();
+ * }
+ * </pre>
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.0
+ */
+@API(Internal)
+public final class FlightRecorderEventType {
+
+	private static final Logger LOG = Logger.getLogger(FlightRecorderEventType.class.getName());
+
+	private static final String[] CATEGORY = { "JUnit" };
+
+	private static final ActiveEvent NO_OP = () -> {
+	};
+
+	/**
+	 * Create a new event type.
+	 *
+	 * @param name the unique name of the event type, for example
+	 * {@code "org.junit.EngineDiscovery"}; never {@code null} or blank
+	 * @param label the human-readable label of the event type; never
+	 * {@code null} or blank
+	 * @param fieldNames the names of the string fields of the event type
+	 * @return the new event type; never {@code null}
+	 */
+	public static FlightRecorderEventType create(String name, String label, String... fieldNames) {
+		Preconditions.notBlank(name, "name must not be null or blank");
+		Preconditions.notBlank(label, "label must not be null or blank");
+		Preconditions.notNull(fieldNames, "fieldNames must not be null");
+		return new FlightRecorderEventType(Factory.create(name, label, fieldNames), fieldNames.length);
+	}
+
+	private final Factory factory;
+
+	private final int fieldCount;
+
+	private FlightRecorderEventType(Factory factory, int fieldCount) {
+		this.factory = factory;
+		this.fieldCount = fieldCount;
+	}
+
+	/**
+	 * Determine whether events of this type are recorded by any active
+	 * recording.
+	 */
+	public boolean isEnabled() {
+		return this.factory != null && this.factory.isEnabled();
+	}
+
+	/**
+	 * Begin timing a new event of this type.
+	 *
+	 * @param values the values of the fields of the event in the order of the
+	 * field names supplied to {@link #create}
+	 * @return the active event, which is committed when it is closed; never
+	 * {@code null}
+	 */
+	public ActiveEvent begin(String... values) {
+		if (!isEnabled()) {
+			return NO_OP;
+		}
+		Preconditions.condition(values.length == this.fieldCount,
+			() -> "Expected " + this.fieldCount + " values but got " + values.length);
+		return this.factory.begin(values);
+	}
+
+	/**
+	 * Begin timing a new event of this type, computing the values of its
+	 * fields only if the event type is {@linkplain #isEnabled enabled}.
+	 *
+	 * @param valuesSupplier supplier of the values of the fields of the event
+	 * in the order of the field names supplied to {@link #create}; never
+	 * {@code null}
+	 * @return the active event, which is committed when it is closed; never
+	 * {@code null}
+	 */
+	public ActiveEvent begin(Supplier<String[]> valuesSupplier) {
+		if (!isEnabled()) {
+			return NO_OP;
+		}
+		return begin(valuesSupplier.get());
+	}
+
+	/**
+	 * An event that has begun but not yet been committed.
+	 */
+	@FunctionalInterface
+	public interface ActiveEvent extends AutoCloseable {
+
+		/**
+		 * End timing and commit this event.
+		 */
+		@Override
+		void close();
+
+	}
+
+	/**
+	 * Reflective access to {@code jdk.jfr.EventFactory} and the events it
+	 * creates.
+	 */
+	private static final class Factory {
+
+		private final Object eventFactory;
+		private final MethodHandle isEnabled;
+		private final MethodHandle newEvent;
+		private final MethodHandle begin;
+		private final MethodHandle set;
+		private final MethodHandle commit;
+
+		static Factory create(String name, String label, String[] fieldNames) {
+			try {
+				return new Factory(name, label, fieldNames);
+			}
+			catch (Throwable throwable) {
+				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+				LOG.log(Level.FINE, throwable,
+					() -> "Java Flight Recorder events are not supported; event type " + name + " is disabled.");
+				return null;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Factory(String name, String label, String[] fieldNames) throws Throwable {
+			ClassLoader classLoader = ClassLoader.getSystemClassLoader();
+			Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory", false, classLoader);
+			Class<?> eventClass = Class.forName("jdk.jfr.Event", false, classLoader);
+			Class<?> eventTypeClass = Class.forName("jdk.jfr.EventType", false, classLoader);
+			Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement", false, classLoader);
+			Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor", false, classLoader);
+			Class<? extends Annotation> nameClass = (Class<? extends Annotation>) Class.forName("jdk.jfr.Name", false,
+				classLoader);
+			Class<? extends Annotation> labelClass = (Class<? extends Annotation>) Class.forName("jdk.jfr.Label",
+				false, classLoader);
+			Class<? extends Annotation> categoryClass = (Class<? extends Annotation>) Class.forName(
+				"jdk.jfr.Category", false, classLoader);
+
+			Constructor<?> annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+			Constructor<?> valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class,
+				List.class);
+
+			List<Object> eventAnnotations = new ArrayList<>();
+			eventAnnotations.add(annotationElement.newInstance(nameClass, name));
+			eventAnnotations.add(annotationElement.newInstance(labelClass, label));
+			eventAnnotations.add(annotationElement.newInstance(categoryClass, CATEGORY));
+			List<Object> fields = new ArrayList<>();
+			for (String fieldName : fieldNames) {
+				fields.add(valueDescriptor.newInstance(String.class, fieldName,
+					Collections.singletonList(annotationElement.newInstance(labelClass, fieldName))));
+			}
+			this.eventFactory = eventFactoryClass.getMethod("create", List.class, List.class).invoke(null,
+				eventAnnotations, fields);
+
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+			Object eventType = eventFactoryClass.getMethod("getEventType").invoke(this.eventFactory);
+			MethodType voidType = MethodType.methodType(void.class);
+			this.isEnabled = lookup.findVirtual(eventTypeClass, "isEnabled",
+				MethodType.methodType(boolean.class)).bindTo(eventType);
+			this.newEvent = lookup.findVirtual(eventFactoryClass, "newEvent",
+				MethodType.methodType(eventClass)).bindTo(this.eventFactory);
+			this.begin = lookup.findVirtual(eventClass, "begin", voidType);
+			this.set = lookup.findVirtual(eventClass, "set", voidType.appendParameterTypes(int.class, Object.class));
+			this.commit = lookup.findVirtual(eventClass, "commit", voidType);
+		}
+
+		boolean isEnabled() {
+			try {
+				return (boolean) this.isEnabled.invoke();
+			}
+			catch (Throwable throwable) {
+				throw ExceptionUtils.throwAsUncheckedException(throwable);
+			}
+		}
+
+		ActiveEvent begin(String[] values) {
+			try {
+				Object event = this.newEvent.invoke();
+				for (int i = 0; i < values.length; i++) {
+					this.set.invoke(event, i, values[i]);
+				}
+				this.begin.invoke(event);
+				return () -> commit(event);
+			}
+			catch (Throwable throwable) {
+				throw ExceptionUtils.throwAsUncheckedException(throwable);
+			}
+		}
+
+		private void commit(Object event) {
+			try {
+				this.commit.invoke(event);
+			}
+			catch (Throwable throwable) {
+				throw ExceptionUtils.throwAsUncheckedException(throwable);
+			}
+		}
+
+	}
+
+}
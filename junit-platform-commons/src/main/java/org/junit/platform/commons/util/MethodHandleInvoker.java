@@ -0,0 +1,207 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invocation layer for {@link Method Methods} and {@link Constructor
+ * Constructors} based on cached {@link MethodHandle MethodHandles}.
+ *
+ * <p>For each executable, a <em>spreader</em> handle of the uniform type
+ * {@code (Object, Object[])Object} is created on first use and cached per
+ * declaring class, so that subsequent invocations neither check nor change
+ * the accessibility of the executable and are dispatched via
+ * {@link MethodHandle#invokeExact}. Constructors looked up by parameter
+ * types are cached as well.
+ *
+ * <p>The handles are only used for arguments that {@link Method#invoke} and
+ * {@link Constructor#newInstance} would accept without any conversion other
+ * than unboxing. In all other cases &mdash; and for executables for which no
+ * equivalent handle can be created, such as constructors of abstract classes
+ * or enums &mdash; the invocation falls back to reflection so that callers
+ * observe exactly the same exceptions as before.
+ *
+ * <p>Caches are held in a {@link ClassValue} of the declaring class and
+ * therefore do not prevent classes or their class loaders from being garbage
+ * collected.
+ *
+ * @since 1.0
+ * @see ReflectionUtils#invokeMethod(Method, Object, Object...)
+ * @see ReflectionUtils#newInstance(Constructor, Object...)
+ */
+final class MethodHandleInvoker {
+
+	private static final Object[] EMPTY_ARGS = new Object[0];
+
+	private static final MethodType SPREADER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private static final ClassValue<DeclaringClassCache> caches = new ClassValue<DeclaringClassCache>() {
+
+		@Override
+		protected DeclaringClassCache computeValue(Class<?> type) {
+			return new DeclaringClassCache();
+		}
+	};
+
+	///CLOVER:OFF
+	private MethodHandleInvoker() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+	/**
+	 * Invoke the supplied method as {@link Method#invoke} would, without
+	 * unwrapping any exception.
+	 *
+	 * <p>Exceptions thrown by the method itself are thrown directly if the
+	 * method was invoked via its handle and wrapped in an
+	 * {@link java.lang.reflect.InvocationTargetException} if it was invoked
+	 * reflectively.
+	 */
+	static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+		Object[] arguments = (args != null ? args : EMPTY_ARGS);
+		CachedHandle cachedHandle = cachedHandleFor(method);
+		if (cachedHandle.accepts(target, arguments)) {
+			return (Object) cachedHandle.handle.invokeExact(target, arguments);
+		}
+		return ReflectionUtils.makeAccessible(method).invoke(target, arguments);
+	}
+
+	/**
+	 * Invoke the supplied constructor as {@link Constructor#newInstance}
+	 * would, without unwrapping any exception.
+	 *
+	 * @see #invoke(Method, Object, Object[])
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T newInstance(Constructor<T> constructor, Object[] args) throws Throwable {
+		Object[] arguments = (args != null ? args : EMPTY_ARGS);
+		CachedHandle cachedHandle = cachedHandleFor(constructor);
+		if (cachedHandle.accepts(null, arguments)) {
+			return (T) (Object) cachedHandle.handle.invokeExact((Object) null, arguments);
+		}
+		return ReflectionUtils.makeAccessible(constructor).newInstance(arguments);
+	}
+
+	/**
+	 * Look up the constructor of the supplied class whose parameter types
+	 * match the supplied types exactly, as {@link Class#getDeclaredConstructor}
+	 * would, caching successful lookups.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> Constructor<T> getDeclaredConstructor(Class<T> clazz, Class<?>[] parameterTypes)
+			throws NoSuchMethodException {
+
+		Map<List<Class<?>>, Constructor<?>> constructors = caches.get(clazz).constructors;
+		Constructor<?> constructor = constructors.get(Arrays.asList(parameterTypes));
+		if (constructor == null) {
+			constructor = clazz.getDeclaredConstructor(parameterTypes);
+			constructors.putIfAbsent(Arrays.asList(parameterTypes.clone()), constructor);
+		}
+		return (Constructor<T>) constructor;
+	}
+
+	private static CachedHandle cachedHandleFor(Executable executable) {
+		return caches.get(executable.getDeclaringClass()).handles.computeIfAbsent(executable, CachedHandle::new);
+	}
+
+	private static final class DeclaringClassCache {
+
+		final Map<Executable, CachedHandle> handles = new ConcurrentHashMap<>();
+
+		final Map<List<Class<?>>, Constructor<?>> constructors = new ConcurrentHashMap<>();
+
+	}
+
+	/**
+	 * Spreader handle for an executable along with the information required
+	 * to decide whether a given invocation may use it.
+	 */
+	private static final class CachedHandle {
+
+		private final Class<?> receiverType;
+		private final Class<?>[] parameterTypes;
+		private final MethodHandle handle;
+
+		CachedHandle(Executable executable) {
+			boolean instanceMethod = executable instanceof Method && !ReflectionUtils.isStatic((Method) executable);
+			this.receiverType = instanceMethod ? executable.getDeclaringClass() : null;
+			this.parameterTypes = executable.getParameterTypes();
+			this.handle = createHandle(executable);
+		}
+
+		/**
+		 * Determine if the supplied target and arguments can be passed to the
+		 * handle without any conversion that reflection would either perform
+		 * differently or reject with an {@link IllegalArgumentException}.
+		 */
+		boolean accepts(Object target, Object[] args) {
+			if (this.handle == null || args.length != this.parameterTypes.length) {
+				return false;
+			}
+			if (this.receiverType != null && !this.receiverType.isInstance(target)) {
+				return false;
+			}
+			for (int i = 0; i < args.length; i++) {
+				if (!ReflectionUtils.isAssignableTo(args[i], this.parameterTypes[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Create a handle of type {@code (Object, Object[])Object} for the
+		 * supplied executable, or {@code null} if it must always be invoked
+		 * reflectively.
+		 */
+		private static MethodHandle createHandle(Executable executable) {
+			try {
+				MethodHandle handle;
+				if (executable instanceof Method) {
+					Method method = ReflectionUtils.makeAccessible((Method) executable);
+					handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+					handle = handle.asType(handle.type().generic());
+					if (ReflectionUtils.isStatic(method)) {
+						handle = MethodHandles.dropArguments(handle, 0, Object.class);
+					}
+				}
+				else {
+					Constructor<?> constructor = ReflectionUtils.makeAccessible((Constructor<?>) executable);
+					Class<?> declaringClass = constructor.getDeclaringClass();
+					if (Modifier.isAbstract(declaringClass.getModifiers()) || declaringClass.isEnum()) {
+						return null;
+					}
+					handle = MethodHandles.lookup().unreflectConstructor(constructor).asFixedArity();
+					handle = handle.asType(handle.type().generic());
+					handle = MethodHandles.dropArguments(handle, 0, Object.class);
+				}
+				return handle.asSpreader(Object[].class, executable.getParameterCount()).asType(SPREADER_TYPE);
+			}
+			catch (ReflectiveOperationException | RuntimeException ex) {
+				return null;
+			}
+		}
+
+	}
+
+}
@@ -249,6 +249,8 @@ public final class ReflectionUtils {
 	 * exception will be {@linkplain ExceptionUtils#throwAsUncheckedException masked}
 	 * as an unchecked exception.
 	 *
+	 * <p>The constructor lookup is cached per class and argument types.
+	 *
 	 * @param clazz the class to instantiate; never {@code null}
 	 * @param args the arguments to pass to the constructor none of which may be {@code null}
 	 * @return the new instance
@@ -262,7 +264,7 @@ public final class ReflectionUtils {
 
 		try {
 			Class<?>[] parameterTypes = Arrays.stream(args).map(Object::getClass).toArray(Class[]::new);
-			return newInstance(clazz.getDeclaredConstructor(parameterTypes), args);
+			return newInstance(MethodHandleInvoker.getDeclaredConstructor(clazz, parameterTypes), args);
 		}
 		catch (Throwable t) {
 			throw ExceptionUtils.throwAsUncheckedException(getUnderlyingCause(t));
@@ -277,6 +279,9 @@ public final class ReflectionUtils {
 	 * exception will be {@linkplain ExceptionUtils#throwAsUncheckedException masked}
 	 * as an unchecked exception.
 	 *
+	 * <p>The constructor is invoked via a cached {@link java.lang.invoke.MethodHandle}
+	 * whenever the supplied arguments allow it and reflectively otherwise.
+	 *
 	 * @param constructor the constructor to invoke; never {@code null}
 	 * @param args the arguments to pass to the constructor
 	 * @return the new instance; never {@code null}
@@ -287,7 +292,7 @@ public final class ReflectionUtils {
 		Preconditions.notNull(constructor, "constructor must not be null");
 
 		try {
-			return makeAccessible(constructor).newInstance(args);
+			return MethodHandleInvoker.newInstance(constructor, args);
 		}
 		catch (Throwable t) {
 			throw ExceptionUtils.throwAsUncheckedException(getUnderlyingCause(t));
@@ -299,6 +304,10 @@ public final class ReflectionUtils {
 	 * {@linkplain ExceptionUtils#throwAsUncheckedException masking} any
 	 * checked exception as an unchecked exception.
 	 *
+	 * <p>The method is invoked via a cached {@link java.lang.invoke.MethodHandle}
+	 * whenever the supplied target and arguments allow it and reflectively
+	 * otherwise.
+	 *
 	 * @param method the method to invoke; never {@code null}
 	 * @param target the object on which to invoke the method; may be
 	 * {@code null} if the method is {@code static}
@@ -313,7 +322,7 @@ public final class ReflectionUtils {
 			() -> String.format("Cannot invoke non-static method [%s] on a null target.", method.toGenericString()));
 
 		try {
-			return makeAccessible(method).invoke(target, args);
+			return MethodHandleInvoker.invoke(method, target, args);
 		}
 		catch (Throwable t) {
 			throw ExceptionUtils.throwAsUncheckedException(getUnderlyingCause(t));
@@ -833,7 +842,7 @@ public final class ReflectionUtils {
 		return type instanceof TypeVariable || type instanceof GenericArrayType;
 	}
 
-	private static <T extends AccessibleObject> T makeAccessible(T object) {
+	static <T extends AccessibleObject> T makeAccessible(T object) {
 		if (!object.isAccessible()) {
 			object.setAccessible(true);
 		}
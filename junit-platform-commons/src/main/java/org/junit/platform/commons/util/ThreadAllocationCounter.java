@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Optional;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * Reads the number of bytes allocated on the heap by the current thread.
+ *
+ * <p>The counter is backed by {@code com.sun.management.ThreadMXBean}. All
+ * references to that type are confined to this class so that its users can
+ * be loaded on JVMs that lack it; on such JVMs, and whenever per-thread
+ * allocation counters are not supported or cannot be enabled,
+ * {@link #getInstance()} returns an empty {@link Optional}.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.0
+ */
+@API(Internal)
+public final class ThreadAllocationCounter {
+
+	private static final int CALIBRATION_ITERATIONS = 16;
+
+	private static final Optional<ThreadAllocationCounter> instance = Optional.ofNullable(create());
+
+	private final com.sun.management.ThreadMXBean threadMXBean;
+
+	private final long overhead;
+
+	/**
+	 * Get the allocation counter of this JVM, if per-thread allocation
+	 * counters are supported.
+	 *
+	 * @return an {@code Optional} containing the counter; never {@code null}
+	 * but potentially empty
+	 */
+	public static Optional<ThreadAllocationCounter> getInstance() {
+		return instance;
+	}
+
+	private static ThreadAllocationCounter create() {
+		try {
+			ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+				return null;
+			}
+			com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+			if (!sunThreadMXBean.isThreadAllocatedMemorySupported()) {
+				return null;
+			}
+			if (!sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+				sunThreadMXBean.setThreadAllocatedMemoryEnabled(true);
+			}
+			return new ThreadAllocationCounter(sunThreadMXBean);
+		}
+		catch (LinkageError | SecurityException | UnsupportedOperationException ex) {
+			return null;
+		}
+	}
+
+	private ThreadAllocationCounter(com.sun.management.ThreadMXBean threadMXBean) {
+		this.threadMXBean = threadMXBean;
+		this.overhead = calibrate();
+	}
+
+	/**
+	 * Get the total number of bytes allocated by the current thread so far.
+	 */
+	public long getAllocatedBytes() {
+		return this.threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * Get the number of bytes allocated by a single call to
+	 * {@link #getAllocatedBytes()}, which callers may subtract from the
+	 * difference of two readings.
+	 */
+	public long getOverhead() {
+		return this.overhead;
+	}
+
+	private long calibrate() {
+		long overhead = Long.MAX_VALUE;
+		for (int i = 0; i < CALIBRATION_ITERATIONS; i++) {
+			long before = getAllocatedBytes();
+			long after = getAllocatedBytes();
+			overhead = Math.min(overhead, after - before);
+		}
+		return Math.max(0, overhead);
+	}
+
+}
@@ -41,6 +41,11 @@ class AvailableOptions {
 
 	// Reports
 	private final OptionSpec<Path> reportsDir;
+	private final OptionSpec<Void> resourceUsage;
+	private final OptionSpec<Path> traceFile;
+	private final OptionSpec<Integer> slowest;
+	private final OptionSpec<Path> durationHistory;
+	private final OptionSpec<Double> durationRegressionFactor;
 
 	// Selectors
 	private final OptionSpec<Path> selectedClasspathEntries;
@@ -62,6 +67,10 @@ class AvailableOptions {
 	private final OptionSpec<String> includeEngine;
 	private final OptionSpec<String> excludeEngine;
 
+	// Execution
+	private final OptionSpec<Integer> failFast;
+	private final OptionSpec<Path> resultHistory;
+
 	AvailableOptions() {
 
 		// --- General Purpose -------------------------------------------------
@@ -102,6 +111,37 @@ class AvailableOptions {
 				.withRequiredArg() //
 				.withValuesConvertedBy(new PathConverter());
 
+		resourceUsage = parser.accepts("resource-usage", //
+			"Record wall time, CPU time, allocated bytes, and garbage collections of each test. "
+					+ "The tests consuming the most resources are printed after the summary, "
+					+ "and the measurements are added to XML reports.");
+
+		traceFile = parser.accepts("trace-file", //
+			"Write the execution of all tests and containers to the specified file in the Trace Event Format, "
+					+ "which can be opened in chrome://tracing or Perfetto.") //
+				.withRequiredArg() //
+				.withValuesConvertedBy(new PathConverter());
+
+		slowest = parser.accepts("slowest", //
+			"Print the specified number of slowest tests and containers after the summary.") //
+				.withRequiredArg() //
+				.withValuesConvertedBy(new PositiveIntegerConverter()) //
+				.defaultsTo(0);
+
+		durationHistory = parser.accepts("duration-history", //
+			"Append the durations of all tests and containers to the specified history file "
+					+ "(will be created if it does not exist) and print those whose duration regressed "
+					+ "compared to previous runs.") //
+				.withRequiredArg() //
+				.withValuesConvertedBy(new PathConverter());
+
+		durationRegressionFactor = parser.accepts("duration-regression-factor", //
+			"Factor by which the duration of a test or container must exceed the median of its "
+					+ "previously recorded durations to be printed as a regression. Must be greater than 1.") //
+				.withRequiredArg() //
+				.withValuesConvertedBy(new DurationRegressionFactorConverter()) //
+				.defaultsTo(CommandLineOptions.DEFAULT_DURATION_REGRESSION_FACTOR);
+
 		// --- Selectors -------------------------------------------------------
 
 		selectedClasspathEntries = parser.acceptsAll(asList("scan-class-path", "scan-classpath"), //
@@ -178,6 +218,21 @@ class AvailableOptions {
 		excludeEngine = parser.acceptsAll(asList("E", "exclude-engine"),
 			"Provide the ID of an engine to be excluded from the test run. This option can be repeated.") //
 				.withRequiredArg();
+
+		// --- Execution -------------------------------------------------------
+
+		failFast = parser.accepts("fail-fast", //
+			"Cancel the execution after the specified number of failed tests and containers (default: 1) "
+					+ "and report all remaining tests and containers as skipped.") //
+				.withOptionalArg() //
+				.withValuesConvertedBy(new PositiveIntegerConverter()) //
+				.defaultsTo(1);
+
+		resultHistory = parser.accepts("result-history", //
+			"Run tests that failed in previous runs and tests in recently changed classes first, "
+					+ "and record the results in the specified history file (will be created if it does not exist).") //
+				.withRequiredArg() //
+				.withValuesConvertedBy(new PathConverter());
 	}
 
 	OptionParser getParser() {
@@ -197,6 +252,11 @@ class AvailableOptions {
 
 		// Reports
 		result.setReportsDir(detectedOptions.valueOf(this.reportsDir));
+		result.setResourceUsageReported(detectedOptions.has(this.resourceUsage));
+		result.setTraceFile(detectedOptions.valueOf(this.traceFile));
+		result.setSlowestCount(detectedOptions.valueOf(this.slowest));
+		result.setDurationHistoryFile(detectedOptions.valueOf(this.durationHistory));
+		result.setDurationRegressionFactor(detectedOptions.valueOf(this.durationRegressionFactor));
 
 		// Selectors
 		result.setScanClasspath(detectedOptions.has(this.selectedClasspathEntries));
@@ -219,6 +279,10 @@ class AvailableOptions {
 		result.setIncludedEngines(detectedOptions.valuesOf(this.includeEngine));
 		result.setExcludedEngines(detectedOptions.valuesOf(this.excludeEngine));
 
+		// Execution
+		result.setFailFastThreshold(detectedOptions.has(this.failFast) ? detectedOptions.valueOf(this.failFast) : 0);
+		result.setResultHistoryFile(detectedOptions.valueOf(this.resultHistory));
+
 		return result;
 	}
 
@@ -34,6 +34,7 @@ public class CommandLineOptions {
 
 	static final Details DEFAULT_DETAILS = Details.TREE;
 	static final Theme DEFAULT_THEME = Theme.valueOf(Charset.defaultCharset());
+	static final double DEFAULT_DURATION_REGRESSION_FACTOR = 2.0;
 
 	private boolean displayHelp;
 	private boolean ansiColorOutputDisabled;
@@ -63,6 +64,14 @@ public class CommandLineOptions {
 	private List<Path> additionalClasspathEntries = emptyList();
 
 	private Path reportsDir;
+	private boolean resourceUsageReported;
+	private Path traceFile;
+	private int slowestCount;
+	private Path durationHistoryFile;
+	private double durationRegressionFactor = DEFAULT_DURATION_REGRESSION_FACTOR;
+
+	private int failFastThreshold;
+	private Path resultHistoryFile;
 
 	public boolean isDisplayHelp() {
 		return this.displayHelp;
@@ -247,6 +256,62 @@ public class CommandLineOptions {
 		this.reportsDir = reportsDir;
 	}
 
+	public boolean isResourceUsageReported() {
+		return this.resourceUsageReported;
+	}
+
+	public void setResourceUsageReported(boolean resourceUsageReported) {
+		this.resourceUsageReported = resourceUsageReported;
+	}
+
+	public Optional<Path> getTraceFile() {
+		return Optional.ofNullable(this.traceFile);
+	}
+
+	public void setTraceFile(Path traceFile) {
+		this.traceFile = traceFile;
+	}
+
+	public int getSlowestCount() {
+		return this.slowestCount;
+	}
+
+	public void setSlowestCount(int slowestCount) {
+		this.slowestCount = slowestCount;
+	}
+
+	public Optional<Path> getDurationHistoryFile() {
+		return Optional.ofNullable(this.durationHistoryFile);
+	}
+
+	public void setDurationHistoryFile(Path durationHistoryFile) {
+		this.durationHistoryFile = durationHistoryFile;
+	}
+
+	public double getDurationRegressionFactor() {
+		return this.durationRegressionFactor;
+	}
+
+	public void setDurationRegressionFactor(double durationRegressionFactor) {
+		this.durationRegressionFactor = durationRegressionFactor;
+	}
+
+	public int getFailFastThreshold() {
+		return this.failFastThreshold;
+	}
+
+	public void setFailFastThreshold(int failFastThreshold) {
+		this.failFastThreshold = failFastThreshold;
+	}
+
+	public Optional<Path> getResultHistoryFile() {
+		return Optional.ofNullable(this.resultHistoryFile);
+	}
+
+	public void setResultHistoryFile(Path resultHistoryFile) {
+		this.resultHistoryFile = resultHistoryFile;
+	}
+
 	public List<Path> getSelectedClasspathEntries() {
 		return this.selectedClasspathEntries;
 	}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.options;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.text.MessageFormat;
+
+import joptsimple.ValueConversionException;
+import joptsimple.ValueConverter;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * @since 1.0
+ */
+@API(Internal)
+class DurationRegressionFactorConverter implements ValueConverter<Double> {
+
+	@Override
+	public Double convert(String value) {
+		try {
+			double result = Double.parseDouble(value);
+			if (result > 1 && !Double.isInfinite(result)) {
+				return result;
+			}
+		}
+		catch (NumberFormatException e) {
+			// fall through
+		}
+		String message = MessageFormat.format("Value [{0}] is not a finite number greater than 1", value);
+		throw new ValueConversionException(message);
+	}
+
+	@Override
+	public Class<? extends Double> valueType() {
+		return Double.class;
+	}
+
+	@Override
+	public String valuePattern() {
+		return null;
+	}
+
+}
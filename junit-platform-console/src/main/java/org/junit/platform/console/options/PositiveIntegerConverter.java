@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.options;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.text.MessageFormat;
+
+import joptsimple.ValueConversionException;
+import joptsimple.ValueConverter;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * @since 1.0
+ */
+@API(Internal)
+class PositiveIntegerConverter implements ValueConverter<Integer> {
+
+	@Override
+	public Integer convert(String value) {
+		try {
+			int result = Integer.parseInt(value);
+			if (result > 0) {
+				return result;
+			}
+		}
+		catch (NumberFormatException e) {
+			// fall through
+		}
+		String message = MessageFormat.format("Value [{0}] is not a positive integer", value);
+		throw new ValueConversionException(message);
+	}
+
+	@Override
+	public Class<? extends Integer> valueType() {
+		return Integer.class;
+	}
+
+	@Override
+	public String valuePattern() {
+		return null;
+	}
+
+}
@@ -12,12 +12,16 @@ package org.junit.platform.console.tasks;
 
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -31,8 +35,10 @@ import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.ResourceUsageListener;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.junit.platform.launcher.listeners.TraceEventListener;
 
 /**
  * @since 1.0
@@ -40,6 +46,8 @@ import org.junit.platform.launcher.listeners.TestExecutionSummary;
 @API(Internal)
 public class ConsoleTestExecutor {
 
+	private static final int TOP_RESOURCE_CONSUMERS = 10;
+
 	private final CommandLineOptions options;
 	private final Supplier<Launcher> launcherSupplier;
 
@@ -59,13 +67,19 @@ public class ConsoleTestExecutor {
 
 	private TestExecutionSummary executeTests(PrintWriter out) {
 		Launcher launcher = launcherSupplier.get();
-		SummaryGeneratingListener summaryListener = registerListeners(out, launcher);
+		Optional<ResourceUsageListener> resourceUsageListener = createResourceUsageListener();
+		resourceUsageListener.ifPresent(launcher::registerTestExecutionListeners);
+		SummaryGeneratingListener summaryListener = registerListeners(out, launcher, resourceUsageListener);
+		Optional<TestDurationsListener> testDurationsListener = createTestDurationsListener();
+		testDurationsListener.ifPresent(launcher::registerTestExecutionListeners);
 
 		LauncherDiscoveryRequest discoveryRequest = new DiscoveryRequestCreator().toDiscoveryRequest(options);
 		launcher.execute(discoveryRequest);
 
 		TestExecutionSummary summary = summaryListener.getSummary();
 		printSummary(summary, out);
+		resourceUsageListener.ifPresent(listener -> listener.printTopOffendersTo(out, TOP_RESOURCE_CONSUMERS));
+		testDurationsListener.ifPresent(listener -> printDurations(listener, out));
 
 		return summary;
 	}
@@ -90,14 +104,31 @@ public class ConsoleTestExecutor {
 		}
 	}
 
-	private SummaryGeneratingListener registerListeners(PrintWriter out, Launcher launcher) {
+	private Optional<ResourceUsageListener> createResourceUsageListener() {
+		if (options.isResourceUsageReported()) {
+			return Optional.of(new ResourceUsageListener());
+		}
+		return Optional.empty();
+	}
+
+	private Optional<TestDurationsListener> createTestDurationsListener() {
+		if (options.getSlowestCount() > 0 || options.getDurationHistoryFile().isPresent()) {
+			return Optional.of(new TestDurationsListener());
+		}
+		return Optional.empty();
+	}
+
+	private SummaryGeneratingListener registerListeners(PrintWriter out, Launcher launcher,
+			Optional<ResourceUsageListener> resourceUsageListener) {
 		// always register summary generating listener
 		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
 		launcher.registerTestExecutionListeners(summaryListener);
 		// optionally, register test plan execution details printing listener
 		createDetailsPrintingListener(out).ifPresent(launcher::registerTestExecutionListeners);
 		// optionally, register XML reports writing listener
-		createXmlWritingListener(out).ifPresent(launcher::registerTestExecutionListeners);
+		createXmlWritingListener(out, resourceUsageListener).ifPresent(launcher::registerTestExecutionListeners);
+		// optionally, register trace event writing listener
+		createTraceEventListener().ifPresent(launcher::registerTestExecutionListeners);
 		return summaryListener;
 	}
 
@@ -116,9 +147,18 @@ public class ConsoleTestExecutor {
 		}
 	}
 
-	private Optional<TestExecutionListener> createXmlWritingListener(PrintWriter out) {
+	private Optional<TestExecutionListener> createXmlWritingListener(PrintWriter out,
+			Optional<ResourceUsageListener> resourceUsageListener) {
 		if (options.getReportsDir().isPresent()) {
-			return Optional.of(new XmlReportsWritingListener(options.getReportsDir().get(), out));
+			return Optional.of(
+				new XmlReportsWritingListener(options.getReportsDir().get(), out, resourceUsageListener));
+		}
+		return Optional.empty();
+	}
+
+	private Optional<TestExecutionListener> createTraceEventListener() {
+		if (options.getTraceFile().isPresent()) {
+			return Optional.of(new TraceEventListener(options.getTraceFile().get()));
 		}
 		return Optional.empty();
 	}
@@ -131,4 +171,25 @@ public class ConsoleTestExecutor {
 		summary.printTo(out);
 	}
 
+	private void printDurations(TestDurationsListener listener, PrintWriter out) {
+		if (options.getSlowestCount() > 0) {
+			listener.printSlowestTo(out, options.getSlowestCount());
+		}
+		if (options.getDurationHistoryFile().isPresent()) {
+			updateDurationHistory(listener, new DurationHistory(options.getDurationHistoryFile().get()), out);
+		}
+	}
+
+	private void updateDurationHistory(TestDurationsListener listener, DurationHistory history, PrintWriter out) {
+		try {
+			Map<String, Duration> baselines = history.readBaselines();
+			listener.printRegressionsTo(out, baselines, options.getDurationRegressionFactor());
+			history.append(Instant.now(), listener.getDurations());
+		}
+		catch (IOException ex) {
+			out.println("Could not update duration history: " + history.getFile());
+			ex.printStackTrace(out);
+		}
+	}
+
 }
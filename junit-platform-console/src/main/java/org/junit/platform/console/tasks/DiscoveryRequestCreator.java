@@ -33,6 +33,7 @@ import org.junit.platform.console.options.CommandLineOptions;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 
@@ -45,6 +46,7 @@ class DiscoveryRequestCreator {
 		LauncherDiscoveryRequestBuilder requestBuilder = request();
 		requestBuilder.selectors(createDiscoverySelectors(options));
 		addFilters(requestBuilder, options);
+		addConfigurationParameters(requestBuilder, options);
 		return requestBuilder.build();
 	}
 
@@ -118,4 +120,15 @@ class DiscoveryRequestCreator {
 		}
 	}
 
+	private void addConfigurationParameters(LauncherDiscoveryRequestBuilder requestBuilder,
+			CommandLineOptions options) {
+		if (options.getFailFastThreshold() > 0) {
+			requestBuilder.configurationParameter(LauncherConstants.FAIL_FAST_THRESHOLD_PROPERTY_NAME,
+				String.valueOf(options.getFailFastThreshold()));
+		}
+
+		options.getResultHistoryFile().ifPresent(file -> requestBuilder.configurationParameter(
+			LauncherConstants.RESULT_HISTORY_FILE_PROPERTY_NAME, file.toString()));
+	}
+
 }
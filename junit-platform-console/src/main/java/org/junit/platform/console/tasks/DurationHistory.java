@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Append-only file of the durations of tests and containers in previous
+ * runs.
+ *
+ * <p>Each line consists of the instant the run finished, the duration in
+ * nanoseconds, and the unique ID of the test or container, separated by tabs.
+ * Lines starting with {@code #} are ignored.
+ *
+ * @since 1.0
+ * @see TestDurationsListener
+ */
+class DurationHistory {
+
+	/**
+	 * Number of most recent runs per test or container that are considered
+	 * for its baseline duration.
+	 */
+	static final int RECENT_RUNS = 5;
+
+	private static final String HEADER = "# JUnit Platform duration history: "
+			+ "<run instant>\t<duration in nanoseconds>\t<unique ID>";
+
+	private final Path file;
+
+	DurationHistory(Path file) {
+		this.file = file;
+	}
+
+	Path getFile() {
+		return this.file;
+	}
+
+	/**
+	 * Read the baseline duration of each test or container, which is the
+	 * median of its durations in the {@value #RECENT_RUNS} most recent runs.
+	 *
+	 * @return the baseline durations by unique ID; empty if the history file
+	 * does not exist
+	 */
+	Map<String, Duration> readBaselines() throws IOException {
+		if (!Files.exists(this.file)) {
+			return new HashMap<>();
+		}
+		Map<String, Deque<Long>> recentDurations = new HashMap<>();
+		try (BufferedReader reader = Files.newBufferedReader(this.file, UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String[] parts = line.split("\t", 3);
+				if (line.startsWith("#") || parts.length != 3) {
+					continue;
+				}
+				long duration;
+				try {
+					duration = Long.parseLong(parts[1]);
+				}
+				catch (NumberFormatException ex) {
+					continue;
+				}
+				Deque<Long> durations = recentDurations.computeIfAbsent(parts[2], key -> new ArrayDeque<>());
+				durations.addLast(duration);
+				if (durations.size() > RECENT_RUNS) {
+					durations.removeFirst();
+				}
+			}
+		}
+		Map<String, Duration> baselines = new HashMap<>();
+		recentDurations.forEach((uniqueId, durations) -> baselines.put(uniqueId, Duration.ofNanos(median(durations))));
+		return baselines;
+	}
+
+	/**
+	 * Append the supplied durations of a run that finished at the supplied
+	 * instant, creating the history file if necessary.
+	 */
+	void append(Instant runInstant, Map<String, Duration> durations) throws IOException {
+		boolean created = !Files.exists(this.file);
+		Path parent = this.file.toAbsolutePath().getParent();
+		if (created && parent != null) {
+			Files.createDirectories(parent);
+		}
+		try (BufferedWriter writer = Files.newBufferedWriter(this.file, UTF_8, CREATE, APPEND)) {
+			if (created) {
+				writer.write(HEADER);
+				writer.newLine();
+			}
+			for (Map.Entry<String, Duration> entry : durations.entrySet()) {
+				writer.write(runInstant + "\t" + entry.getValue().toNanos() + "\t" + entry.getKey());
+				writer.newLine();
+			}
+		}
+	}
+
+	private static long median(Deque<Long> durations) {
+		long[] sorted = durations.stream().mapToLong(Long::longValue).toArray();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.TestDescriptionUtils;
+
+/**
+ * Records the duration of each test and container and prints the slowest
+ * ones as well as those whose duration regressed.
+ *
+ * <p>Durations are measured with {@link System#nanoTime()} so that they are
+ * not affected by adjustments of the system clock.
+ *
+ * @since 1.0
+ * @see DurationHistory
+ */
+class TestDurationsListener implements TestExecutionListener {
+
+	/**
+	 * Minimum increase of a duration compared to its baseline for it to be
+	 * reported as a regression, which keeps the jitter of very fast tests from
+	 * being reported.
+	 */
+	static final Duration MINIMUM_REGRESSION = Duration.ofMillis(10);
+
+	private final LongSupplier nanoTime;
+
+	private final Map<TestIdentifier, Long> startNanos = new ConcurrentHashMap<>();
+	private final Map<TestIdentifier, Duration> durations = new ConcurrentHashMap<>();
+
+	private TestPlan testPlan;
+
+	TestDurationsListener() {
+		this(System::nanoTime);
+	}
+
+	// For tests only
+	TestDurationsListener(LongSupplier nanoTime) {
+		this.nanoTime = nanoTime;
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.testPlan = testPlan;
+		this.startNanos.clear();
+		this.durations.clear();
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		this.startNanos.put(testIdentifier, this.nanoTime.getAsLong());
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Long startNanos = this.startNanos.remove(testIdentifier);
+		if (startNanos == null) {
+			return;
+		}
+		this.durations.put(testIdentifier, Duration.ofNanos(this.nanoTime.getAsLong() - startNanos));
+	}
+
+	/**
+	 * Get the durations of all finished tests and containers by unique ID.
+	 */
+	Map<String, Duration> getDurations() {
+		Map<String, Duration> durationsByUniqueId = new HashMap<>();
+		this.durations.forEach((testIdentifier, duration) -> durationsByUniqueId.put(testIdentifier.getUniqueId(),
+			duration));
+		return Collections.unmodifiableMap(durationsByUniqueId);
+	}
+
+	/**
+	 * Print at most {@code limit} of the slowest tests and containers.
+	 */
+	void printSlowestTo(PrintWriter out, int limit) {
+		// @formatter:off
+		List<TestIdentifier> slowest = this.durations.keySet().stream()
+				.sorted(comparing(this.durations::get).reversed())
+				.limit(limit)
+				.collect(toList());
+		// @formatter:on
+		if (slowest.isEmpty()) {
+			return;
+		}
+
+		out.println();
+		out.println(String.format(Locale.ROOT, "Slowest %d tests and containers:", slowest.size()));
+		for (TestIdentifier testIdentifier : slowest) {
+			out.println(String.format(Locale.ROOT, "%12s  %s", formatMillis(this.durations.get(testIdentifier)),
+				describe(testIdentifier)));
+		}
+		out.flush();
+	}
+
+	/**
+	 * Print all tests and containers whose duration exceeds their baseline by
+	 * more than the supplied factor and by at least {@link #MINIMUM_REGRESSION}.
+	 *
+	 * @param baselines the baseline durations by unique ID
+	 * @param factor the factor by which a duration must exceed its baseline
+	 */
+	void printRegressionsTo(PrintWriter out, Map<String, Duration> baselines, double factor) {
+		// @formatter:off
+		List<TestIdentifier> regressions = this.durations.keySet().stream()
+				.filter(testIdentifier -> isRegression(this.durations.get(testIdentifier),
+						baselines.get(testIdentifier.getUniqueId()), factor))
+				.sorted(comparing(this.durations::get).reversed())
+				.collect(toList());
+		// @formatter:on
+		if (regressions.isEmpty()) {
+			return;
+		}
+
+		out.println();
+		out.println(String.format(Locale.ROOT,
+			"%d tests and containers took more than %.1f times their median duration in previous runs:",
+			regressions.size(), factor));
+		for (TestIdentifier testIdentifier : regressions) {
+			out.println(String.format(Locale.ROOT, "%12s  (median %s)  %s",
+				formatMillis(this.durations.get(testIdentifier)),
+				formatMillis(baselines.get(testIdentifier.getUniqueId())), describe(testIdentifier)));
+		}
+		out.flush();
+	}
+
+	private static boolean isRegression(Duration duration, Duration baseline, double factor) {
+		if (baseline == null || duration.minus(baseline).compareTo(MINIMUM_REGRESSION) < 0) {
+			return false;
+		}
+		return duration.toNanos() > baseline.toNanos() * factor;
+	}
+
+	private static String formatMillis(Duration duration) {
+		return String.format(Locale.ROOT, "%d ms", duration.toMillis());
+	}
+
+	private String describe(TestIdentifier testIdentifier) {
+		return (this.testPlan != null ? TestDescriptionUtils.describe(this.testPlan, testIdentifier)
+				: testIdentifier.getDisplayName());
+	}
+
+}
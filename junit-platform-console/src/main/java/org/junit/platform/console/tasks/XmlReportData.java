@@ -29,6 +29,8 @@ import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.ResourceUsage;
+import org.junit.platform.launcher.listeners.ResourceUsageListener;
 
 /**
  * @since 1.0
@@ -45,10 +47,16 @@ class XmlReportData {
 
 	private final TestPlan testPlan;
 	private final Clock clock;
+	private final Optional<ResourceUsageListener> resourceUsageListener;
 
 	XmlReportData(TestPlan testPlan, Clock clock) {
+		this(testPlan, clock, Optional.empty());
+	}
+
+	XmlReportData(TestPlan testPlan, Clock clock, Optional<ResourceUsageListener> resourceUsageListener) {
 		this.testPlan = testPlan;
 		this.clock = clock;
+		this.resourceUsageListener = resourceUsageListener;
 	}
 
 	TestPlan getTestPlan() {
@@ -122,6 +130,10 @@ class XmlReportData {
 		return reportEntries.getOrDefault(testIdentifier, emptyList());
 	}
 
+	Optional<ResourceUsage> getResourceUsage(TestIdentifier testIdentifier) {
+		return resourceUsageListener.flatMap(listener -> listener.getResourceUsage(testIdentifier));
+	}
+
 	private Optional<TestIdentifier> findSkippedAncestor(TestIdentifier testIdentifier) {
 		return findAncestor(Optional.of(testIdentifier), skippedTests::containsKey);
 	}
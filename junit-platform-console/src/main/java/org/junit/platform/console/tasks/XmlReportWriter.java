@@ -17,6 +17,7 @@ import static org.junit.platform.commons.util.ExceptionUtils.readStackTrace;
 import static org.junit.platform.commons.util.StringUtils.isNotBlank;
 import static org.junit.platform.console.tasks.XmlReportData.isFailure;
 import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
+import static org.junit.platform.launcher.listeners.ResourceUsage.UNAVAILABLE;
 
 import java.io.Writer;
 import java.net.InetAddress;
@@ -36,12 +37,17 @@ import javax.xml.stream.XMLStreamWriter;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.listeners.ResourceUsage;
 
 /**
  * @since 1.0
  */
 class XmlReportWriter {
 
+	private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+	private static final double MILLIS_PER_SECOND = 1_000d;
+
 	private final XmlReportData reportData;
 
 	XmlReportWriter(XmlReportData reportData) {
@@ -247,7 +253,8 @@ class XmlReportWriter {
 			throws XMLStreamException {
 
 		String cData = "\nunique-id: " + testIdentifier.getUniqueId() //
-				+ "\ndisplay-name: " + testIdentifier.getDisplayName() + "\n";
+				+ "\ndisplay-name: " + testIdentifier.getDisplayName() + "\n" //
+				+ reportData.getResourceUsage(testIdentifier).map(this::describeResourceUsage).orElse("");
 
 		writer.writeStartElement("system-out");
 		writer.writeCData(cData);
@@ -255,6 +262,28 @@ class XmlReportWriter {
 		newLine(writer);
 	}
 
+	private String describeResourceUsage(ResourceUsage resourceUsage) {
+		NumberFormat numberFormat = NumberFormat.getInstance(Locale.US);
+		StringBuilder builder = new StringBuilder();
+		builder.append("wall-time: ").append(
+			numberFormat.format(resourceUsage.getWallTimeNanos() / NANOS_PER_SECOND)).append('\n');
+		if (resourceUsage.getCpuTimeNanos() != UNAVAILABLE) {
+			builder.append("cpu-time: ").append(
+				numberFormat.format(resourceUsage.getCpuTimeNanos() / NANOS_PER_SECOND)).append('\n');
+		}
+		if (resourceUsage.getAllocatedBytes() != UNAVAILABLE) {
+			builder.append("allocated-bytes: ").append(resourceUsage.getAllocatedBytes()).append('\n');
+		}
+		if (resourceUsage.getGcCount() != UNAVAILABLE) {
+			builder.append("gc-count: ").append(resourceUsage.getGcCount()).append('\n');
+		}
+		if (resourceUsage.getGcTimeMillis() != UNAVAILABLE) {
+			builder.append("gc-time: ").append(
+				numberFormat.format(resourceUsage.getGcTimeMillis() / MILLIS_PER_SECOND)).append('\n');
+		}
+		return builder.toString();
+	}
+
 	private void newLine(XMLStreamWriter xmlWriter) throws XMLStreamException {
 		xmlWriter.writeCharacters("\n");
 	}
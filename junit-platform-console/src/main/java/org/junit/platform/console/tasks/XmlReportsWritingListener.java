@@ -17,6 +17,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
+import java.util.Optional;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -26,6 +27,7 @@ import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.ResourceUsageListener;
 
 /**
  * @since 1.0
@@ -35,27 +37,35 @@ class XmlReportsWritingListener implements TestExecutionListener {
 	private final Path reportsDir;
 	private final PrintWriter out;
 	private final Clock clock;
+	private final Optional<ResourceUsageListener> resourceUsageListener;
 
 	private XmlReportData reportData;
 
 	XmlReportsWritingListener(Path reportsDir, PrintWriter out) {
-		this(reportsDir, out, Clock.systemDefaultZone());
+		this(reportsDir, out, Optional.empty());
+	}
+
+	XmlReportsWritingListener(Path reportsDir, PrintWriter out,
+			Optional<ResourceUsageListener> resourceUsageListener) {
+		this(reportsDir, out, Clock.systemDefaultZone(), resourceUsageListener);
 	}
 
 	// For tests only
 	XmlReportsWritingListener(String reportsDir, PrintWriter out, Clock clock) {
-		this(Paths.get(reportsDir), out, clock);
+		this(Paths.get(reportsDir), out, clock, Optional.empty());
 	}
 
-	private XmlReportsWritingListener(Path reportsDir, PrintWriter out, Clock clock) {
+	private XmlReportsWritingListener(Path reportsDir, PrintWriter out, Clock clock,
+			Optional<ResourceUsageListener> resourceUsageListener) {
 		this.reportsDir = reportsDir;
 		this.out = out;
 		this.clock = clock;
+		this.resourceUsageListener = resourceUsageListener;
 	}
 
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
-		this.reportData = new XmlReportData(testPlan, clock);
+		this.reportData = new XmlReportData(testPlan, clock, resourceUsageListener);
 		try {
 			Files.createDirectories(reportsDir);
 		}
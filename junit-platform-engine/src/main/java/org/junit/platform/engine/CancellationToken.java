@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.engine;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+
+/**
+ * Token that signals a {@link TestEngine} that the execution of its remaining
+ * tests and containers should be cancelled.
+ *
+ * <p>A token is passed to an engine as part of the {@link ExecutionRequest}.
+ * Once it has been {@linkplain #cancel(String) cancelled}, an engine should
+ * report all tests and containers that have not been started yet as
+ * {@linkplain EngineExecutionListener#executionSkipped skipped}, using the
+ * {@linkplain #getReason() reason} of the cancellation. Tests and containers
+ * that are already executing are allowed to finish.
+ *
+ * <p>Tokens are thread-safe; cancelling a token more than once has no effect
+ * beyond the first invocation.
+ *
+ * @since 1.0
+ * @see ExecutionRequest#getCancellationToken()
+ */
+@API(Experimental)
+public final class CancellationToken {
+
+	private static final CancellationToken DISABLED = new CancellationToken(false);
+
+	/**
+	 * Create a new {@code CancellationToken} that has not been cancelled.
+	 */
+	public static CancellationToken create() {
+		return new CancellationToken(true);
+	}
+
+	/**
+	 * Get a {@code CancellationToken} that can never be cancelled.
+	 */
+	public static CancellationToken disabled() {
+		return DISABLED;
+	}
+
+	private final boolean cancellable;
+
+	private final AtomicReference<String> reason = new AtomicReference<>();
+
+	private CancellationToken(boolean cancellable) {
+		this.cancellable = cancellable;
+	}
+
+	/**
+	 * Cancel the execution for the supplied reason.
+	 *
+	 * <p>Has no effect if this token has already been cancelled or if it is
+	 * the {@linkplain #disabled() disabled} token.
+	 *
+	 * @param reason the reason for the cancellation; never {@code null} or blank
+	 */
+	public void cancel(String reason) {
+		Preconditions.notBlank(reason, "reason must not be null or blank");
+		if (this.cancellable) {
+			this.reason.compareAndSet(null, reason);
+		}
+	}
+
+	/**
+	 * Determine whether this token has been cancelled.
+	 */
+	public boolean isCancelled() {
+		return this.reason.get() != null;
+	}
+
+	/**
+	 * Get the reason this token has been cancelled for, if any.
+	 *
+	 * @return an {@code Optional} containing the reason; never {@code null}
+	 * but empty if this token has not been cancelled
+	 */
+	public Optional<String> getReason() {
+		return Optional.ofNullable(this.reason.get());
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("cancellable", this.cancellable)
+				.append("reason", this.reason.get())
+				.toString();
+		// @formatter:on
+	}
+
+}
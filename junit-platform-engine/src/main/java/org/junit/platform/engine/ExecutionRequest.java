@@ -14,6 +14,7 @@ import static org.junit.platform.commons.meta.API.Usage.Experimental;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.Preconditions;
 
 /**
  * Provides a single {@link TestEngine} access to the information necessary to
@@ -22,7 +23,8 @@ import org.junit.platform.commons.meta.API;
  * <p>A request contains an engine's root {@link TestDescriptor}, the
  * {@link EngineExecutionListener} to be notified of test execution events, and
  * {@link ConfigurationParameters} that the engine may use to influence test
- * execution.
+ * execution, and a {@link CancellationToken} that signals the engine to skip
+ * its remaining tests.
  *
  * @see TestEngine
  * @since 1.0
@@ -36,12 +38,22 @@ public class ExecutionRequest {
 
 	private final ConfigurationParameters configurationParameters;
 
+	private final CancellationToken cancellationToken;
+
 	@API(Internal)
 	public ExecutionRequest(TestDescriptor rootTestDescriptor, EngineExecutionListener engineExecutionListener,
 			ConfigurationParameters configurationParameters) {
+		this(rootTestDescriptor, engineExecutionListener, configurationParameters, CancellationToken.disabled());
+	}
+
+	@API(Internal)
+	public ExecutionRequest(TestDescriptor rootTestDescriptor, EngineExecutionListener engineExecutionListener,
+			ConfigurationParameters configurationParameters, CancellationToken cancellationToken) {
+		Preconditions.notNull(cancellationToken, "cancellationToken must not be null");
 		this.rootTestDescriptor = rootTestDescriptor;
 		this.engineExecutionListener = engineExecutionListener;
 		this.configurationParameters = configurationParameters;
+		this.cancellationToken = cancellationToken;
 	}
 
 	/**
@@ -72,4 +84,15 @@ public class ExecutionRequest {
 		return this.configurationParameters;
 	}
 
+	/**
+	 * Get the {@link CancellationToken} that signals the engine to skip all
+	 * tests and containers that have not been started yet.
+	 *
+	 * <p>Requests created without a token return the
+	 * {@linkplain CancellationToken#disabled() disabled} token.
+	 */
+	public CancellationToken getCancellationToken() {
+		return this.cancellationToken;
+	}
+
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.meta.API;
+
+/**
+ * {@code ExecutionTimeoutException} is thrown by the {@link TimeoutWatchdog}
+ * if an execution exceeded its timeout.
+ *
+ * <p>The stack trace of this exception is the stack trace of the timed out
+ * thread at the moment the timeout expired, i.e. immediately before the
+ * thread was interrupted. A dump of all threads taken at the same moment is
+ * available via {@link #getThreadDump()} and is attached as a
+ * {@linkplain #getSuppressed() suppressed exception} so that it appears in
+ * printed stack traces. Any exception thrown by the execution after it has
+ * been interrupted is attached as a suppressed exception as well.
+ *
+ * @since 1.0
+ * @see TimeoutWatchdog
+ */
+@API(Experimental)
+public class ExecutionTimeoutException extends JUnitException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String threadDump;
+
+	ExecutionTimeoutException(String message, StackTraceElement[] stackTrace, String threadDump) {
+		super(message);
+		this.threadDump = threadDump;
+		setStackTrace(stackTrace);
+		addSuppressed(new ThreadDump(threadDump));
+	}
+
+	/**
+	 * Get the dump of all threads that was taken when the timeout expired.
+	 *
+	 * @return the thread dump; never {@code null}
+	 */
+	public String getThreadDump() {
+		return this.threadDump;
+	}
+
+	/**
+	 * Carrier for a thread dump in printed stack traces.
+	 */
+	private static final class ThreadDump extends Throwable {
+
+		private static final long serialVersionUID = 1L;
+
+		ThreadDump(String threadDump) {
+			super("Thread dump at time of timeout:\n" + threadDump, null, false, false);
+		}
+
+	}
+
+}
@@ -12,6 +12,12 @@ package org.junit.platform.engine.support.hierarchical;
 
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
 
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.platform.commons.util.FlightRecorderEventType;
+import org.junit.platform.commons.util.FlightRecorderEventType.ActiveEvent;
+import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
@@ -37,13 +43,18 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 
 	private static final SingleTestExecutor singleTestExecutor = new SingleTestExecutor();
 
+	private static final FlightRecorderEventType NODE_EXECUTION = FlightRecorderEventType.create(
+		"org.junit.NodeExecution", "Node Execution", "uniqueId", "phase");
+
 	private final TestDescriptor rootTestDescriptor;
 	private final EngineExecutionListener listener;
+	private final CancellationToken cancellationToken;
 	private final C rootContext;
 
 	HierarchicalTestExecutor(ExecutionRequest request, C rootContext) {
 		this.rootTestDescriptor = request.getRootTestDescriptor();
 		this.listener = request.getEngineExecutionListener();
+		this.cancellationToken = request.getCancellationToken();
 		this.rootContext = rootContext;
 	}
 
@@ -52,16 +63,24 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	}
 
 	private void execute(TestDescriptor testDescriptor, C parentContext) {
+		Optional<String> cancellationReason = this.cancellationToken.getReason();
+		if (cancellationReason.isPresent()) {
+			this.listener.executionSkipped(testDescriptor, cancellationReason.get());
+			return;
+		}
+
 		Node<C> node = asNode(testDescriptor);
 
 		C preparedContext;
+		Optional<Duration> timeout;
 		try {
-			preparedContext = node.prepare(parentContext);
+			preparedContext = prepare(node, testDescriptor, parentContext);
 			SkipResult skipResult = node.shouldBeSkipped(preparedContext);
 			if (skipResult.isSkipped()) {
 				this.listener.executionSkipped(testDescriptor, skipResult.getReason().orElse("<unknown>"));
 				return;
 			}
+			timeout = node.getExecutionTimeout(preparedContext);
 		}
 		catch (Throwable throwable) {
 			rethrowIfBlacklisted(throwable);
@@ -74,30 +93,83 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 		this.listener.executionStarted(testDescriptor);
 
 		TestExecutionResult result = singleTestExecutor.executeSafely(() -> {
-			C context = preparedContext;
+			if (timeout.isPresent()) {
+				TimeoutWatchdog.getInstance().execute(timeout.get(), testDescriptor::getDisplayName, () -> {
+					executeNode(node, testDescriptor, preparedContext);
+					return null;
+				});
+			}
+			else {
+				executeNode(node, testDescriptor, preparedContext);
+			}
+		});
+
+		this.listener.executionFinished(testDescriptor, result);
+	}
+
+	private void executeNode(Node<C> node, TestDescriptor testDescriptor, C preparedContext) throws Exception {
+		C context = preparedContext;
+		try {
+			ActiveEvent beforeEvent = beginPhase(testDescriptor, "before");
 			try {
 				context = node.before(context);
-				C dynamicTestContext = context;
+			}
+			finally {
+				beforeEvent.close();
+			}
+			C dynamicTestContext = context;
+			ActiveEvent executeEvent = beginPhase(testDescriptor, "execute");
+			try {
 				context = node.execute(context, dynamicTestDescriptor -> {
 					this.listener.dynamicTestRegistered(dynamicTestDescriptor);
 					execute(dynamicTestDescriptor, dynamicTestContext);
 				});
+			}
+			finally {
+				executeEvent.close();
+			}
 
-				// If a node is NOT a leaf, execute its children recursively.
-				// Note: executing children for a leaf could result in accidental
-				// execution of dynamically added children.
-				if (!node.isLeaf()) {
-					for (TestDescriptor child : testDescriptor.getChildren()) {
+			// If a node is NOT a leaf, execute its children recursively.
+			// Note: executing children for a leaf could result in accidental
+			// execution of dynamically added children.
+			if (!node.isLeaf()) {
+				for (TestDescriptor child : testDescriptor.getChildren()) {
+					if (TimeoutWatchdog.getInstance().hasTimedOut()) {
+						this.listener.executionSkipped(child, "Execution timed out");
+					}
+					else {
 						execute(child, context);
 					}
 				}
 			}
-			finally {
+		}
+		finally {
+			if (TimeoutWatchdog.getInstance().hasTimedOut()) {
+				// clear the interrupt caused by the watchdog so that after() can complete
+				Thread.interrupted();
+			}
+			ActiveEvent afterEvent = beginPhase(testDescriptor, "after");
+			try {
 				node.after(context);
 			}
-		});
+			finally {
+				afterEvent.close();
+			}
+		}
+	}
 
-		this.listener.executionFinished(testDescriptor, result);
+	private C prepare(Node<C> node, TestDescriptor testDescriptor, C parentContext) throws Exception {
+		ActiveEvent event = beginPhase(testDescriptor, "prepare");
+		try {
+			return node.prepare(parentContext);
+		}
+		finally {
+			event.close();
+		}
+	}
+
+	private static ActiveEvent beginPhase(TestDescriptor testDescriptor, String phase) {
+		return NODE_EXECUTION.begin(() -> new String[] { testDescriptor.getUniqueId().toString(), phase });
 	}
 
 	@SuppressWarnings("unchecked")
@@ -12,6 +12,7 @@ package org.junit.platform.engine.support.hierarchical;
 
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.junit.platform.commons.meta.API;
@@ -128,6 +129,26 @@ public interface Node<C extends EngineExecutionContext> {
 	default void after(C context) throws Exception {
 	}
 
+	/**
+	 * Get the timeout for the complete execution of this node, including its
+	 * <em>before</em> and <em>after</em> behavior and the execution of all of
+	 * its children.
+	 *
+	 * <p>The timeout is enforced by the {@link TimeoutWatchdog}. If it is
+	 * exceeded, the execution of this node fails with an
+	 * {@link ExecutionTimeoutException}.
+	 *
+	 * <p>The default implementation returns {@link Optional#empty()}.
+	 *
+	 * @param context the context to execute in
+	 * @return the timeout; never {@code null} but potentially empty
+	 * @see TimeoutWatchdog
+	 */
+	@API(Experimental)
+	default Optional<Duration> getExecutionTimeout(C context) throws Exception {
+		return Optional.empty();
+	}
+
 	/**
 	 * The result of determining whether the execution of a given {@code context}
 	 * should be <em>skipped</em>.
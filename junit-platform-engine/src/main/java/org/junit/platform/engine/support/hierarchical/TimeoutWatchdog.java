@@ -0,0 +1,259 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * {@code TimeoutWatchdog} enforces timeouts for executions in the calling
+ * thread.
+ *
+ * <p>All timeouts are monitored by a single daemon thread that is started on
+ * first use. When a timeout expires, the watchdog records the stack trace of
+ * the timed out thread and a dump of all threads and then
+ * {@linkplain Thread#interrupt() interrupts} the timed out thread. Once the
+ * execution returns &mdash; normally or by throwing an exception in response
+ * to the interrupt &mdash; the interrupt status is cleared and an
+ * {@link ExecutionTimeoutException} is thrown. An execution that does not
+ * respond to being interrupted cannot be aborted.
+ *
+ * <p>Timeouts may be nested. For example, the {@link HierarchicalTestExecutor}
+ * enforces the {@linkplain Node#getExecutionTimeout execution timeout} of a
+ * container while an engine enforces the timeout of a single test within
+ * that container.
+ *
+ * @since 1.0
+ * @see ExecutionTimeoutException
+ * @see Node#getExecutionTimeout(EngineExecutionContext)
+ */
+@API(Experimental)
+public final class TimeoutWatchdog {
+
+	private static final TimeoutWatchdog instance = new TimeoutWatchdog();
+
+	private final ScheduledThreadPoolExecutor executor;
+
+	private final ThreadLocal<Expiration> currentExpiration = new ThreadLocal<>();
+
+	/**
+	 * Get the watchdog shared by all engines.
+	 */
+	public static TimeoutWatchdog getInstance() {
+		return instance;
+	}
+
+	TimeoutWatchdog() {
+		this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "junit-timeout-watchdog");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor.setRemoveOnCancelPolicy(true);
+	}
+
+	/**
+	 * Execute the supplied {@link Callable} in the calling thread and enforce
+	 * the supplied timeout.
+	 *
+	 * <p>If the supplied timeout is {@code null}, zero, or negative, the
+	 * callable is executed without a timeout. Timeouts that exceed
+	 * {@link Long#MAX_VALUE} nanoseconds are capped at that value.
+	 *
+	 * @param timeout the timeout to enforce; may be {@code null}
+	 * @param descriptionSupplier supplier of a description of the execution to
+	 * be used in the message of an {@link ExecutionTimeoutException}; never
+	 * {@code null}
+	 * @param callable the callable to execute; never {@code null}
+	 * @return the result of the callable
+	 * @throws ExecutionTimeoutException if the timeout was exceeded
+	 * @throws Exception any exception thrown by the callable if the timeout
+	 * was not exceeded
+	 */
+	public <T> T execute(Duration timeout, Supplier<String> descriptionSupplier, Callable<T> callable)
+			throws Exception {
+
+		Preconditions.notNull(descriptionSupplier, "descriptionSupplier must not be null");
+		Preconditions.notNull(callable, "callable must not be null");
+
+		if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+			return callable.call();
+		}
+
+		Expiration expiration = new Expiration(Thread.currentThread(), this.currentExpiration.get());
+		ScheduledFuture<?> scheduledExpiration = this.executor.schedule(expiration::expire, toNanos(timeout),
+			TimeUnit.NANOSECONDS);
+		this.currentExpiration.set(expiration);
+
+		T result = null;
+		Throwable failure = null;
+		try {
+			result = callable.call();
+		}
+		catch (Throwable throwable) {
+			rethrowIfBlacklisted(throwable);
+			failure = throwable;
+		}
+		finally {
+			scheduledExpiration.cancel(false);
+			restoreCurrentExpiration(expiration.parent);
+		}
+
+		if (expiration.finish()) {
+			// clear the interrupt caused by the watchdog
+			Thread.interrupted();
+			ExecutionTimeoutException exception = new ExecutionTimeoutException(
+				descriptionSupplier.get() + " timed out after " + format(timeout), expiration.stackTrace,
+				expiration.threadDump);
+			if (failure != null) {
+				exception.addSuppressed(failure);
+			}
+			throw exception;
+		}
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+		return result;
+	}
+
+	/**
+	 * Determine whether the timeout of an execution that is currently in
+	 * progress in the calling thread has expired.
+	 *
+	 * <p>Callers executing multiple steps within a single timeout may use this
+	 * method to stop early once the timeout has expired, since the interrupt
+	 * caused by the expiration may already have been consumed by a previous
+	 * step.
+	 *
+	 * @return {@code true} if the timeout of the innermost execution in the
+	 * calling thread or of any execution enclosing it has expired
+	 */
+	public boolean hasTimedOut() {
+		for (Expiration expiration = this.currentExpiration.get(); expiration != null; expiration = expiration.parent) {
+			if (expiration.isExpired()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void restoreCurrentExpiration(Expiration expiration) {
+		if (expiration == null) {
+			this.currentExpiration.remove();
+		}
+		else {
+			this.currentExpiration.set(expiration);
+		}
+	}
+
+	/**
+	 * Convert the supplied duration to nanoseconds, saturating at
+	 * {@link Long#MAX_VALUE} (roughly 292 years) instead of overflowing.
+	 */
+	static long toNanos(Duration duration) {
+		try {
+			return duration.toNanos();
+		}
+		catch (ArithmeticException ex) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	static String format(Duration duration) {
+		if (duration.getNano() == 0) {
+			return duration.getSeconds() + " s";
+		}
+		long nanos = toNanos(duration);
+		if (nanos == Long.MAX_VALUE) {
+			return duration.toString();
+		}
+		if (nanos % 1_000_000L == 0) {
+			return (nanos / 1_000_000L) + " ms";
+		}
+		return nanos + " ns";
+	}
+
+	private static String dumpAllThreads() {
+		StringBuilder builder = new StringBuilder();
+		for (Map.Entry<Thread, StackTraceElement[]> entry : Thread.getAllStackTraces().entrySet()) {
+			Thread thread = entry.getKey();
+			builder.append('"').append(thread.getName()).append('"');
+			if (thread.isDaemon()) {
+				builder.append(" daemon");
+			}
+			builder.append(" prio=").append(thread.getPriority());
+			builder.append(" Id=").append(thread.getId());
+			builder.append(' ').append(thread.getState()).append('\n');
+			for (StackTraceElement element : entry.getValue()) {
+				builder.append("\tat ").append(element).append('\n');
+			}
+			builder.append('\n');
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Expiration of a single timeout that interrupts the timed out thread
+	 * unless its execution has already finished.
+	 */
+	private static final class Expiration {
+
+		private final Thread thread;
+		final Expiration parent;
+		private boolean finished;
+		private boolean expired;
+		StackTraceElement[] stackTrace;
+		String threadDump;
+
+		Expiration(Thread thread, Expiration parent) {
+			this.thread = thread;
+			this.parent = parent;
+		}
+
+		synchronized void expire() {
+			if (!this.finished) {
+				this.expired = true;
+				this.stackTrace = this.thread.getStackTrace();
+				this.threadDump = dumpAllThreads();
+				this.thread.interrupt();
+			}
+		}
+
+		synchronized boolean isExpired() {
+			return this.expired;
+		}
+
+		/**
+		 * Mark the execution as finished.
+		 *
+		 * @return {@code true} if the timeout expired before the execution
+		 * finished
+		 */
+		synchronized boolean finish() {
+			this.finished = true;
+			return this.expired;
+		}
+
+	}
+
+}
@@ -62,6 +62,59 @@ class JUnitPlatformExtension {
 		}
 	}
 
+	/**
+	 * The file to which the execution of all tests and containers is written
+	 * in the Trace Event Format, which can be opened in {@code chrome://tracing}
+	 * or Perfetto.
+	 *
+	 * <p>Defaults to {@code null}, in which case no trace file is written.
+	 */
+	File traceFile
+
+	/**
+	 * Accepts a path to the traceFile. If the object is a {@link java.io.File} it
+	 * will be used as is. If the object is anything else, it will convert to File
+	 * automatically using {@link org.gradle.api.Project#file(Object)}
+	 */
+	void setTraceFile(Object traceFile) {
+		if (traceFile == null || traceFile instanceof File) {
+			this.traceFile = traceFile
+		} else {
+			this.traceFile = project.file(traceFile)
+		}
+	}
+
+	/**
+	 * The number of failed tests and containers after which the execution is
+	 * cancelled; all remaining tests and containers are reported as skipped.
+	 *
+	 * <p>Defaults to {@code null}, in which case all tests are executed
+	 * regardless of failures.
+	 */
+	Integer failFast
+
+	/**
+	 * The result history file that is used to run tests that failed in
+	 * previous runs and tests in recently changed classes first.
+	 *
+	 * <p>Defaults to {@code null}, in which case tests are executed in the
+	 * order in which they have been discovered.
+	 */
+	File resultHistoryFile
+
+	/**
+	 * Accepts a path to the resultHistoryFile. If the object is a {@link java.io.File}
+	 * it will be used as is. If the object is anything else, it will convert to File
+	 * automatically using {@link org.gradle.api.Project#file(Object)}
+	 */
+	void setResultHistoryFile(Object resultHistoryFile) {
+		if (resultHistoryFile == null || resultHistoryFile instanceof File) {
+			this.resultHistoryFile = resultHistoryFile
+		} else {
+			this.resultHistoryFile = project.file(resultHistoryFile)
+		}
+	}
+
 	/**
 	 * Whether or not the standard Gradle {@code test} task should be enabled.
 	 *
@@ -94,6 +94,15 @@ class JUnitPlatformPlugin implements Plugin<Project> {
 
 			def reportsDir = junitExtension.reportsDir ?: project.file("$project.buildDir/test-results/junit-platform")
 			outputs.dir reportsDir
+			if (junitExtension.traceFile) {
+				outputs.file junitExtension.traceFile
+			}
+			if (junitExtension.failFast) {
+				inputs.property('failFast', junitExtension.failFast)
+			}
+			if (junitExtension.resultHistoryFile) {
+				outputs.file junitExtension.resultHistoryFile
+			}
 
 			if (junitExtension.logManager) {
 				systemProperty 'java.util.logging.manager', junitExtension.logManager
@@ -139,6 +148,21 @@ class JUnitPlatformPlugin implements Plugin<Project> {
 		args.add('--reports-dir')
 		args.add(reportsDir.getAbsolutePath())
 
+		if (junitExtension.traceFile) {
+			args.add('--trace-file')
+			args.add(junitExtension.traceFile.getAbsolutePath())
+		}
+
+		if (junitExtension.failFast) {
+			args.add('--fail-fast')
+			args.add(junitExtension.failFast.toString())
+		}
+
+		if (junitExtension.resultHistoryFile) {
+			args.add('--result-history')
+			args.add(junitExtension.resultHistoryFile.getAbsolutePath())
+		}
+
 		return args
 	}
 
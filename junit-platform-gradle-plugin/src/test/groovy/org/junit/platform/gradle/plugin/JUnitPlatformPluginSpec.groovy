@@ -196,6 +196,63 @@ class JUnitPlatformPluginSpec extends Specification {
 		junitTask.args.containsAll('--reports-dir', new File(project.buildDir, 'foo/bar/baz').getCanonicalFile().toString())
 	}
 
+	def "trace file is passed to the ConsoleLauncher if configured"() {
+		given:
+		project.apply plugin: 'org.junit.platform.gradle.plugin'
+
+		when:
+		project.junitPlatform {
+			traceFile = "$project.buildDir/trace/junit.json"
+		}
+		project.evaluate()
+
+		then:
+		Task junitTask = project.tasks.findByName('junitPlatformTest')
+		junitTask.args.containsAll('--trace-file', new File(project.buildDir, 'trace/junit.json').getCanonicalFile().toString())
+	}
+
+	def "trace file is not passed to the ConsoleLauncher by default"() {
+		given:
+		project.apply plugin: 'org.junit.platform.gradle.plugin'
+
+		when:
+		project.evaluate()
+
+		then:
+		Task junitTask = project.tasks.findByName('junitPlatformTest')
+		!junitTask.args.contains('--trace-file')
+	}
+
+	def "fail-fast threshold and result history file are passed to the ConsoleLauncher if configured"() {
+		given:
+		project.apply plugin: 'org.junit.platform.gradle.plugin'
+
+		when:
+		project.junitPlatform {
+			failFast = 3
+			resultHistoryFile = "$project.buildDir/junit-history.txt"
+		}
+		project.evaluate()
+
+		then:
+		Task junitTask = project.tasks.findByName('junitPlatformTest')
+		junitTask.args.containsAll('--fail-fast', '3')
+		junitTask.args.containsAll('--result-history', new File(project.buildDir, 'junit-history.txt').getCanonicalFile().toString())
+	}
+
+	def "fail-fast threshold and result history file are not passed to the ConsoleLauncher by default"() {
+		given:
+		project.apply plugin: 'org.junit.platform.gradle.plugin'
+
+		when:
+		project.evaluate()
+
+		then:
+		Task junitTask = project.tasks.findByName('junitPlatformTest')
+		!junitTask.args.contains('--fail-fast')
+		!junitTask.args.contains('--result-history')
+	}
+
 	def "selectors can be specified"() {
 		given:
 		project.apply plugin: 'org.junit.platform.gradle.plugin'
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import org.junit.platform.commons.meta.API;
+
+/**
+ * Collection of constants related to the {@link Launcher}.
+ *
+ * @since 1.0
+ * @see org.junit.platform.engine.ConfigurationParameters
+ */
+@API(Experimental)
+public final class LauncherConstants {
+
+	/**
+	 * Property name used to enable the compact storage mode of the
+	 * {@link TestPlan}: {@value}
+	 *
+	 * <p>In compact mode, a test plan does not retain the
+	 * {@link TestIdentifier TestIdentifiers} that are added to it. Instead, it
+	 * stores their attributes in index-based columns, shares equal tag sets
+	 * and sources between identifiers, and materializes a new identifier view
+	 * whenever one is requested. This considerably reduces the memory footprint
+	 * of test plans with a very large number of tests at the cost of additional
+	 * short-lived allocations when the plan is queried.
+	 *
+	 * <p>The default behavior is not to use compact storage.
+	 */
+	public static final String TEST_PLAN_COMPACT_STORAGE_ENABLED_PROPERTY_NAME = "junit.testplan.compact.enabled";
+
+	/**
+	 * Property name used to enable streaming of dynamic tests: {@value}
+	 *
+	 * <p>When enabled, the {@link Launcher} removes each dynamic test from the
+	 * {@link TestPlan} as soon as all {@link TestExecutionListener
+	 * TestExecutionListeners} have been notified that its execution finished
+	 * or was skipped. The memory retained by the test plan is then bounded by
+	 * the number of dynamic tests executing at the same time rather than the
+	 * total number of dynamic tests. Consequently, listeners must not query
+	 * the test plan for dynamic tests that have already finished &mdash; for
+	 * example, via {@link TestPlan#getChildren(TestIdentifier)} after the
+	 * enclosing container has finished.
+	 *
+	 * <p>Test engines may honor the same configuration parameter in order to
+	 * release the resources of finished dynamic tests themselves.
+	 *
+	 * <p>The default behavior is to retain all dynamic tests.
+	 */
+	public static final String DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME = "junit.dynamictests.streaming.enabled";
+
+	/**
+	 * Property name used to enable fail-fast execution: {@value}
+	 *
+	 * <p>The value is the number of failed tests and containers after which
+	 * the {@link Launcher} cancels the execution of the test plan. All tests
+	 * and containers that have not been started at that point are reported as
+	 * {@linkplain TestExecutionListener#executionSkipped skipped}. The value
+	 * must be a positive integer.
+	 *
+	 * <p>Test engines that do not honor the
+	 * {@link org.junit.platform.engine.CancellationToken CancellationToken} of
+	 * their execution request finish their current execution; only engines
+	 * that have not been started yet are skipped entirely.
+	 *
+	 * <p>The default behavior is to execute all tests regardless of failures.
+	 */
+	public static final String FAIL_FAST_THRESHOLD_PROPERTY_NAME = "junit.failfast.threshold";
+
+	/**
+	 * Property name used to configure the result history file, which enables
+	 * failed-first execution ordering: {@value}
+	 *
+	 * <p>When configured, the {@link Launcher} orders the tests and containers
+	 * at every level of the test plan so that those that failed in a previous
+	 * execution run first, followed by those whose class file has been
+	 * modified since the previous execution, followed by all others in their
+	 * original order. When the execution of the test plan finishes, the
+	 * history file is updated: tests and containers that failed are added,
+	 * those that succeeded or were aborted are removed, and the status of
+	 * those that were not executed is retained.
+	 *
+	 * <p>Whether the reordered children are actually executed in that order
+	 * is up to each test engine. The JUnit Vintage engine, for example, only
+	 * honors the order of test classes; the methods within a class are
+	 * executed in the order determined by their JUnit 4 runner.
+	 *
+	 * <p>The default behavior is to execute tests in the order in which they
+	 * have been discovered and not to record a result history.
+	 */
+	public static final String RESULT_HISTORY_FILE_PROPERTY_NAME = "junit.resulthistory.file";
+
+	/**
+	 * Property name used to supply the instant at which the current run
+	 * started: {@value}
+	 *
+	 * <p>The value must be an ISO-8601 instant such as
+	 * {@code 2017-05-01T10:15:30Z}. Tools that execute a single run via
+	 * several executions of the {@link Launcher} &mdash; for example, one per
+	 * test class &mdash; should supply the same instant for each of them, so
+	 * that all executions determine the classes that have been modified
+	 * since the previous run instead of since the preceding execution of the
+	 * same run. Only used in conjunction with
+	 * {@link #RESULT_HISTORY_FILE_PROPERTY_NAME}.
+	 *
+	 * <p>The default is the instant the execution of the test plan starts.
+	 */
+	public static final String RESULT_HISTORY_RUN_PROPERTY_NAME = "junit.resulthistory.run";
+
+	private LauncherConstants() {
+		/* no-op */
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+import org.junit.platform.engine.TestTag;
+
+/**
+ * Immutable Euler-tour index over the tree of a {@link TestIdentifierStore}.
+ *
+ * <p>All indices of the store are laid out in depth-first pre-order. The
+ * descendants of an index then occupy the contiguous range of positions
+ * between its <em>enter</em> (exclusive) and <em>exit</em> (exclusive)
+ * positions. For each supported filter, the matching positions are kept in a
+ * sorted array so that the descendants matching a filter can be located with
+ * two binary searches and visited in time proportional to the result.
+ *
+ * <p>A {@code SubtreeIndex} is a snapshot. The store keeps track of the
+ * indices that have been added or removed since it was built and only
+ * discards it once a significant fraction of them has changed.
+ *
+ * @since 1.0
+ */
+final class SubtreeIndex {
+
+	private final int[] order;
+	private final int[] enter;
+	private final int[] exit;
+	private final int[] testPositions;
+	private final int[] containerPositions;
+	private final IntFunction<Set<TestTag>> tagsOfIndex;
+	private final Map<TestTag, int[]> tagPositions = new HashMap<>();
+
+	/**
+	 * Build a new index.
+	 *
+	 * @param size the number of indices in the store
+	 * @param parents the parent index of each index
+	 * @param children the child indices of each index
+	 * @param childCounts the number of valid entries in each child array
+	 * @param present whether an index represents an identifier that has
+	 * been added to the store
+	 * @param isTest whether an index represents a test
+	 * @param isContainer whether an index represents a container
+	 * @param tagsOfIndex the tags of an index
+	 */
+	SubtreeIndex(int size, int[] parents, int[][] children, int[] childCounts, IntPredicate present,
+			IntPredicate isTest, IntPredicate isContainer, IntFunction<Set<TestTag>> tagsOfIndex) {
+		this.order = new int[size];
+		this.enter = new int[size];
+		this.exit = new int[size];
+		this.tagsOfIndex = tagsOfIndex;
+
+		int[] nodeStack = new int[size];
+		int[] childStack = new int[size];
+		int position = 0;
+		for (int start = 0; start < size; start++) {
+			if (parents[start] != TestIdentifierStore.NOT_FOUND) {
+				continue;
+			}
+			int depth = 0;
+			nodeStack[0] = start;
+			childStack[0] = 0;
+			this.enter[start] = position;
+			this.order[position++] = start;
+			while (depth >= 0) {
+				int node = nodeStack[depth];
+				if (childStack[depth] < childCounts[node]) {
+					int child = children[node][childStack[depth]++];
+					this.enter[child] = position;
+					this.order[position++] = child;
+					nodeStack[++depth] = child;
+					childStack[depth] = 0;
+				}
+				else {
+					this.exit[node] = position;
+					depth--;
+				}
+			}
+		}
+
+		this.testPositions = positionsMatching(index -> present.test(index) && isTest.test(index));
+		this.containerPositions = positionsMatching(index -> present.test(index) && isContainer.test(index));
+	}
+
+	/**
+	 * Get the number of indices of the store at the time this index was built.
+	 */
+	int size() {
+		return this.order.length;
+	}
+
+	void forEachTest(int parent, IntConsumer action) {
+		forEach(parent, this.testPositions, action);
+	}
+
+	void forEachContainer(int parent, IntConsumer action) {
+		forEach(parent, this.containerPositions, action);
+	}
+
+	void forEachWithTag(int parent, TestTag tag, IntConsumer action) {
+		forEach(parent, tagPositions(tag), action);
+	}
+
+	private synchronized int[] tagPositions(TestTag tag) {
+		return this.tagPositions.computeIfAbsent(tag,
+			key -> positionsMatching(index -> this.tagsOfIndex.apply(index).contains(key)));
+	}
+
+	private int[] positionsMatching(IntPredicate predicate) {
+		int[] positions = new int[16];
+		int count = 0;
+		for (int position = 0; position < this.order.length; position++) {
+			if (predicate.test(this.order[position])) {
+				if (count == positions.length) {
+					positions = Arrays.copyOf(positions, count * 2);
+				}
+				positions[count++] = position;
+			}
+		}
+		return Arrays.copyOf(positions, count);
+	}
+
+	private void forEach(int parent, int[] positions, IntConsumer action) {
+		int end = lowerBound(positions, this.exit[parent]);
+		for (int i = lowerBound(positions, this.enter[parent] + 1); i < end; i++) {
+			action.accept(this.order[positions[i]]);
+		}
+	}
+
+	private static int lowerBound(int[] positions, int position) {
+		int index = Arrays.binarySearch(positions, position);
+		return index >= 0 ? index : -(index + 1);
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher;
 
+import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
@@ -66,16 +67,30 @@ public final class TestIdentifier implements Serializable {
 
 	TestIdentifier(String uniqueId, String displayName, TestSource source, Set<TestTag> tags, TestDescriptor.Type type,
 			String parentId, String legacyReportingName) {
+		this(uniqueId, displayName, source, type, parentId, legacyReportingName, copyOf(tags));
+	}
+
+	/**
+	 * Create a new identifier that uses the supplied, already immutable set
+	 * of tags as is &mdash; for example, a tag set that is shared between
+	 * multiple identifiers of a {@link TestPlan}.
+	 */
+	TestIdentifier(String uniqueId, String displayName, TestSource source, TestDescriptor.Type type, String parentId,
+			String legacyReportingName, Set<TestTag> immutableTags) {
 		Preconditions.notNull(type, "TestDescriptor.Type must not be null");
 		this.uniqueId = uniqueId;
 		this.parentId = parentId;
 		this.displayName = displayName;
 		this.source = source;
-		this.tags = unmodifiableSet(new LinkedHashSet<>(tags));
+		this.tags = immutableTags;
 		this.type = type;
 		this.legacyReportingName = legacyReportingName;
 	}
 
+	static Set<TestTag> copyOf(Set<TestTag> tags) {
+		return tags.isEmpty() ? emptySet() : unmodifiableSet(new LinkedHashSet<>(tags));
+	}
+
 	/**
 	 * Get the unique ID of the represented test or container.
 	 *
@@ -0,0 +1,591 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * Index-based storage for the {@link TestIdentifier TestIdentifiers} of a
+ * {@link TestPlan}.
+ *
+ * <p>Every unique ID that is added to the store &mdash; or referenced as the
+ * parent ID of an added identifier &mdash; is assigned a dense {@code int}
+ * index. The tree structure is kept in primitive arrays of parent and child
+ * indices, and unique IDs are looked up in an open-addressing hash table of
+ * indices instead of a map of boxed entries. Parent IDs are therefore shared
+ * with the unique ID of the parent rather than stored per identifier.
+ *
+ * <p>By default, the added identifiers are retained as is. In <em>compact</em>
+ * mode, the attributes of an added identifier are decomposed into columns
+ * &mdash; with equal tag sets and sources shared between identifiers &mdash;
+ * and {@link TestIdentifier} views are materialized lazily on each lookup.
+ *
+ * <p>The number of tests and containers below each index is maintained as
+ * identifiers are added and removed. Other descendant queries are answered
+ * from a {@link SubtreeIndex} together with the indices that have changed
+ * since it was built; see {@link #forEachDescendantTest(int, IntConsumer)}.
+ *
+ * <p>Identifiers without children may be {@linkplain #remove(int) removed}
+ * again, for example once a dynamic test has finished. The index of a removed
+ * identifier is released and reused for the next unique ID that is added, so
+ * that the size of the store is bounded by the number of identifiers that are
+ * present at the same time.
+ *
+ * <p>All methods are {@code synchronized} since dynamic tests may be added
+ * while listeners query the test plan.
+ *
+ * @since 1.0
+ */
+final class TestIdentifierStore {
+
+	static final int NOT_FOUND = -1;
+
+	private static final int INITIAL_CAPACITY = 32;
+
+	/**
+	 * Minimum number of changed indices that is tolerated before the
+	 * {@link SubtreeIndex} is discarded; the actual limit grows with the size
+	 * of the store so that rebuilding the index is amortized over the changes.
+	 */
+	private static final int MIN_CHANGES_BEFORE_REBUILD = 64;
+
+	private static final TestDescriptor.Type[] TYPES = TestDescriptor.Type.values();
+
+	/**
+	 * Type ordinal of an index that has only been referenced as a parent
+	 * but whose identifier has not been added yet.
+	 */
+	private static final byte ABSENT = -1;
+
+	/**
+	 * Type ordinal of an index that has been released and may be reused.
+	 */
+	private static final byte FREE = -2;
+
+	private final boolean compact;
+
+	private int size;
+	private String[] uniqueIds;
+	private int[] parents;
+	private int[][] children;
+	private int[] childCounts;
+	private byte[] types;
+	private int[] testCounts;
+	private int[] containerCounts;
+	private int[] hashTable;
+	private int[] roots = new int[4];
+	private int rootCount;
+	private int[] freeIndices = new int[4];
+	private int freeCount;
+
+	// default mode
+	private TestIdentifier[] identifiers;
+
+	// compact mode
+	private String[] displayNames;
+	private String[] legacyReportingNames;
+	private TestSource[] sources;
+	private int[] tagSetIndices;
+	private final List<Set<TestTag>> sharedTagSets = new ArrayList<>();
+	private final Map<Set<TestTag>, Integer> sharedTagSetIndices = new HashMap<>();
+	private final Map<TestSource, TestSource> sharedSources = new HashMap<>();
+
+	private SubtreeIndex subtreeIndex;
+
+	/**
+	 * Indices that have been allocated or removed since the current
+	 * {@link SubtreeIndex} was built, and whose entries in it &mdash; if any
+	 * &mdash; are therefore outdated, in the order in which they changed.
+	 * An index that is reallocated is appended again; the one-based position
+	 * of its most recent entry is kept in {@link #changedPositions}, which is
+	 * {@code 0} for indices that have not changed.
+	 */
+	private int[] changedIndices = new int[16];
+	private int changedCount;
+	private int[] changedPositions;
+
+	TestIdentifierStore(boolean compact) {
+		this.compact = compact;
+		this.uniqueIds = new String[INITIAL_CAPACITY];
+		this.parents = new int[INITIAL_CAPACITY];
+		this.children = new int[INITIAL_CAPACITY][];
+		this.childCounts = new int[INITIAL_CAPACITY];
+		this.types = new byte[INITIAL_CAPACITY];
+		this.testCounts = new int[INITIAL_CAPACITY];
+		this.containerCounts = new int[INITIAL_CAPACITY];
+		this.changedPositions = new int[INITIAL_CAPACITY];
+		this.hashTable = new int[INITIAL_CAPACITY * 2];
+		if (compact) {
+			this.displayNames = new String[INITIAL_CAPACITY];
+			this.legacyReportingNames = new String[INITIAL_CAPACITY];
+			this.sources = new TestSource[INITIAL_CAPACITY];
+			this.tagSetIndices = new int[INITIAL_CAPACITY];
+		}
+		else {
+			this.identifiers = new TestIdentifier[INITIAL_CAPACITY];
+		}
+	}
+
+	synchronized void add(TestIdentifier testIdentifier) {
+		String uniqueId = testIdentifier.getUniqueId();
+		int index = indexOf(uniqueId);
+		if (index == NOT_FOUND) {
+			index = allocate(uniqueId);
+		}
+		else if (isIndexed(index)) {
+			// laid out with a different parent, type, or tags
+			discardSubtreeIndex();
+		}
+		if (this.types[index] == ABSENT) {
+			String parentId = testIdentifier.getParentId().orElse(null);
+			if (parentId != null) {
+				int parent = indexOf(parentId);
+				if (parent == NOT_FOUND) {
+					parent = allocate(parentId);
+				}
+				this.parents[index] = parent;
+				appendChild(parent, index);
+				// descendants that were added before this identifier
+				updateAncestorCounts(index, this.testCounts[index], this.containerCounts[index]);
+			}
+			else {
+				appendRoot(index);
+			}
+		}
+		else {
+			updateAncestorCounts(index, -testCount(index), -containerCount(index));
+		}
+		this.types[index] = (byte) testIdentifier.getType().ordinal();
+		updateAncestorCounts(index, testCount(index), containerCount(index));
+		if (this.compact) {
+			String displayName = testIdentifier.getDisplayName();
+			String legacyReportingName = testIdentifier.getLegacyReportingName();
+			this.displayNames[index] = displayName;
+			this.legacyReportingNames[index] = displayName != null && displayName.equals(legacyReportingName) ? null
+					: legacyReportingName;
+			this.sources[index] = testIdentifier.getSource().map(this::share).orElse(null);
+			this.tagSetIndices[index] = shareTags(testIdentifier.getTags());
+		}
+		else {
+			this.identifiers[index] = testIdentifier;
+		}
+	}
+
+	synchronized int indexOf(String uniqueId) {
+		int mask = this.hashTable.length - 1;
+		for (int slot = spread(uniqueId.hashCode()) & mask;; slot = (slot + 1) & mask) {
+			int entry = this.hashTable[slot];
+			if (entry == 0) {
+				return NOT_FOUND;
+			}
+			if (this.uniqueIds[entry - 1].equals(uniqueId)) {
+				return entry - 1;
+			}
+		}
+	}
+
+	synchronized boolean isPresent(int index) {
+		return index != NOT_FOUND && this.types[index] >= 0;
+	}
+
+	synchronized TestIdentifier get(int index) {
+		if (!this.compact) {
+			return this.identifiers[index];
+		}
+		int parent = this.parents[index];
+		String legacyReportingName = this.legacyReportingNames[index];
+		return new TestIdentifier(this.uniqueIds[index], this.displayNames[index], this.sources[index],
+			TYPES[this.types[index]], parent == NOT_FOUND ? null : this.uniqueIds[parent],
+			legacyReportingName != null ? legacyReportingName : this.displayNames[index],
+			this.sharedTagSets.get(this.tagSetIndices[index]));
+	}
+
+	synchronized void forEachRoot(Consumer<TestIdentifier> action) {
+		for (int i = 0; i < this.rootCount; i++) {
+			action.accept(get(this.roots[i]));
+		}
+	}
+
+	synchronized void forEachChild(int parent, Consumer<TestIdentifier> action) {
+		int[] childIndices = this.children[parent];
+		for (int i = 0; i < this.childCounts[parent]; i++) {
+			action.accept(get(childIndices[i]));
+		}
+	}
+
+	/**
+	 * Visit the descendants of the supplied parent in the order in which
+	 * {@link TestPlan#getDescendants} has always reported them: first all
+	 * children, then the descendants of each child.
+	 */
+	synchronized void forEachDescendant(int parent, Consumer<TestIdentifier> action) {
+		forEachChild(parent, action);
+		int[] childIndices = this.children[parent];
+		for (int i = 0; i < this.childCounts[parent]; i++) {
+			forEachDescendant(childIndices[i], action);
+		}
+	}
+
+	/**
+	 * Visit the ancestors of the supplied index, starting with its parent,
+	 * until reaching a root or a parent that has not been added yet.
+	 */
+	synchronized void forEachAncestor(int index, Consumer<TestIdentifier> action) {
+		for (int parent = this.parents[index]; isPresent(parent); parent = this.parents[parent]) {
+			action.accept(get(parent));
+		}
+	}
+
+	synchronized boolean isDescendant(int ancestor, int candidate) {
+		for (int parent = this.parents[candidate]; parent != NOT_FOUND; parent = this.parents[parent]) {
+			if (parent == ancestor) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the number of tests below the supplied index.
+	 */
+	synchronized int countDescendantTests(int parent) {
+		return this.testCounts[parent];
+	}
+
+	/**
+	 * Get the number of containers below the supplied index.
+	 */
+	synchronized int countDescendantContainers(int parent) {
+		return this.containerCounts[parent];
+	}
+
+	/**
+	 * Visit the tests below the supplied index.
+	 *
+	 * <p>Descendants that were already present when the {@link SubtreeIndex}
+	 * was last built are visited in depth-first order; descendants that have
+	 * been added since then follow in the order in which they were added.
+	 */
+	synchronized void forEachDescendantTest(int parent, IntConsumer action) {
+		forEachMatchingDescendant(parent, SubtreeIndex::forEachTest, index -> testCount(index) == 1, action);
+	}
+
+	/**
+	 * Visit the containers below the supplied index in the order described
+	 * for {@link #forEachDescendantTest(int, IntConsumer)}.
+	 */
+	synchronized void forEachDescendantContainer(int parent, IntConsumer action) {
+		forEachMatchingDescendant(parent, SubtreeIndex::forEachContainer, index -> containerCount(index) == 1, action);
+	}
+
+	/**
+	 * Visit the descendants of the supplied index that are tagged with the
+	 * supplied tag in the order described for
+	 * {@link #forEachDescendantTest(int, IntConsumer)}.
+	 */
+	synchronized void forEachDescendantWithTag(int parent, TestTag tag, IntConsumer action) {
+		forEachMatchingDescendant(parent,
+			(subtreeIndex, index, consumer) -> subtreeIndex.forEachWithTag(index, tag, consumer),
+			index -> tagsOf(index).contains(tag), action);
+	}
+
+	private void forEachMatchingDescendant(int parent, IndexedQuery indexedQuery, IntPredicate matches,
+			IntConsumer action) {
+
+		if (this.subtreeIndex == null) {
+			this.subtreeIndex = new SubtreeIndex(this.size, this.parents, this.children, this.childCounts,
+				index -> this.types[index] >= 0, index -> TYPES[this.types[index]].isTest(),
+				index -> TYPES[this.types[index]].isContainer(), this::tagsOf);
+		}
+		if (isIndexed(parent)) {
+			indexedQuery.forEach(this.subtreeIndex, parent, descendant -> {
+				if (this.changedPositions[descendant] == 0) {
+					action.accept(descendant);
+				}
+			});
+		}
+		for (int i = 0; i < this.changedCount; i++) {
+			int candidate = this.changedIndices[i];
+			if (this.changedPositions[candidate] == i + 1 && isPresent(candidate) && matches.test(candidate)
+					&& isDescendant(parent, candidate)) {
+				action.accept(candidate);
+			}
+		}
+	}
+
+	synchronized void forEach(Consumer<TestIdentifier> action) {
+		for (int index = 0; index < this.size; index++) {
+			if (this.types[index] >= 0) {
+				action.accept(get(index));
+			}
+		}
+	}
+
+	/**
+	 * Remove the identifier at the supplied index, which must not have any
+	 * children, and release the index for reuse.
+	 */
+	synchronized void remove(int index) {
+		Preconditions.condition(this.childCounts[index] == 0,
+			() -> "Cannot remove TestIdentifier with unique ID [" + this.uniqueIds[index] + "] since it has children.");
+		updateAncestorCounts(index, -testCount(index), -containerCount(index));
+		if (this.changedPositions[index] == 0) {
+			markChanged(index);
+		}
+		int parent = this.parents[index];
+		if (parent != NOT_FOUND) {
+			this.childCounts[parent] = removeFrom(this.children[parent], this.childCounts[parent], index);
+		}
+		else {
+			this.rootCount = removeFrom(this.roots, this.rootCount, index);
+		}
+		delete(index);
+		this.uniqueIds[index] = null;
+		this.parents[index] = NOT_FOUND;
+		this.children[index] = null;
+		this.types[index] = FREE;
+		this.testCounts[index] = 0;
+		this.containerCounts[index] = 0;
+		if (this.compact) {
+			this.displayNames[index] = null;
+			this.legacyReportingNames[index] = null;
+			this.sources[index] = null;
+		}
+		else {
+			this.identifiers[index] = null;
+		}
+		if (this.freeCount == this.freeIndices.length) {
+			this.freeIndices = Arrays.copyOf(this.freeIndices, this.freeCount * 2);
+		}
+		this.freeIndices[this.freeCount++] = index;
+	}
+
+	private synchronized Set<TestTag> tagsOf(int index) {
+		if (this.types[index] < 0) {
+			return Collections.emptySet();
+		}
+		return this.compact ? this.sharedTagSets.get(this.tagSetIndices[index]) : this.identifiers[index].getTags();
+	}
+
+	/**
+	 * Determine if the supplied index has been laid out in the current
+	 * {@link SubtreeIndex} and has not changed since.
+	 */
+	private boolean isIndexed(int index) {
+		return this.subtreeIndex != null && index < this.subtreeIndex.size() && this.changedPositions[index] == 0;
+	}
+
+	/**
+	 * Record that the entry of the supplied index in the current
+	 * {@link SubtreeIndex} is outdated, discarding the index once so many
+	 * indices have changed that rebuilding it is cheaper than visiting them
+	 * on every query.
+	 */
+	private void markChanged(int index) {
+		if (this.subtreeIndex == null) {
+			return;
+		}
+		if (this.changedCount >= Math.max(MIN_CHANGES_BEFORE_REBUILD, this.size >>> 3)) {
+			discardSubtreeIndex();
+			return;
+		}
+		if (this.changedCount == this.changedIndices.length) {
+			this.changedIndices = Arrays.copyOf(this.changedIndices, this.changedCount * 2);
+		}
+		this.changedIndices[this.changedCount++] = index;
+		this.changedPositions[index] = this.changedCount;
+	}
+
+	private void discardSubtreeIndex() {
+		for (int i = 0; i < this.changedCount; i++) {
+			this.changedPositions[this.changedIndices[i]] = 0;
+		}
+		this.subtreeIndex = null;
+		this.changedCount = 0;
+	}
+
+	private int testCount(int index) {
+		return this.types[index] >= 0 && TYPES[this.types[index]].isTest() ? 1 : 0;
+	}
+
+	private int containerCount(int index) {
+		return this.types[index] >= 0 && TYPES[this.types[index]].isContainer() ? 1 : 0;
+	}
+
+	/**
+	 * Add the supplied numbers of tests and containers to the counts of all
+	 * ancestors of the supplied index.
+	 */
+	private void updateAncestorCounts(int index, int tests, int containers) {
+		if (tests == 0 && containers == 0) {
+			return;
+		}
+		for (int parent = this.parents[index]; parent != NOT_FOUND; parent = this.parents[parent]) {
+			this.testCounts[parent] += tests;
+			this.containerCounts[parent] += containers;
+		}
+	}
+
+	private int allocate(String uniqueId) {
+		if (this.freeCount > 0) {
+			int index = this.freeIndices[--this.freeCount];
+			this.uniqueIds[index] = uniqueId;
+			this.types[index] = ABSENT;
+			insert(index);
+			markChanged(index);
+			return index;
+		}
+		if (this.size == this.uniqueIds.length) {
+			grow();
+		}
+		int index = this.size++;
+		this.uniqueIds[index] = uniqueId;
+		this.parents[index] = NOT_FOUND;
+		this.types[index] = ABSENT;
+		if (this.size * 2 > this.hashTable.length) {
+			this.hashTable = new int[this.hashTable.length * 2];
+			for (int i = 0; i < this.size; i++) {
+				if (this.uniqueIds[i] != null) {
+					insert(i);
+				}
+			}
+		}
+		else {
+			insert(index);
+		}
+		markChanged(index);
+		return index;
+	}
+
+	private void insert(int index) {
+		int mask = this.hashTable.length - 1;
+		int slot = spread(this.uniqueIds[index].hashCode()) & mask;
+		while (this.hashTable[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		this.hashTable[slot] = index + 1;
+	}
+
+	/**
+	 * Delete the supplied index from the hash table, shifting subsequent
+	 * entries of the same probe sequence back into the vacated slot.
+	 */
+	private void delete(int index) {
+		int mask = this.hashTable.length - 1;
+		int gap = spread(this.uniqueIds[index].hashCode()) & mask;
+		while (this.hashTable[gap] != index + 1) {
+			gap = (gap + 1) & mask;
+		}
+		for (int slot = (gap + 1) & mask; this.hashTable[slot] != 0; slot = (slot + 1) & mask) {
+			int entry = this.hashTable[slot];
+			int home = spread(this.uniqueIds[entry - 1].hashCode()) & mask;
+			if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+				this.hashTable[gap] = entry;
+				gap = slot;
+			}
+		}
+		this.hashTable[gap] = 0;
+	}
+
+	private void grow() {
+		int capacity = this.uniqueIds.length * 2;
+		this.uniqueIds = Arrays.copyOf(this.uniqueIds, capacity);
+		this.parents = Arrays.copyOf(this.parents, capacity);
+		this.children = Arrays.copyOf(this.children, capacity);
+		this.childCounts = Arrays.copyOf(this.childCounts, capacity);
+		this.types = Arrays.copyOf(this.types, capacity);
+		this.testCounts = Arrays.copyOf(this.testCounts, capacity);
+		this.containerCounts = Arrays.copyOf(this.containerCounts, capacity);
+		this.changedPositions = Arrays.copyOf(this.changedPositions, capacity);
+		if (this.compact) {
+			this.displayNames = Arrays.copyOf(this.displayNames, capacity);
+			this.legacyReportingNames = Arrays.copyOf(this.legacyReportingNames, capacity);
+			this.sources = Arrays.copyOf(this.sources, capacity);
+			this.tagSetIndices = Arrays.copyOf(this.tagSetIndices, capacity);
+		}
+		else {
+			this.identifiers = Arrays.copyOf(this.identifiers, capacity);
+		}
+	}
+
+	private void appendChild(int parent, int child) {
+		int[] childIndices = this.children[parent];
+		int count = this.childCounts[parent];
+		if (childIndices == null) {
+			childIndices = new int[4];
+		}
+		else if (count == childIndices.length) {
+			childIndices = Arrays.copyOf(childIndices, count * 2);
+		}
+		childIndices[count] = child;
+		this.children[parent] = childIndices;
+		this.childCounts[parent] = count + 1;
+	}
+
+	private void appendRoot(int index) {
+		if (this.rootCount == this.roots.length) {
+			this.roots = Arrays.copyOf(this.roots, this.rootCount * 2);
+		}
+		this.roots[this.rootCount++] = index;
+	}
+
+	private static int removeFrom(int[] indices, int count, int index) {
+		for (int i = count - 1; i >= 0; i--) {
+			if (indices[i] == index) {
+				System.arraycopy(indices, i + 1, indices, i, count - i - 1);
+				return count - 1;
+			}
+		}
+		return count;
+	}
+
+	private TestSource share(TestSource source) {
+		TestSource shared = this.sharedSources.putIfAbsent(source, source);
+		return shared != null ? shared : source;
+	}
+
+	private int shareTags(Set<TestTag> tags) {
+		Integer index = this.sharedTagSetIndices.get(tags);
+		if (index == null) {
+			index = this.sharedTagSets.size();
+			Set<TestTag> copy = TestIdentifier.copyOf(tags);
+			this.sharedTagSets.add(copy);
+			this.sharedTagSetIndices.put(copy, index);
+		}
+		return index;
+	}
+
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+	@FunctionalInterface
+	private interface IndexedQuery {
+
+		void forEach(SubtreeIndex subtreeIndex, int parent, IntConsumer action);
+
+	}
+
+}
@@ -10,25 +10,29 @@
 
 package org.junit.platform.launcher;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
 import static org.junit.platform.commons.meta.API.Usage.Experimental;
 import static org.junit.platform.commons.meta.API.Usage.Internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashSet;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
 
 import org.junit.platform.commons.meta.API;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestDescriptor.Visitor;
+import org.junit.platform.engine.TestTag;
 
 /**
  * {@code TestPlan} describes the tree of tests and containers as discovered
@@ -39,14 +43,28 @@ import org.junit.platform.engine.TestDescriptor.Visitor;
  * each identifier only stores the unique ID of its parent. This class provides
  * a number of helpful methods to retrieve the
  * {@linkplain #getParent(TestIdentifier) parent},
- * {@linkplain #getChildren(TestIdentifier) children}, and
- * {@linkplain #getDescendants(TestIdentifier) descendants} of an identifier.
+ * {@linkplain #getChildren(TestIdentifier) children},
+ * {@linkplain #getDescendants(TestIdentifier) descendants}, and
+ * {@linkplain #getAncestors(TestIdentifier) ancestors} of an identifier as
+ * well as indexed queries for the tests, containers, and tagged identifiers
+ * in the subtree below an identifier.
  *
  * <p>While the contained instances of {@link TestIdentifier} are immutable,
  * instances of this class contain mutable state. For example, when a dynamic
  * test is registered at runtime, it is added to the original test plan and
  * reported to {@link TestExecutionListener} implementations.
  *
+ * <p>For very large test plans, a compact storage mode can be enabled via the
+ * {@value LauncherConstants#TEST_PLAN_COMPACT_STORAGE_ENABLED_PROPERTY_NAME}
+ * configuration parameter. In this mode, the identifiers returned by a test
+ * plan are lazily materialized views that are equal to, but not necessarily
+ * the same instances as, the identifiers that were added to it.
+ *
+ * <p>If streaming of dynamic tests is enabled via the
+ * {@value LauncherConstants#DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME}
+ * configuration parameter, dynamic tests are removed from the test plan as
+ * soon as their execution has been reported as finished or skipped.
+ *
  * @since 1.0
  * @see Launcher
  * @see TestExecutionListener
@@ -54,11 +72,7 @@ import org.junit.platform.engine.TestDescriptor.Visitor;
 @API(Experimental)
 public final class TestPlan {
 
-	private final Set<TestIdentifier> roots = Collections.synchronizedSet(new LinkedHashSet<>(4));
-
-	private final Map<String, Set<TestIdentifier>> children = new ConcurrentHashMap<>(32);
-
-	private final Map<String, TestIdentifier> allIdentifiers = new ConcurrentHashMap<>(32);
+	private final TestIdentifierStore store;
 
 	/**
 	 * Construct a new {@code TestPlan} from the supplied collection of
@@ -73,15 +87,43 @@ public final class TestPlan {
 	 */
 	@API(Internal)
 	public static TestPlan from(Collection<TestDescriptor> engineDescriptors) {
+		return from(engineDescriptors, false);
+	}
+
+	/**
+	 * Construct a new {@code TestPlan} from the supplied collection of
+	 * {@link TestDescriptor TestDescriptors}, using the storage mode
+	 * configured via the supplied {@link ConfigurationParameters}.
+	 *
+	 * <p>Each supplied {@code TestDescriptor} is expected to be a descriptor
+	 * for a {@link org.junit.platform.engine.TestEngine TestEngine}.
+	 *
+	 * @param engineDescriptors the engine test descriptors from which the test
+	 * plan should be created; never {@code null}
+	 * @param configurationParameters the configuration parameters to consult;
+	 * never {@code null}
+	 * @return a new test plan
+	 * @see LauncherConstants#TEST_PLAN_COMPACT_STORAGE_ENABLED_PROPERTY_NAME
+	 */
+	@API(Internal)
+	public static TestPlan from(Collection<TestDescriptor> engineDescriptors,
+			ConfigurationParameters configurationParameters) {
+		Preconditions.notNull(configurationParameters, "ConfigurationParameters must not be null");
+		boolean compact = configurationParameters.getBoolean(
+			LauncherConstants.TEST_PLAN_COMPACT_STORAGE_ENABLED_PROPERTY_NAME).orElse(false);
+		return from(engineDescriptors, compact);
+	}
+
+	private static TestPlan from(Collection<TestDescriptor> engineDescriptors, boolean compact) {
 		Preconditions.notNull(engineDescriptors, "Cannot create TestPlan from a null collection of TestDescriptors");
-		TestPlan testPlan = new TestPlan();
+		TestPlan testPlan = new TestPlan(compact);
 		Visitor visitor = descriptor -> testPlan.add(TestIdentifier.from(descriptor));
 		engineDescriptors.forEach(engineDescriptor -> engineDescriptor.accept(visitor));
 		return testPlan;
 	}
 
-	private TestPlan() {
-		/* no-op */
+	private TestPlan(boolean compact) {
+		this.store = new TestIdentifierStore(compact);
 	}
 
 	/**
@@ -91,16 +133,23 @@ public final class TestPlan {
 	 */
 	public void add(TestIdentifier testIdentifier) {
 		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
-		allIdentifiers.put(testIdentifier.getUniqueId(), testIdentifier);
-		if (testIdentifier.getParentId().isPresent()) {
-			String parentId = testIdentifier.getParentId().get();
-			Set<TestIdentifier> directChildren = children.computeIfAbsent(parentId,
-				key -> Collections.synchronizedSet(new LinkedHashSet<>(16)));
-			directChildren.add(testIdentifier);
-		}
-		else {
-			roots.add(testIdentifier);
-		}
+		this.store.add(testIdentifier);
+	}
+
+	/**
+	 * Remove the supplied {@link TestIdentifier} from this test plan.
+	 *
+	 * <p>This is used to discard dynamic tests once they have finished; see
+	 * {@link LauncherConstants#DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME}.
+	 *
+	 * @param testIdentifier the identifier to remove; never {@code null}
+	 * @throws PreconditionViolationException if the identifier is not present
+	 * in this test plan or if it has children
+	 */
+	@API(Internal)
+	public void remove(TestIdentifier testIdentifier) throws PreconditionViolationException {
+		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
+		this.store.remove(indexOfPresent(testIdentifier.getUniqueId()));
 	}
 
 	/**
@@ -109,7 +158,9 @@ public final class TestPlan {
 	 * @return an unmodifiable set of the root identifiers
 	 */
 	public Set<TestIdentifier> getRoots() {
-		return unmodifiableSet(roots);
+		Set<TestIdentifier> result = new LinkedHashSet<>(4);
+		this.store.forEachRoot(result::add);
+		return unmodifiableSet(result);
 	}
 
 	/**
@@ -149,7 +200,13 @@ public final class TestPlan {
 	 */
 	public Set<TestIdentifier> getChildren(String parentId) {
 		Preconditions.notBlank(parentId, "parent ID must not be null or blank");
-		return children.containsKey(parentId) ? unmodifiableSet(children.get(parentId)) : emptySet();
+		int index = this.store.indexOf(parentId);
+		if (index == TestIdentifierStore.NOT_FOUND) {
+			return emptySet();
+		}
+		Set<TestIdentifier> result = new LinkedHashSet<>(16);
+		this.store.forEachChild(index, result::add);
+		return unmodifiableSet(result);
 	}
 
 	/**
@@ -163,9 +220,7 @@ public final class TestPlan {
 	 */
 	public TestIdentifier getTestIdentifier(String uniqueId) throws PreconditionViolationException {
 		Preconditions.notBlank(uniqueId, "unique ID must not be null or blank");
-		Preconditions.condition(allIdentifiers.containsKey(uniqueId),
-			() -> "No TestIdentifier with unique ID [" + uniqueId + "] has been added to this TestPlan.");
-		return allIdentifiers.get(uniqueId);
+		return this.store.get(indexOfPresent(uniqueId));
 	}
 
 	/**
@@ -178,7 +233,13 @@ public final class TestPlan {
 	 */
 	public long countTestIdentifiers(Predicate<? super TestIdentifier> predicate) {
 		Preconditions.notNull(predicate, "Predicate must not be null");
-		return allIdentifiers.values().stream().filter(predicate).count();
+		long[] count = new long[1];
+		this.store.forEach(testIdentifier -> {
+			if (predicate.test(testIdentifier)) {
+				count[0]++;
+			}
+		});
+		return count[0];
 	}
 
 	/**
@@ -190,13 +251,172 @@ public final class TestPlan {
 	 */
 	public Set<TestIdentifier> getDescendants(TestIdentifier parent) {
 		Preconditions.notNull(parent, "parent must not be null");
+		int index = this.store.indexOf(parent.getUniqueId());
+		if (index == TestIdentifierStore.NOT_FOUND) {
+			return emptySet();
+		}
 		Set<TestIdentifier> result = new LinkedHashSet<>(16);
-		Set<TestIdentifier> children = getChildren(parent);
-		result.addAll(children);
-		for (TestIdentifier child : children) {
-			result.addAll(getDescendants(child));
+		this.store.forEachDescendant(index, result::add);
+		return unmodifiableSet(result);
+	}
+
+	/**
+	 * Get all descendants of the supplied {@link TestIdentifier} that
+	 * {@linkplain TestIdentifier#isTest() represent tests}.
+	 *
+	 * <p>In contrast to filtering the result of
+	 * {@link #getDescendants(TestIdentifier)}, this query is answered from an
+	 * index over the subtrees of this test plan and therefore only visits the
+	 * matching identifiers. Identifiers that are added or removed afterwards
+	 * &mdash; for example, dynamic tests &mdash; are tracked separately, and
+	 * the index is only rebuilt once a significant fraction of this test plan
+	 * has changed.
+	 *
+	 * @param parent the identifier to look up the descendants for; never {@code null}
+	 * @return an unmodifiable set of the parent's descendant tests in
+	 * depth-first order, followed by descendants that have been added since
+	 * the index was last built in the order in which they were added;
+	 * potentially empty
+	 * @see #countDescendantTests(TestIdentifier)
+	 */
+	public Set<TestIdentifier> getDescendantTests(TestIdentifier parent) {
+		Preconditions.notNull(parent, "parent must not be null");
+		return collectFromSubtreeIndex(parent, this.store::forEachDescendantTest);
+	}
+
+	/**
+	 * Get all descendants of the supplied {@link TestIdentifier} that
+	 * {@linkplain TestIdentifier#isContainer() represent containers}.
+	 *
+	 * <p>This query is answered from an index over the subtrees of this test
+	 * plan; see {@link #getDescendantTests(TestIdentifier)} for details.
+	 *
+	 * @param parent the identifier to look up the descendants for; never {@code null}
+	 * @return an unmodifiable set of the parent's descendant containers in
+	 * the order described for {@link #getDescendantTests(TestIdentifier)},
+	 * potentially empty
+	 * @see #countDescendantContainers(TestIdentifier)
+	 */
+	public Set<TestIdentifier> getDescendantContainers(TestIdentifier parent) {
+		Preconditions.notNull(parent, "parent must not be null");
+		return collectFromSubtreeIndex(parent, this.store::forEachDescendantContainer);
+	}
+
+	/**
+	 * Get all descendants of the supplied {@link TestIdentifier} that are
+	 * tagged with the supplied {@link TestTag}.
+	 *
+	 * <p>This query is answered from an index over the subtrees of this test
+	 * plan; see {@link #getDescendantTests(TestIdentifier)} for details.
+	 *
+	 * @param parent the identifier to look up the descendants for; never {@code null}
+	 * @param tag the tag to look up; never {@code null}
+	 * @return an unmodifiable set of the parent's descendants with the
+	 * supplied tag in the order described for
+	 * {@link #getDescendantTests(TestIdentifier)}, potentially empty
+	 */
+	public Set<TestIdentifier> getDescendantsWithTag(TestIdentifier parent, TestTag tag) {
+		Preconditions.notNull(parent, "parent must not be null");
+		Preconditions.notNull(tag, "tag must not be null");
+		return collectFromSubtreeIndex(parent,
+			(parentIndex, action) -> this.store.forEachDescendantWithTag(parentIndex, tag, action));
+	}
+
+	/**
+	 * Count all descendants of the supplied {@link TestIdentifier} that
+	 * {@linkplain TestIdentifier#isTest() represent tests} (i.e., the number
+	 * of tests in the subtree below the supplied identifier).
+	 *
+	 * <p>This query is answered from counts that are maintained while
+	 * identifiers are added and removed, without visiting any identifiers.
+	 *
+	 * @param parent the identifier to count the descendant tests for; never {@code null}
+	 * @return the number of descendant tests
+	 * @see #getDescendantTests(TestIdentifier)
+	 */
+	public long countDescendantTests(TestIdentifier parent) {
+		Preconditions.notNull(parent, "parent must not be null");
+		int index = this.store.indexOf(parent.getUniqueId());
+		return index == TestIdentifierStore.NOT_FOUND ? 0 : this.store.countDescendantTests(index);
+	}
+
+	/**
+	 * Count all descendants of the supplied {@link TestIdentifier} that
+	 * {@linkplain TestIdentifier#isContainer() represent containers}.
+	 *
+	 * <p>This query is answered from counts that are maintained while
+	 * identifiers are added and removed, without visiting any identifiers.
+	 *
+	 * @param parent the identifier to count the descendant containers for;
+	 * never {@code null}
+	 * @return the number of descendant containers
+	 * @see #getDescendantContainers(TestIdentifier)
+	 */
+	public long countDescendantContainers(TestIdentifier parent) {
+		Preconditions.notNull(parent, "parent must not be null");
+		int index = this.store.indexOf(parent.getUniqueId());
+		return index == TestIdentifierStore.NOT_FOUND ? 0 : this.store.countDescendantContainers(index);
+	}
+
+	/**
+	 * Get all ancestors of the supplied {@link TestIdentifier} (i.e., its
+	 * parent, the parent's parent, and so on up to a root).
+	 *
+	 * @param child the identifier to look up the ancestors for; never {@code null}
+	 * @return an unmodifiable list of the child's ancestors, starting with
+	 * its parent; potentially empty
+	 */
+	public List<TestIdentifier> getAncestors(TestIdentifier child) {
+		Preconditions.notNull(child, "child must not be null");
+		int index = this.store.indexOf(child.getUniqueId());
+		if (index == TestIdentifierStore.NOT_FOUND) {
+			return emptyList();
+		}
+		List<TestIdentifier> result = new ArrayList<>();
+		this.store.forEachAncestor(index, result::add);
+		return unmodifiableList(result);
+	}
+
+	/**
+	 * Determine if the supplied candidate is a descendant of the supplied
+	 * ancestor in this test plan.
+	 *
+	 * @param ancestor the potential ancestor; never {@code null}
+	 * @param candidate the potential descendant; never {@code null}
+	 * @return {@code true} if {@code candidate} is a child of {@code ancestor}
+	 * or a descendant of one of its children
+	 */
+	public boolean isDescendant(TestIdentifier ancestor, TestIdentifier candidate) {
+		Preconditions.notNull(ancestor, "ancestor must not be null");
+		Preconditions.notNull(candidate, "candidate must not be null");
+		int ancestorIndex = this.store.indexOf(ancestor.getUniqueId());
+		int candidateIndex = this.store.indexOf(candidate.getUniqueId());
+		return ancestorIndex != TestIdentifierStore.NOT_FOUND && candidateIndex != TestIdentifierStore.NOT_FOUND
+				&& this.store.isDescendant(ancestorIndex, candidateIndex);
+	}
+
+	private Set<TestIdentifier> collectFromSubtreeIndex(TestIdentifier parent, SubtreeQuery query) {
+		int index = this.store.indexOf(parent.getUniqueId());
+		if (index == TestIdentifierStore.NOT_FOUND) {
+			return emptySet();
 		}
+		Set<TestIdentifier> result = new LinkedHashSet<>(16);
+		query.forEach(index, descendant -> result.add(this.store.get(descendant)));
 		return unmodifiableSet(result);
 	}
 
+	private int indexOfPresent(String uniqueId) {
+		int index = this.store.indexOf(uniqueId);
+		Preconditions.condition(this.store.isPresent(index),
+			() -> "No TestIdentifier with unique ID [" + uniqueId + "] has been added to this TestPlan.");
+		return index;
+	}
+
+	@FunctionalInterface
+	private interface SubtreeQuery {
+
+		void forEach(int parent, IntConsumer action);
+
+	}
+
 }
@@ -10,12 +10,22 @@
 
 package org.junit.platform.launcher.core;
 
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.FlightRecorderEventType;
+import org.junit.platform.commons.util.FlightRecorderEventType.ActiveEvent;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.FilterResult;
@@ -23,6 +33,7 @@ import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestPlan;
@@ -40,6 +51,9 @@ class DefaultLauncher implements Launcher {
 
 	private static final Logger LOG = Logger.getLogger(DefaultLauncher.class.getName());
 
+	private static final FlightRecorderEventType ENGINE_DISCOVERY = FlightRecorderEventType.create(
+		"org.junit.EngineDiscovery", "Engine Discovery", "engineId", "phase");
+
 	private final TestExecutionListenerRegistry listenerRegistry = new TestExecutionListenerRegistry();
 	private final Iterable<TestEngine> testEngines;
 
@@ -76,7 +90,8 @@ class DefaultLauncher implements Launcher {
 	@Override
 	public TestPlan discover(LauncherDiscoveryRequest discoveryRequest) {
 		Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
-		return TestPlan.from(discoverRoot(discoveryRequest, "discovery").getEngineDescriptors());
+		return TestPlan.from(discoverRoot(discoveryRequest, "discovery").getEngineDescriptors(),
+			discoveryRequest.getConfigurationParameters());
 	}
 
 	@Override
@@ -112,7 +127,14 @@ class DefaultLauncher implements Launcher {
 				testEngine.getId()));
 
 			UniqueId uniqueEngineId = UniqueId.forEngine(testEngine.getId());
-			TestDescriptor engineRoot = testEngine.discover(discoveryRequest, uniqueEngineId);
+			TestDescriptor engineRoot;
+			ActiveEvent event = ENGINE_DISCOVERY.begin(testEngine.getId(), phase);
+			try {
+				engineRoot = testEngine.discover(discoveryRequest, uniqueEngineId);
+			}
+			finally {
+				event.close();
+			}
 			Preconditions.notNull(engineRoot,
 				() -> String.format(
 					"The discover() method for TestEngine with ID '%s' must return a non-null root TestDescriptor.",
@@ -126,19 +148,74 @@ class DefaultLauncher implements Launcher {
 
 	private void execute(Root root, ConfigurationParameters configurationParameters,
 			TestExecutionListener... listeners) {
-		TestExecutionListenerRegistry listenerRegistry = buildListenerRegistryForExecution(listeners);
-		TestPlan testPlan = TestPlan.from(root.getEngineDescriptors());
+		List<TestExecutionListener> executionListeners = new ArrayList<>(Arrays.asList(listeners));
+		Optional<ResultHistory> resultHistory = readResultHistory(configurationParameters);
+		resultHistory.ifPresent(history -> {
+			root.sort(history.failedFirstOrder());
+			executionListeners.add(history);
+		});
+		Optional<Integer> failFastThreshold = getFailFastThreshold(configurationParameters);
+		CancellationToken cancellationToken = failFastThreshold.isPresent() ? CancellationToken.create()
+				: CancellationToken.disabled();
+		failFastThreshold.ifPresent(
+			threshold -> executionListeners.add(new FailFastListener(threshold, cancellationToken)));
+
+		TestExecutionListenerRegistry listenerRegistry = buildListenerRegistryForExecution(
+			executionListeners.toArray(new TestExecutionListener[executionListeners.size()]));
+		TestPlan testPlan = TestPlan.from(root.getEngineDescriptors(), configurationParameters);
 		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeTestExecutionListener();
 		testExecutionListener.testPlanExecutionStarted(testPlan);
+		boolean streamDynamicTests = configurationParameters.getBoolean(
+			LauncherConstants.DYNAMIC_TESTS_STREAMING_ENABLED_PROPERTY_NAME).orElse(false);
 		ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
-			testExecutionListener);
+			testExecutionListener, streamDynamicTests);
 		for (TestEngine testEngine : root.getTestEngines()) {
 			TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
-			testEngine.execute(new ExecutionRequest(testDescriptor, engineExecutionListener, configurationParameters));
+			Optional<String> cancellationReason = cancellationToken.getReason();
+			if (cancellationReason.isPresent()) {
+				engineExecutionListener.executionSkipped(testDescriptor, cancellationReason.get());
+				continue;
+			}
+			testEngine.execute(new ExecutionRequest(testDescriptor, engineExecutionListener, configurationParameters,
+				cancellationToken));
 		}
 		testExecutionListener.testPlanExecutionFinished(testPlan);
 	}
 
+	private static Optional<ResultHistory> readResultHistory(ConfigurationParameters configurationParameters) {
+		Optional<Instant> currentRun = getResultHistoryRun(configurationParameters);
+		return configurationParameters.get(LauncherConstants.RESULT_HISTORY_FILE_PROPERTY_NAME).map(
+			Paths::get).map(file -> ResultHistory.read(file, currentRun));
+	}
+
+	private static Optional<Instant> getResultHistoryRun(ConfigurationParameters configurationParameters) {
+		return configurationParameters.get(LauncherConstants.RESULT_HISTORY_RUN_PROPERTY_NAME).map(value -> {
+			try {
+				return Instant.parse(value.trim());
+			}
+			catch (DateTimeParseException ex) {
+				throw new JUnitException(
+					String.format("Invalid value '%s' for configuration parameter '%s': must be an ISO-8601 instant.",
+						value, LauncherConstants.RESULT_HISTORY_RUN_PROPERTY_NAME),
+					ex);
+			}
+		});
+	}
+
+	private static Optional<Integer> getFailFastThreshold(ConfigurationParameters configurationParameters) {
+		return configurationParameters.get(LauncherConstants.FAIL_FAST_THRESHOLD_PROPERTY_NAME).map(value -> {
+			try {
+				return Integer.valueOf(value.trim());
+			}
+			catch (NumberFormatException ex) {
+				throw new JUnitException(
+					String.format("Invalid value '%s' for configuration parameter '%s': must be a positive integer.",
+						value, LauncherConstants.FAIL_FAST_THRESHOLD_PROPERTY_NAME),
+					ex);
+			}
+		});
+	}
+
 	private TestExecutionListenerRegistry buildListenerRegistryForExecution(TestExecutionListener... listeners) {
 		if (listeners.length == 0) {
 			return this.listenerRegistry;
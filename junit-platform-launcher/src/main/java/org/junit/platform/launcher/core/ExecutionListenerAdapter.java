@@ -10,6 +10,9 @@
 
 package org.junit.platform.launcher.core;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
@@ -22,22 +25,36 @@ import org.junit.platform.launcher.TestPlan;
  * An {@code ExecutionListenerAdapter} adapts a {@link TestPlan} and a corresponding
  * {@link TestExecutionListener} to the {@link EngineExecutionListener} API.
  *
+ * <p>If dynamic tests are streamed, the adapter keeps track of the dynamic
+ * tests that are currently registered and removes each of them from the test
+ * plan once the listener has been notified of its completion.
+ *
  * @since 1.0
  */
 class ExecutionListenerAdapter implements EngineExecutionListener {
 
 	private final TestPlan testPlan;
 	private final TestExecutionListener testExecutionListener;
+	private final Set<String> pendingDynamicTestIds;
 
 	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener) {
+		this(testPlan, testExecutionListener, false);
+	}
+
+	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener,
+			boolean streamDynamicTests) {
 		this.testPlan = testPlan;
 		this.testExecutionListener = testExecutionListener;
+		this.pendingDynamicTestIds = streamDynamicTests ? ConcurrentHashMap.newKeySet() : null;
 	}
 
 	@Override
 	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
 		TestIdentifier testIdentifier = TestIdentifier.from(testDescriptor);
 		this.testPlan.add(testIdentifier);
+		if (this.pendingDynamicTestIds != null) {
+			this.pendingDynamicTestIds.add(testIdentifier.getUniqueId());
+		}
 		this.testExecutionListener.dynamicTestRegistered(testIdentifier);
 	}
 
@@ -48,12 +65,16 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 
 	@Override
 	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
-		this.testExecutionListener.executionSkipped(getTestIdentifier(testDescriptor), reason);
+		TestIdentifier testIdentifier = getTestIdentifier(testDescriptor);
+		this.testExecutionListener.executionSkipped(testIdentifier, reason);
+		removeIfDynamicTest(testIdentifier);
 	}
 
 	@Override
 	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
-		this.testExecutionListener.executionFinished(getTestIdentifier(testDescriptor), testExecutionResult);
+		TestIdentifier testIdentifier = getTestIdentifier(testDescriptor);
+		this.testExecutionListener.executionFinished(testIdentifier, testExecutionResult);
+		removeIfDynamicTest(testIdentifier);
 	}
 
 	@Override
@@ -61,6 +82,12 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 		this.testExecutionListener.reportingEntryPublished(getTestIdentifier(testDescriptor), entry);
 	}
 
+	private void removeIfDynamicTest(TestIdentifier testIdentifier) {
+		if (this.pendingDynamicTestIds != null && this.pendingDynamicTestIds.remove(testIdentifier.getUniqueId())) {
+			this.testPlan.remove(testIdentifier);
+		}
+	}
+
 	private TestIdentifier getTestIdentifier(TestDescriptor testDescriptor) {
 		return this.testPlan.getTestIdentifier(testDescriptor.getUniqueId().toString());
 	}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * Cancels the execution of a test plan once the configured number of tests
+ * and containers have failed.
+ *
+ * @since 1.0
+ * @see LauncherConstants#FAIL_FAST_THRESHOLD_PROPERTY_NAME
+ */
+class FailFastListener implements TestExecutionListener {
+
+	private final int threshold;
+	private final CancellationToken cancellationToken;
+
+	private final AtomicInteger failures = new AtomicInteger();
+
+	FailFastListener(int threshold, CancellationToken cancellationToken) {
+		Preconditions.condition(threshold > 0,
+			() -> "Fail-fast threshold must be a positive integer, but was " + threshold);
+		this.threshold = threshold;
+		this.cancellationToken = cancellationToken;
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (testExecutionResult.getStatus() == FAILED && this.failures.incrementAndGet() == this.threshold) {
+			this.cancellationToken.cancel(String.format(Locale.ROOT,
+				"Execution cancelled by fail-fast after %d failed tests or containers", this.threshold));
+		}
+	}
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Result history of previous executions that is used to run previously failed
+ * and recently changed tests first.
+ *
+ * <p>The history file consists of a line with the instant the most recent
+ * run started, a line with the instant the run before it started, and one
+ * line per test or container that failed, each consisting of a keyword and a
+ * value separated by a tab. Lines starting with {@code #} are ignored.
+ *
+ * <p>A run may consist of several executions that share the history file,
+ * for example one per test class. If the instant of the current run is
+ * supplied and matches the most recent run recorded in the file, classes are
+ * compared against the run before it instead, so that every execution of the
+ * run uses the same reference point.
+ *
+ * <p>As a {@link TestExecutionListener}, the history records the results of
+ * the current execution and writes the updated history file when the
+ * execution of the test plan finishes.
+ *
+ * @since 1.0
+ * @see LauncherConstants#RESULT_HISTORY_FILE_PROPERTY_NAME
+ */
+class ResultHistory implements TestExecutionListener {
+
+	private static final Logger LOG = Logger.getLogger(ResultHistory.class.getName());
+
+	private static final String HEADER = "# JUnit Platform result history: <keyword>\t<value>";
+	private static final String RUN = "run";
+	private static final String PREVIOUS_RUN = "previous";
+	private static final String FAILED = "failed";
+
+	private static final int PREVIOUSLY_FAILED = 0;
+	private static final int RECENTLY_CHANGED = 1;
+	private static final int UNCHANGED = 2;
+
+	/**
+	 * Read the result history from the supplied file.
+	 *
+	 * <p>If the file does not exist or cannot be read, the history is empty.
+	 *
+	 * @param file the history file
+	 * @param currentRun the instant the current run started; if empty, the
+	 * instant the execution of the test plan starts is used
+	 */
+	static ResultHistory read(Path file, Optional<Instant> currentRun) {
+		Optional<Instant> recordedRun = Optional.empty();
+		Optional<Instant> recordedPreviousRun = Optional.empty();
+		Set<String> failedUniqueIds = new HashSet<>();
+		if (Files.exists(file)) {
+			try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					String[] parts = line.split("\t", 2);
+					if (line.startsWith("#") || parts.length != 2) {
+						continue;
+					}
+					if (RUN.equals(parts[0])) {
+						recordedRun = parseInstant(parts[1]);
+					}
+					else if (PREVIOUS_RUN.equals(parts[0])) {
+						recordedPreviousRun = parseInstant(parts[1]);
+					}
+					else if (FAILED.equals(parts[0])) {
+						failedUniqueIds.add(parts[1]);
+					}
+				}
+			}
+			catch (IOException ex) {
+				LOG.log(Level.WARNING, ex, () -> "Could not read result history file " + file);
+			}
+		}
+		boolean sameRun = currentRun.isPresent() && currentRun.equals(recordedRun);
+		Optional<Instant> previousRun = (sameRun ? recordedPreviousRun : recordedRun);
+		return new ResultHistory(file, currentRun, previousRun, failedUniqueIds);
+	}
+
+	private static Optional<Instant> parseInstant(String value) {
+		try {
+			return Optional.of(Instant.parse(value));
+		}
+		catch (DateTimeParseException ex) {
+			return Optional.empty();
+		}
+	}
+
+	private final Path file;
+	private final Optional<Instant> configuredRun;
+	private final Optional<Instant> previousRun;
+	private final Set<String> previouslyFailedUniqueIds;
+
+	private final Set<String> failedUniqueIds = ConcurrentHashMap.newKeySet();
+	private final Map<String, Boolean> recentlyChangedClasses = new HashMap<>();
+
+	private volatile Instant currentRun;
+
+	private ResultHistory(Path file, Optional<Instant> configuredRun, Optional<Instant> previousRun,
+			Set<String> failedUniqueIds) {
+
+		this.file = file;
+		this.configuredRun = configuredRun;
+		this.previousRun = previousRun;
+		this.previouslyFailedUniqueIds = Collections.unmodifiableSet(failedUniqueIds);
+		this.failedUniqueIds.addAll(failedUniqueIds);
+	}
+
+	Set<String> getFailedUniqueIds() {
+		return Collections.unmodifiableSet(this.failedUniqueIds);
+	}
+
+	/**
+	 * Create a comparator that orders test descriptors whose subtree contains
+	 * a previously failed test or container first, followed by those whose
+	 * subtree contains a class that has been modified since the previous
+	 * execution.
+	 *
+	 * <p>The comparator caches the rank of each subtree and must therefore
+	 * only be used while the hierarchy does not change.
+	 */
+	Comparator<TestDescriptor> failedFirstOrder() {
+		Map<TestDescriptor, Integer> ranks = new HashMap<>();
+		return Comparator.comparingInt(descriptor -> rank(descriptor, ranks));
+	}
+
+	private int rank(TestDescriptor descriptor, Map<TestDescriptor, Integer> ranks) {
+		Integer cachedRank = ranks.get(descriptor);
+		if (cachedRank != null) {
+			return cachedRank;
+		}
+		int rank = ownRank(descriptor);
+		for (TestDescriptor child : descriptor.getChildren()) {
+			if (rank == PREVIOUSLY_FAILED) {
+				break;
+			}
+			rank = Math.min(rank, rank(child, ranks));
+		}
+		ranks.put(descriptor, rank);
+		return rank;
+	}
+
+	private int ownRank(TestDescriptor descriptor) {
+		if (this.previouslyFailedUniqueIds.contains(descriptor.getUniqueId().toString())) {
+			return PREVIOUSLY_FAILED;
+		}
+		Optional<String> className = descriptor.getSource().flatMap(ResultHistory::getClassName);
+		if (className.isPresent() && isRecentlyChanged(className.get())) {
+			return RECENTLY_CHANGED;
+		}
+		return UNCHANGED;
+	}
+
+	private static Optional<String> getClassName(TestSource source) {
+		if (source instanceof ClassSource) {
+			return Optional.of(((ClassSource) source).getJavaClass().getName());
+		}
+		if (source instanceof MethodSource) {
+			return Optional.of(((MethodSource) source).getClassName());
+		}
+		return Optional.empty();
+	}
+
+	private boolean isRecentlyChanged(String className) {
+		if (!this.previousRun.isPresent()) {
+			return false;
+		}
+		return this.recentlyChangedClasses.computeIfAbsent(className, this::isClassFileModifiedSincePreviousRun);
+	}
+
+	private boolean isClassFileModifiedSincePreviousRun(String className) {
+		URL classFile = ReflectionUtils.getDefaultClassLoader().getResource(className.replace('.', '/') + ".class");
+		if (classFile == null || !"file".equals(classFile.getProtocol())) {
+			return false;
+		}
+		try {
+			Instant lastModified = Files.getLastModifiedTime(Paths.get(classFile.toURI())).toInstant();
+			return lastModified.isAfter(this.previousRun.get());
+		}
+		catch (Exception ex) {
+			LOG.log(Level.FINE, ex, () -> "Could not determine last modified time of " + classFile);
+			return false;
+		}
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.currentRun = this.configuredRun.orElseGet(Instant::now);
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
+			this.failedUniqueIds.add(testIdentifier.getUniqueId());
+		}
+		else {
+			this.failedUniqueIds.remove(testIdentifier.getUniqueId());
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		try {
+			write();
+		}
+		catch (IOException ex) {
+			LOG.log(Level.WARNING, ex, () -> "Could not write result history file " + this.file);
+		}
+	}
+
+	private void write() throws IOException {
+		Path parent = this.file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		Instant run = (this.currentRun != null ? this.currentRun : this.configuredRun.orElseGet(Instant::now));
+		try (BufferedWriter writer = Files.newBufferedWriter(this.file, UTF_8)) {
+			writer.write(HEADER);
+			writer.newLine();
+			writer.write(RUN + "\t" + run);
+			writer.newLine();
+			if (this.previousRun.isPresent()) {
+				writer.write(PREVIOUS_RUN + "\t" + this.previousRun.get());
+				writer.newLine();
+			}
+			for (String uniqueId : new TreeSet<>(this.failedUniqueIds)) {
+				writer.write(FAILED + "\t" + uniqueId);
+				writer.newLine();
+			}
+		}
+	}
+
+}
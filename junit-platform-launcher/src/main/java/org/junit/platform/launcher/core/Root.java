@@ -12,8 +12,11 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.platform.engine.Filter.composeFilters;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.platform.engine.Filter;
@@ -71,6 +74,31 @@ class Root {
 		acceptInAllTestEngines(TestDescriptor::prune);
 	}
 
+	/**
+	 * Sort the {@link TestEngine TestEngines} and the children of all
+	 * {@link TestDescriptor TestDescriptors} using the supplied comparator.
+	 *
+	 * <p>The sort is stable: elements the comparator considers equal retain
+	 * their discovery order.
+	 */
+	void sort(Comparator<TestDescriptor> comparator) {
+		List<Map.Entry<TestEngine, TestDescriptor>> entries = new ArrayList<>(this.testEngineDescriptors.entrySet());
+		entries.sort(Map.Entry.comparingByValue(comparator));
+		this.testEngineDescriptors.clear();
+		entries.forEach(entry -> this.testEngineDescriptors.put(entry.getKey(), entry.getValue()));
+		acceptInAllTestEngines(descriptor -> sortChildren(descriptor, comparator));
+	}
+
+	private static void sortChildren(TestDescriptor descriptor, Comparator<TestDescriptor> comparator) {
+		List<TestDescriptor> children = new ArrayList<>(descriptor.getChildren());
+		if (children.size() < 2) {
+			return;
+		}
+		children.sort(comparator);
+		children.forEach(descriptor::removeChild);
+		children.forEach(descriptor::addChild);
+	}
+
 	private boolean isExcluded(TestDescriptor descriptor, Filter<TestDescriptor> postDiscoveryFilter) {
 		return descriptor.getChildren().isEmpty() && postDiscoveryFilter.apply(descriptor).excluded();
 	}
@@ -10,13 +10,10 @@
 
 package org.junit.platform.launcher.listeners;
 
-import static java.util.stream.Collectors.joining;
-
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.platform.launcher.TestIdentifier;
@@ -184,7 +181,7 @@ class MutableTestExecutionSummary implements TestExecutionSummary {
 			writer.println();
 			writer.println(String.format("Failures (%d):", getTotalFailureCount()));
 			this.failures.forEach(failure -> {
-				writer.println(TAB + describeTest(failure.getTestIdentifier()));
+				writer.println(TAB + TestDescriptionUtils.describe(this.testPlan, failure.getTestIdentifier()));
 				failure.getTestIdentifier().getSource().ifPresent(source -> writer.println(DOUBLE_TAB + source));
 				writer.println(String.format("%s=> %s", DOUBLE_TAB, failure.getException()));
 			});
@@ -197,19 +194,6 @@ class MutableTestExecutionSummary implements TestExecutionSummary {
 		return Collections.unmodifiableList(failures);
 	}
 
-	private String describeTest(TestIdentifier testIdentifier) {
-		List<String> descriptionParts = new ArrayList<>();
-		collectTestDescription(Optional.of(testIdentifier), descriptionParts);
-		return descriptionParts.stream().collect(joining(":"));
-	}
-
-	private void collectTestDescription(Optional<TestIdentifier> optionalIdentifier, List<String> descriptionParts) {
-		optionalIdentifier.ifPresent(testIdentifier -> {
-			descriptionParts.add(0, testIdentifier.getDisplayName());
-			collectTestDescription(this.testPlan.getParent(testIdentifier), descriptionParts);
-		});
-	}
-
 	private static class DefaultFailure implements Failure {
 
 		private final TestIdentifier testIdentifier;
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * Resources consumed by the execution of a single test or container, as
+ * recorded by a {@link ResourceUsageListener}.
+ *
+ * <p>Measurements that are not supported by the current JVM are reported as
+ * {@link #UNAVAILABLE}.
+ *
+ * @since 1.0
+ * @see ResourceUsageListener
+ */
+@API(Experimental)
+public final class ResourceUsage {
+
+	/**
+	 * Value of a measurement that is not available.
+	 */
+	public static final long UNAVAILABLE = -1;
+
+	private final long wallTimeNanos;
+	private final long cpuTimeNanos;
+	private final long allocatedBytes;
+	private final long gcCount;
+	private final long gcTimeMillis;
+
+	ResourceUsage(long wallTimeNanos, long cpuTimeNanos, long allocatedBytes, long gcCount, long gcTimeMillis) {
+		this.wallTimeNanos = wallTimeNanos;
+		this.cpuTimeNanos = cpuTimeNanos;
+		this.allocatedBytes = allocatedBytes;
+		this.gcCount = gcCount;
+		this.gcTimeMillis = gcTimeMillis;
+	}
+
+	/**
+	 * Get the elapsed wall-clock time in nanoseconds.
+	 */
+	public long getWallTimeNanos() {
+		return this.wallTimeNanos;
+	}
+
+	/**
+	 * Get the CPU time consumed by the executing thread in nanoseconds, or
+	 * {@link #UNAVAILABLE}.
+	 */
+	public long getCpuTimeNanos() {
+		return this.cpuTimeNanos;
+	}
+
+	/**
+	 * Get the number of bytes allocated by the executing thread, or
+	 * {@link #UNAVAILABLE}.
+	 */
+	public long getAllocatedBytes() {
+		return this.allocatedBytes;
+	}
+
+	/**
+	 * Get the number of garbage collections that occurred in the JVM, or
+	 * {@link #UNAVAILABLE}.
+	 */
+	public long getGcCount() {
+		return this.gcCount;
+	}
+
+	/**
+	 * Get the accumulated time of all garbage collections that occurred in the
+	 * JVM in milliseconds, or {@link #UNAVAILABLE}.
+	 */
+	public long getGcTimeMillis() {
+		return this.gcTimeMillis;
+	}
+
+	/**
+	 * Create a {@link ReportEntry} containing all available measurements.
+	 *
+	 * <p>The entry uses the keys {@code wallTime}, {@code cpuTime},
+	 * {@code allocatedBytes}, {@code gcCount}, and {@code gcTime}; durations
+	 * are given in milliseconds.
+	 */
+	public ReportEntry toReportEntry() {
+		Map<String, String> values = new LinkedHashMap<>();
+		values.put("wallTime", formatMillis(this.wallTimeNanos));
+		if (this.cpuTimeNanos != UNAVAILABLE) {
+			values.put("cpuTime", formatMillis(this.cpuTimeNanos));
+		}
+		if (this.allocatedBytes != UNAVAILABLE) {
+			values.put("allocatedBytes", String.valueOf(this.allocatedBytes));
+		}
+		if (this.gcCount != UNAVAILABLE) {
+			values.put("gcCount", String.valueOf(this.gcCount));
+		}
+		if (this.gcTimeMillis != UNAVAILABLE) {
+			values.put("gcTime", String.valueOf(this.gcTimeMillis));
+		}
+		return ReportEntry.from(values);
+	}
+
+	static String formatMillis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("wallTimeNanos", this.wallTimeNanos)
+				.append("cpuTimeNanos", this.cpuTimeNanos)
+				.append("allocatedBytes", this.allocatedBytes)
+				.append("gcCount", this.gcCount)
+				.append("gcTimeMillis", this.gcTimeMillis)
+				.toString();
+		// @formatter:on
+	}
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+import static org.junit.platform.launcher.listeners.ResourceUsage.UNAVAILABLE;
+import static org.junit.platform.launcher.listeners.ResourceUsage.formatMillis;
+
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ThreadAllocationCounter;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that records the resources consumed by the
+ * execution of each test and container.
+ *
+ * <p>For every test and container, the listener records the elapsed wall-clock
+ * time, the CPU time consumed and the number of bytes allocated by the
+ * executing thread, and the number and accumulated time of garbage
+ * collections. All measurements are taken from the platform MXBeans of
+ * {@code java.lang.management}; the allocation counter additionally requires
+ * {@code com.sun.management.ThreadMXBean}. Measurements that are not supported
+ * by the current JVM are reported as {@link ResourceUsage#UNAVAILABLE}.
+ *
+ * <p>CPU time and allocated bytes are per-thread measurements. They are only
+ * available if the execution of a test or container started and finished in
+ * the same thread, and the measurements of a container include those of its
+ * children. Garbage collections are counted for the whole JVM.
+ *
+ * <p>The recorded measurements can be retrieved via
+ * {@link #getResourceUsage(TestIdentifier)}, converted to a
+ * {@link org.junit.platform.engine.reporting.ReportEntry ReportEntry} via
+ * {@link ResourceUsage#toReportEntry()}, or printed as a summary of the tests
+ * that consumed the most resources via {@link #printTopOffendersTo}.
+ *
+ * @since 1.0
+ * @see ResourceUsage
+ */
+@API(Experimental)
+public class ResourceUsageListener implements TestExecutionListener {
+
+	private final Map<TestIdentifier, Snapshot> snapshots = new ConcurrentHashMap<>();
+	private final Map<TestIdentifier, ResourceUsage> resourceUsages = new ConcurrentHashMap<>();
+
+	private final ThreadMXBean threadMXBean;
+	private final boolean cpuTimeSupported;
+	private final ThreadAllocationCounter allocationCounter;
+	private final List<GarbageCollectorMXBean> garbageCollectorMXBeans;
+
+	private TestPlan testPlan;
+
+	public ResourceUsageListener() {
+		this.threadMXBean = ManagementFactory.getThreadMXBean();
+		this.cpuTimeSupported = enableCpuTime(this.threadMXBean);
+		this.allocationCounter = ThreadAllocationCounter.getInstance().orElse(null);
+		this.garbageCollectorMXBeans = ManagementFactory.getGarbageCollectorMXBeans();
+	}
+
+	private static boolean enableCpuTime(ThreadMXBean threadMXBean) {
+		try {
+			if (!threadMXBean.isCurrentThreadCpuTimeSupported()) {
+				return false;
+			}
+			if (!threadMXBean.isThreadCpuTimeEnabled()) {
+				threadMXBean.setThreadCpuTimeEnabled(true);
+			}
+			return true;
+		}
+		catch (SecurityException | UnsupportedOperationException ex) {
+			return false;
+		}
+	}
+
+	/**
+	 * Get the resources consumed by the supplied test or container, if its
+	 * execution has finished.
+	 *
+	 * @param testIdentifier the identifier of the test or container; never
+	 * {@code null}
+	 */
+	public Optional<ResourceUsage> getResourceUsage(TestIdentifier testIdentifier) {
+		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
+		return Optional.ofNullable(this.resourceUsages.get(testIdentifier));
+	}
+
+	/**
+	 * Get the resources consumed by all finished tests and containers.
+	 */
+	public Map<TestIdentifier, ResourceUsage> getResourceUsages() {
+		return Collections.unmodifiableMap(this.resourceUsages);
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.testPlan = testPlan;
+		this.snapshots.clear();
+		this.resourceUsages.clear();
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		this.snapshots.put(testIdentifier, takeSnapshot());
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Snapshot end = takeSnapshot();
+		Snapshot start = this.snapshots.remove(testIdentifier);
+		if (start == null) {
+			return;
+		}
+		boolean sameThread = start.threadId == end.threadId;
+		this.resourceUsages.put(testIdentifier, new ResourceUsage( //
+			end.wallTimeNanos - start.wallTimeNanos, //
+			sameThread ? delta(start.cpuTimeNanos, end.cpuTimeNanos) : UNAVAILABLE, //
+			sameThread ? delta(start.allocatedBytes, end.allocatedBytes) : UNAVAILABLE, //
+			delta(start.gcCount, end.gcCount), //
+			delta(start.gcTimeMillis, end.gcTimeMillis)));
+	}
+
+	/**
+	 * Print the tests that consumed the most CPU time, allocated the most
+	 * memory, and spent the most time in garbage collection to the supplied
+	 * {@link PrintWriter}.
+	 *
+	 * <p>For each of these measurements, at most {@code limit} tests are
+	 * printed. Tests for which a measurement is zero or unavailable are
+	 * omitted; a table is only printed if at least one test remains.
+	 *
+	 * @param writer the {@code PrintWriter} to print to; never {@code null}
+	 * @param limit the maximum number of tests to print per measurement; must
+	 * be greater than zero
+	 */
+	public void printTopOffendersTo(PrintWriter writer, int limit) {
+		Preconditions.notNull(writer, "PrintWriter must not be null");
+		Preconditions.condition(limit > 0, "limit must be greater than zero");
+
+		printTopOffenders(writer, "CPU time", ResourceUsage::getCpuTimeNanos, limit);
+		printTopOffenders(writer, "allocated bytes", ResourceUsage::getAllocatedBytes, limit);
+		printTopOffenders(writer, "GC time", ResourceUsage::getGcTimeMillis, limit);
+		writer.flush();
+	}
+
+	private void printTopOffenders(PrintWriter writer, String measurement, ToLongFunction<ResourceUsage> metric,
+			int limit) {
+
+		// @formatter:off
+		List<Map.Entry<TestIdentifier, ResourceUsage>> tests = this.resourceUsages.entrySet().stream()
+				.filter(entry -> entry.getKey().isTest() && metric.applyAsLong(entry.getValue()) > 0)
+				.sorted(comparingLong((Map.Entry<TestIdentifier, ResourceUsage> entry) ->
+						metric.applyAsLong(entry.getValue())).reversed())
+				.limit(limit)
+				.collect(toList());
+		// @formatter:on
+		if (tests.isEmpty()) {
+			return;
+		}
+
+		writer.println();
+		writer.println(String.format("Top %d tests by %s:", tests.size(), measurement));
+		writer.println(String.format("%12s %12s %16s %6s %8s  %s", "wall ms", "CPU ms", "allocated bytes", "GCs",
+			"GC ms", "test"));
+		for (Map.Entry<TestIdentifier, ResourceUsage> test : tests) {
+			ResourceUsage usage = test.getValue();
+			writer.println(String.format("%12s %12s %16s %6s %8s  %s", formatMillis(usage.getWallTimeNanos()),
+				format(usage.getCpuTimeNanos(), true), format(usage.getAllocatedBytes(), false),
+				format(usage.getGcCount(), false), format(usage.getGcTimeMillis(), false),
+				describe(test.getKey())));
+		}
+	}
+
+	private static String format(long value, boolean nanos) {
+		if (value == UNAVAILABLE) {
+			return "n/a";
+		}
+		return nanos ? formatMillis(value) : String.valueOf(value);
+	}
+
+	private String describe(TestIdentifier testIdentifier) {
+		return (this.testPlan != null ? TestDescriptionUtils.describe(this.testPlan, testIdentifier)
+				: testIdentifier.getDisplayName());
+	}
+
+	private static long delta(long start, long end) {
+		return (start == UNAVAILABLE || end == UNAVAILABLE ? UNAVAILABLE : end - start);
+	}
+
+	private Snapshot takeSnapshot() {
+		long gcCount = 0;
+		long gcTimeMillis = 0;
+		for (GarbageCollectorMXBean garbageCollectorMXBean : this.garbageCollectorMXBeans) {
+			long count = garbageCollectorMXBean.getCollectionCount();
+			long time = garbageCollectorMXBean.getCollectionTime();
+			gcCount = (gcCount == UNAVAILABLE || count < 0 ? UNAVAILABLE : gcCount + count);
+			gcTimeMillis = (gcTimeMillis == UNAVAILABLE || time < 0 ? UNAVAILABLE : gcTimeMillis + time);
+		}
+		long cpuTimeNanos = (this.cpuTimeSupported ? this.threadMXBean.getCurrentThreadCpuTime() : UNAVAILABLE);
+		long allocatedBytes = (this.allocationCounter != null ? this.allocationCounter.getAllocatedBytes()
+				: UNAVAILABLE);
+		return new Snapshot(Thread.currentThread().getId(), System.nanoTime(), cpuTimeNanos, allocatedBytes, gcCount,
+			gcTimeMillis);
+	}
+
+	private static final class Snapshot {
+
+		final long threadId;
+		final long wallTimeNanos;
+		final long cpuTimeNanos;
+		final long allocatedBytes;
+		final long gcCount;
+		final long gcTimeMillis;
+
+		Snapshot(long threadId, long wallTimeNanos, long cpuTimeNanos, long allocatedBytes, long gcCount,
+				long gcTimeMillis) {
+			this.threadId = threadId;
+			this.wallTimeNanos = wallTimeNanos;
+			this.cpuTimeNanos = cpuTimeNanos;
+			this.allocatedBytes = allocatedBytes;
+			this.gcCount = gcCount;
+			this.gcTimeMillis = gcTimeMillis;
+		}
+
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.junit.platform.commons.meta.API.Usage.Internal;
+
+import java.util.LinkedList;
+import java.util.Optional;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Collection of utilities for describing tests and containers in reports.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.0
+ */
+@API(Internal)
+public final class TestDescriptionUtils {
+
+	///CLOVER:OFF
+	private TestDescriptionUtils() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+	/**
+	 * Describe the supplied {@link TestIdentifier} by the display names of its
+	 * ancestors and itself, separated by colons.
+	 *
+	 * <p>The description ends at the first ancestor that is no longer part of
+	 * the supplied {@link TestPlan}, for example, because dynamic tests are
+	 * streamed and have already been removed.
+	 *
+	 * @param testPlan the test plan containing the identifier; never {@code null}
+	 * @param testIdentifier the identifier to describe; never {@code null}
+	 * @return the description; never {@code null}
+	 */
+	public static String describe(TestPlan testPlan, TestIdentifier testIdentifier) {
+		Preconditions.notNull(testPlan, "testPlan must not be null");
+		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
+
+		LinkedList<String> descriptionParts = new LinkedList<>();
+		Optional<TestIdentifier> current = Optional.of(testIdentifier);
+		while (current.isPresent()) {
+			descriptionParts.addFirst(current.get().getDisplayName());
+			current = findParent(testPlan, current.get());
+		}
+		return String.join(":", descriptionParts);
+	}
+
+	private static Optional<TestIdentifier> findParent(TestPlan testPlan, TestIdentifier child) {
+		try {
+			return testPlan.getParent(child);
+		}
+		catch (PreconditionViolationException ex) {
+			// the parent has already been removed from the test plan
+			return Optional.empty();
+		}
+	}
+
+}
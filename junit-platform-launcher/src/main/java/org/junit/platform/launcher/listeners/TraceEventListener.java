@@ -0,0 +1,248 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.platform.commons.meta.API.Usage.Experimental;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.junit.platform.commons.meta.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that writes the execution of all tests and
+ * containers to a file in the
+ * <a href="https://github.com/catapult-project/catapult/wiki/Trace-Event-Format">Trace
+ * Event Format</a>, which can be opened in {@code chrome://tracing} or
+ * <a href="https://ui.perfetto.dev">Perfetto</a>.
+ *
+ * <p>The start and end of the execution of each test and container are
+ * written as a pair of <em>begin</em> and <em>end</em> events on the thread
+ * that started the execution; skipped tests and containers are written as
+ * <em>instant</em> events. Timestamps are relative to the start of the
+ * execution of the test plan.
+ *
+ * <p>Events are streamed to the trace file as they occur so that the memory
+ * consumption of this listener does not depend on the number of executed
+ * tests. The file is overwritten when the execution of a test plan starts and
+ * closed when it finishes. If the file cannot be written, a warning is logged
+ * and no further events are written for the current test plan.
+ *
+ * @since 1.0
+ */
+@API(Experimental)
+public class TraceEventListener implements TestExecutionListener {
+
+	private static final Logger LOG = Logger.getLogger(TraceEventListener.class.getName());
+
+	private static final int PROCESS_ID = 1;
+
+	private final Path traceFile;
+
+	private final Map<TestIdentifier, Long> startingThreadIds = new ConcurrentHashMap<>();
+	private final Set<Long> namedThreadIds = new HashSet<>();
+
+	private Writer writer;
+	private volatile long startNanos;
+	private boolean firstEvent;
+
+	/**
+	 * Create a {@code TraceEventListener} that writes to the supplied file.
+	 *
+	 * <p>Missing parent directories are created when the execution of a test
+	 * plan starts.
+	 *
+	 * @param traceFile the trace file to write to; never {@code null}
+	 */
+	public TraceEventListener(Path traceFile) {
+		this.traceFile = Preconditions.notNull(traceFile, "traceFile must not be null");
+	}
+
+	@Override
+	public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+		this.startingThreadIds.clear();
+		this.namedThreadIds.clear();
+		this.startNanos = System.nanoTime();
+		this.firstEvent = true;
+		try {
+			Path parent = this.traceFile.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			this.writer = Files.newBufferedWriter(this.traceFile, UTF_8);
+			this.writer.write('[');
+			write("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":" + PROCESS_ID
+					+ ",\"args\":{\"name\":\"JUnit Platform\"}}");
+		}
+		catch (IOException ex) {
+			handleException(ex);
+		}
+	}
+
+	@Override
+	public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+		if (this.writer == null) {
+			return;
+		}
+		try {
+			this.writer.write("\n]\n");
+			this.writer.close();
+		}
+		catch (IOException ex) {
+			LOG.log(Level.WARNING, ex, () -> "Could not write trace file " + this.traceFile);
+		}
+		finally {
+			this.writer = null;
+		}
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		long threadId = Thread.currentThread().getId();
+		this.startingThreadIds.put(testIdentifier, threadId);
+		writeEvent(testIdentifier, "B", threadId, "\"uniqueId\":" + quote(testIdentifier.getUniqueId()));
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Long threadId = this.startingThreadIds.remove(testIdentifier);
+		writeEvent(testIdentifier, "E", threadId != null ? threadId : Thread.currentThread().getId(),
+			"\"status\":" + quote(testExecutionResult.getStatus().name()));
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		writeEvent(testIdentifier, "i", Thread.currentThread().getId(),
+			"\"uniqueId\":" + quote(testIdentifier.getUniqueId()) + ",\"reason\":" + quote(reason));
+	}
+
+	private void writeEvent(TestIdentifier testIdentifier, String phase, long threadId, String args) {
+		long elapsedNanos = System.nanoTime() - this.startNanos;
+		StringBuilder event = new StringBuilder(128);
+		event.append("{\"name\":").append(quote(testIdentifier.getDisplayName()));
+		event.append(",\"cat\":").append(testIdentifier.isTest() ? "\"test\"" : "\"container\"");
+		event.append(",\"ph\":\"").append(phase).append('"');
+		if ("i".equals(phase)) {
+			event.append(",\"s\":\"t\"");
+		}
+		event.append(",\"ts\":").append(elapsedNanos / 1000).append('.');
+		appendPadded(event, elapsedNanos % 1000);
+		event.append(",\"pid\":").append(PROCESS_ID);
+		event.append(",\"tid\":").append(threadId);
+		event.append(",\"args\":{").append(args).append("}}");
+
+		synchronized (this) {
+			if (this.namedThreadIds.add(threadId)) {
+				writeThreadName(threadId);
+			}
+			write(event.toString());
+		}
+	}
+
+	private void writeThreadName(long threadId) {
+		// Only the name of the current thread is known; end events use the ID of
+		// the starting thread, which has been named with the begin event.
+		String threadName = (threadId == Thread.currentThread().getId() ? Thread.currentThread().getName()
+				: "Thread " + threadId);
+		write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":" + PROCESS_ID + ",\"tid\":" + threadId
+				+ ",\"args\":{\"name\":" + quote(threadName) + "}}");
+	}
+
+	private void write(String event) {
+		if (this.writer == null) {
+			return;
+		}
+		try {
+			if (!this.firstEvent) {
+				this.writer.write(',');
+			}
+			this.writer.write('\n');
+			this.writer.write(event);
+			this.firstEvent = false;
+		}
+		catch (IOException ex) {
+			handleException(ex);
+		}
+	}
+
+	private void handleException(IOException ex) {
+		if (this.writer != null) {
+			try {
+				this.writer.close();
+			}
+			catch (IOException closeException) {
+				ex.addSuppressed(closeException);
+			}
+			this.writer = null;
+		}
+		LOG.log(Level.WARNING, ex,
+			() -> "Could not write trace file " + this.traceFile + "; no further events will be written.");
+	}
+
+	private static void appendPadded(StringBuilder builder, long value) {
+		if (value < 100) {
+			builder.append('0');
+		}
+		if (value < 10) {
+			builder.append('0');
+		}
+		builder.append(value);
+	}
+
+	private static String quote(String value) {
+		StringBuilder builder = new StringBuilder(value.length() + 2);
+		builder.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\\':
+					builder.append("\\\\");
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				case '\t':
+					builder.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						builder.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+					}
+					else {
+						builder.append(c);
+					}
+			}
+		}
+		return builder.append('"').toString();
+	}
+
+}
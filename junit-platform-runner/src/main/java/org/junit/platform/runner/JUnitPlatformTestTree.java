@@ -10,11 +10,9 @@
 
 package org.junit.platform.runner;
 
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toSet;
 
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -117,11 +115,7 @@ class JUnitPlatformTestTree {
 	}
 
 	Set<TestIdentifier> getTestsInSubtree(TestIdentifier ancestor) {
-		// @formatter:off
-		return plan.getDescendants(ancestor).stream()
-				.filter(TestIdentifier::isTest)
-				.collect(toCollection(LinkedHashSet::new));
-		// @formatter:on
+		return plan.getDescendantTests(ancestor);
 	}
 
 	Set<TestIdentifier> getFilteredLeaves(Filter filter) {
@@ -134,10 +128,13 @@ class JUnitPlatformTestTree {
 	}
 
 	private Predicate<? super TestIdentifier> isALeaf(Set<TestIdentifier> identifiers) {
-		return testIdentifier -> {
-			Set<TestIdentifier> descendants = plan.getDescendants(testIdentifier);
-			return identifiers.stream().noneMatch(descendants::contains);
-		};
+		// An identifier is not a leaf if it is an ancestor of any other identifier
+		// @formatter:off
+		Set<TestIdentifier> ancestors = identifiers.stream()
+				.flatMap(testIdentifier -> plan.getAncestors(testIdentifier).stream())
+				.collect(toSet());
+		// @formatter:on
+		return testIdentifier -> !ancestors.contains(testIdentifier);
 	}
 
 	private Set<TestIdentifier> applyFilterToDescriptions(Filter filter) {
@@ -16,14 +16,19 @@
 
 package org.junit.platform.surefire.provider;
 
+import static org.apache.maven.surefire.report.SimpleReportEntry.ignored;
+import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import java.lang.reflect.InvocationTargetException;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,9 +43,14 @@ import org.apache.maven.surefire.testset.TestSetFailedException;
 import org.apache.maven.surefire.util.TestsToRun;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 import org.junit.platform.launcher.core.LauncherFactory;
 
 /**
@@ -58,9 +68,14 @@ public class JUnitPlatformProvider extends AbstractProvider {
 			+ " parameters (or the " + EXCLUDE_GROUPS + " and " + EXCLUDE_TAGS + " parameters) are synonyms - "
 			+ "only one of each is allowed (though neither is required).";
 
+	// Parameter names processed to configure fail-fast execution and failed-first ordering.
+	static final String FAIL_FAST = "failFast";
+	static final String RESULT_HISTORY_FILE = "resultHistoryFile";
+
 	private final ProviderParameters parameters;
 	private final Launcher launcher;
 	final Filter<?>[] includeAndExcludeFilters;
+	final Optional<Integer> failFastThreshold;
 
 	public JUnitPlatformProvider(ProviderParameters parameters) {
 		this(parameters, LauncherFactory.create());
@@ -70,6 +85,7 @@ public class JUnitPlatformProvider extends AbstractProvider {
 		this.parameters = parameters;
 		this.launcher = launcher;
 		this.includeAndExcludeFilters = getIncludeAndExcludeFilters();
+		this.failFastThreshold = getFailFastThreshold();
 		Logger.getLogger("org.junit").setLevel(Level.WARNING);
 	}
 
@@ -108,8 +124,11 @@ public class JUnitPlatformProvider extends AbstractProvider {
 			RunListener runListener = reporterFactory.createReporter();
 			launcher.registerTestExecutionListeners(new RunListenerAdapter(runListener));
 
+			// All classes are executed as part of the same run of the result history.
+			String run = Instant.now().toString();
+			FailureCounter failureCounter = new FailureCounter();
 			for (Class<?> testClass : testsToRun) {
-				invokeSingleClass(testClass, runListener);
+				invokeSingleClass(testClass, runListener, failureCounter, run);
 			}
 		}
 		finally {
@@ -118,17 +137,54 @@ public class JUnitPlatformProvider extends AbstractProvider {
 		return runResult;
 	}
 
-	private void invokeSingleClass(Class<?> testClass, RunListener runListener) {
+	private void invokeSingleClass(Class<?> testClass, RunListener runListener, FailureCounter failureCounter,
+			String run) {
+
 		SimpleReportEntry classEntry = new SimpleReportEntry(getClass().getName(), testClass.getName());
 		runListener.testSetStarting(classEntry);
 
-		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectClass(testClass)).filters(
-			includeAndExcludeFilters).build();
-		launcher.execute(discoveryRequest);
+		LauncherDiscoveryRequestBuilder requestBuilder = request().selectors(selectClass(testClass)).filters(
+			includeAndExcludeFilters);
+		getPropertiesValue(RESULT_HISTORY_FILE).ifPresent(file -> {
+			requestBuilder.configurationParameter(LauncherConstants.RESULT_HISTORY_FILE_PROPERTY_NAME, file);
+			requestBuilder.configurationParameter(LauncherConstants.RESULT_HISTORY_RUN_PROPERTY_NAME, run);
+		});
+
+		// The fail-fast threshold applies to all classes, not to each class separately.
+		if (failFastThreshold.isPresent()) {
+			int remainingFailures = failFastThreshold.get() - failureCounter.getFailures();
+			if (remainingFailures <= 0) {
+				runListener.testSkipped(ignored(testClass.getName(), testClass.getName(),
+					String.format(Locale.ROOT, "Execution cancelled by fail-fast after %d failed tests or containers",
+						failFastThreshold.get())));
+				runListener.testSetCompleted(classEntry);
+				return;
+			}
+			requestBuilder.configurationParameter(LauncherConstants.FAIL_FAST_THRESHOLD_PROPERTY_NAME,
+				String.valueOf(remainingFailures));
+		}
+
+		LauncherDiscoveryRequest discoveryRequest = requestBuilder.build();
+		launcher.execute(discoveryRequest, failureCounter);
 
 		runListener.testSetCompleted(classEntry);
 	}
 
+	private Optional<Integer> getFailFastThreshold() {
+		Optional<Integer> threshold = getPropertiesValue(FAIL_FAST).map(value -> {
+			try {
+				return Integer.valueOf(value.trim());
+			}
+			catch (NumberFormatException ex) {
+				return 0;
+			}
+		});
+		Preconditions.condition(!threshold.isPresent() || threshold.get() > 0,
+			() -> "The " + FAIL_FAST + " parameter must be a positive integer, but was: "
+					+ getPropertiesValue(FAIL_FAST).orElse(""));
+		return threshold;
+	}
+
 	private Filter<?>[] getIncludeAndExcludeFilters() {
 		List<Filter<?>> filters = new ArrayList<>();
 
@@ -143,6 +199,10 @@ public class JUnitPlatformProvider extends AbstractProvider {
 		return filters.toArray(new Filter<?>[filters.size()]);
 	}
 
+	private Optional<String> getPropertiesValue(String key) {
+		return Optional.ofNullable(parameters.getProviderProperties().get(key));
+	}
+
 	private Optional<List<String>> getPropertiesList(String key) {
 		List<String> compoundProperties = null;
 		String property = parameters.getProviderProperties().get(key);
@@ -167,4 +227,25 @@ public class JUnitPlatformProvider extends AbstractProvider {
 		return elements;
 	}
 
+	/**
+	 * Counts the failed tests and containers of all classes executed by the
+	 * provider.
+	 */
+	private static class FailureCounter implements TestExecutionListener {
+
+		private final AtomicInteger failures = new AtomicInteger();
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			if (testExecutionResult.getStatus() == FAILED) {
+				failures.incrementAndGet();
+			}
+		}
+
+		int getFailures() {
+			return failures.get();
+		}
+
+	}
+
 }
@@ -16,11 +16,14 @@
 
 package org.junit.platform.surefire.provider;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -33,6 +36,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.maven.surefire.providerapi.ProviderParameters;
 import org.apache.maven.surefire.report.ReportEntry;
@@ -46,6 +50,9 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.launcher.core.LauncherFactory;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
@@ -186,6 +193,70 @@ class JUnitPlatformProviderTests {
 		assertEquals(0, provider.includeAndExcludeFilters.length);
 	}
 
+	@Test
+	void failFastSkipsRemainingClassesOnceThresholdIsReached() throws Exception {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(JUnitPlatformProvider.FAIL_FAST, "1");
+
+		ProviderParameters providerParameters = providerParametersMock();
+		when(providerParameters.getProviderProperties()).thenReturn(properties);
+		Launcher launcher = LauncherFactory.create();
+		JUnitPlatformProvider provider = new JUnitPlatformProvider(providerParameters, launcher);
+
+		TestPlanSummaryListener executionListener = new TestPlanSummaryListener();
+		launcher.registerTestExecutionListeners(executionListener);
+
+		provider.invoke(newTestsToRun(TestClass1.class, TestClass2.class));
+
+		assertThat(executionListener.summaries).hasSize(1);
+		assertEquals(1, executionListener.summaries.get(0).getTestsFailedCount());
+
+		RunListener reporter = providerParameters.getReporterFactory().createReporter();
+		ArgumentCaptor<ReportEntry> reportEntryArgumentCaptor = ArgumentCaptor.forClass(ReportEntry.class);
+		verify(reporter, atLeastOnce()).testSkipped(reportEntryArgumentCaptor.capture());
+		assertThat(reportEntryArgumentCaptor.getAllValues()).extracting(ReportEntry::getName).contains(
+			TestClass2.class.getName());
+	}
+
+	@Test
+	void failFastMustBePositive() {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(JUnitPlatformProvider.FAIL_FAST, "0");
+
+		ProviderParameters providerParameters = providerParametersMock(TestClass1.class);
+		when(providerParameters.getProviderProperties()).thenReturn(properties);
+
+		Throwable throwable = assertThrows(PreconditionViolationException.class,
+			() -> new JUnitPlatformProvider(providerParameters));
+
+		assertThat(throwable).hasMessageContaining(JUnitPlatformProvider.FAIL_FAST);
+	}
+
+	@Test
+	void allClassesOfAnInvocationShareTheRunOfTheResultHistory() throws Exception {
+		Map<String, String> properties = new HashMap<>();
+		properties.put(JUnitPlatformProvider.RESULT_HISTORY_FILE, "target/result-history.txt");
+
+		ProviderParameters providerParameters = providerParametersMock();
+		when(providerParameters.getProviderProperties()).thenReturn(properties);
+		Launcher launcher = mock(Launcher.class);
+		JUnitPlatformProvider provider = new JUnitPlatformProvider(providerParameters, launcher);
+
+		provider.invoke(newTestsToRun(TestClass1.class, TestClass2.class));
+
+		ArgumentCaptor<LauncherDiscoveryRequest> requestCaptor = ArgumentCaptor.forClass(
+			LauncherDiscoveryRequest.class);
+		verify(launcher, times(2)).execute(requestCaptor.capture(), any(TestExecutionListener.class));
+		// @formatter:off
+		List<Optional<String>> runs = requestCaptor.getAllValues().stream()
+				.map(request -> request.getConfigurationParameters().get(
+					LauncherConstants.RESULT_HISTORY_RUN_PROPERTY_NAME))
+				.collect(toList());
+		// @formatter:on
+		assertTrue(runs.get(0).isPresent());
+		assertEquals(runs.get(0), runs.get(1));
+	}
+
 	private void verifyPreconditionViolationException(Map<String, String> properties) {
 		ProviderParameters providerParameters = providerParametersMock(TestClass1.class);
 		when(providerParameters.getProviderProperties()).thenReturn(properties);
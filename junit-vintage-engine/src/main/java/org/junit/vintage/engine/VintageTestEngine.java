@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import org.junit.platform.commons.meta.API;
+import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
@@ -71,16 +72,28 @@ public class VintageTestEngine implements TestEngine {
 		TestDescriptor engineTestDescriptor = request.getRootTestDescriptor();
 		engineExecutionListener.executionStarted(engineTestDescriptor);
 		RunnerExecutor runnerExecutor = new RunnerExecutor(engineExecutionListener, LOG);
-		executeAllChildren(runnerExecutor, engineTestDescriptor);
+		executeAllChildren(runnerExecutor, engineTestDescriptor, engineExecutionListener,
+			request.getCancellationToken());
 		engineExecutionListener.executionFinished(engineTestDescriptor, successful());
 	}
 
-	private void executeAllChildren(RunnerExecutor runnerExecutor, TestDescriptor engineTestDescriptor) {
-		// @formatter:off
-		engineTestDescriptor.getChildren()
-			.stream()
-			.map(RunnerTestDescriptor.class::cast)
-			.forEach(runnerExecutor::execute);
-		// @formatter:on
+	/**
+	 * Execute all runners until the supplied {@link CancellationToken} has been
+	 * cancelled; the remaining runners are reported as skipped. The token is
+	 * only checked between runners since JUnit 4 cannot stop a runner that is
+	 * already executing.
+	 */
+	private void executeAllChildren(RunnerExecutor runnerExecutor, TestDescriptor engineTestDescriptor,
+			EngineExecutionListener engineExecutionListener, CancellationToken cancellationToken) {
+
+		for (TestDescriptor child : engineTestDescriptor.getChildren()) {
+			Optional<String> cancellationReason = cancellationToken.getReason();
+			if (cancellationReason.isPresent()) {
+				engineExecutionListener.executionSkipped(child, cancellationReason.get());
+			}
+			else {
+				runnerExecutor.execute((RunnerTestDescriptor) child);
+			}
+		}
 	}
 }
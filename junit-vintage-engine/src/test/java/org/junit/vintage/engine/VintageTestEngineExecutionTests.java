@@ -34,6 +34,11 @@ import java.util.List;
 import org.assertj.core.api.Condition;
 import org.junit.AssumptionViolatedException;
 import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.test.event.ExecutionEvent;
 import org.junit.platform.engine.test.event.ExecutionEventRecorder;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
@@ -479,6 +484,37 @@ class VintageTestEngineExecutionTests {
 			event(engine(), finishedSuccessfully()));
 	}
 
+	@Test
+	void skipsRemainingRunnersOnceCancellationTokenIsCancelled() {
+		Class<?> executedClass = PlainJUnit4TestCaseWithSingleTestWhichFails.class;
+		Class<?> skippedClass = PlainJUnit4TestCaseWithTwoTestMethods.class;
+		VintageTestEngine engine = new VintageTestEngine();
+		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectClass(executedClass),
+			selectClass(skippedClass)).build();
+		TestDescriptor engineDescriptor = engine.discover(discoveryRequest, UniqueId.forEngine(engine.getId()));
+		CancellationToken cancellationToken = CancellationToken.create();
+		ExecutionEventRecorder listener = new ExecutionEventRecorder() {
+
+			@Override
+			public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult result) {
+				super.executionFinished(testDescriptor, result);
+				cancellationToken.cancel("cancelled in test");
+			}
+		};
+
+		engine.execute(new ExecutionRequest(engineDescriptor, listener,
+			discoveryRequest.getConfigurationParameters(), cancellationToken));
+
+		assertRecordedExecutionEventsContainsExactly(listener.getExecutionEvents(), //
+			event(engine(), started()), //
+			event(container(executedClass), started()), //
+			event(test("failingTest"), started()), //
+			event(test("failingTest"), finishedWithFailure(message("this test should fail"))), //
+			event(container(executedClass), finishedSuccessfully()), //
+			event(container(skippedClass), skippedWithReason("cancelled in test")), //
+			event(engine(), finishedSuccessfully()));
+	}
+
 	private static List<ExecutionEvent> execute(Class<?> testClass) {
 		VintageTestEngine engine = new VintageTestEngine();
 		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectClass(testClass)).build();
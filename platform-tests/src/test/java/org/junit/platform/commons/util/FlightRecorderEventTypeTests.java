@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.FlightRecorderEventType.ActiveEvent;
+
+/**
+ * Unit tests for {@link FlightRecorderEventType}.
+ *
+ * <p>These tests do not start a recording, so the created event types are
+ * never enabled, regardless of whether the JVM supports Java Flight Recorder.
+ *
+ * @since 1.0
+ */
+class FlightRecorderEventTypeTests {
+
+	private final FlightRecorderEventType eventType = FlightRecorderEventType.create(
+		"org.junit.FlightRecorderEventTypeTests", "Flight Recorder Event Type Tests", "first", "second");
+
+	@Test
+	void eventTypeIsNotEnabledWithoutRecording() {
+		assertFalse(eventType.isEnabled());
+	}
+
+	@Test
+	void beginReturnsEventThatCanBeClosedWithoutRecording() {
+		ActiveEvent event = eventType.begin("a", "b");
+
+		assertNotNull(event);
+		event.close();
+	}
+
+	@Test
+	void beginDoesNotComputeValuesWithoutRecording() {
+		ActiveEvent event = eventType.begin(() -> {
+			throw new AssertionError("values must not be computed");
+		});
+
+		assertNotNull(event);
+		event.close();
+	}
+
+	@Test
+	void createRejectsBlankName() {
+		assertThrows(PreconditionViolationException.class, () -> FlightRecorderEventType.create(" ", "label"));
+	}
+
+	@Test
+	void createRejectsBlankLabel() {
+		assertThrows(PreconditionViolationException.class, () -> FlightRecorderEventType.create("name", ""));
+	}
+
+}
@@ -227,6 +227,37 @@ public class ReflectionUtilsTests {
 		assertTrue(InvocationTracker.privateStaticMethodInvoked);
 	}
 
+	@Test
+	void invokeMethodWithArgumentsUsesTheSameSemanticsAsReflection() throws Exception {
+		InvocationTracker tracker = new InvocationTracker();
+		Method method = InvocationTracker.class.getDeclaredMethod("sum", int.class, long.class);
+
+		assertEquals(3L, ReflectionUtils.invokeMethod(method, tracker, 1, 2L));
+		assertEquals(3L, ReflectionUtils.invokeMethod(method, tracker, 1, 2));
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+			() -> ReflectionUtils.invokeMethod(method, tracker, "1", 2L));
+		assertThat(exception).hasMessage("argument type mismatch");
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.invokeMethod(method, tracker, 1));
+		assertThrows(IllegalArgumentException.class, () -> ReflectionUtils.invokeMethod(method, new Object(), 1, 2L));
+	}
+
+	@Test
+	void invokeMethodRethrowsExceptionThrownByMethod() throws Exception {
+		Method method = InvocationTracker.class.getDeclaredMethod("throwingMethod");
+
+		for (int i = 0; i < 2; i++) {
+			IOException exception = assertThrows(IOException.class,
+				() -> ReflectionUtils.invokeMethod(method, new InvocationTracker()));
+			assertThat(exception).hasMessage("checked");
+		}
+	}
+
+	@Test
+	void newInstanceOfAbstractClassFailsAsWithReflection() {
+		assertThrows(InstantiationException.class, () -> ReflectionUtils.newInstance(AbstractClass.class));
+	}
+
 	@Test
 	void loadClassPreconditions() {
 		assertThrows(PreconditionViolationException.class, () -> ReflectionUtils.loadClass(null));
@@ -847,6 +878,16 @@ public class ReflectionUtilsTests {
 		private void privateMethod() {
 			privateMethodInvoked = true;
 		}
+
+		@SuppressWarnings("unused")
+		private long sum(int a, long b) {
+			return a + b;
+		}
+
+		@SuppressWarnings("unused")
+		void throwingMethod() throws IOException {
+			throw new IOException("checked");
+		}
 	}
 
 	static class FirstClass {
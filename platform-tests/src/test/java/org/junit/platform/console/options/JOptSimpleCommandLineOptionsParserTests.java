@@ -59,6 +59,13 @@ class JOptSimpleCommandLineOptionsParserTests {
 			() -> assertEquals(emptyList(), options.getExcludedTags()),
 			() -> assertEquals(emptyList(), options.getAdditionalClasspathEntries()),
 			() -> assertEquals(Optional.empty(), options.getReportsDir()),
+			() -> assertFalse(options.isResourceUsageReported()),
+			() -> assertEquals(Optional.empty(), options.getTraceFile()),
+			() -> assertEquals(0, options.getSlowestCount()),
+			() -> assertEquals(Optional.empty(), options.getDurationHistoryFile()),
+			() -> assertEquals(CommandLineOptions.DEFAULT_DURATION_REGRESSION_FACTOR, options.getDurationRegressionFactor()),
+			() -> assertEquals(0, options.getFailFastThreshold()),
+			() -> assertEquals(Optional.empty(), options.getResultHistoryFile()),
 			() -> assertEquals(emptyList(), options.getSelectedUris()),
 			() -> assertEquals(emptyList(), options.getSelectedFiles()),
 			() -> assertEquals(emptyList(), options.getSelectedDirectories()),
@@ -73,7 +80,8 @@ class JOptSimpleCommandLineOptionsParserTests {
 		assertAll(
 			() -> assertParses("disable ansi", CommandLineOptions::isAnsiColorOutputDisabled, "--disable-ansi-colors"),
 			() -> assertParses("help", CommandLineOptions::isDisplayHelp, "-h", "--help"),
-			() -> assertParses("scan class path", CommandLineOptions::isScanClasspath, "--scan-class-path")
+			() -> assertParses("scan class path", CommandLineOptions::isScanClasspath, "--scan-class-path"),
+			() -> assertParses("resource usage", CommandLineOptions::isResourceUsageReported, "--resource-usage")
 		);
 		// @formatter:on
 	}
@@ -286,6 +294,65 @@ class JOptSimpleCommandLineOptionsParserTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("--reports-dir");
 	}
 
+	@Test
+	public void parseValidTraceFiles() {
+		Path file = Paths.get("build", "trace.json");
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(Optional.of(file), parseArgLine("--trace-file build/trace.json").getTraceFile()),
+			() -> assertEquals(Optional.of(file), parseArgLine("--trace-file=build/trace.json").getTraceFile())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	public void parseInvalidTraceFiles() throws Exception {
+		assertOptionWithMissingRequiredArgumentThrowsException("--trace-file");
+	}
+
+	@Test
+	public void parseValidDurationOptions() {
+		Path file = Paths.get("build", "durations.tsv");
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(10, parseArgLine("--slowest 10").getSlowestCount()),
+			() -> assertEquals(Optional.of(file), parseArgLine("--duration-history build/durations.tsv").getDurationHistoryFile()),
+			() -> assertEquals(1.5, parseArgLine("--duration-regression-factor 1.5").getDurationRegressionFactor())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	public void parseInvalidDurationOptions() throws Exception {
+		assertOptionWithMissingRequiredArgumentThrowsException("--slowest", "--duration-history",
+			"--duration-regression-factor");
+		assertOptionWithInvalidArgumentThrowsException("is not a positive integer", "--slowest 0", "--slowest -1",
+			"--slowest=ten");
+		assertOptionWithInvalidArgumentThrowsException("is not a finite number greater than 1",
+			"--duration-regression-factor 1", "--duration-regression-factor 0.5",
+			"--duration-regression-factor -2", "--duration-regression-factor fast");
+	}
+
+	@Test
+	public void parseValidExecutionOptions() {
+		Path file = Paths.get("build", "results.txt");
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(1, parseArgLine("--fail-fast").getFailFastThreshold()),
+			() -> assertEquals(3, parseArgLine("--fail-fast 3").getFailFastThreshold()),
+			() -> assertEquals(3, parseArgLine("--fail-fast=3").getFailFastThreshold()),
+			() -> assertEquals(Optional.of(file), parseArgLine("--result-history build/results.txt").getResultHistoryFile())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	public void parseInvalidExecutionOptions() throws Exception {
+		assertOptionWithMissingRequiredArgumentThrowsException("--result-history");
+		assertOptionWithInvalidArgumentThrowsException("is not a positive integer", "--fail-fast 0", "--fail-fast -1",
+			"--fail-fast=many");
+	}
+
 	@Test
 	public void parseValidUriSelectors() {
 		// @formatter:off
@@ -485,6 +552,13 @@ class JOptSimpleCommandLineOptionsParserTests {
 		assertAll(stream(options).map(opt -> () -> assertThrows(JUnitException.class, () -> parseArgLine(opt))));
 	}
 
+	private void assertOptionWithInvalidArgumentThrowsException(String expectedMessage, String... argLines) {
+		assertAll(stream(argLines).map(argLine -> () -> {
+			JUnitException exception = assertThrows(JUnitException.class, () -> parseArgLine(argLine));
+			assertThat(exception.getCause().getCause()).hasMessageContaining(expectedMessage);
+		}));
+	}
+
 	private void assertParses(String name, Predicate<CommandLineOptions> property, String... argLines) {
 		stream(argLines).forEach(argLine -> {
 			CommandLineOptions options = parseArgLine(argLine);
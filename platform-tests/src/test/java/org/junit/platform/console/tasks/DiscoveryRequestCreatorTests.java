@@ -24,6 +24,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.console.options.CommandLineOptions;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.ClassSelector;
 import org.junit.platform.engine.discovery.ClasspathResourceSelector;
@@ -35,6 +36,7 @@ import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UriSelector;
 import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 
@@ -258,6 +260,29 @@ public class DiscoveryRequestCreatorTests {
 			ClasspathResourceSelector::getClasspathResourceName).containsExactly("foo.csv", "com/example/bar.json");
 	}
 
+	@Test
+	public void convertsExecutionOptionsToConfigurationParameters() {
+		options.setSelectedClasses(singletonList("com.acme.Foo"));
+		options.setFailFastThreshold(3);
+		options.setResultHistoryFile(Paths.get("build", "results.txt"));
+
+		LauncherDiscoveryRequest request = convert();
+		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+
+		assertThat(configurationParameters.get(LauncherConstants.FAIL_FAST_THRESHOLD_PROPERTY_NAME)).contains("3");
+		assertThat(configurationParameters.get(LauncherConstants.RESULT_HISTORY_FILE_PROPERTY_NAME)).contains(
+			Paths.get("build", "results.txt").toString());
+	}
+
+	@Test
+	public void doesNotAddConfigurationParametersWithoutExecutionOptions() {
+		options.setSelectedClasses(singletonList("com.acme.Foo"));
+
+		LauncherDiscoveryRequest request = convert();
+
+		assertThat(request.getConfigurationParameters().size()).isEqualTo(0);
+	}
+
 	private LauncherDiscoveryRequest convert() {
 		DiscoveryRequestCreator creator = new DiscoveryRequestCreator();
 		return creator.toDiscoveryRequest(options);
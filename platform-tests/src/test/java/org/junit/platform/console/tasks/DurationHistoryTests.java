@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+
+/**
+ * @since 1.0
+ */
+@ExtendWith(TempDirectory.class)
+class DurationHistoryTests {
+
+	@Test
+	void readsNoBaselinesIfHistoryFileDoesNotExist(@Root Path tempDirectory) throws Exception {
+		DurationHistory history = new DurationHistory(tempDirectory.resolve("missing.tsv"));
+
+		assertTrue(history.readBaselines().isEmpty());
+	}
+
+	@Test
+	void readsMedianOfMostRecentRuns(@Root Path tempDirectory) throws Exception {
+		Path file = tempDirectory.resolve("history/durations.tsv");
+		DurationHistory history = new DurationHistory(file);
+
+		for (int run = 1; run <= DurationHistory.RECENT_RUNS + 2; run++) {
+			history.append(Instant.ofEpochSecond(run), Collections.singletonMap("[engine:e]", Duration.ofMillis(run)));
+		}
+		Map<String, Duration> baselines = history.readBaselines();
+
+		assertEquals(Collections.singletonMap("[engine:e]", Duration.ofMillis(5)), baselines);
+		assertEquals(1, Files.readAllLines(file, UTF_8).stream().filter(line -> line.startsWith("#")).count());
+	}
+
+	@Test
+	void ignoresMalformedLines(@Root Path tempDirectory) throws Exception {
+		Path file = tempDirectory.resolve("durations.tsv");
+		Files.write(file, asList("# comment", "garbage", "2017-06-01T00:00:00Z\tNaN\t[engine:e]",
+			"2017-06-01T00:00:00Z\t42\t[engine:e]/[test:a\tb]"), UTF_8);
+
+		Map<String, Duration> baselines = new DurationHistory(file).readBaselines();
+
+		assertEquals(Collections.singletonMap("[engine:e]/[test:a\tb]", Duration.ofNanos(42)), baselines);
+	}
+
+}
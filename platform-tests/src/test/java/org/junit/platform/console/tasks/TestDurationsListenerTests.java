@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.test.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * @since 1.0
+ */
+class TestDurationsListenerTests {
+
+	TestPlan testPlan = TestPlan.from(Collections.emptyList());
+
+	@Test
+	void recordsDurationsByUniqueId() {
+		TestDurationsListener listener = new TestDurationsListener(incrementingNanoTime(Duration.ofSeconds(1)));
+		TestIdentifier test = createTestIdentifier("test");
+
+		listener.testPlanExecutionStarted(testPlan);
+		run(listener, test);
+
+		assertEquals(Collections.singletonMap(test.getUniqueId(), Duration.ofSeconds(1)), listener.getDurations());
+	}
+
+	@Test
+	void printsSlowestTestsAndContainersFirst() {
+		TestDurationsListener listener = new TestDurationsListener(incrementingNanoTime(Duration.ofSeconds(1)));
+		TestIdentifier container = createTestIdentifier("container");
+		TestIdentifier test = createTestIdentifier("test");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(container);
+		run(listener, test);
+		listener.executionFinished(container, successful());
+
+		StringWriter out = new StringWriter();
+		listener.printSlowestTo(new PrintWriter(out), 1);
+
+		assertThat(out.toString()).containsSequence("Slowest 1 tests and containers:", "3000 ms", "container");
+		assertThat(out.toString()).doesNotContain("1000 ms");
+	}
+
+	@Test
+	void printsTestsExceedingTheirBaselineByTheSuppliedFactor() {
+		TestDurationsListener listener = new TestDurationsListener(incrementingNanoTime(Duration.ofSeconds(1)));
+		TestIdentifier regressed = createTestIdentifier("regressed");
+		TestIdentifier stable = createTestIdentifier("stable");
+		Map<String, Duration> baselines = new HashMap<>();
+		baselines.put(regressed.getUniqueId(), Duration.ofMillis(100));
+		baselines.put(stable.getUniqueId(), Duration.ofMillis(900));
+
+		listener.testPlanExecutionStarted(testPlan);
+		run(listener, regressed);
+		run(listener, stable);
+
+		StringWriter out = new StringWriter();
+		listener.printRegressionsTo(new PrintWriter(out), baselines, 2.0);
+
+		assertThat(out.toString()).containsSequence("1 tests and containers took more than 2.0 times", "1000 ms",
+			"(median 100 ms)", "regressed");
+		assertThat(out.toString()).doesNotContain("stable");
+	}
+
+	@Test
+	void doesNotPrintRegressionsSmallerThanMinimum() {
+		TestDurationsListener listener = new TestDurationsListener(incrementingNanoTime(Duration.ofMillis(5)));
+		TestIdentifier test = createTestIdentifier("fast");
+
+		listener.testPlanExecutionStarted(testPlan);
+		run(listener, test);
+
+		StringWriter out = new StringWriter();
+		listener.printRegressionsTo(new PrintWriter(out), Collections.singletonMap(test.getUniqueId(),
+			Duration.ofMillis(1)), 2.0);
+
+		assertEquals("", out.toString());
+	}
+
+	private static LongSupplier incrementingNanoTime(Duration increment) {
+		AtomicLong nanoTime = new AtomicLong();
+		return () -> nanoTime.addAndGet(increment.toNanos());
+	}
+
+	private void run(TestDurationsListener listener, TestIdentifier test) {
+		listener.executionStarted(test);
+		listener.executionFinished(test, successful());
+	}
+
+	private TestIdentifier createTestIdentifier(String uniqueId) {
+		TestIdentifier identifier = TestIdentifier.from(
+			new TestDescriptorStub(UniqueId.root("test", uniqueId), uniqueId));
+		testPlan.add(identifier);
+		return identifier;
+	}
+
+}
@@ -19,6 +19,7 @@ import static org.junit.platform.engine.TestExecutionResult.successful;
 
 import java.io.StringWriter;
 import java.time.Clock;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.platform.engine.UniqueId;
@@ -27,6 +28,7 @@ import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.engine.test.TestDescriptorStub;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.ResourceUsageListener;
 
 /**
  * @since 1.0
@@ -80,6 +82,40 @@ class XmlReportWriterTests {
 		//@formatter:on
 	}
 
+	@Test
+	void writesResourceUsageToSystemOutElement() throws Exception {
+		EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		engineDescriptor.addChild(new TestDescriptorStub(UniqueId.root("test", "successfulTest"), "successfulTest"));
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestIdentifier testIdentifier = testPlan.getTestIdentifier("[test:successfulTest]");
+
+		ResourceUsageListener resourceUsageListener = new ResourceUsageListener();
+		resourceUsageListener.testPlanExecutionStarted(testPlan);
+		resourceUsageListener.executionStarted(testIdentifier);
+		resourceUsageListener.executionFinished(testIdentifier, successful());
+
+		XmlReportData reportData = new XmlReportData(testPlan, Clock.systemDefaultZone(),
+			Optional.of(resourceUsageListener));
+		reportData.markFinished(testIdentifier, successful());
+
+		StringWriter out = new StringWriter();
+		new XmlReportWriter(reportData).writeXmlReport(getOnlyElement(testPlan.getRoots()), out);
+
+		String content = ensureValidAccordingToJenkinsSchema(out.toString());
+		//@formatter:off
+		assertThat(content)
+			.containsSequence(
+				"<testcase name=\"successfulTest\"",
+				"<system-out>",
+				"display-name: successfulTest",
+				"wall-time: ",
+				"gc-count: ",
+				"gc-time: ",
+				"</system-out>",
+				"</testcase>");
+		//@formatter:on
+	}
+
 	@Test
 	void writesEmptySkippedElementForSkippedTestWithoutReason() throws Exception {
 		EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
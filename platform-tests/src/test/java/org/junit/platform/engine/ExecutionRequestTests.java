@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.PreconditionViolationException;
+
+/**
+ * Unit tests for {@link ExecutionRequest}.
+ *
+ * @since 1.0
+ */
+class ExecutionRequestTests {
+
+	private final TestDescriptor rootTestDescriptor = mock(TestDescriptor.class);
+
+	private final EngineExecutionListener listener = mock(EngineExecutionListener.class);
+
+	@Test
+	void requestWithoutCancellationTokenUsesDisabledToken() {
+		ExecutionRequest request = new ExecutionRequest(rootTestDescriptor, listener, null);
+
+		request.getCancellationToken().cancel("ignored");
+
+		assertFalse(request.getCancellationToken().isCancelled());
+	}
+
+	@Test
+	void cancellationTokenMustNotBeNull() {
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> new ExecutionRequest(rootTestDescriptor, listener, null, null));
+
+		assertEquals("cancellationToken must not be null", exception.getMessage());
+	}
+
+}
@@ -11,11 +11,13 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -25,8 +27,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.CancellationToken;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestExecutionResult;
@@ -166,6 +173,47 @@ public class HierarchicalTestExecutorTests {
 		verify(listener, never()).executionFinished(eq(child), any(TestExecutionResult.class));
 	}
 
+	@Test
+	public void remainingChildrenAreSkippedOnceCancellationTokenIsCancelled() throws Exception {
+
+		CancellationToken cancellationToken = CancellationToken.create();
+		MyLeaf failingChild = spy(new MyLeaf(UniqueId.root("leaf", "failing leaf")));
+		when(failingChild.execute(eq(rootContext), any())).thenAnswer(invocation -> {
+			cancellationToken.cancel("in test");
+			throw new RuntimeException("fail");
+		});
+		MyLeaf skippedChild = spy(new MyLeaf(UniqueId.root("leaf", "skipped leaf")));
+		root.addChild(failingChild);
+		root.addChild(skippedChild);
+		executor = new MyExecutor(new ExecutionRequest(root, listener, null, cancellationToken), rootContext);
+
+		InOrder inOrder = inOrder(listener, root);
+
+		executor.execute();
+
+		inOrder.verify(listener).executionStarted(root);
+		inOrder.verify(listener).executionFinished(eq(failingChild), any(TestExecutionResult.class));
+		inOrder.verify(listener).executionSkipped(skippedChild, "in test");
+		inOrder.verify(root).after(rootContext);
+		inOrder.verify(listener).executionFinished(eq(root), any(TestExecutionResult.class));
+		verify(listener, never()).executionStarted(skippedChild);
+		verifyNoMoreInteractions(skippedChild);
+	}
+
+	@Test
+	public void rootIsSkippedIfCancellationTokenIsCancelledBeforeExecution() throws Exception {
+
+		CancellationToken cancellationToken = CancellationToken.create();
+		cancellationToken.cancel("in test");
+		executor = new MyExecutor(new ExecutionRequest(root, listener, null, cancellationToken), rootContext);
+
+		executor.execute();
+
+		verify(listener).executionSkipped(root, "in test");
+		verifyNoMoreInteractions(listener);
+		verify(root, never()).prepare(rootContext);
+	}
+
 	@Test
 	public void exceptionInShouldBeSkipped() throws Exception {
 
@@ -364,6 +412,87 @@ public class HierarchicalTestExecutorTests {
 			TestExecutionResult.Status.SUCCESSFUL, TestExecutionResult.Status.SUCCESSFUL);
 	}
 
+	@Test
+	public void executionTimeoutOfContainerInterruptsExecution() throws Exception {
+
+		MyLeaf child = spy(new MyLeaf(UniqueId.root("leaf", "leaf")));
+		when(child.execute(eq(rootContext), any())).thenAnswer(invocation -> {
+			Thread.sleep(10_000);
+			return invocation.getArgument(0);
+		});
+		MyLeaf skippedChild = spy(new MyLeaf(UniqueId.root("leaf", "skipped leaf")));
+		when(root.getExecutionTimeout(rootContext)).thenReturn(Optional.of(Duration.ofMillis(10)));
+		root.addChild(child);
+		root.addChild(skippedChild);
+
+		InOrder inOrder = inOrder(listener, root, child);
+
+		executor.execute();
+
+		ArgumentCaptor<TestExecutionResult> childExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		ArgumentCaptor<TestExecutionResult> rootExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		inOrder.verify(root).getExecutionTimeout(rootContext);
+		inOrder.verify(listener).executionStarted(root);
+		inOrder.verify(listener).executionFinished(eq(child), childExecutionResult.capture());
+		inOrder.verify(listener).executionSkipped(skippedChild, "Execution timed out");
+		inOrder.verify(root).after(rootContext);
+		inOrder.verify(listener).executionFinished(eq(root), rootExecutionResult.capture());
+
+		assertThat(childExecutionResult.getValue().getThrowable().get()).isInstanceOf(InterruptedException.class);
+		assertThat(rootExecutionResult.getValue().getThrowable().get())//
+				.isInstanceOf(ExecutionTimeoutException.class)//
+				.hasMessage("[container:root] timed out after 10 ms");
+		assertFalse(Thread.currentThread().isInterrupted(), "interrupt status must be cleared");
+		verifyNoMoreInteractions(skippedChild);
+	}
+
+	@Test
+	public void interruptStatusIsClearedBeforeAfterOfTimedOutContainer() throws Exception {
+
+		MyLeaf child = spy(new MyLeaf(UniqueId.root("leaf", "leaf")));
+		when(child.execute(eq(rootContext), any())).thenAnswer(invocation -> {
+			long end = System.nanoTime() + Duration.ofMillis(200).toNanos();
+			while (System.nanoTime() < end) {
+				// ignore the interrupt
+			}
+			return invocation.getArgument(0);
+		});
+		AtomicBoolean interruptedInAfter = new AtomicBoolean(true);
+		doAnswer(invocation -> {
+			interruptedInAfter.set(Thread.currentThread().isInterrupted());
+			return null;
+		}).when(root).after(rootContext);
+		when(root.getExecutionTimeout(rootContext)).thenReturn(Optional.of(Duration.ofMillis(10)));
+		root.addChild(child);
+
+		executor.execute();
+
+		ArgumentCaptor<TestExecutionResult> rootExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		verify(root).after(rootContext);
+		verify(listener).executionFinished(eq(root), rootExecutionResult.capture());
+
+		assertFalse(interruptedInAfter.get(), "interrupt status must be cleared before after()");
+		assertThat(rootExecutionResult.getValue().getThrowable().get())//
+				.isInstanceOf(ExecutionTimeoutException.class);
+		assertFalse(Thread.currentThread().isInterrupted(), "interrupt status must be cleared");
+	}
+
+	@Test
+	public void exceptionInGetExecutionTimeout() throws Exception {
+
+		RuntimeException anException = new RuntimeException("in timeout");
+		when(root.getExecutionTimeout(rootContext)).thenThrow(anException);
+
+		executor.execute();
+
+		ArgumentCaptor<TestExecutionResult> rootExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		verify(listener).executionStarted(root);
+		verify(listener).executionFinished(eq(root), rootExecutionResult.capture());
+		verify(root, never()).before(rootContext);
+
+		assertSame(anException, rootExecutionResult.getValue().getThrowable().get());
+	}
+
 	/**
 	 * Verifies support for blacklisted exceptions.
 	 */
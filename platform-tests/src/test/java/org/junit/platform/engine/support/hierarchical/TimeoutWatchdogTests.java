@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TimeoutWatchdog}.
+ *
+ * @since 1.0
+ */
+class TimeoutWatchdogTests {
+
+	private final TimeoutWatchdog watchdog = new TimeoutWatchdog();
+
+	@Test
+	void returnsResultOfExecutionWithinTimeout() throws Exception {
+		assertEquals("result", watchdog.execute(Duration.ofSeconds(10), () -> "test", () -> "result"));
+	}
+
+	@Test
+	void executesWithoutTimeoutForNullOrZeroDuration() throws Exception {
+		assertEquals("result", watchdog.execute(null, () -> "test", () -> "result"));
+		assertEquals("result", watchdog.execute(Duration.ZERO, () -> "test", () -> "result"));
+	}
+
+	@Test
+	void rethrowsExceptionOfExecutionWithinTimeout() {
+		IllegalStateException exception = new IllegalStateException("boom");
+
+		Throwable actual = assertThrows(IllegalStateException.class,
+			() -> watchdog.execute(Duration.ofSeconds(10), () -> "test", () -> {
+				throw exception;
+			}));
+
+		assertSame(exception, actual);
+	}
+
+	@Test
+	void interruptsExecutionExceedingTimeout() {
+		ExecutionTimeoutException exception = assertThrows(ExecutionTimeoutException.class,
+			() -> watchdog.execute(Duration.ofMillis(10), () -> "sleeping test", () -> {
+				Thread.sleep(10_000);
+				return null;
+			}));
+
+		assertEquals("sleeping test timed out after 10 ms", exception.getMessage());
+		assertThat(exception.getStackTrace()[0].getMethodName()).isEqualTo("sleep");
+		assertThat(exception.getThreadDump()).contains("\"" + Thread.currentThread().getName() + "\"");
+		assertThat(exception.getSuppressed()).hasSize(2);
+		assertThat(exception.getSuppressed()[1]).isInstanceOf(InterruptedException.class);
+		assertFalse(Thread.currentThread().isInterrupted(), "interrupt status must be cleared");
+	}
+
+	@Test
+	void failsExecutionThatIgnoresInterruptOnceItReturns() {
+		ExecutionTimeoutException exception = assertThrows(ExecutionTimeoutException.class,
+			() -> watchdog.execute(Duration.ofMillis(10), () -> "busy test", () -> {
+				long end = System.nanoTime() + Duration.ofMillis(200).toNanos();
+				while (System.nanoTime() < end) {
+					// ignore the interrupt
+				}
+				return "result";
+			}));
+
+		assertEquals("busy test timed out after 10 ms", exception.getMessage());
+		assertFalse(Thread.currentThread().isInterrupted(), "interrupt status must be cleared");
+	}
+
+	@Test
+	void formatsTimeoutInLargestExactUnit() {
+		assertEquals("2 s", TimeoutWatchdog.format(Duration.ofSeconds(2)));
+		assertEquals("1500 ms", TimeoutWatchdog.format(Duration.ofMillis(1500)));
+		assertEquals("42 ns", TimeoutWatchdog.format(Duration.ofNanos(42)));
+	}
+
+	@Test
+	void capsTimeoutsExceedingLongRangeOfNanoseconds() throws Exception {
+		Duration timeout = Duration.ofSeconds(Long.MAX_VALUE);
+
+		assertEquals(Long.MAX_VALUE, TimeoutWatchdog.toNanos(timeout));
+		assertEquals("result", watchdog.execute(timeout, () -> "test", () -> "result"));
+		assertEquals(Long.MAX_VALUE + " s", TimeoutWatchdog.format(timeout));
+		assertEquals("PT2562047788015H12M55.5S",
+			TimeoutWatchdog.format(Duration.ofSeconds(Long.MAX_VALUE / 1000, 500_000_000)));
+	}
+
+}
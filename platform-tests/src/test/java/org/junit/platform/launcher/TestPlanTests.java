@@ -0,0 +1,314 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.launcher.LauncherConstants.TEST_PLAN_COMPACT_STORAGE_ENABLED_PROPERTY_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.test.TestDescriptorStub;
+
+/**
+ * @since 1.0
+ */
+class TestPlanTests {
+
+	private final EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+
+	private final TestDescriptor container = new ContainerStub(engineDescriptor.getUniqueId().append("class", "a"),
+		"container");
+
+	private final TestDescriptor test1 = new TaggedTestStub(container.getUniqueId().append("test", "1"), "test1");
+
+	private final TestDescriptor test2 = new TaggedTestStub(container.getUniqueId().append("test", "2"), "test2");
+
+	{
+		engineDescriptor.addChild(container);
+		container.addChild(test1);
+		container.addChild(test2);
+	}
+
+	@Test
+	void defaultStorageRetainsAddedIdentifiers() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestIdentifier identifier = TestIdentifier.from(test1);
+
+		testPlan.add(identifier);
+
+		assertSame(identifier, testPlan.getTestIdentifier(identifier.getUniqueId()));
+		assertTreeStructure(testPlan);
+	}
+
+	@Test
+	void compactStorageMaterializesEqualIdentifiers() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor), compactStorage());
+
+		assertTreeStructure(testPlan);
+
+		TestIdentifier identifier = testPlan.getTestIdentifier(test1.getUniqueId().toString());
+		assertNotSame(identifier, testPlan.getTestIdentifier(test1.getUniqueId().toString()));
+		assertEquals("test1", identifier.getDisplayName());
+		assertEquals("test1", identifier.getLegacyReportingName());
+		assertEquals(TestDescriptor.Type.TEST, identifier.getType());
+		assertThat(identifier.getSource()).contains(new ClassSource(TestPlanTests.class));
+		assertThat(identifier.getTags()).containsExactly(TestTag.create("fast"));
+		assertThat(identifier.getParentId()).contains(container.getUniqueId().toString());
+	}
+
+	@Test
+	void compactStorageSharesTagSetsAndSourcesBetweenIdentifiers() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor), compactStorage());
+
+		TestIdentifier first = testPlan.getTestIdentifier(test1.getUniqueId().toString());
+		TestIdentifier second = testPlan.getTestIdentifier(test2.getUniqueId().toString());
+
+		assertSame(first.getTags(), second.getTags());
+		assertSame(first.getSource().get(), second.getSource().get());
+		assertSame(first.getParentId().get(), second.getParentId().get());
+	}
+
+	@Test
+	void childrenMayBeAddedBeforeTheirParent() {
+		TestPlan testPlan = TestPlan.from(singleton(new EngineDescriptor(UniqueId.forEngine("other"), "Other")),
+			compactStorage());
+		TestIdentifier parent = TestIdentifier.from(container);
+		TestIdentifier child = TestIdentifier.from(test1);
+
+		testPlan.add(child);
+		assertThrows(PreconditionViolationException.class, () -> testPlan.getParent(child));
+
+		testPlan.add(parent);
+		assertThat(testPlan.getParent(child)).contains(parent);
+		assertThat(testPlan.getChildren(parent)).containsExactly(child);
+	}
+
+	@Test
+	void addingAnIdentifierTwiceDoesNotDuplicateIt() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor), compactStorage());
+
+		testPlan.add(TestIdentifier.from(test1));
+
+		assertThat(testPlan.getChildren(container.getUniqueId().toString())).hasSize(2);
+		assertEquals(4, testPlan.countTestIdentifiers(identifier -> true));
+	}
+
+	@Test
+	void unknownUniqueIdsAreRejected() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor), compactStorage());
+
+		assertThrows(PreconditionViolationException.class, () -> testPlan.getTestIdentifier("[engine:unknown]"));
+		assertThat(testPlan.getChildren("[engine:unknown]")).isEmpty();
+	}
+
+	@Test
+	void indexedSubtreeQueries() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestIdentifier engine = TestIdentifier.from(engineDescriptor);
+		TestIdentifier containerIdentifier = TestIdentifier.from(container);
+
+		assertThat(testPlan.getDescendantTests(engine)).containsExactly(TestIdentifier.from(test1),
+			TestIdentifier.from(test2));
+		assertThat(testPlan.getDescendantContainers(engine)).containsExactly(containerIdentifier);
+		assertThat(testPlan.getDescendantsWithTag(engine, TestTag.create("fast"))).containsExactly(
+			TestIdentifier.from(test1), TestIdentifier.from(test2));
+		assertThat(testPlan.getDescendantsWithTag(engine, TestTag.create("slow"))).isEmpty();
+		assertEquals(2, testPlan.countDescendantTests(engine));
+		assertEquals(2, testPlan.countDescendantTests(containerIdentifier));
+		assertEquals(0, testPlan.countDescendantTests(TestIdentifier.from(test1)));
+		assertEquals(1, testPlan.countDescendantContainers(engine));
+	}
+
+	@Test
+	void ancestorQueries() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor), compactStorage());
+		TestIdentifier engine = TestIdentifier.from(engineDescriptor);
+		TestIdentifier containerIdentifier = TestIdentifier.from(container);
+		TestIdentifier test = TestIdentifier.from(test1);
+
+		assertThat(testPlan.getAncestors(test)).containsExactly(containerIdentifier, engine);
+		assertThat(testPlan.getAncestors(engine)).isEmpty();
+		assertTrue(testPlan.isDescendant(engine, test));
+		assertTrue(testPlan.isDescendant(containerIdentifier, test));
+		assertFalse(testPlan.isDescendant(test, engine));
+		assertFalse(testPlan.isDescendant(test, test));
+	}
+
+	@Test
+	void indexedSubtreeQueriesReflectDynamicallyAddedTests() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestIdentifier engine = TestIdentifier.from(engineDescriptor);
+		TestIdentifier containerIdentifier = TestIdentifier.from(container);
+		assertEquals(2, testPlan.countDescendantTests(engine));
+
+		TestDescriptor dynamicTest = new TaggedTestStub(test2.getUniqueId().append("dynamic-test", "#1"), "dynamic");
+		test2.addChild(dynamicTest);
+		testPlan.add(TestIdentifier.from(dynamicTest));
+
+		assertEquals(3, testPlan.countDescendantTests(engine));
+		assertEquals(1, testPlan.countDescendantTests(TestIdentifier.from(test2)));
+		assertThat(testPlan.getDescendantTests(containerIdentifier)).containsExactly(TestIdentifier.from(test1),
+			TestIdentifier.from(test2), TestIdentifier.from(dynamicTest));
+		assertThat(testPlan.getAncestors(TestIdentifier.from(dynamicTest))).containsExactly(
+			TestIdentifier.from(test2), containerIdentifier, engine);
+	}
+
+	@Test
+	void removedDynamicTestsAreNoLongerPartOfTheTestPlan() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor), compactStorage());
+		TestIdentifier engine = TestIdentifier.from(engineDescriptor);
+		TestIdentifier parent = TestIdentifier.from(test2);
+
+		for (int i = 1; i <= 100; i++) {
+			TestDescriptor dynamicTest = new TaggedTestStub(test2.getUniqueId().append("dynamic-test", "#" + i),
+				"dynamic");
+			TestIdentifier identifier = TestIdentifier.from(dynamicTest);
+			testPlan.add(identifier);
+			assertThat(testPlan.getChildren(parent)).containsExactly(identifier);
+			assertEquals(3, testPlan.countDescendantTests(engine));
+
+			testPlan.remove(identifier);
+
+			assertThat(testPlan.getChildren(parent)).isEmpty();
+			assertEquals(2, testPlan.countDescendantTests(engine));
+			assertThrows(PreconditionViolationException.class,
+				() -> testPlan.getTestIdentifier(identifier.getUniqueId()));
+		}
+
+		assertTreeStructure(testPlan);
+	}
+
+	@Test
+	void indexedSubtreeQueriesStayCorrectWhileManyDynamicTestsAreAddedAndRemoved() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestIdentifier engine = TestIdentifier.from(engineDescriptor);
+		TestIdentifier containerIdentifier = TestIdentifier.from(container);
+		TestIdentifier parent = TestIdentifier.from(test2);
+		TestTag fast = TestTag.create("fast");
+		assertThat(testPlan.getDescendantTests(engine)).hasSize(2);
+
+		List<TestIdentifier> dynamicTests = new ArrayList<>();
+		for (int i = 1; i <= 500; i++) {
+			TestDescriptor dynamicTest = new TaggedTestStub(test2.getUniqueId().append("dynamic-test", "#" + i),
+				"dynamic");
+			TestIdentifier identifier = TestIdentifier.from(dynamicTest);
+			testPlan.add(identifier);
+			dynamicTests.add(identifier);
+			if (i % 2 == 0) {
+				testPlan.remove(dynamicTests.remove(0));
+			}
+
+			assertEquals(2 + dynamicTests.size(), testPlan.countDescendantTests(engine));
+			assertEquals(dynamicTests.size(), testPlan.countDescendantTests(parent));
+			assertEquals(1, testPlan.countDescendantContainers(engine));
+			if (i % 50 == 0) {
+				assertThat(testPlan.getDescendantTests(parent)).containsExactlyElementsOf(dynamicTests);
+				assertThat(testPlan.getDescendantsWithTag(containerIdentifier, fast)).hasSize(2 + dynamicTests.size());
+				assertThat(testPlan.getDescendantContainers(engine)).containsExactly(containerIdentifier);
+			}
+		}
+	}
+
+	@Test
+	void identifiersWithChildrenCannotBeRemoved() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+
+		assertThrows(PreconditionViolationException.class, () -> testPlan.remove(TestIdentifier.from(container)));
+		assertThrows(PreconditionViolationException.class, () -> testPlan.remove(TestIdentifier.from(
+			new TaggedTestStub(container.getUniqueId().append("test", "unknown"), "unknown"))));
+		assertTreeStructure(testPlan);
+	}
+
+	@Test
+	void removingIdentifiersKeepsRemainingIdentifiersAccessible() {
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+
+		testPlan.remove(TestIdentifier.from(test1));
+
+		assertThat(testPlan.getChildren(TestIdentifier.from(container))).containsExactly(TestIdentifier.from(test2));
+		assertEquals(TestIdentifier.from(test2), testPlan.getTestIdentifier(test2.getUniqueId().toString()));
+		assertEquals(TestIdentifier.from(container), testPlan.getTestIdentifier(container.getUniqueId().toString()));
+		assertEquals(1, testPlan.countTestIdentifiers(TestIdentifier::isTest));
+	}
+
+	private void assertTreeStructure(TestPlan testPlan) {
+		TestIdentifier engine = TestIdentifier.from(engineDescriptor);
+		TestIdentifier containerIdentifier = TestIdentifier.from(container);
+
+		assertThat(testPlan.getRoots()).containsExactly(engine);
+		assertThat(testPlan.getChildren(engine)).containsExactly(containerIdentifier);
+		assertThat(testPlan.getChildren(containerIdentifier)).containsExactly(TestIdentifier.from(test1),
+			TestIdentifier.from(test2));
+		assertThat(testPlan.getDescendants(engine)).containsExactly(containerIdentifier, TestIdentifier.from(test1),
+			TestIdentifier.from(test2));
+		assertThat(testPlan.getParent(TestIdentifier.from(test2))).contains(containerIdentifier);
+		assertEquals(2, testPlan.countTestIdentifiers(TestIdentifier::isTest));
+	}
+
+	private static ConfigurationParameters compactStorage() {
+		ConfigurationParameters configurationParameters = mock(ConfigurationParameters.class);
+		when(configurationParameters.getBoolean(TEST_PLAN_COMPACT_STORAGE_ENABLED_PROPERTY_NAME)).thenReturn(
+			Optional.of(true));
+		return configurationParameters;
+	}
+
+	private static class ContainerStub extends AbstractTestDescriptor {
+
+		ContainerStub(UniqueId uniqueId, String displayName) {
+			super(uniqueId, displayName);
+		}
+
+		@Override
+		public Type getType() {
+			return Type.CONTAINER;
+		}
+	}
+
+	private static class TaggedTestStub extends TestDescriptorStub {
+
+		TaggedTestStub(UniqueId uniqueId, String displayName) {
+			super(uniqueId, displayName);
+		}
+
+		@Override
+		public Optional<TestSource> getSource() {
+			return Optional.of(new ClassSource(TestPlanTests.class));
+		}
+
+		@Override
+		public Set<TestTag> getTags() {
+			return singleton(TestTag.create("fast"));
+		}
+	}
+
+}
@@ -10,6 +10,8 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -21,9 +23,15 @@ import static org.junit.platform.launcher.EngineFilter.includeEngines;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -35,6 +43,8 @@ import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescri
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
 import org.junit.platform.engine.test.TestEngineSpy;
 import org.junit.platform.engine.test.TestEngineStub;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.junit.platform.launcher.PostDiscoveryFilterStub;
 import org.junit.platform.launcher.TestExecutionListener;
@@ -353,4 +363,120 @@ class DefaultLauncherTests {
 		assertThat(listener.getSummary().getContainersFoundCount()).isEqualTo(1);
 		assertThat(listener.getSummary().getTestsFoundCount()).isEqualTo(1);
 	}
+
+	@Test
+	void failFastSkipsRemainingTestsAndEnginesOnceThresholdIsReached() {
+		DemoHierarchicalTestEngine firstEngine = new DemoHierarchicalTestEngine("first");
+		firstEngine.addTest("test1", () -> {
+			throw new AssertionError("test1");
+		});
+		firstEngine.addTest("test2", noOp);
+		firstEngine.addTest("test3", () -> {
+			throw new AssertionError("test3");
+		});
+		firstEngine.addTest("test4", noOp);
+		DemoHierarchicalTestEngine secondEngine = new DemoHierarchicalTestEngine("second");
+		secondEngine.addTest("test5", noOp);
+		RecordingListener listener = new RecordingListener();
+
+		DefaultLauncher launcher = createLauncher(firstEngine, secondEngine);
+		launcher.execute(request().configurationParameter(LauncherConstants.FAIL_FAST_THRESHOLD_PROPERTY_NAME,
+			"2").build(), listener);
+
+		assertThat(listener.started).containsExactly("first", "test1", "test2", "test3");
+		assertThat(listener.skipped).containsExactly("test4", "second");
+		assertThat(listener.skipReasons).containsOnly(
+			"Execution cancelled by fail-fast after 2 failed tests or containers");
+	}
+
+	@Test
+	void invalidFailFastThresholdIsRejected() {
+		DefaultLauncher launcher = createLauncher(new DemoHierarchicalTestEngine());
+
+		JUnitException exception = assertThrows(JUnitException.class, () -> launcher.execute(
+			request().configurationParameter(LauncherConstants.FAIL_FAST_THRESHOLD_PROPERTY_NAME, "many").build()));
+
+		assertThat(exception).hasMessageContaining(LauncherConstants.FAIL_FAST_THRESHOLD_PROPERTY_NAME);
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void resultHistoryRunsPreviouslyFailedTestsFirst(@TempDirectory.Root Path tempDir) throws Exception {
+		Path historyFile = tempDir.resolve("history/results.txt");
+		Runnable failing = () -> {
+			throw new AssertionError("failing");
+		};
+
+		DemoHierarchicalTestEngine firstRun = new DemoHierarchicalTestEngine();
+		firstRun.addTest("test1", noOp);
+		firstRun.addTest("test2", noOp);
+		firstRun.addTest("test3", failing);
+		createLauncher(firstRun).execute(request().configurationParameter(
+			LauncherConstants.RESULT_HISTORY_FILE_PROPERTY_NAME, historyFile.toString()).build());
+
+		assertThat(Files.readAllLines(historyFile, UTF_8)).contains("failed\t[engine:dummy]/[test:test3]");
+
+		DemoHierarchicalTestEngine secondRun = new DemoHierarchicalTestEngine();
+		secondRun.addTest("test1", noOp);
+		secondRun.addTest("test2", failing);
+		secondRun.addTest("test3", noOp);
+		RecordingListener listener = new RecordingListener();
+		createLauncher(secondRun).execute(request().configurationParameter(
+			LauncherConstants.RESULT_HISTORY_FILE_PROPERTY_NAME, historyFile.toString()).build(), listener);
+
+		assertThat(listener.started).containsExactly("dummy", "test3", "test1", "test2");
+		assertThat(Files.readAllLines(historyFile, UTF_8)).contains(
+			"failed\t[engine:dummy]/[test:test2]").doesNotContain("failed\t[engine:dummy]/[test:test3]");
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void executionsOfTheSameRunRetainThePreviousRunOfTheResultHistory(@TempDirectory.Root Path tempDir)
+			throws Exception {
+
+		Path historyFile = tempDir.resolve("results.txt");
+		Files.write(historyFile, singletonList("run\t2017-01-01T00:00:00Z"), UTF_8);
+		LauncherDiscoveryRequest request = request()//
+				.configurationParameter(LauncherConstants.RESULT_HISTORY_FILE_PROPERTY_NAME, historyFile.toString())//
+				.configurationParameter(LauncherConstants.RESULT_HISTORY_RUN_PROPERTY_NAME, "2017-05-01T10:15:30Z")//
+				.build();
+
+		for (int i = 0; i < 2; i++) {
+			DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine();
+			engine.addTest("test" + i, noOp);
+			createLauncher(engine).execute(request);
+
+			assertThat(Files.readAllLines(historyFile, UTF_8)).contains("run\t2017-05-01T10:15:30Z",
+				"previous\t2017-01-01T00:00:00Z");
+		}
+	}
+
+	@Test
+	void invalidResultHistoryRunIsRejected() {
+		DefaultLauncher launcher = createLauncher(new DemoHierarchicalTestEngine());
+
+		JUnitException exception = assertThrows(JUnitException.class, () -> launcher.execute(
+			request().configurationParameter(LauncherConstants.RESULT_HISTORY_RUN_PROPERTY_NAME, "yesterday").build()));
+
+		assertThat(exception).hasMessageContaining(LauncherConstants.RESULT_HISTORY_RUN_PROPERTY_NAME);
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final List<String> started = new ArrayList<>();
+		final List<String> skipped = new ArrayList<>();
+		final List<String> skipReasons = new ArrayList<>();
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			started.add(testIdentifier.getDisplayName());
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			skipped.add(testIdentifier.getDisplayName());
+			skipReasons.add(reason);
+		}
+	}
+
 }
@@ -18,9 +18,11 @@ import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.DemoMethodTestDescriptor;
+import org.junit.platform.engine.test.TestDescriptorStub;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
@@ -51,6 +53,49 @@ class ExecutionListenerAdapterTests {
 		assertThat(testExecutionListener.testIdentifier).isEqualTo(testIdentifier);
 	}
 
+	@Test
+	void finishedDynamicTestsAreRetainedByDefault() {
+		TestDescriptor testDescriptor = getSampleMethodTestDescriptor();
+		TestPlan testPlan = TestPlan.from(Collections.singleton(testDescriptor));
+		TestDescriptor dynamicTest = addDynamicTest(testDescriptor);
+		ExecutionListenerAdapter executionListenerAdapter = new ExecutionListenerAdapter(testPlan,
+			new MockTestExecutionListener());
+
+		executionListenerAdapter.dynamicTestRegistered(dynamicTest);
+		executionListenerAdapter.executionStarted(dynamicTest);
+		executionListenerAdapter.executionFinished(dynamicTest, TestExecutionResult.successful());
+
+		assertThat(testPlan.getChildren(testDescriptor.getUniqueId().toString())).containsExactly(
+			TestIdentifier.from(dynamicTest));
+	}
+
+	@Test
+	void finishedDynamicTestsAreRemovedFromTestPlanWhenStreaming() {
+		TestDescriptor testDescriptor = getSampleMethodTestDescriptor();
+		TestPlan testPlan = TestPlan.from(Collections.singleton(testDescriptor));
+		TestDescriptor dynamicTest = addDynamicTest(testDescriptor);
+		ExecutionListenerAdapter executionListenerAdapter = new ExecutionListenerAdapter(testPlan,
+			new MockTestExecutionListener(), true);
+
+		executionListenerAdapter.dynamicTestRegistered(dynamicTest);
+		executionListenerAdapter.executionStarted(dynamicTest);
+		assertThat(testPlan.getChildren(testDescriptor.getUniqueId().toString())).containsExactly(
+			TestIdentifier.from(dynamicTest));
+
+		executionListenerAdapter.executionFinished(dynamicTest, TestExecutionResult.successful());
+		assertThat(testPlan.getChildren(testDescriptor.getUniqueId().toString())).isEmpty();
+
+		executionListenerAdapter.executionFinished(testDescriptor, TestExecutionResult.successful());
+		assertThat(testPlan.getRoots()).containsExactly(TestIdentifier.from(testDescriptor));
+	}
+
+	private TestDescriptor addDynamicTest(TestDescriptor parent) {
+		TestDescriptor dynamicTest = new TestDescriptorStub(parent.getUniqueId().append("dynamic-test", "#1"),
+			"dynamic");
+		parent.addChild(dynamicTest);
+		return dynamicTest;
+	}
+
 	private TestDescriptor getSampleMethodTestDescriptor() {
 		Method localMethodNamedNothing = ReflectionUtils.findMethod(this.getClass(), "nothing", new Class<?>[0]).get();
 		return new DemoMethodTestDescriptor(UniqueId.root("method", "unique_id"), this.getClass(),
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.TestExtensionContext;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+/**
+ * Integration tests that record the Java Flight Recorder events emitted while
+ * discovering and executing tests.
+ *
+ * <p>The {@code jdk.jfr} API is accessed reflectively so that these tests can
+ * be compiled for Java 8. They are only executed on JVMs that provide
+ * {@code jdk.jfr.EventFactory}, such as Java 11 or later and Java 8 update
+ * 262 or later.
+ *
+ * @since 1.0
+ */
+@ExtendWith(TempDirectory.class)
+class FlightRecorderEventsTests {
+
+	private static final String ENGINE_DISCOVERY = "org.junit.EngineDiscovery";
+	private static final String NODE_EXECUTION = "org.junit.NodeExecution";
+	private static final String EXTENSION_CALLBACK = "org.junit.jupiter.ExtensionCallback";
+
+	@BeforeAll
+	static void assumeEventFactoryIsPresent() {
+		assumeTrue(ReflectionUtils.loadClass("jdk.jfr.EventFactory").isPresent(),
+			"Java Flight Recorder events require jdk.jfr.EventFactory");
+	}
+
+	@Test
+	void discoveryExecutionAndExtensionCallbackEventsAreRecorded(@TempDirectory.Root Path tempDir) throws Exception {
+		Path recordingFile = tempDir.resolve("junit.jfr");
+		LauncherDiscoveryRequest request = request().selectors(selectClass(TestCase.class)).filters(
+			includeEngines("junit-jupiter")).build();
+		Launcher launcher = LauncherFactory.create();
+		SummaryGeneratingListener listener = new SummaryGeneratingListener();
+
+		Object recording = startRecording(ENGINE_DISCOVERY, NODE_EXECUTION, EXTENSION_CALLBACK);
+		try {
+			launcher.discover(request);
+			launcher.execute(request, listener);
+		}
+		finally {
+			stopRecording(recording, recordingFile);
+		}
+
+		assertThat(listener.getSummary().getTestsSucceededCount()).isEqualTo(1);
+
+		List<Map<String, String>> events = readEvents(recordingFile);
+		String engineId = "[engine:junit-jupiter]";
+		String classId = engineId + "/[class:" + TestCase.class.getName() + "]";
+		String methodId = classId + "/[method:test()]";
+
+		assertRecorded(events, event(ENGINE_DISCOVERY, "engineId", "junit-jupiter", "phase", "discovery"));
+		assertRecorded(events, event(ENGINE_DISCOVERY, "engineId", "junit-jupiter", "phase", "execution"));
+		for (String phase : new String[] { "prepare", "before", "execute", "after" }) {
+			assertRecorded(events, event(NODE_EXECUTION, "phase", phase, "uniqueId", engineId));
+			assertRecorded(events, event(NODE_EXECUTION, "phase", phase, "uniqueId", classId));
+			assertRecorded(events, event(NODE_EXECUTION, "phase", phase, "uniqueId", methodId));
+		}
+		assertRecorded(events, event(EXTENSION_CALLBACK, "extensionClass", RecordedCallback.class.getName(),
+			"callback", BeforeEachCallback.class.getSimpleName(), "uniqueId", methodId));
+	}
+
+	private static void assertRecorded(List<Map<String, String>> events, Map<String, String> expectedEvent) {
+		assertTrue(events.contains(expectedEvent), () -> "Expected " + expectedEvent + " to be recorded in " + events);
+	}
+
+	private static Map<String, String> event(String name, String... fieldsAndValues) {
+		Map<String, String> event = new LinkedHashMap<>();
+		event.put("name", name);
+		for (int i = 0; i < fieldsAndValues.length; i += 2) {
+			event.put(fieldsAndValues[i], fieldsAndValues[i + 1]);
+		}
+		return event;
+	}
+
+	private static Object startRecording(String... eventNames) throws Exception {
+		Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+		Method withoutThreshold = Class.forName("jdk.jfr.EventSettings").getMethod("withoutThreshold");
+		Object recording = recordingClass.getConstructor().newInstance();
+		for (String eventName : eventNames) {
+			Object settings = recordingClass.getMethod("enable", String.class).invoke(recording, eventName);
+			withoutThreshold.invoke(settings);
+		}
+		recordingClass.getMethod("start").invoke(recording);
+		return recording;
+	}
+
+	private static void stopRecording(Object recording, Path recordingFile) throws Exception {
+		Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+		try {
+			recordingClass.getMethod("stop").invoke(recording);
+			recordingClass.getMethod("dump", Path.class).invoke(recording, recordingFile);
+		}
+		finally {
+			recordingClass.getMethod("close").invoke(recording);
+		}
+	}
+
+	/**
+	 * Read the name and the fields that are relevant for these tests of all
+	 * events in the supplied recording file.
+	 */
+	private static List<Map<String, String>> readEvents(Path recordingFile) throws Exception {
+		Class<?> recordedEventClass = Class.forName("jdk.jfr.consumer.RecordedEvent");
+		Method readAllEvents = Class.forName("jdk.jfr.consumer.RecordingFile").getMethod("readAllEvents", Path.class);
+		Method getEventType = recordedEventClass.getMethod("getEventType");
+		Method hasField = recordedEventClass.getMethod("hasField", String.class);
+		Method getString = recordedEventClass.getMethod("getString", String.class);
+		Method getName = Class.forName("jdk.jfr.EventType").getMethod("getName");
+
+		List<Map<String, String>> events = new ArrayList<>();
+		for (Object recordedEvent : (List<?>) readAllEvents.invoke(null, recordingFile)) {
+			Map<String, String> event = new LinkedHashMap<>();
+			event.put("name", (String) getName.invoke(getEventType.invoke(recordedEvent)));
+			for (String field : new String[] { "engineId", "phase", "extensionClass", "callback", "uniqueId" }) {
+				if ((boolean) hasField.invoke(recordedEvent, field)) {
+					event.put(field, (String) getString.invoke(recordedEvent, field));
+				}
+			}
+			events.add(event);
+		}
+		return events;
+	}
+
+	@ExtendWith(RecordedCallback.class)
+	static class TestCase {
+
+		@Test
+		void test() {
+		}
+
+	}
+
+	static class RecordedCallback implements BeforeEachCallback {
+
+		@Override
+		public void beforeEach(TestExtensionContext context) {
+		}
+
+	}
+
+}
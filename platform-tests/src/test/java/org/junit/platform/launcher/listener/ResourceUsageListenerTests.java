@@ -0,0 +1,161 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listener;
+
+import static java.util.Collections.singleton;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.test.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.ResourceUsage;
+import org.junit.platform.launcher.listeners.ResourceUsageListener;
+
+/**
+ * @since 1.0
+ */
+class ResourceUsageListenerTests {
+
+	private static final int ALLOCATION_SIZE = 4 * 1024 * 1024;
+
+	ResourceUsageListener listener = new ResourceUsageListener();
+	TestPlan testPlan = TestPlan.from(Collections.emptyList());
+
+	@Test
+	void recordsResourceUsageOfFinishedTest() throws Exception {
+		TestIdentifier test = createTestIdentifier("allocating");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(test);
+		byte[] bytes = new byte[ALLOCATION_SIZE];
+		Thread.sleep(10);
+		listener.executionFinished(test, successful());
+
+		ResourceUsage resourceUsage = listener.getResourceUsage(test).get();
+		assertEquals(ALLOCATION_SIZE, bytes.length);
+		assertTrue(resourceUsage.getWallTimeNanos() >= 10_000_000L, "wall time");
+		assertTrue(resourceUsage.getCpuTimeNanos() >= 0 || resourceUsage.getCpuTimeNanos() == ResourceUsage.UNAVAILABLE,
+			"CPU time");
+		assumeTrue(resourceUsage.getAllocatedBytes() != ResourceUsage.UNAVAILABLE);
+		assertTrue(resourceUsage.getAllocatedBytes() >= ALLOCATION_SIZE, "allocated bytes");
+	}
+
+	@Test
+	void doesNotRecordResourceUsageOfTestThatHasNotFinished() {
+		TestIdentifier test = createTestIdentifier("unfinished");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(test);
+
+		assertFalse(listener.getResourceUsage(test).isPresent());
+		assertTrue(listener.getResourceUsages().isEmpty());
+	}
+
+	@Test
+	void perThreadMeasurementsAreUnavailableIfExecutionFinishedInAnotherThread() throws Exception {
+		TestIdentifier test = createTestIdentifier("switchingThreads");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(test);
+		Thread thread = new Thread(() -> listener.executionFinished(test, successful()));
+		thread.start();
+		thread.join();
+
+		ResourceUsage resourceUsage = listener.getResourceUsage(test).get();
+		assertEquals(ResourceUsage.UNAVAILABLE, resourceUsage.getCpuTimeNanos());
+		assertEquals(ResourceUsage.UNAVAILABLE, resourceUsage.getAllocatedBytes());
+	}
+
+	@Test
+	void convertsResourceUsageToReportEntry() {
+		TestIdentifier test = createTestIdentifier("reported");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(test);
+		listener.executionFinished(test, successful());
+
+		assertThat(listener.getResourceUsage(test).get().toReportEntry().getKeyValuePairs()).containsKey("wallTime");
+	}
+
+	@Test
+	void printsTestsWithHighestAllocationsFirst() {
+		TestIdentifier small = createTestIdentifier("small");
+		TestIdentifier large = createTestIdentifier("large");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(small);
+		byte[] smallBytes = new byte[ALLOCATION_SIZE / 4];
+		listener.executionFinished(small, successful());
+		listener.executionStarted(large);
+		byte[] largeBytes = new byte[ALLOCATION_SIZE];
+		listener.executionFinished(large, successful());
+		assumeTrue(listener.getResourceUsage(large).get().getAllocatedBytes() != ResourceUsage.UNAVAILABLE);
+
+		StringWriter out = new StringWriter();
+		listener.printTopOffendersTo(new PrintWriter(out), 10);
+
+		assertTrue(largeBytes.length > smallBytes.length);
+		assertThat(out.toString()).containsSequence("Top 2 tests by allocated bytes:", "large", "small");
+	}
+
+	@Test
+	void describesPrintedTestsByTheirAncestorsAfterTestPlanExecutionFinished() {
+		EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		TestDescriptorStub testDescriptor = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "t"),
+			"test");
+		engineDescriptor.addChild(testDescriptor);
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestIdentifier test = testPlan.getTestIdentifier(testDescriptor.getUniqueId().toString());
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(test);
+		byte[] bytes = new byte[ALLOCATION_SIZE];
+		listener.executionFinished(test, successful());
+		listener.testPlanExecutionFinished(testPlan);
+		assumeTrue(listener.getResourceUsage(test).get().getAllocatedBytes() != ResourceUsage.UNAVAILABLE);
+
+		StringWriter out = new StringWriter();
+		listener.printTopOffendersTo(new PrintWriter(out), 10);
+
+		assertTrue(bytes.length > 0);
+		assertThat(out.toString()).contains("Engine:test");
+	}
+
+	@Test
+	void printsNothingWithoutFinishedTests() {
+		listener.testPlanExecutionStarted(testPlan);
+
+		StringWriter out = new StringWriter();
+		listener.printTopOffendersTo(new PrintWriter(out), 10);
+
+		assertEquals("", out.toString());
+	}
+
+	private TestIdentifier createTestIdentifier(String uniqueId) {
+		TestIdentifier identifier = TestIdentifier.from(
+			new TestDescriptorStub(UniqueId.root("test", uniqueId), uniqueId));
+		testPlan.add(identifier);
+		return identifier;
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listener;
+
+import static java.util.Collections.singleton;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.test.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.TestDescriptionUtils;
+
+/**
+ * @since 1.0
+ */
+class TestDescriptionUtilsTests {
+
+	private final EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+	private final TestDescriptorStub containerDescriptor = new TestDescriptorStub(
+		engineDescriptor.getUniqueId().append("container", "c"), "container");
+
+	@Test
+	void describesTestByDisplayNamesOfItsAncestors() {
+		TestPlan testPlan = createTestPlan();
+		TestIdentifier test = addDynamicTest(testPlan, containerDescriptor, new TestDescriptorStub(
+			containerDescriptor.getUniqueId().append("dynamic-test", "#1"), "test"));
+
+		assertEquals("Engine:container:test", TestDescriptionUtils.describe(testPlan, test));
+	}
+
+	@Test
+	void describesRemovedTestByItsAncestorsThatAreStillPresent() {
+		TestPlan testPlan = createTestPlan();
+		TestIdentifier test = addDynamicTest(testPlan, containerDescriptor, new TestDescriptorStub(
+			containerDescriptor.getUniqueId().append("dynamic-test", "#1"), "test"));
+		testPlan.remove(test);
+
+		assertEquals("Engine:container:test", TestDescriptionUtils.describe(testPlan, test));
+	}
+
+	@Test
+	void stopsAtFirstAncestorThatHasBeenRemoved() {
+		TestPlan testPlan = createTestPlan();
+		TestDescriptorStub dynamicContainerDescriptor = new TestDescriptorStub(
+			containerDescriptor.getUniqueId().append("dynamic-container", "#1"), "dynamic");
+		TestIdentifier dynamicContainer = addDynamicTest(testPlan, containerDescriptor, dynamicContainerDescriptor);
+		TestIdentifier test = addDynamicTest(testPlan, dynamicContainerDescriptor, new TestDescriptorStub(
+			dynamicContainerDescriptor.getUniqueId().append("dynamic-test", "#1"), "test"));
+		testPlan.remove(test);
+		testPlan.remove(dynamicContainer);
+
+		assertEquals("test", TestDescriptionUtils.describe(testPlan, test));
+	}
+
+	private TestPlan createTestPlan() {
+		engineDescriptor.addChild(containerDescriptor);
+		return TestPlan.from(singleton(engineDescriptor));
+	}
+
+	private static TestIdentifier addDynamicTest(TestPlan testPlan, TestDescriptor parent, TestDescriptor descriptor) {
+		parent.addChild(descriptor);
+		TestIdentifier testIdentifier = TestIdentifier.from(descriptor);
+		testPlan.add(testIdentifier);
+		return testIdentifier;
+	}
+
+}
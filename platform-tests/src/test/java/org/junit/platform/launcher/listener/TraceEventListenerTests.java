@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v1.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.junit.platform.launcher.listener;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.TestExecutionResult.failed;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.test.TestDescriptorStub;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.listeners.TraceEventListener;
+
+/**
+ * @since 1.0
+ */
+@ExtendWith(TempDirectory.class)
+class TraceEventListenerTests {
+
+	TestPlan testPlan = TestPlan.from(Collections.emptyList());
+
+	@Test
+	void writesBeginAndEndEventsOnStartingThread(@Root Path tempDir) throws Exception {
+		Path traceFile = tempDir.resolve("trace.json");
+		TraceEventListener listener = new TraceEventListener(traceFile);
+		TestIdentifier test = createTestIdentifier("switchingThreads");
+		long threadId = Thread.currentThread().getId();
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(test);
+		Thread thread = new Thread(() -> listener.executionFinished(test, failed(new AssertionError())));
+		thread.start();
+		thread.join();
+		listener.testPlanExecutionFinished(testPlan);
+
+		String trace = new String(Files.readAllBytes(traceFile), UTF_8);
+		assertThat(trace).startsWith("[").endsWith("]\n");
+		assertThat(trace).containsSequence( //
+			"\"name\":\"switchingThreads\",\"cat\":\"test\",\"ph\":\"B\"", "\"tid\":" + threadId + ",", //
+			"\"name\":\"switchingThreads\",\"cat\":\"test\",\"ph\":\"E\"", "\"tid\":" + threadId + ",", //
+			"\"status\":\"FAILED\"");
+		assertThat(trace).contains("\"name\":\"thread_name\"", "\"name\":" + "\"" + Thread.currentThread().getName());
+	}
+
+	@Test
+	void writesInstantEventsForSkippedTests(@Root Path tempDir) throws Exception {
+		Path traceFile = tempDir.resolve("trace.json");
+		TraceEventListener listener = new TraceEventListener(traceFile);
+		TestIdentifier test = createTestIdentifier("skipped");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionSkipped(test, "for \"reasons\"");
+		listener.testPlanExecutionFinished(testPlan);
+
+		String trace = new String(Files.readAllBytes(traceFile), UTF_8);
+		assertThat(trace).contains("\"ph\":\"i\",\"s\":\"t\"", "\"reason\":\"for \\\"reasons\\\"\"");
+	}
+
+	@Test
+	void createsMissingParentDirectoriesAndOverwritesPreviousTrace(@Root Path tempDir) throws Exception {
+		Path traceFile = tempDir.resolve("missing/parent/trace.json");
+		TraceEventListener listener = new TraceEventListener(traceFile);
+		TestIdentifier first = createTestIdentifier("first");
+		TestIdentifier second = createTestIdentifier("second");
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(first);
+		listener.executionFinished(first, successful());
+		listener.testPlanExecutionFinished(testPlan);
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(second);
+		listener.executionFinished(second, successful());
+		listener.testPlanExecutionFinished(testPlan);
+
+		String trace = new String(Files.readAllBytes(traceFile), UTF_8);
+		assertThat(trace).contains("\"name\":\"second\"").doesNotContain("\"name\":\"first\"");
+	}
+
+	private TestIdentifier createTestIdentifier(String uniqueId) {
+		TestIdentifier identifier = TestIdentifier.from(
+			new TestDescriptorStub(UniqueId.root("test", uniqueId), uniqueId));
+		testPlan.add(identifier);
+		return identifier;
+	}
+
+}